@@ -0,0 +1,29 @@
+package com.guinetik.hexafun.benchmarks;
+
+import com.guinetik.hexafun.fun.Result;
+
+import static com.guinetik.hexafun.examples.tasks.TaskInputs.CreateTask;
+
+/**
+ * The hand-written CREATE validators the task example used before its
+ * validation moved to {@link com.guinetik.hexafun.validation.Rules}, kept
+ * here as the baseline the benchmarks compare against.
+ */
+public final class HandWrittenTaskValidators {
+
+    private HandWrittenTaskValidators() {}
+
+    public static Result<CreateTask> validateCreateTitle(CreateTask input) {
+        if (input.title() == null || input.title().isBlank()) {
+            return Result.fail("Title cannot be empty");
+        }
+        return Result.ok(input);
+    }
+
+    public static Result<CreateTask> validateCreateTitleLength(CreateTask input) {
+        if (input.title().length() > 100) {
+            return Result.fail("Title cannot exceed 100 characters");
+        }
+        return Result.ok(input);
+    }
+}
@@ -0,0 +1,134 @@
+package com.guinetik.hexafun.benchmarks;
+
+import com.guinetik.hexafun.HexaApp;
+import com.guinetik.hexafun.HexaFun;
+import com.guinetik.hexafun.fun.Result;
+import com.guinetik.hexafun.hexa.UseCaseKey;
+import com.guinetik.hexafun.hexa.ValidationPort;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static com.guinetik.hexafun.examples.tasks.TaskInputs.CreateTask;
+
+/**
+ * The task example's two-validator CREATE chain, invoked through a
+ * {@link HexaApp} with each way the builder has composed validators.
+ *
+ * <ul>
+ *   <li>{@code flatMap}: the original composition, seeding the chain with
+ *       {@code Result.ok(input)} and flat-mapping a method reference per
+ *       validator</li>
+ *   <li>{@code loop}: the array loop that replaced it, with no seed
+ *       {@code Result}</li>
+ *   <li>{@code compiled}: the current builder, which unrolls short chains
+ *       into one straight-line validator</li>
+ * </ul>
+ *
+ * <p>The handler returns a shared result so only the chain is measured.
+ * Run with {@code java -jar hexafun-benchmarks/target/benchmarks.jar
+ * ValidationChain}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidationChainBenchmark {
+
+    private static final UseCaseKey<CreateTask, Result<String>> FLAT_MAP =
+        UseCaseKey.of("benchmarkCreateFlatMap");
+    private static final UseCaseKey<CreateTask, Result<String>> LOOP =
+        UseCaseKey.of("benchmarkCreateLoop");
+    private static final UseCaseKey<CreateTask, Result<String>> COMPILED =
+        UseCaseKey.of("benchmarkCreateCompiled");
+
+    private static final Result<String> CREATED = Result.ok("created");
+
+    @Param({"valid", "blank", "tooLong"})
+    public String title;
+
+    private HexaApp app;
+    private CreateTask input;
+
+    @Setup
+    public void setup() {
+        List<ValidationPort<CreateTask>> chain = List.of(
+            HandWrittenTaskValidators::validateCreateTitle,
+            HandWrittenTaskValidators::validateCreateTitleLength
+        );
+        app = HexaFun.dsl()
+            .useCase(FLAT_MAP)
+                .validate(flatMap(chain))
+                .handle(task -> CREATED)
+            .useCase(LOOP)
+                .validate(loop(chain))
+                .handle(task -> CREATED)
+            .useCase(COMPILED)
+                .validate(HandWrittenTaskValidators::validateCreateTitle)
+                .validate(HandWrittenTaskValidators::validateCreateTitleLength)
+                .handle(task -> CREATED)
+            .build();
+        input = new CreateTask(title(title), "benchmark");
+    }
+
+    @Benchmark
+    public Result<String> flatMap() {
+        return app.invoke(FLAT_MAP, input);
+    }
+
+    @Benchmark
+    public Result<String> loop() {
+        return app.invoke(LOOP, input);
+    }
+
+    @Benchmark
+    public Result<String> compiled() {
+        return app.invoke(COMPILED, input);
+    }
+
+    static String title(String kind) {
+        return switch (kind) {
+            case "valid" -> "Write the benchmarks";
+            case "blank" -> "   ";
+            case "tooLong" -> "x".repeat(101);
+            default -> throw new IllegalArgumentException("Unknown title: " + kind);
+        };
+    }
+
+    private static <I> ValidationPort<I> flatMap(List<ValidationPort<I>> validators) {
+        return input -> {
+            Result<I> result = Result.ok(input);
+            for (ValidationPort<I> validator : validators) {
+                result = result.flatMap(validator::validate);
+                if (result.isFailure()) {
+                    return result;
+                }
+            }
+            return result;
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <I> ValidationPort<I> loop(List<ValidationPort<I>> validators) {
+        ValidationPort<I>[] chain = validators.toArray(new ValidationPort[0]);
+        return input -> {
+            Result<I> result = chain[0].validate(input);
+            for (int i = 1; i < chain.length && result.isSuccess(); i++) {
+                result = chain[i].validate(result.get());
+            }
+            return result;
+        };
+    }
+}
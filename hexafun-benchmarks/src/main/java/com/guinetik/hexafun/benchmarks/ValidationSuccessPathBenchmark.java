@@ -0,0 +1,83 @@
+package com.guinetik.hexafun.benchmarks;
+
+import com.guinetik.hexafun.HexaApp;
+import com.guinetik.hexafun.HexaFun;
+import com.guinetik.hexafun.fun.Result;
+import com.guinetik.hexafun.hexa.UseCaseKey;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A validated use case whose validators and handler all return shared
+ * results, so anything allocated per call belongs to the framework.
+ *
+ * <p>Run with {@code java -jar hexafun-benchmarks/target/benchmarks.jar
+ * ValidationSuccessPath -prof gc}; {@code gc.alloc.rate.norm} should be
+ * zero, or within a byte of it, for one, three and five validators.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidationSuccessPathBenchmark {
+
+    private static final UseCaseKey<Integer, Result<Integer>> ONE =
+        UseCaseKey.of("benchmarkSuccessPathOne");
+    private static final UseCaseKey<Integer, Result<Integer>> THREE =
+        UseCaseKey.of("benchmarkSuccessPathThree");
+    private static final UseCaseKey<Integer, Result<Integer>> FIVE =
+        UseCaseKey.of("benchmarkSuccessPathFive");
+
+    private final Integer input = 42;
+    private final Result<Integer> valid = Result.ok(input);
+    private final Result<Integer> done = Result.ok(84);
+
+    private HexaApp app;
+
+    @Setup
+    public void setup() {
+        app = HexaFun.dsl()
+            .useCase(ONE)
+                .validate(i -> valid)
+                .handle(i -> done)
+            .useCase(THREE)
+                .validate(i -> valid)
+                .validate(i -> valid)
+                .validate(i -> valid)
+                .handle(i -> done)
+            .useCase(FIVE)
+                .validate(i -> valid)
+                .validate(i -> valid)
+                .validate(i -> valid)
+                .validate(i -> valid)
+                .validate(i -> valid)
+                .handle(i -> done)
+            .build();
+    }
+
+    @Benchmark
+    public Result<Integer> oneValidator() {
+        return app.invoke(ONE, input);
+    }
+
+    @Benchmark
+    public Result<Integer> threeValidators() {
+        return app.invoke(THREE, input);
+    }
+
+    @Benchmark
+    public Result<Integer> fiveValidators() {
+        return app.invoke(FIVE, input);
+    }
+}
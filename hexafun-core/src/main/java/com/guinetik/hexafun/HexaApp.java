@@ -1,24 +1,94 @@
 package com.guinetik.hexafun;
 
+import com.guinetik.hexafun.cache.CacheStats;
+import com.guinetik.hexafun.cache.MemoCache;
+import com.guinetik.hexafun.fun.Result;
+import com.guinetik.hexafun.hexa.AdapterChain;
 import com.guinetik.hexafun.hexa.AdapterKey;
+import com.guinetik.hexafun.hexa.AsyncUseCase;
+import com.guinetik.hexafun.hexa.BatchMode;
+import com.guinetik.hexafun.hexa.BatchUseCase;
+import com.guinetik.hexafun.hexa.DefaultExecutor;
+import com.guinetik.hexafun.hexa.LazyPort;
+import com.guinetik.hexafun.hexa.PortInit;
+import com.guinetik.hexafun.hexa.StreamOrder;
+import com.guinetik.hexafun.hexa.StreamingAdapter;
 import com.guinetik.hexafun.hexa.UseCase;
 import com.guinetik.hexafun.hexa.UseCaseKey;
+import com.guinetik.hexafun.hexa.UseCaseStream;
+import com.guinetik.hexafun.hexa.ValidationError;
+import com.guinetik.hexafun.metrics.PortMetrics;
+import com.guinetik.hexafun.metrics.PortStats;
+import com.guinetik.hexafun.metrics.UseCaseMetrics;
+import com.guinetik.hexafun.metrics.UseCaseStats;
+import com.guinetik.hexafun.resilience.Bulkhead;
+import com.guinetik.hexafun.resilience.BulkheadStats;
+import com.guinetik.hexafun.resilience.Deadline;
+import com.guinetik.hexafun.resilience.ResilienceError;
+import com.guinetik.hexafun.resilience.RetryStats;
+import com.guinetik.hexafun.resilience.RetryingUseCase;
 import com.guinetik.hexafun.testing.HexaTest;
 import com.guinetik.hexafun.testing.UseCaseTest;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 /**
  * Core container for a Hexagonal Architecture application.
  * Manages use cases, ports, and adapters.
+ *
+ * <p>An app is mutable while it is being wired. Calling {@link #freeze()}
+ * seals it: the registries are replaced by compact immutable copies and
+ * every further registration is rejected. A frozen app can be shared by
+ * any number of threads without locking, provided it is published safely
+ * after freezing (see {@link #freeze()}). Apps built with
+ * {@link com.guinetik.hexafun.hexa.UseCaseBuilder#frozen()} come out sealed.
  */
 public abstract class HexaApp {
 
-    protected final Map<String, UseCase<?, ?>> useCases = new HashMap<>();
-    protected final Map<Class<?>, Object> ports = new HashMap<>();
-    protected final Map<String, Function<?, ?>> adapters = new HashMap<>();
+    protected Map<String, UseCase<?, ?>> useCases = new HashMap<>();
+    protected Map<Class<?>, Object> ports = new HashMap<>();
+    protected Map<String, Function<?, ?>> adapters = new HashMap<>();
+
+    // Slot-indexed dispatch tables, kept in sync with the maps above.
+    // Typed keys resolve to a slot once, so invoke/adapt is an array load.
+    private UseCase<?, ?>[] useCaseTable = new UseCase<?, ?>[0];
+    private Function<?, ?>[] adapterTable = new Function<?, ?>[0];
+    private StreamingAdapter<?>[] streamTable = new StreamingAdapter<?>[0];
+
+    // Executors for invokeAsync: per use case slot, then app-wide, then default.
+    private Executor[] executorTable = new Executor[0];
+    private Executor executor;
+
+    private BatchUseCase<?, ?>[] batchTable = new BatchUseCase<?, ?>[0];
+
+    private UseCaseMetrics metrics;
+
+    private PortMetrics portMetrics;
+
+    private Map<String, MemoCache<?, ?>> caches = new HashMap<>();
+
+    private Map<String, Bulkhead> bulkheads = new HashMap<>();
+
+    // Not volatile: freeze() relies on the app being safely published afterwards
+    private boolean frozen;
 
     /**
      * Create a new empty HexaApp.
@@ -32,8 +102,7 @@ public abstract class HexaApp {
      * Add a use case to this HexaApp (used internally by builder).
      */
     public <I, O> HexaApp withUseCase(String name, UseCase<I, O> useCase) {
-        useCases.put(name, useCase);
-        return this;
+        return withUseCase(UseCaseKey.of(name), useCase);
     }
 
     /**
@@ -49,9 +118,13 @@ public abstract class HexaApp {
      * @param <I> Input type
      * @param <O> Output type
      * @return This HexaApp for chaining
+     * @throws IllegalStateException if this app is frozen
      */
     public <I, O> HexaApp withUseCase(UseCaseKey<I, O> key, UseCase<I, O> useCase) {
+        checkNotFrozen();
         useCases.put(key.name(), useCase);
+        useCaseTable = ensureSlot(useCaseTable, key.slot());
+        useCaseTable[key.slot()] = useCase;
         return this;
     }
 
@@ -68,12 +141,43 @@ public abstract class HexaApp {
      * @param impl The implementation instance
      * @param <T> The port type
      * @return This HexaApp for chaining
+     * @throws IllegalStateException if this app is frozen
      */
     public <T> HexaApp port(Class<T> type, T impl) {
+        checkNotFrozen();
         ports.put(type, impl);
         return this;
     }
 
+    /**
+     * Register a port that is constructed on first use.
+     *
+     * <p>Use this for ports that are expensive to build and may never be
+     * needed. The supplier runs at most once, on the first
+     * {@link #port(Class)} lookup; its timing then shows up in
+     * {@link #portStartupReport()}.
+     *
+     * <p>Example:
+     * <pre class="language-java">{@code
+     * app.lazyPort(MetricsProvider.class, OshiMetricsProvider::new);
+     * }</pre>
+     *
+     * @param type The interface/class type to register
+     * @param supplier Constructs the implementation
+     * @param <T> The port type
+     * @return This HexaApp for chaining
+     * @throws IllegalArgumentException if the supplier is null
+     * @throws IllegalStateException if this app is frozen
+     */
+    public <T> HexaApp lazyPort(Class<T> type, Supplier<? extends T> supplier) {
+        checkNotFrozen();
+        ports.put(
+            type,
+            supplier instanceof LazyPort<?> lazy ? lazy : LazyPort.of(type, supplier)
+        );
+        return this;
+    }
+
     /**
      * Retrieve a port by its type.
      *
@@ -82,20 +186,30 @@ public abstract class HexaApp {
      * TaskRepository repo = app.port(TaskRepository.class);
      * }</pre>
      *
+     * <p>Inside an invocation with a {@link Deadline}, looking up a port
+     * after the deadline has passed throws, so an overrunning handler stops
+     * before starting more I/O.
+     *
      * @param type The interface/class type to retrieve
      * @param <T> The port type
      * @return The registered implementation
      * @throws IllegalArgumentException if no port is registered for the given type
+     * @throws com.guinetik.hexafun.resilience.DeadlineExceededException if the
+     *         current deadline has passed
      */
     @SuppressWarnings("unchecked")
     public <T> T port(Class<T> type) {
-        T impl = (T) ports.get(type);
+        if (Deadline.current() != null) {
+            // Only build the message when a deadline could actually throw
+            Deadline.checkCurrent("calling port: " + type.getSimpleName());
+        }
+        Object impl = ports.get(type);
         if (impl == null) {
             throw new IllegalArgumentException(
                 "No port registered for type: " + type.getName()
             );
         }
-        return impl;
+        return (T) (impl instanceof LazyPort<?> lazy ? lazy.get() : impl);
     }
 
     /**
@@ -117,6 +231,33 @@ public abstract class HexaApp {
         return ports.keySet();
     }
 
+    /**
+     * Get the construction time of every supplied port built so far,
+     * slowest first.
+     *
+     * <p>Ports registered as instances are not listed; ports registered
+     * with a supplier appear once they have been constructed, either on
+     * first use or eagerly at build time.
+     *
+     * <p>Example:
+     * <pre class="language-java">{@code
+     * app.portStartupReport().forEach(init ->
+     *     log.info("{} took {} on {}", init.port().getSimpleName(), init.elapsed(), init.thread()));
+     * }</pre>
+     *
+     * @return The timings of constructed ports
+     */
+    public List<PortInit> portStartupReport() {
+        List<PortInit> report = new ArrayList<>();
+        for (Object impl : ports.values()) {
+            if (impl instanceof LazyPort<?> lazy && lazy.init() != null) {
+                report.add(lazy.init());
+            }
+        }
+        report.sort(Comparator.comparing(PortInit::elapsed).reversed());
+        return report;
+    }
+
     // ===== Adapters =====
 
     /**
@@ -133,9 +274,17 @@ public abstract class HexaApp {
      * @param <From> The source type
      * @param <To> The target type
      * @return This HexaApp for chaining
+     * @throws IllegalStateException if this app is frozen
      */
     public <From, To> HexaApp withAdapter(AdapterKey<From, To> key, Function<From, To> adapter) {
+        checkNotFrozen();
         adapters.put(key.name(), adapter);
+        adapterTable = ensureSlot(adapterTable, key.slot());
+        adapterTable[key.slot()] = adapter;
+        if (key.slot() < streamTable.length) {
+            // A plain adapter replaces any streaming one under the same key
+            streamTable[key.slot()] = null;
+        }
         return this;
     }
 
@@ -149,8 +298,7 @@ public abstract class HexaApp {
      * @return This HexaApp for chaining
      */
     public <From, To> HexaApp withAdapter(String name, Function<From, To> adapter) {
-        adapters.put(name, adapter);
-        return this;
+        return withAdapter(AdapterKey.<From, To>of(name), adapter);
     }
 
     /**
@@ -171,7 +319,11 @@ public abstract class HexaApp {
      */
     @SuppressWarnings("unchecked")
     public <From, To> To adapt(AdapterKey<From, To> key, From input) {
-        Function<From, To> adapter = (Function<From, To>) adapters.get(key.name());
+        Function<?, ?>[] table = adapterTable;
+        int slot = key.slot();
+        Function<From, To> adapter = slot < table.length
+            ? (Function<From, To>) table[slot]
+            : null;
         if (adapter == null) {
             throw new IllegalArgumentException(
                 "No adapter registered with name: " + key.name()
@@ -180,6 +332,186 @@ public abstract class HexaApp {
         return adapter.apply(input);
     }
 
+    /**
+     * Compile an adapter chain into a single function.
+     *
+     * <p>Every link is resolved now, so a missing adapter fails here rather
+     * than on the first call. The returned function applies the adapters
+     * directly, with no per-step lookups or casts. Adapters registered
+     * after this call are not seen by the compiled function.
+     *
+     * <p>Example:
+     * <pre class="language-java">{@code
+     * Function<Task, byte[]> encode = app.compile(TO_DTO.then(TO_JSON).then(TO_BYTES));
+     * byte[] payload = encode.apply(task);
+     * }</pre>
+     *
+     * @param chain The adapter chain
+     * @param <From> The chain's input type
+     * @param <To> The chain's output type
+     * @return A function equivalent to adapting through every step in order
+     * @throws IllegalArgumentException if any adapter in the chain is not registered
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public <From, To> Function<From, To> compile(AdapterChain<From, To> chain) {
+        Function composed = null;
+        for (AdapterKey<?, ?> key : chain.keys()) {
+            Function<?, ?>[] table = adapterTable;
+            Function step = key.slot() < table.length ? table[key.slot()] : null;
+            if (step == null) {
+                throw new IllegalArgumentException(
+                    "No adapter registered with name: " + key.name() + " in " + chain
+                );
+            }
+            composed = composed == null ? step : compose(composed, step);
+        }
+        return composed;
+    }
+
+    /**
+     * Compile an adapter chain and register it under its own key, so
+     * {@link #adapt(AdapterKey, Object)} runs the whole chain with a
+     * single lookup.
+     *
+     * @param key The key to register the chain under
+     * @param chain The adapter chain
+     * @param <From> The chain's input type
+     * @param <To> The chain's output type
+     * @return This HexaApp for chaining
+     * @throws IllegalArgumentException if any adapter in the chain is not registered
+     * @throws IllegalStateException if this app is frozen
+     */
+    public <From, To> HexaApp withAdapterChain(
+        AdapterKey<From, To> key,
+        AdapterChain<From, To> chain
+    ) {
+        checkNotFrozen();
+        return withAdapter(key, compile(chain));
+    }
+
+    private static <A, B, C> Function<A, C> compose(Function<A, B> first, Function<B, C> second) {
+        return input -> second.apply(first.apply(input));
+    }
+
+    /**
+     * Register a streaming adapter under a string adapter key.
+     *
+     * <p>{@link #adaptTo(AdapterKey, Object, Appendable)} writes straight into
+     * the caller's sink. {@link #adapt(AdapterKey, Object)} keeps working on
+     * the same key by rendering into a fresh {@link StringBuilder}.
+     *
+     * <p>Example:
+     * <pre class="language-java">{@code
+     * app.withStreamingAdapter(TO_CSV, (task, out) ->
+     *     out.append(task.id()).append(',').append(task.title()).append('\n'));
+     * }</pre>
+     *
+     * @param key The adapter key
+     * @param adapter The streaming adapter
+     * @param <From> The source type
+     * @return This HexaApp for chaining
+     * @throws IllegalStateException if this app is frozen
+     */
+    public <From> HexaApp withStreamingAdapter(
+        AdapterKey<From, String> key,
+        StreamingAdapter<From> adapter
+    ) {
+        checkNotFrozen();
+        withAdapter(key, input -> render(adapter, input));
+        streamTable = ensureSlot(streamTable, key.slot());
+        streamTable[key.slot()] = adapter;
+        return this;
+    }
+
+    /**
+     * Adapt a value directly into a sink.
+     *
+     * <p>Streaming adapters write into {@code out} with no intermediate
+     * string. Ordinary adapters registered under the key are also accepted;
+     * their result is appended.
+     *
+     * <p>Example:
+     * <pre class="language-java">{@code
+     * StringBuilder frame = new StringBuilder(4096);
+     * while (running) {
+     *     frame.setLength(0);
+     *     app.adaptTo(TO_TUI, metrics, frame);
+     *     System.out.print(frame);
+     * }
+     * }</pre>
+     *
+     * @param key The adapter key
+     * @param input The value to adapt
+     * @param out The sink to write to
+     * @param <From> The source type
+     * @param <A> The sink type
+     * @return {@code out}, for chaining
+     * @throws IllegalArgumentException if no adapter is registered with the given key
+     * @throws UncheckedIOException if the sink throws an {@link IOException}
+     */
+    public <From, A extends Appendable> A adaptTo(AdapterKey<From, String> key, From input, A out) {
+        try {
+            streaming(key).write(input, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out;
+    }
+
+    /**
+     * Adapt a value directly into a byte buffer, encoded as UTF-8 at the
+     * buffer's position.
+     *
+     * @param key The adapter key
+     * @param input The value to adapt
+     * @param out The buffer to write into
+     * @param <From> The source type
+     * @return {@code out}, for chaining
+     * @throws IllegalArgumentException if no adapter is registered with the given key
+     * @throws java.nio.BufferOverflowException if the buffer runs out of space
+     */
+    public <From> ByteBuffer adaptTo(AdapterKey<From, String> key, From input, ByteBuffer out) {
+        try {
+            streaming(key).writeUtf8(input, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <From> StreamingAdapter<From> streaming(AdapterKey<From, String> key) {
+        StreamingAdapter<?>[] table = streamTable;
+        int slot = key.slot();
+        StreamingAdapter<From> stream = slot < table.length
+            ? (StreamingAdapter<From>) table[slot]
+            : null;
+        if (stream != null) {
+            return stream;
+        }
+        Function<?, ?>[] adapters = adapterTable;
+        Function<From, String> adapter = slot < adapters.length
+            ? (Function<From, String>) adapters[slot]
+            : null;
+        if (adapter == null) {
+            throw new IllegalArgumentException(
+                "No adapter registered with name: " + key.name()
+            );
+        }
+        return (input, sink) -> sink.append(adapter.apply(input));
+    }
+
+    private static <From> String render(StreamingAdapter<From> adapter, From input) {
+        StringBuilder out = new StringBuilder();
+        try {
+            adapter.write(input, out);
+        } catch (IOException e) {
+            // StringBuilder never throws; only the adapter itself can
+            throw new UncheckedIOException(e);
+        }
+        return out.toString();
+    }
+
     /**
      * Check if an adapter is registered for the given key.
      *
@@ -212,7 +544,11 @@ public abstract class HexaApp {
      */
     @SuppressWarnings("unchecked")
     public <I, O> O invoke(UseCaseKey<I, O> key, I input) {
-        UseCase<I, O> useCase = (UseCase<I, O>) useCases.get(key.name());
+        UseCase<?, ?>[] table = useCaseTable;
+        int slot = key.slot();
+        UseCase<I, O> useCase = slot < table.length
+            ? (UseCase<I, O>) table[slot]
+            : null;
         if (useCase == null) {
             throw new IllegalArgumentException(
                 "No use case registered with name: " + key.name()
@@ -221,6 +557,557 @@ public abstract class HexaApp {
         return useCase.apply(input);
     }
 
+    // ===== Asynchronous invocation =====
+
+    /**
+     * Invoke a Result-returning use case with a deadline.
+     *
+     * <p>The use case runs on its executor (see {@link #executorFor}) while
+     * the caller waits at most {@code budget}. The deadline is visible to
+     * the use case and everything it calls on that thread through
+     * {@link Deadline#current()}; nested deadlines can only shorten it, and
+     * port lookups past it fail. If time runs out, the caller gets a
+     * timeout failure and the worker is interrupted.
+     *
+     * <p>Example:
+     * <pre class="language-java">{@code
+     * Result<Task> task = app.invoke(FIND, new FindTask(id), Duration.ofMillis(200));
+     * }</pre>
+     *
+     * @param key The type-safe key for the use case
+     * @param input The input to the use case
+     * @param budget How long the invocation may take
+     * @param <I> The input type of the use case
+     * @param <T> The success value type of the use case's result
+     * @return The use case's result, or a failure if the deadline passed
+     * @throws IllegalArgumentException if no use case is registered with the given key
+     */
+    public <I, T> Result<T> invoke(
+        UseCaseKey<I, Result<T>> key,
+        I input,
+        Duration budget
+    ) {
+        UseCase<I, Result<T>> useCase = resolve(key);
+        Deadline deadline = Deadline.after(budget).earliest(Deadline.current());
+        return deadline.execute(
+            executorFor(key),
+            () -> useCase.apply(input),
+            () -> Result.fail(ResilienceError.DEADLINE_EXCEEDED, key.name())
+        );
+    }
+
+    /**
+     * Invoke a use case asynchronously using a type-safe key.
+     *
+     * <p>The use case runs on the executor registered for this key, falling
+     * back to the app-wide executor and then to {@link DefaultExecutor}
+     * (virtual threads on Java 21+, the common pool otherwise). Exceptions
+     * thrown by the use case complete the future exceptionally.
+     *
+     * <p>Example:
+     * <pre class="language-java">{@code
+     * app.invokeAsync(GET_ALL, null)
+     *     .thenApply(metrics -> app.adapt(TO_JSON, metrics))
+     *     .thenAccept(System.out::println);
+     * }</pre>
+     *
+     * @param key The type-safe key for the use case
+     * @param input The input to the use case
+     * @param <I> The input type of the use case
+     * @param <O> The output type of the use case
+     * @return A future completed with the result of the use case
+     * @throws IllegalArgumentException if no use case is registered with the given key
+     */
+    public <I, O> CompletableFuture<O> invokeAsync(UseCaseKey<I, O> key, I input) {
+        UseCase<I, O> useCase = resolve(key);
+        if (useCase instanceof AsyncUseCase<I, O> async) {
+            return async.applyAsync(input, executorFor(key));
+        }
+        return CompletableFuture.supplyAsync(
+            () -> useCase.apply(input),
+            executorFor(key)
+        );
+    }
+
+    /**
+     * Set the app-wide executor used by {@link #invokeAsync(UseCaseKey, Object)}.
+     *
+     * @param executor The executor to run asynchronous invocations on
+     * @return This HexaApp for chaining
+     * @throws IllegalStateException if this app is frozen
+     */
+    public HexaApp executor(Executor executor) {
+        checkNotFrozen();
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * Set the executor for a single use case, overriding the app-wide one.
+     *
+     * <p>Example:
+     * <pre class="language-java">{@code
+     * app.executor(GET_ALL, Executors.newFixedThreadPool(4));
+     * }</pre>
+     *
+     * @param key The use case key
+     * @param executor The executor to run this use case on
+     * @param <I> Input type
+     * @param <O> Output type
+     * @return This HexaApp for chaining
+     * @throws IllegalStateException if this app is frozen
+     */
+    public <I, O> HexaApp executor(UseCaseKey<I, O> key, Executor executor) {
+        checkNotFrozen();
+        executorTable = ensureSlot(executorTable, key.slot());
+        executorTable[key.slot()] = executor;
+        return this;
+    }
+
+    /**
+     * Resolve the executor an asynchronous invocation of the key runs on.
+     *
+     * @param key The use case key
+     * @return The per-use-case, app-wide or default executor
+     */
+    public Executor executorFor(UseCaseKey<?, ?> key) {
+        Executor[] table = executorTable;
+        int slot = key.slot();
+        if (slot < table.length && table[slot] != null) {
+            return table[slot];
+        }
+        return executor != null ? executor : DefaultExecutor.get();
+    }
+
+    // ===== Batch invocation =====
+
+    /**
+     * Invoke a use case once per input, fanning the work out over the
+     * common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * <p>Outputs are returned in input order. If a native
+     * {@link BatchUseCase} is registered for the key, the whole list is
+     * handed to it in a single call instead.
+     *
+     * <p>Example:
+     * <pre class="language-java">{@code
+     * List<Result<Task>> created = app.invokeAll(CREATE, imported);
+     * }</pre>
+     *
+     * @param key The type-safe key for the use case
+     * @param inputs The inputs to process
+     * @param <I> The input type of the use case
+     * @param <O> The output type of the use case
+     * @return One output per input, in input order
+     * @throws IllegalArgumentException if no use case is registered with the given key
+     */
+    @SuppressWarnings("unchecked")
+    public <I, O> List<O> invokeAll(UseCaseKey<I, O> key, Collection<I> inputs) {
+        List<I> list = new ArrayList<>(inputs);
+        BatchUseCase<I, O> batch = batchHandler(key);
+        if (batch != null) {
+            return applyBatch(key, batch, list);
+        }
+        UseCase<I, O> useCase = resolve(key);
+        Object[] outputs = new Object[list.size()];
+        fanOut(list.size(), i -> outputs[i] = useCase.apply(list.get(i)), null);
+        return (List<O>) Arrays.asList(outputs);
+    }
+
+    /**
+     * Invoke a {@code Result}-returning use case once per input and combine
+     * the outcomes into a single {@code Result}.
+     *
+     * <p>With {@link BatchMode#COLLECT_ALL} every input runs and, if any of
+     * them failed, a single failure is returned as is and several are
+     * combined under {@link ValidationError#MULTIPLE}, whose
+     * {@link ValidationError#failures failures} lists them in input order.
+     * With {@link BatchMode#FAIL_FAST} no new inputs are started once a
+     * failure is seen, and the earliest failing input's error is returned.
+     *
+     * <p>Example:
+     * <pre class="language-java">{@code
+     * Result<List<Task>> all = app.invokeAll(CREATE, imported, BatchMode.FAIL_FAST);
+     * }</pre>
+     *
+     * @param key The type-safe key for the use case
+     * @param inputs The inputs to process
+     * @param mode How failures are handled
+     * @param <I> The input type of the use case
+     * @param <T> The success type of the use case's Result
+     * @return The values in input order, or the failure(s)
+     * @throws IllegalArgumentException if no use case is registered with the given key
+     */
+    @SuppressWarnings("unchecked")
+    public <I, T> Result<List<T>> invokeAll(
+        UseCaseKey<I, Result<T>> key,
+        Collection<I> inputs,
+        BatchMode mode
+    ) {
+        List<I> list = new ArrayList<>(inputs);
+        Object[] outputs;
+        BatchUseCase<I, Result<T>> batch = batchHandler(key);
+        if (batch != null) {
+            outputs = applyBatch(key, batch, list).toArray();
+        } else {
+            UseCase<I, Result<T>> useCase = resolve(key);
+            outputs = new Object[list.size()];
+            AtomicBoolean failed = mode == BatchMode.FAIL_FAST
+                ? new AtomicBoolean()
+                : null;
+            fanOut(list.size(), i -> {
+                Result<T> result = useCase.apply(list.get(i));
+                outputs[i] = result;
+                if (failed != null && result.isFailure()) {
+                    failed.set(true);
+                }
+            }, failed);
+        }
+
+        List<T> values = new ArrayList<>(outputs.length);
+        List<Result<?>> failures = new ArrayList<>();
+        for (Object output : outputs) {
+            if (output == null) {
+                continue; // skipped after a FAIL_FAST failure
+            }
+            Result<T> result = (Result<T>) output;
+            if (result.isFailure()) {
+                if (mode == BatchMode.FAIL_FAST) {
+                    return (Result<List<T>>) (Result<?>) result;
+                }
+                failures.add(result);
+            } else {
+                values.add(result.get());
+            }
+        }
+        if (failures.size() == 1) {
+            return (Result<List<T>>) failures.get(0);
+        }
+        if (!failures.isEmpty()) {
+            return Result.fail(ValidationError.MULTIPLE, List.copyOf(failures));
+        }
+        return Result.ok(values);
+    }
+
+    // ===== Stream invocation =====
+
+    /**
+     * Invoke a use case once per element of a publisher, one element at a
+     * time, publishing the outputs in input order.
+     *
+     * @param key The type-safe key for the use case
+     * @param inputs The publisher of inputs
+     * @param <I> The input type of the use case
+     * @param <O> The output type of the use case
+     * @return A publisher of the outputs
+     * @throws IllegalArgumentException if no use case is registered with the given key
+     * @see #invokeStream(UseCaseKey, Flow.Publisher, int, StreamOrder)
+     */
+    public <I, O> Flow.Publisher<O> invokeStream(
+        UseCaseKey<I, O> key,
+        Flow.Publisher<I> inputs
+    ) {
+        return invokeStream(key, inputs, 1, StreamOrder.ORDERED);
+    }
+
+    /**
+     * Invoke a use case once per element of a publisher, with up to
+     * {@code parallelism} invocations running at once.
+     *
+     * <p>Each invocation goes through {@link #invokeAsync(UseCaseKey, Object)}
+     * and so runs on the key's executor. Backpressure is honored end to end:
+     * no more than {@code parallelism} elements are requested from
+     * {@code inputs} and not yet delivered to the subscriber, so a slow
+     * subscriber slows the source rather than filling a buffer. A failed
+     * {@code Result} is published like any other output; an exception thrown
+     * by the use case ends the stream with {@code onError}.
+     *
+     * <p>The returned publisher is cold: every subscriber subscribes to
+     * {@code inputs} again.
+     *
+     * <p>Example:
+     * <pre class="language-java">{@code
+     * app.invokeStream(CREATE, incoming, 8, StreamOrder.UNORDERED)
+     *     .subscribe(sink);
+     * }</pre>
+     *
+     * @param key The type-safe key for the use case
+     * @param inputs The publisher of inputs
+     * @param parallelism How many elements may be in flight at once
+     * @param order Whether outputs keep input order
+     * @param <I> The input type of the use case
+     * @param <O> The output type of the use case
+     * @return A publisher of the outputs
+     * @throws IllegalArgumentException if no use case is registered with the
+     *         given key, or parallelism is not positive
+     */
+    public <I, O> Flow.Publisher<O> invokeStream(
+        UseCaseKey<I, O> key,
+        Flow.Publisher<I> inputs,
+        int parallelism,
+        StreamOrder order
+    ) {
+        resolve(key);
+        return new UseCaseStream<>(
+            inputs,
+            input -> invokeAsync(key, input),
+            parallelism,
+            order
+        );
+    }
+
+    /**
+     * Register a native batch handler for a use case.
+     * {@code invokeAll} delegates whole lists to it instead of fanning out.
+     *
+     * @param key The use case key
+     * @param batch The batch implementation
+     * @param <I> Input type
+     * @param <O> Output type
+     * @return This HexaApp for chaining
+     * @throws IllegalStateException if this app is frozen
+     */
+    public <I, O> HexaApp withBatchHandler(UseCaseKey<I, O> key, BatchUseCase<I, O> batch) {
+        checkNotFrozen();
+        batchTable = ensureSlot(batchTable, key.slot());
+        batchTable[key.slot()] = batch;
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <I, O> BatchUseCase<I, O> batchHandler(UseCaseKey<I, O> key) {
+        BatchUseCase<?, ?>[] table = batchTable;
+        int slot = key.slot();
+        return slot < table.length ? (BatchUseCase<I, O>) table[slot] : null;
+    }
+
+    private static <I, O> List<O> applyBatch(
+        UseCaseKey<I, O> key,
+        BatchUseCase<I, O> batch,
+        List<I> inputs
+    ) {
+        List<O> outputs = batch.applyAll(inputs);
+        if (outputs.size() != inputs.size()) {
+            throw new IllegalStateException(
+                "Batch handler for " + key.name() + " returned " +
+                outputs.size() + " outputs for " + inputs.size() + " inputs"
+            );
+        }
+        return outputs;
+    }
+
+    /**
+     * Run {@code task} for every index in {@code [0, size)}, in parallel when
+     * there is more than one. Indices not yet started are skipped once
+     * {@code stop} is set.
+     */
+    private static void fanOut(
+        int size,
+        IntConsumer task,
+        AtomicBoolean stop
+    ) {
+        if (size == 1) {
+            task.accept(0);
+            return;
+        }
+        IntStream.range(0, size).parallel().forEach(i -> {
+            if (stop == null || !stop.get()) {
+                task.accept(i);
+            }
+        });
+    }
+
+    /**
+     * Look up the use case for a key.
+     *
+     * @throws IllegalArgumentException if no use case is registered with the given key
+     */
+    @SuppressWarnings("unchecked")
+    private <I, O> UseCase<I, O> resolve(UseCaseKey<I, O> key) {
+        UseCase<?, ?>[] table = useCaseTable;
+        int slot = key.slot();
+        UseCase<I, O> useCase = slot < table.length
+            ? (UseCase<I, O>) table[slot]
+            : null;
+        if (useCase == null) {
+            throw new IllegalArgumentException(
+                "No use case registered with name: " + key.name()
+            );
+        }
+        return useCase;
+    }
+
+    // ===== Metrics =====
+
+    /**
+     * Attach the metrics registry that the app's use cases record into
+     * (used internally by builder).
+     *
+     * @param metrics The metrics registry
+     * @return This HexaApp for chaining
+     * @throws IllegalStateException if this app is frozen
+     */
+    public HexaApp withMetrics(UseCaseMetrics metrics) {
+        checkNotFrozen();
+        this.metrics = metrics;
+        return this;
+    }
+
+    /**
+     * Get a snapshot of a use case's invocation counts and latencies.
+     *
+     * <p>Example:
+     * <pre class="language-java">{@code
+     * UseCaseStats stats = app.stats(CREATE);
+     * log.info("create: {} calls, {} failed, p99={}",
+     *     stats.invocations(), stats.failures(), stats.p99());
+     * }</pre>
+     *
+     * @param key The use case key
+     * @return The statistics, all zero if metrics are disabled
+     */
+    public UseCaseStats stats(UseCaseKey<?, ?> key) {
+        return metrics == null
+            ? UseCaseStats.empty(key.name())
+            : metrics.stats(key.name());
+    }
+
+    /**
+     * Get a snapshot of every instrumented use case.
+     *
+     * @return Statistics keyed by use case name, empty if metrics are disabled
+     */
+    public Map<String, UseCaseStats> stats() {
+        return metrics == null ? Map.of() : metrics.snapshot();
+    }
+
+    /**
+     * Attach the registry that the app's instrumented ports record into
+     * (used internally by builder).
+     *
+     * @param portMetrics The port metrics registry
+     * @return This HexaApp for chaining
+     * @throws IllegalStateException if this app is frozen
+     */
+    public HexaApp withPortMetrics(PortMetrics portMetrics) {
+        checkNotFrozen();
+        this.portMetrics = portMetrics;
+        return this;
+    }
+
+    /**
+     * Get a snapshot of one port method's call counts and latencies.
+     *
+     * <p>Example:
+     * <pre class="language-java">{@code
+     * PortStats disk = app.portStats(MetricsProvider.class, "getDiskUsage");
+     * log.info("getDiskUsage: {} calls, p99={}", disk.calls(), disk.p99());
+     * }</pre>
+     *
+     * @param port The port interface
+     * @param method The method name
+     * @return The statistics, all zero if port metrics are disabled
+     */
+    public PortStats portStats(Class<?> port, String method) {
+        return portMetrics == null
+            ? PortStats.empty(port.getSimpleName(), method)
+            : portMetrics.stats(port, method);
+    }
+
+    /**
+     * Get a snapshot of every port method called so far.
+     *
+     * @return Statistics keyed by {@code Port.method}, empty if port metrics
+     *         are disabled
+     */
+    public Map<String, PortStats> portStats() {
+        return portMetrics == null ? Map.of() : portMetrics.snapshot();
+    }
+
+    // ===== Caching =====
+
+    /**
+     * Attach the memoization cache used by a use case
+     * (used internally by builder).
+     *
+     * @param key The use case key
+     * @param cache The cache the use case reads through
+     * @return This HexaApp for chaining
+     * @throws IllegalStateException if this app is frozen
+     */
+    public HexaApp withCache(UseCaseKey<?, ?> key, MemoCache<?, ?> cache) {
+        checkNotFrozen();
+        caches.put(key.name(), cache);
+        return this;
+    }
+
+    /**
+     * Get the hit and miss counters of a cached use case.
+     *
+     * <p>Example:
+     * <pre class="language-java">{@code
+     * CacheStats stats = app.cacheStats(ADD);
+     * log.info("add: hit rate {}", stats.hitRate());
+     * }</pre>
+     *
+     * @param key The use case key
+     * @return The cache statistics, all zero if the use case is not cached
+     */
+    public CacheStats cacheStats(UseCaseKey<?, ?> key) {
+        MemoCache<?, ?> cache = caches.get(key.name());
+        return cache == null ? CacheStats.EMPTY : cache.stats();
+    }
+
+    // ===== Bulkheads =====
+
+    /**
+     * Attach the bulkhead that limits a use case's concurrency
+     * (used internally by builder).
+     *
+     * @param key The use case key
+     * @param bulkhead The bulkhead the use case runs through
+     * @return This HexaApp for chaining
+     * @throws IllegalStateException if this app is frozen
+     */
+    public HexaApp withBulkhead(UseCaseKey<?, ?> key, Bulkhead bulkhead) {
+        checkNotFrozen();
+        bulkheads.put(key.name(), bulkhead);
+        return this;
+    }
+
+    /**
+     * Get the current occupancy of a use case's bulkhead.
+     *
+     * <p>Example:
+     * <pre class="language-java">{@code
+     * BulkheadStats stats = app.bulkheadStats(EXPORT);
+     * log.info("export: {}/{} running, {} queued, {} rejected",
+     *     stats.active(), stats.maxConcurrent(), stats.queued(), stats.rejected());
+     * }</pre>
+     *
+     * @param key The use case key
+     * @return The bulkhead statistics, all zero if the use case has no bulkhead
+     */
+    public BulkheadStats bulkheadStats(UseCaseKey<?, ?> key) {
+        Bulkhead bulkhead = bulkheads.get(key.name());
+        return bulkhead == null ? BulkheadStats.EMPTY : bulkhead.stats();
+    }
+
+    // ===== Retries =====
+
+    /**
+     * Get the attempt counters of a retrying use case.
+     *
+     * @param key The use case key
+     * @return The retry statistics, all zero if the use case does not retry
+     * @throws IllegalArgumentException if no use case is registered with the given key
+     */
+    public RetryStats retryStats(UseCaseKey<?, ?> key) {
+        return resolve(key) instanceof RetryingUseCase<?, ?> retrying
+            ? retrying.stats()
+            : RetryStats.EMPTY;
+    }
+
     /**
      * Get the names of all registered use cases.
      * @return A set of registered use case names
@@ -233,6 +1120,9 @@ public abstract class HexaApp {
      * Invoke a use case by name (for internal/testing use).
      * Prefer using {@link #invoke(UseCaseKey, Object)} for type safety.
      *
+     * <p>This is the slow path: the name is hashed and looked up on every
+     * call, whereas typed keys dispatch through a pre-resolved slot.
+     *
      * @param name The name of the use case
      * @param input The input to the use case
      * @param <I> The input type
@@ -263,6 +1153,96 @@ public abstract class HexaApp {
         return HexaTest.forApp(this).test(key.name());
     }
 
+    // ===== Freezing =====
+
+    /**
+     * Seal this app against further registration.
+     *
+     * <p>Use case, port and adapter registries are copied into immutable
+     * maps and the dispatch tables are trimmed to size. After this call
+     * {@code withUseCase}, {@code withAdapter} and {@code port(type, impl)}
+     * throw {@link IllegalStateException}, while lookups and invocations
+     * keep working lock-free from any thread. Freezing twice is a no-op.
+     *
+     * <p>The registries and tables are plain fields, not {@code final}, so
+     * freezing does not by itself make them visible to other threads. Hand
+     * the app to other threads only after {@code freeze()} returns, through
+     * a safe publication: a {@code final} or {@code volatile} field, a
+     * concurrent collection, or starting the threads afterwards. An app
+     * published through a racy field may be seen half-wired.
+     *
+     * @return This HexaApp, now frozen
+     */
+    public HexaApp freeze() {
+        if (frozen) {
+            return this;
+        }
+        useCases = copyNonNull(useCases);
+        ports = copyNonNull(ports);
+        adapters = copyNonNull(adapters);
+        caches = copyNonNull(caches);
+        bulkheads = copyNonNull(bulkheads);
+        useCaseTable = trim(useCaseTable);
+        adapterTable = trim(adapterTable);
+        streamTable = trim(streamTable);
+        executorTable = trim(executorTable);
+        batchTable = trim(batchTable);
+        frozen = true;
+        return this;
+    }
+
+    /**
+     * Check whether this app has been frozen.
+     *
+     * @return true if {@link #freeze()} has been called, false otherwise
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    private void checkNotFrozen() {
+        if (frozen) {
+            throw new IllegalStateException(
+                "HexaApp is frozen; registrations are no longer accepted"
+            );
+        }
+    }
+
+    /**
+     * Copy a map into an immutable one, dropping null values
+     * (which {@link Map#copyOf} rejects and lookups treat as absent anyway).
+     */
+    private static <K, V> Map<K, V> copyNonNull(Map<K, V> map) {
+        Map<K, V> copy = new HashMap<>();
+        for (Map.Entry<K, V> entry : map.entrySet()) {
+            if (entry.getValue() != null) {
+                copy.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return Map.copyOf(copy);
+    }
+
+    /**
+     * Cut trailing empty slots off a dispatch table.
+     */
+    private static <T> T[] trim(T[] table) {
+        int length = table.length;
+        while (length > 0 && table[length - 1] == null) {
+            length--;
+        }
+        return Arrays.copyOf(table, length);
+    }
+
+    /**
+     * Grow a dispatch table so that it can hold the given slot.
+     */
+    private static <T> T[] ensureSlot(T[] table, int slot) {
+        if (slot < table.length) {
+            return table;
+        }
+        return Arrays.copyOf(table, Math.max(slot + 1, table.length * 2));
+    }
+
     /**
      * Optional startup logic.
      */
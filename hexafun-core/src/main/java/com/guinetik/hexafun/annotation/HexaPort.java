@@ -0,0 +1,28 @@
+package com.guinetik.hexafun.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a port type that {@link HexaUseCase} handlers may depend on.
+ *
+ * <p>The annotation processor rejects handler constructor parameters whose
+ * type is not a port, so every edge of the generated wiring graph is a
+ * declared port.
+ *
+ * <p>Example:
+ * <pre class="language-java">{@code
+ * @HexaPort
+ * public interface TaskRepository {
+ *     Task save(Task task);
+ *     Optional<Task> findById(String id);
+ * }
+ * }</pre>
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface HexaPort {}
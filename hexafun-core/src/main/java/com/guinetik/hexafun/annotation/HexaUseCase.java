@@ -0,0 +1,54 @@
+package com.guinetik.hexafun.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a {@link com.guinetik.hexafun.hexa.UseCase} implementation for
+ * compile-time wiring by the {@code hexafun-processor} annotation processor.
+ *
+ * <p>For every package containing annotated handlers the processor
+ * generates two classes:
+ * <ul>
+ *   <li>{@code HexaKeys} - a typed {@link com.guinetik.hexafun.hexa.UseCaseKey}
+ *       constant per use case, e.g. {@code CREATE_TASK}</li>
+ *   <li>{@code HexaDispatch} - constructs every handler from its ports and
+ *       exposes one method per use case that calls the handler directly,
+ *       with no map lookups or casts</li>
+ * </ul>
+ *
+ * <p>The handler must be a concrete, non-generic class with exactly one
+ * non-private constructor whose parameters are {@link HexaPort} types.
+ *
+ * <p>Example:
+ * <pre class="language-java">{@code
+ * @HexaUseCase("createTask")
+ * public class CreateTaskHandler implements UseCase<CreateTaskInput, Result<Task>> {
+ *     private final TaskRepository repository;
+ *
+ *     public CreateTaskHandler(TaskRepository repository) {
+ *         this.repository = repository;
+ *     }
+ *
+ *     public Result<Task> apply(CreateTaskInput input) { ... }
+ * }
+ *
+ * HexaDispatch tasks = new HexaDispatch(new InMemoryTaskRepository());
+ * Result<Task> created = tasks.createTask(new CreateTaskInput("Write docs", ""));
+ * }</pre>
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface HexaUseCase {
+    /**
+     * The use case name. Must be a valid Java identifier, since it also
+     * names the generated dispatch method.
+     *
+     * @return The use case name
+     */
+    String value();
+}
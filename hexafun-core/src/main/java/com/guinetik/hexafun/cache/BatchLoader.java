@@ -0,0 +1,182 @@
+package com.guinetik.hexafun.cache;
+
+import com.guinetik.hexafun.hexa.DefaultExecutor;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Collects single-key lookups made within a short window and answers them
+ * with one bulk call.
+ *
+ * <p>The first {@link #load(Object)} of a batch opens a window; every key
+ * requested before it closes (or before the batch reaches its maximum size)
+ * joins the same bulk call, and equal keys share one future. Keys missing
+ * from the bulk result complete with {@code null}; if the bulk call throws,
+ * every future in the batch completes with that exception. The bulk call
+ * runs on the executor, never on the calling thread.
+ *
+ * <p>Built for {@link com.guinetik.hexafun.hexa.AsyncValidationPort}s that
+ * query the same port:
+ * <pre class="language-java">{@code
+ * BatchLoader<String, Task> tasks =
+ *     new BatchLoader<>(repo::findAllById, 100, Duration.ofMillis(2));
+ *
+ * AsyncValidationPort<StartTask> taskExists = input -> tasks.load(input.taskId())
+ *     .thenApply(task -> task != null
+ *         ? Result.ok(input)
+ *         : Result.fail(TaskError.NOT_FOUND, input.taskId()));
+ * }</pre>
+ *
+ * @param <K> The key type
+ * @param <V> The value type
+ */
+public final class BatchLoader<K, V> {
+
+    private final Function<? super Set<K>, ? extends Map<K, ? extends V>> bulk;
+    private final int maxBatchSize;
+    private final long windowNanos;
+    private final Executor executor;
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder keys = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    // The open batch, or null; guarded by this
+    private Map<K, CompletableFuture<V>> pending;
+
+    /**
+     * Create a loader that runs bulk calls on the default executor.
+     *
+     * @param bulk Looks up a set of keys at once
+     * @param maxBatchSize Dispatch as soon as a batch holds this many keys
+     * @param window How long a batch stays open for more keys
+     * @throws IllegalArgumentException if a limit is out of range
+     */
+    public BatchLoader(
+        Function<? super Set<K>, ? extends Map<K, ? extends V>> bulk,
+        int maxBatchSize,
+        Duration window
+    ) {
+        this(bulk, maxBatchSize, window, DefaultExecutor.get());
+    }
+
+    /**
+     * Create a loader.
+     *
+     * @param bulk Looks up a set of keys at once
+     * @param maxBatchSize Dispatch as soon as a batch holds this many keys
+     * @param window How long a batch stays open for more keys
+     * @param executor Runs the bulk calls
+     * @throws IllegalArgumentException if a limit is out of range
+     */
+    public BatchLoader(
+        Function<? super Set<K>, ? extends Map<K, ? extends V>> bulk,
+        int maxBatchSize,
+        Duration window,
+        Executor executor
+    ) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException(
+                "Batch size must be positive: " + maxBatchSize
+            );
+        }
+        if (window == null || window.isNegative()) {
+            throw new IllegalArgumentException("Batch window cannot be negative: " + window);
+        }
+        this.bulk = Objects.requireNonNull(bulk);
+        this.maxBatchSize = maxBatchSize;
+        this.windowNanos = window.toNanos();
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    /**
+     * Request the value for a key as part of the current batch.
+     *
+     * @param key The key
+     * @return A future completed when the batch's bulk call returns
+     */
+    public CompletableFuture<V> load(K key) {
+        Objects.requireNonNull(key, "key");
+        Map<K, CompletableFuture<V>> opened = null;
+        Map<K, CompletableFuture<V>> full = null;
+        CompletableFuture<V> future;
+        synchronized (this) {
+            if (pending == null) {
+                pending = new LinkedHashMap<>();
+                opened = pending;
+            }
+            future = pending.get(key);
+            if (future != null) {
+                coalesced.increment();
+                return future;
+            }
+            future = new CompletableFuture<>();
+            pending.put(key, future);
+            if (pending.size() >= maxBatchSize) {
+                full = pending;
+                pending = null;
+            }
+        }
+        if (full != null) {
+            Map<K, CompletableFuture<V>> batch = full;
+            executor.execute(() -> dispatch(batch));
+        } else if (opened != null) {
+            Map<K, CompletableFuture<V>> batch = opened;
+            CompletableFuture.delayedExecutor(windowNanos, TimeUnit.NANOSECONDS, executor)
+                .execute(() -> close(batch));
+        }
+        return future;
+    }
+
+    /**
+     * Get the number of bulk calls made.
+     * @return The batch count
+     */
+    public long batches() {
+        return batches.sum();
+    }
+
+    /**
+     * Get the number of distinct keys sent to bulk calls.
+     * @return The key count
+     */
+    public long keys() {
+        return keys.sum();
+    }
+
+    /**
+     * Get the number of loads that shared an equal key's future.
+     * @return The coalesced load count
+     */
+    public long coalesced() {
+        return coalesced.sum();
+    }
+
+    private void close(Map<K, CompletableFuture<V>> batch) {
+        synchronized (this) {
+            if (pending != batch) {
+                return; // already dispatched because it filled up
+            }
+            pending = null;
+        }
+        dispatch(batch);
+    }
+
+    private void dispatch(Map<K, CompletableFuture<V>> batch) {
+        batches.increment();
+        keys.add(batch.size());
+        try {
+            Map<K, ? extends V> values = bulk.apply(Collections.unmodifiableSet(batch.keySet()));
+            batch.forEach((key, future) -> future.complete(values.get(key)));
+        } catch (RuntimeException | Error e) {
+            batch.values().forEach(future -> future.completeExceptionally(e));
+        }
+    }
+}
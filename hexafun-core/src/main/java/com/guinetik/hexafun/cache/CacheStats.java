@@ -0,0 +1,40 @@
+package com.guinetik.hexafun.cache;
+
+/**
+ * Point-in-time statistics for a {@link MemoCache}.
+ *
+ * @param hits Lookups answered from the cache
+ * @param misses Lookups that had to compute the value
+ * @param evictions Entries dropped to respect the size bound
+ * @param size Current number of entries
+ */
+public record CacheStats(long hits, long misses, long evictions, int size) {
+    /** Statistics for a cache that has not been used, or does not exist. */
+    public static final CacheStats EMPTY = new CacheStats(0, 0, 0, 0);
+
+    /**
+     * Get the total number of lookups.
+     * @return hits plus misses
+     */
+    public long requests() {
+        return hits + misses;
+    }
+
+    /**
+     * Get the fraction of lookups answered from the cache.
+     * @return The hit rate from 0 to 1, or 0 if there were no lookups
+     */
+    public double hitRate() {
+        long requests = requests();
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+
+    /**
+     * Get the fraction of lookups that had to compute the value.
+     * @return The miss rate from 0 to 1, or 0 if there were no lookups
+     */
+    public double missRate() {
+        long requests = requests();
+        return requests == 0 ? 0 : (double) misses / requests;
+    }
+}
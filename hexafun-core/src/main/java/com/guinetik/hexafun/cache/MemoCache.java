@@ -0,0 +1,243 @@
+package com.guinetik.hexafun.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Concurrent, size-bounded memoization cache with LRU eviction and an
+ * optional time-to-live.
+ *
+ * <p>Keys are compared with {@code equals}/{@code hashCode}, so record
+ * inputs work out of the box. The cache is split into lock-striped
+ * segments, each an access-ordered {@link LinkedHashMap} that evicts its
+ * least recently used entry when full. The size bound is split across the
+ * segments, so the total never exceeds it, and eviction order is LRU
+ * within a segment.
+ * Small caches use a single segment and are exact LRU.
+ *
+ * <p>Values are computed outside the lock, so a slow computation never
+ * blocks readers of other keys. Two threads missing on the same key at the
+ * same time may both compute it; the last one wins.
+ *
+ * <p>Example:
+ * <pre class="language-java">{@code
+ * MemoCache<Integer, Integer> squares = new MemoCache<>(1000, Duration.ofMinutes(5));
+ * int nine = squares.get(3, i -> i * i);
+ * }</pre>
+ *
+ * @param <K> The key type
+ * @param <V> The value type
+ */
+public final class MemoCache<K, V> {
+
+    private static final int MAX_SEGMENTS = 16;
+    private static final int MIN_ENTRIES_PER_SEGMENT = 16;
+
+    private final Segment<K, V>[] segments;
+    private final int mask;
+    private final long ttlNanos;
+    private final Predicate<? super V> admission;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Create a cache that stores every computed value.
+     *
+     * @param maxSize The maximum number of entries
+     * @param ttl How long entries stay valid, or null to keep them until evicted
+     * @throws IllegalArgumentException if maxSize is not positive or ttl is not positive
+     */
+    public MemoCache(int maxSize, Duration ttl) {
+        this(maxSize, ttl, value -> true);
+    }
+
+    /**
+     * Create a cache that only stores values accepted by a predicate.
+     *
+     * @param maxSize The maximum number of entries
+     * @param ttl How long entries stay valid, or null to keep them until evicted
+     * @param admission Which computed values may be stored
+     * @throws IllegalArgumentException if maxSize is not positive or ttl is not positive
+     */
+    @SuppressWarnings("unchecked")
+    public MemoCache(int maxSize, Duration ttl, Predicate<? super V> admission) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive: " + maxSize);
+        }
+        if (ttl != null && (ttl.isNegative() || ttl.isZero())) {
+            throw new IllegalArgumentException("Cache TTL must be positive: " + ttl);
+        }
+        int count = Math.min(
+            MAX_SEGMENTS,
+            Integer.highestOneBit(Math.max(1, maxSize / MIN_ENTRIES_PER_SEGMENT))
+        );
+        this.segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            int capacity = maxSize / count + (i < maxSize % count ? 1 : 0);
+            segments[i] = new Segment<>(capacity, evictions);
+        }
+        this.mask = count - 1;
+        this.ttlNanos = ttl == null ? 0 : ttl.toNanos();
+        this.admission = admission;
+    }
+
+    /**
+     * Get the cached value for a key, computing and storing it on a miss.
+     *
+     * @param key The key (may be null)
+     * @param loader Computes the value on a miss
+     * @return The cached or freshly computed value
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        Segment<K, V> segment = segmentFor(key);
+        long now = ttlNanos == 0 ? 0 : System.nanoTime();
+        Entry<V> entry = segment.get(key, now);
+        if (entry != null) {
+            hits.increment();
+            return entry.value;
+        }
+        misses.increment();
+        V value = loader.apply(key);
+        store(segment, key, value);
+        return value;
+    }
+
+    /**
+     * Get the cached value for a key, computing it asynchronously on a miss.
+     * The value is stored when the loader's future completes successfully;
+     * a failed future stores nothing.
+     *
+     * @param key The key (may be null)
+     * @param loader Starts computing the value on a miss
+     * @return A completed future on a hit, or one completed with the loaded value
+     */
+    public CompletableFuture<V> getAsync(
+        K key,
+        Function<? super K, ? extends CompletableFuture<V>> loader
+    ) {
+        Segment<K, V> segment = segmentFor(key);
+        long now = ttlNanos == 0 ? 0 : System.nanoTime();
+        Entry<V> entry = segment.get(key, now);
+        if (entry != null) {
+            hits.increment();
+            return CompletableFuture.completedFuture(entry.value);
+        }
+        misses.increment();
+        return loader.apply(key).thenApply(value -> {
+            store(segment, key, value);
+            return value;
+        });
+    }
+
+    /**
+     * Remove every entry. Counters are kept.
+     */
+    public void clear() {
+        for (Segment<K, V> segment : segments) {
+            segment.clear();
+        }
+    }
+
+    /**
+     * Get the current number of entries, including expired ones not yet
+     * cleaned up.
+     * @return The entry count
+     */
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * Get a snapshot of the hit, miss and eviction counters.
+     * @return The cache statistics
+     */
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), size());
+    }
+
+    private void store(Segment<K, V> segment, K key, V value) {
+        if (admission.test(value)) {
+            long expiresAt = ttlNanos == 0 ? 0 : System.nanoTime() + ttlNanos;
+            segment.put(key, new Entry<>(value, expiresAt));
+        }
+    }
+
+    private Segment<K, V> segmentFor(K key) {
+        int h = key == null ? 0 : key.hashCode();
+        h ^= h >>> 16;
+        return segments[h & mask];
+    }
+
+    private record Entry<V>(V value, long expiresAt) {}
+
+    private static final class Segment<K, V> {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<K, Entry<V>> map;
+
+        Segment(int capacity, LongAdder evictions) {
+            this.map = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                    if (size() > capacity) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        Entry<V> get(K key, long now) {
+            lock.lock();
+            try {
+                Entry<V> entry = map.get(key);
+                if (entry != null && entry.expiresAt != 0 && now - entry.expiresAt >= 0) {
+                    map.remove(key);
+                    return null;
+                }
+                return entry;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void put(K key, Entry<V> entry) {
+            lock.lock();
+            try {
+                map.put(key, entry);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void clear() {
+            lock.lock();
+            try {
+                map.clear();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int size() {
+            lock.lock();
+            try {
+                return map.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.guinetik.hexafun.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Coalesces concurrent computations of equal keys into one execution.
+ *
+ * <p>The first caller for a key (the leader) runs the computation; callers
+ * arriving with an equal key while it is in flight wait for it and receive
+ * the same value, or the same exception. Nothing is remembered once the
+ * computation finishes, so later calls run again; combine with
+ * {@link MemoCache} to keep results.
+ *
+ * <p>A computation must not recursively request its own key, or it will
+ * wait on itself.
+ *
+ * <p>Example:
+ * <pre class="language-java">{@code
+ * SingleFlight<String, Task> flight = new SingleFlight<>();
+ * Task task = flight.execute(id, repo::findById);
+ * }</pre>
+ *
+ * @param <K> The key type
+ * @param <V> The value type
+ */
+public final class SingleFlight<K, V> {
+
+    private static final Object NULL_KEY = new Object();
+
+    private final ConcurrentHashMap<Object, CompletableFuture<V>> inFlight =
+        new ConcurrentHashMap<>();
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * Compute the value for a key, sharing an in-flight computation of an
+     * equal key if there is one.
+     *
+     * @param key The key (may be null)
+     * @param computation Computes the value when no equal key is in flight
+     * @return The computed or shared value
+     */
+    public V execute(K key, Function<? super K, ? extends V> computation) {
+        Object flightKey = key == null ? NULL_KEY : key;
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> leader = inFlight.putIfAbsent(flightKey, mine);
+        if (leader != null) {
+            coalesced.increment();
+            return await(leader);
+        }
+        executions.increment();
+        try {
+            V value = computation.apply(key);
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, mine);
+        }
+    }
+
+    /**
+     * Start the computation for a key, or share the future of an equal key
+     * already in flight. No thread waits: followers get a copy of the
+     * leader's future, so cancelling one caller's future leaves the others
+     * untouched.
+     *
+     * @param key The key (may be null)
+     * @param computation Starts computing the value when no equal key is in flight
+     * @return A future completed with the computed or shared value
+     */
+    public CompletableFuture<V> executeAsync(
+        K key,
+        Function<? super K, ? extends CompletableFuture<V>> computation
+    ) {
+        Object flightKey = key == null ? NULL_KEY : key;
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> leader = inFlight.putIfAbsent(flightKey, mine);
+        if (leader != null) {
+            coalesced.increment();
+            return leader.copy();
+        }
+        executions.increment();
+        CompletableFuture<V> output;
+        try {
+            output = computation.apply(key);
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(flightKey, mine);
+            mine.completeExceptionally(e);
+            throw e;
+        }
+        output.whenComplete((value, error) -> {
+            inFlight.remove(flightKey, mine);
+            if (error == null) {
+                mine.complete(value);
+            } else {
+                mine.completeExceptionally(error);
+            }
+        });
+        return mine.copy();
+    }
+
+    /**
+     * Get the number of computations actually run.
+     * @return The execution count
+     */
+    public long executions() {
+        return executions.sum();
+    }
+
+    /**
+     * Get the number of calls that shared another caller's computation.
+     * @return The coalesced call count
+     */
+    public long coalesced() {
+        return coalesced.sum();
+    }
+
+    private static <V> V await(CompletableFuture<V> leader) {
+        try {
+            return leader.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
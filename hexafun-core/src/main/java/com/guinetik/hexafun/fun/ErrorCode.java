@@ -0,0 +1,86 @@
+package com.guinetik.hexafun.fun;
+
+/**
+ * A machine-readable failure reason with a message template.
+ *
+ * <p>Usually implemented by an enum, one constant per failure, so callers
+ * can branch on the code without looking at the message:
+ * <pre class="language-java">{@code
+ * enum RepoError implements ErrorCode {
+ *     NOT_FOUND("Entity not found with ID: {0}");
+ *
+ *     private final String template;
+ *     RepoError(String template) { this.template = template; }
+ *     public String template() { return template; }
+ * }
+ *
+ * Result<Task> missing = Result.fail(RepoError.NOT_FOUND, id);
+ * if (missing.errorCode() == RepoError.NOT_FOUND) { ... }
+ * }</pre>
+ *
+ * <p>The template is only rendered when someone asks for
+ * {@link Result#error()}, so failures that are only branched on never
+ * build a string.
+ */
+@FunctionalInterface
+public interface ErrorCode {
+
+    /**
+     * The code used by {@link Result#fail(String)}: the template just
+     * echoes the message.
+     */
+    ErrorCode MESSAGE = () -> "{0}";
+
+    /**
+     * The message template. {@code {0}}, {@code {1}}, ... are replaced by
+     * the failure's parameters; placeholders without a matching parameter
+     * are left as they are.
+     *
+     * @return The template
+     */
+    String template();
+
+    /**
+     * Render the template with the given parameters.
+     *
+     * @param params The parameters, by position
+     * @return The rendered message
+     */
+    default String render(Object... params) {
+        String template = template();
+        int open = template.indexOf('{');
+        if (open < 0 || params.length == 0) {
+            return template;
+        }
+        StringBuilder sb = new StringBuilder(template.length() + 16 * params.length);
+        int from = 0;
+        while (open >= 0) {
+            int close = template.indexOf('}', open);
+            if (close < 0) {
+                break;
+            }
+            int index = index(template, open + 1, close);
+            if (index >= 0 && index < params.length) {
+                sb.append(template, from, open).append(params[index]);
+                from = close + 1;
+            }
+            open = template.indexOf('{', close);
+        }
+        return sb.append(template, from, template.length()).toString();
+    }
+
+    private static int index(String template, int start, int end) {
+        if (start == end || end - start > 2) {
+            return -1;
+        }
+        int index = 0;
+        for (int i = start; i < end; i++) {
+            char c = template.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            index = index * 10 + (c - '0');
+        }
+        return index;
+    }
+}
@@ -1,11 +1,21 @@
 package com.guinetik.hexafun.fun;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 
 public sealed interface Result<T> permits Result.Success, Result.Failure {
 
+    @SuppressWarnings("unchecked")
     static <T> Result<T> ok(T value) {
+        if (value == null) {
+            return (Result<T>) Success.NULL;
+        }
+        if (value instanceof Boolean b) {
+            return (Result<T>) (b ? Success.TRUE : Success.FALSE);
+        }
         return new Success<>(value);
     }
 
@@ -13,11 +23,27 @@ public sealed interface Result<T> permits Result.Success, Result.Failure {
         return new Failure<>(message);
     }
 
+    // Structured failures: the message is rendered from the code's template
+    // only when error() is called, so rejection paths that just branch on
+    // the result never build a string.
+    static <T> Result<T> fail(ErrorCode code) {
+        return new Failure<>(code, null, null);
+    }
+
+    static <T> Result<T> fail(ErrorCode code, Object... params) {
+        return new Failure<>(code, params, null);
+    }
+
+    static <T> Result<T> fail(Throwable cause, ErrorCode code, Object... params) {
+        return new Failure<>(code, params, Objects.requireNonNull(cause));
+    }
+
     boolean isSuccess();
     boolean isFailure();
 
     T get(); // orElseThrow?
     String error();
+    ErrorCode errorCode();
 
     <U> Result<U> map(Function<T, U> mapper);
     <U> Result<U> flatMap(Function<T, Result<U>> mapper);
@@ -25,6 +51,13 @@ public sealed interface Result<T> permits Result.Success, Result.Failure {
     <U> U fold(Function<String, U> onFailure, Function<T, U> onSuccess);
 
     final class Success<T> implements Result<T> {
+        // Shared instances for the constant results returned on hot paths
+        // (void-like operations, boolean outcomes); ok(...) hands these out
+        // instead of allocating.
+        private static final Success<?> NULL = new Success<>(null);
+        private static final Success<Boolean> TRUE = new Success<>(Boolean.TRUE);
+        private static final Success<Boolean> FALSE = new Success<>(Boolean.FALSE);
+
         private final T value;
 
         public Success(T value) {
@@ -35,9 +68,13 @@ public sealed interface Result<T> permits Result.Success, Result.Failure {
         public boolean isFailure() { return false; }
         public T get() { return value; }
         public String error() { throw new IllegalStateException("No error"); }
+        public ErrorCode errorCode() { throw new IllegalStateException("No error"); }
 
+        @SuppressWarnings("unchecked")
         public <U> Result<U> map(Function<T, U> mapper) {
-            return Result.ok(mapper.apply(value));
+            U mapped = mapper.apply(value);
+            // Identity-preserving steps (peek, validation) reuse this instance
+            return mapped == value ? (Result<U>) this : Result.ok(mapped);
         }
 
         public <U> Result<U> flatMap(Function<T, Result<U>> mapper) {
@@ -50,27 +87,60 @@ public sealed interface Result<T> permits Result.Success, Result.Failure {
     }
 
     final class Failure<T> implements Result<T> {
-        private final String error;
+        private static final Object[] NO_PARAMS = {};
+
+        private final ErrorCode code;
+        private final Object[] params;
+        private final Throwable cause;
+        // Rendered on first use; racing threads render the same string
+        private String error;
 
         public Failure(String error) {
+            this.code = ErrorCode.MESSAGE;
+            this.params = NO_PARAMS;
+            this.cause = null;
             this.error = Objects.requireNonNull(error);
         }
 
+        public Failure(ErrorCode code, Object[] params, Throwable cause) {
+            this.code = Objects.requireNonNull(code);
+            this.params = params == null ? NO_PARAMS : params;
+            this.cause = cause;
+        }
+
         public boolean isSuccess() { return false; }
         public boolean isFailure() { return true; }
-        public T get() { throw new IllegalStateException(error); }
-        public String error() { return error; }
+        public T get() { throw new IllegalStateException(error(), cause); }
+        public ErrorCode errorCode() { return code; }
+
+        public String error() {
+            String rendered = error;
+            if (rendered == null) {
+                rendered = code.render(params);
+                error = rendered;
+            }
+            return rendered;
+        }
+
+        /** The template parameters, empty for plain message failures. */
+        public List<Object> params() { return Collections.unmodifiableList(Arrays.asList(params)); }
+
+        /** The underlying exception, or {@code null} if there is none. */
+        public Throwable cause() { return cause; }
 
+        // A failure carries no T, so it can pass through any chain unchanged
+        @SuppressWarnings("unchecked")
         public <U> Result<U> map(Function<T, U> mapper) {
-            return Result.fail(error);
+            return (Result<U>) this;
         }
 
+        @SuppressWarnings("unchecked")
         public <U> Result<U> flatMap(Function<T, Result<U>> mapper) {
-            return Result.fail(error);
+            return (Result<U>) this;
         }
 
         public <U> U fold(Function<String, U> onFailure, Function<T, U> onSuccess) {
-            return onFailure.apply(error);
+            return onFailure.apply(error());
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,82 @@
+package com.guinetik.hexafun.hexa;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * A typed sequence of adapters, each one's output feeding the next.
+ *
+ * <p>Chains are created with {@link AdapterKey#then(AdapterKey)} and turned
+ * into a single function with {@link com.guinetik.hexafun.HexaApp#compile(AdapterChain)},
+ * which resolves every link once, up front. The compiled function calls
+ * the adapters directly, with no per-step lookups or casts.
+ *
+ * <p>Example:
+ * <pre class="language-java">{@code
+ * AdapterChain<Task, byte[]> toWire = TO_DTO.then(TO_JSON).then(TO_BYTES);
+ *
+ * Function<Task, byte[]> encode = app.compile(toWire);
+ * byte[] payload = encode.apply(task);
+ * }</pre>
+ *
+ * @param <From> The input type of the first adapter
+ * @param <To> The output type of the last adapter
+ */
+public final class AdapterChain<From, To> {
+
+    private final List<AdapterKey<?, ?>> keys;
+
+    private AdapterChain(List<AdapterKey<?, ?>> keys) {
+        this.keys = keys;
+    }
+
+    static <From, Mid, To> AdapterChain<From, To> of(
+        AdapterKey<From, Mid> first,
+        AdapterKey<Mid, To> second
+    ) {
+        return new AdapterChain<>(List.of(first, second));
+    }
+
+    /**
+     * Append another adapter to the end of this chain.
+     *
+     * @param next The adapter consuming this chain's output
+     * @param <Next> The new output type
+     * @return A new, longer chain
+     */
+    public <Next> AdapterChain<From, Next> then(AdapterKey<To, Next> next) {
+        List<AdapterKey<?, ?>> extended = new ArrayList<>(keys);
+        extended.add(next);
+        return new AdapterChain<>(Collections.unmodifiableList(extended));
+    }
+
+    /**
+     * Get the adapter keys in application order.
+     *
+     * @return The keys, first adapter first
+     */
+    public List<AdapterKey<?, ?>> keys() {
+        return keys;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return keys.equals(((AdapterChain<?, ?>) o).keys);
+    }
+
+    @Override
+    public int hashCode() {
+        return keys.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return keys.stream()
+            .map(AdapterKey::name)
+            .collect(Collectors.joining(" -> ", "AdapterChain(", ")"));
+    }
+}
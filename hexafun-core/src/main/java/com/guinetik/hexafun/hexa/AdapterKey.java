@@ -39,13 +39,17 @@ import java.util.Objects;
  */
 public final class AdapterKey<From, To> {
 
+    private static final KeySlots ADAPTER_SLOTS = new KeySlots();
+
     private final String name;
+    private final int slot;
 
     private AdapterKey(String name) {
         this.name = Objects.requireNonNull(
             name,
             "Adapter name cannot be null"
         );
+        this.slot = ADAPTER_SLOTS.slotFor(name);
     }
 
     /**
@@ -68,6 +72,37 @@ public final class AdapterKey<From, To> {
         return name;
     }
 
+    /**
+     * Get the dispatch slot of this key.
+     *
+     * <p>Slots are interned by name when the key is created, so every key
+     * with the same name shares one slot. {@link com.guinetik.hexafun.HexaApp}
+     * uses the slot as a direct index into its adapter table instead of
+     * hashing the name on every call.
+     *
+     * @return The slot index for this key
+     */
+    public int slot() {
+        return slot;
+    }
+
+    /**
+     * Chain another adapter after this one.
+     *
+     * <p>Example:
+     * <pre class="language-java">{@code
+     * AdapterChain<Task, String> toJson = TO_DTO.then(DTO_TO_JSON);
+     * }</pre>
+     *
+     * @param next The adapter consuming this adapter's output
+     * @param <Next> The output type of the chain
+     * @return A chain applying this adapter, then {@code next}
+     * @see com.guinetik.hexafun.HexaApp#compile(AdapterChain)
+     */
+    public <Next> AdapterChain<From, Next> then(AdapterKey<To, Next> next) {
+        return AdapterChain.of(this, next);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,26 @@
+package com.guinetik.hexafun.hexa;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * A use case with a native asynchronous form.
+ *
+ * <p>{@link com.guinetik.hexafun.HexaApp#invokeAsync(UseCaseKey, Object)}
+ * calls {@link #applyAsync(Object, Executor)} instead of running
+ * {@link #apply(Object)} on a worker thread. Implementations can then wait
+ * (for example between retry attempts) without holding a thread.
+ *
+ * @param <I> The input type
+ * @param <O> The output type
+ */
+public interface AsyncUseCase<I, O> extends UseCase<I, O> {
+    /**
+     * Run the use case asynchronously.
+     *
+     * @param input The input
+     * @param executor The executor selected for this use case
+     * @return A future completed with the output
+     */
+    CompletableFuture<O> applyAsync(I input, Executor executor);
+}
@@ -0,0 +1,113 @@
+package com.guinetik.hexafun.hexa;
+
+import com.guinetik.hexafun.fun.Result;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * A use case whose validation includes {@link AsyncValidationPort}s.
+ *
+ * <p>Staged by {@link UseCaseValidationStep#handle(UseCase)} when any
+ * validator in the chain is asynchronous. The chain is split into stages:
+ * runs of synchronous validators are compiled with {@link ValidationChain}
+ * and run inline, and each run of consecutive asynchronous validators is
+ * started together against the same input, so lookups they make through a
+ * shared port can be batched. A run's first failure in declaration order
+ * wins; when it passes, the input continues unchanged.
+ *
+ * <p>{@link com.guinetik.hexafun.HexaApp#invokeAsync} runs the stages
+ * without blocking and then the handler on the use case's executor; a
+ * plain {@code invoke} waits for the asynchronous stages.
+ *
+ * @param <I> The input type
+ * @param <O> The success value type of the handler's result
+ */
+final class AsyncValidatedUseCase<I, O> implements AsyncUseCase<I, Result<O>> {
+
+    // Each stage is a ValidationPort<I> or an AsyncValidationPort<I>[]
+    private final Object[] stages;
+    final UseCase<I, Result<O>> handler;
+
+    AsyncValidatedUseCase(Object[] stages, UseCase<I, Result<O>> handler) {
+        this.stages = stages;
+        this.handler = handler;
+    }
+
+    AsyncValidatedUseCase<I, O> withHandler(UseCase<I, Result<O>> handler) {
+        return new AsyncValidatedUseCase<>(stages, handler);
+    }
+
+    @Override
+    public Result<O> apply(I input) {
+        return handle(ParallelValidation.join(validate(input)));
+    }
+
+    @Override
+    public CompletableFuture<Result<O>> applyAsync(I input, Executor executor) {
+        CompletableFuture<Result<I>> validated;
+        try {
+            validated = validate(input);
+        } catch (RuntimeException | Error e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return validated.thenApplyAsync(this::handle, executor);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Result<O> handle(Result<I> validated) {
+        if (validated.isFailure()) {
+            return (Result<O>) validated;
+        }
+        return handler.apply(validated.get());
+    }
+
+    CompletableFuture<Result<I>> validate(I input) {
+        return run(0, input);
+    }
+
+    @SuppressWarnings("unchecked")
+    private CompletableFuture<Result<I>> run(int from, I input) {
+        Result<I> result = null;
+        I current = input;
+        for (int i = from; i < stages.length; i++) {
+            if (stages[i] instanceof ValidationPort<?> stage) {
+                result = ((ValidationPort<I>) stage).validate(current);
+                if (result.isFailure()) {
+                    return CompletableFuture.completedFuture(result);
+                }
+                current = result.get();
+            } else {
+                int next = i + 1;
+                I checked = current;
+                return all((AsyncValidationPort<I>[]) stages[i], checked).thenCompose(
+                    outcome -> outcome.isFailure() || next == stages.length
+                        ? CompletableFuture.completedFuture(outcome)
+                        : run(next, checked)
+                );
+            }
+        }
+        return CompletableFuture.completedFuture(result);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <I> CompletableFuture<Result<I>> all(AsyncValidationPort<I>[] group, I input) {
+        if (group.length == 1) {
+            return group[0].validate(input).thenApply(
+                result -> result.isFailure() || result.get() == input ? result : Result.ok(input)
+            );
+        }
+        CompletableFuture<Result<I>>[] pending = new CompletableFuture[group.length];
+        for (int i = 0; i < group.length; i++) {
+            pending[i] = group[i].validate(input);
+        }
+        return CompletableFuture.allOf(pending).thenApply(done -> {
+            for (CompletableFuture<Result<I>> future : pending) {
+                Result<I> result = future.join();
+                if (result.isFailure()) {
+                    return result;
+                }
+            }
+            return Result.ok(input);
+        });
+    }
+}
@@ -0,0 +1,25 @@
+package com.guinetik.hexafun.hexa;
+
+import com.guinetik.hexafun.fun.Result;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Port for validating input with a non-blocking check, such as a lookup
+ * through a repository port.
+ *
+ * <p>Added to a use case with
+ * {@link UseCaseValidationStep#validateAsync(AsyncValidationPort)}. Pair it
+ * with a {@link com.guinetik.hexafun.cache.BatchLoader} when several
+ * validators query the same port, so their lookups share one bulk call.
+ *
+ * @param <I> Input type to validate
+ */
+@FunctionalInterface
+public interface AsyncValidationPort<I> {
+    /**
+     * Start validating input data.
+     * @param input The input to validate
+     * @return A future completed with the input or an error
+     */
+    CompletableFuture<Result<I>> validate(I input);
+}
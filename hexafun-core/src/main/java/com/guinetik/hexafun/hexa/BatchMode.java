@@ -0,0 +1,18 @@
+package com.guinetik.hexafun.hexa;
+
+/**
+ * How a batch of {@code Result}-returning invocations reacts to failures.
+ *
+ * @see com.guinetik.hexafun.HexaApp#invokeAll(UseCaseKey, java.util.Collection, BatchMode)
+ */
+public enum BatchMode {
+    /**
+     * Run every input, then fail with all collected errors if any input failed.
+     */
+    COLLECT_ALL,
+
+    /**
+     * Stop scheduling new inputs as soon as one fails and return that failure.
+     */
+    FAIL_FAST
+}
@@ -0,0 +1,24 @@
+package com.guinetik.hexafun.hexa;
+
+import java.util.List;
+
+/**
+ * Native batch implementation of a use case.
+ *
+ * <p>Register one with {@link UseCaseBuilder#withBatchHandler(UseCaseKey, BatchUseCase)}
+ * when the whole list can be processed more cheaply at once than element by
+ * element, for example with a single bulk insert. {@code invokeAll} then hands
+ * the complete input list to this handler instead of fanning out.
+ *
+ * @param <I> Input type - the input of a single invocation
+ * @param <O> Output type - the result of a single invocation
+ */
+@FunctionalInterface
+public interface BatchUseCase<I, O> {
+    /**
+     * Apply the use case to every input at once.
+     * @param inputs The inputs to process, in order
+     * @return One output per input, in the same order
+     */
+    List<O> applyAll(List<I> inputs);
+}
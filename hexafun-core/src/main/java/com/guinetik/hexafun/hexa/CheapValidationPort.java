@@ -0,0 +1,21 @@
+package com.guinetik.hexafun.hexa;
+
+import com.guinetik.hexafun.fun.Result;
+
+/**
+ * A validator marked as cheap with {@link ValidationPort#cheap}.
+ *
+ * @param <I> Input type to validate
+ */
+record CheapValidationPort<I>(ValidationPort<I> delegate) implements ValidationPort<I> {
+
+    @Override
+    public Result<I> validate(I input) {
+        return delegate.validate(input);
+    }
+
+    @Override
+    public boolean isCheap() {
+        return true;
+    }
+}
@@ -0,0 +1,38 @@
+package com.guinetik.hexafun.hexa;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Default executor for asynchronous use case invocation.
+ *
+ * <p>This is the Java 17 variant, which runs work on the common
+ * {@link ForkJoinPool}. The multi-release jar ships a Java 21 variant
+ * under {@code META-INF/versions/21} that uses one virtual thread per
+ * invocation instead, so blocking port calls do not pin platform threads.
+ *
+ * @see com.guinetik.hexafun.HexaApp#invokeAsync(UseCaseKey, Object)
+ */
+public final class DefaultExecutor {
+
+    private DefaultExecutor() {}
+
+    /**
+     * Get the executor used when neither the app nor the use case
+     * configured one.
+     *
+     * @return The default executor
+     */
+    public static Executor get() {
+        return ForkJoinPool.commonPool();
+    }
+
+    /**
+     * Check whether the default executor runs work on virtual threads.
+     *
+     * @return true on Java 21+, false otherwise
+     */
+    public static boolean usesVirtualThreads() {
+        return false;
+    }
+}
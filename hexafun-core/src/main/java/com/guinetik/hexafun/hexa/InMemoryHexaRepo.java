@@ -85,7 +85,7 @@ public class InMemoryHexaRepo<T> implements HexaRepo<T> {
             storage.put(id, entity);
             return Result.ok(entity);
         } catch (Exception e) {
-            return Result.fail("Failed to save entity: " + e.getMessage());
+            return Result.fail(e, RepoError.SAVE_FAILED, e.getMessage());
         }
     }
 
@@ -96,13 +96,13 @@ public class InMemoryHexaRepo<T> implements HexaRepo<T> {
             for (T entity : entities) {
                 Result<T> result = save(entity);
                 if (result.isFailure()) {
-                    return Result.fail("Failed to save entities: " + result.error());
+                    return Result.fail(RepoError.SAVE_ALL_FAILED, result.error());
                 }
                 savedEntities.add(result.get());
             }
             return Result.ok(savedEntities);
         } catch (Exception e) {
-            return Result.fail("Failed to save entities: " + e.getMessage());
+            return Result.fail(e, RepoError.SAVE_ALL_FAILED, e.getMessage());
         }
     }
 
@@ -113,12 +113,12 @@ public class InMemoryHexaRepo<T> implements HexaRepo<T> {
     @Override
     public Result<T> findById(String id) {
         if (id == null || id.isEmpty()) {
-            return Result.fail("ID cannot be null or empty");
+            return Result.fail(RepoError.ID_REQUIRED);
         }
         
         T entity = storage.get(id);
         if (entity == null) {
-            return Result.fail("Entity not found with ID: " + id);
+            return Result.fail(RepoError.NOT_FOUND, id);
         }
         
         return Result.ok(entity);
@@ -146,17 +146,17 @@ public class InMemoryHexaRepo<T> implements HexaRepo<T> {
             
             return Result.ok(result);
         } catch (Exception e) {
-            return Result.fail("Failed to filter entities: " + e.getMessage());
+            return Result.fail(e, RepoError.FILTER_FAILED, e.getMessage());
         }
     }
 
     @Override
     public Result<List<T>> findAll(int offset, int limit) {
         if (offset < 0) {
-            return Result.fail("Offset cannot be negative");
+            return Result.fail(RepoError.NEGATIVE_OFFSET);
         }
         if (limit < 0) {
-            return Result.fail("Limit cannot be negative");
+            return Result.fail(RepoError.NEGATIVE_LIMIT);
         }
         
         List<T> allEntities = new ArrayList<>(storage.values());
@@ -178,24 +178,24 @@ public class InMemoryHexaRepo<T> implements HexaRepo<T> {
     @Override
     public Result<T> update(String id, T entity) {
         if (id == null || id.isEmpty()) {
-            return Result.fail("ID cannot be null or empty");
+            return Result.fail(RepoError.ID_REQUIRED);
         }
         
         if (!storage.containsKey(id)) {
-            return Result.fail("Cannot update: Entity not found with ID: " + id);
+            return Result.fail(RepoError.UPDATE_NOT_FOUND, id);
         }
         
         try {
             // Ensure the entity has the correct ID
             String entityId = idExtractor.apply(entity);
             if (entityId == null || !entityId.equals(id)) {
-                return Result.fail("Entity ID doesn't match the provided ID");
+                return Result.fail(RepoError.ID_MISMATCH);
             }
             
             storage.put(id, entity);
             return Result.ok(entity);
         } catch (Exception e) {
-            return Result.fail("Failed to update entity: " + e.getMessage());
+            return Result.fail(e, RepoError.UPDATE_FAILED, e.getMessage());
         }
     }
 
@@ -206,7 +206,7 @@ public class InMemoryHexaRepo<T> implements HexaRepo<T> {
     @Override
     public Result<Boolean> deleteById(String id) {
         if (id == null || id.isEmpty()) {
-            return Result.fail("ID cannot be null or empty");
+            return Result.fail(RepoError.ID_REQUIRED);
         }
         
         if (!storage.containsKey(id)) {
@@ -220,7 +220,7 @@ public class InMemoryHexaRepo<T> implements HexaRepo<T> {
     @Override
     public Result<Void> deleteAllById(List<String> ids) {
         if (ids == null) {
-            return Result.fail("IDs list cannot be null");
+            return Result.fail(RepoError.IDS_REQUIRED);
         }
         
         for (String id : ids) {
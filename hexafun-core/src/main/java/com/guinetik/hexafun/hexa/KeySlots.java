@@ -0,0 +1,29 @@
+package com.guinetik.hexafun.hexa;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Interns key names into dense integer slots.
+ *
+ * <p>Each key family ({@link UseCaseKey}, {@link AdapterKey}) owns one
+ * instance. Equal names always resolve to the same slot, so two keys
+ * created independently with {@code of("create")} dispatch to the same
+ * table entry in a {@link com.guinetik.hexafun.HexaApp}.
+ */
+final class KeySlots {
+
+    private final ConcurrentHashMap<String, Integer> slots =
+        new ConcurrentHashMap<>();
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * Resolve a name to its slot, allocating a new one on first sight.
+     *
+     * @param name The key name
+     * @return The slot index for the name
+     */
+    int slotFor(String name) {
+        return slots.computeIfAbsent(name, n -> next.getAndIncrement());
+    }
+}
@@ -0,0 +1,110 @@
+package com.guinetik.hexafun.hexa;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * A port whose implementation is constructed on first use.
+ *
+ * <p>Registered with {@link com.guinetik.hexafun.HexaApp#lazyPort(Class, Supplier)}
+ * or {@link UseCaseBuilder#withLazyPort(Class, Supplier)}. The supplier runs at
+ * most once, under a lock; later lookups are a single volatile read. If the
+ * supplier throws, nothing is cached and the next lookup tries again.
+ *
+ * <p>Example:
+ * <pre class="language-java">{@code
+ * app.lazyPort(MetricsProvider.class, OshiMetricsProvider::new);
+ * // Nothing constructed yet; the first port(MetricsProvider.class) builds it
+ * }</pre>
+ *
+ * @param <T> The port type
+ */
+public final class LazyPort<T> implements Supplier<T> {
+
+    private final Class<T> type;
+    private final Supplier<? extends T> supplier;
+    private volatile T value;
+    private volatile PortInit init;
+
+    private LazyPort(Class<T> type, Supplier<? extends T> supplier) {
+        this.type = type;
+        this.supplier = supplier;
+    }
+
+    /**
+     * Create a lazy port.
+     *
+     * @param type The port type
+     * @param supplier Constructs the implementation on first use
+     * @param <T> The port type
+     * @return A lazy port that has not been constructed yet
+     * @throws IllegalArgumentException if the supplier is null
+     */
+    public static <T> LazyPort<T> of(Class<T> type, Supplier<? extends T> supplier) {
+        if (supplier == null) {
+            throw new IllegalArgumentException(
+                "Port supplier must not be null for type: " + type.getName()
+            );
+        }
+        return new LazyPort<>(type, supplier);
+    }
+
+    /**
+     * Get the implementation, constructing it if this is the first call.
+     *
+     * @return The port implementation
+     * @throws IllegalStateException if the supplier returns null
+     */
+    @Override
+    public T get() {
+        T current = value;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (value == null) {
+                long start = System.nanoTime();
+                T created = supplier.get();
+                if (created == null) {
+                    throw new IllegalStateException(
+                        "Port supplier returned null for type: " + type.getName()
+                    );
+                }
+                init = new PortInit(
+                    type,
+                    Duration.ofNanos(System.nanoTime() - start),
+                    Thread.currentThread().getName()
+                );
+                value = created;
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Get the port type.
+     *
+     * @return The port type
+     */
+    public Class<T> type() {
+        return type;
+    }
+
+    /**
+     * Check whether the implementation has been constructed.
+     *
+     * @return true once {@link #get()} has succeeded
+     */
+    public boolean isInitialized() {
+        return value != null;
+    }
+
+    /**
+     * Get the construction timing.
+     *
+     * @return The timing, or null if the port has not been constructed
+     */
+    public PortInit init() {
+        return init;
+    }
+}
@@ -0,0 +1,108 @@
+package com.guinetik.hexafun.hexa;
+
+import com.guinetik.hexafun.fun.Result;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * A group of independent validators run against the same input, collecting
+ * every failure instead of stopping at the first.
+ *
+ * <p>Staged by {@link UseCaseValidationStep#validateAll}. Validators marked
+ * {@link ValidationPort#cheap cheap} run inline on the calling thread. The
+ * others are submitted to the executor, except the last one, which the
+ * caller runs itself while it would otherwise be waiting. A group without
+ * expensive validators never touches the executor.
+ *
+ * @param <I> The input type
+ */
+final class ParallelValidation<I> implements ValidationPort<I> {
+
+    private final ValidationPort<I>[] validators;
+    private final int[] cheap;
+    private final int[] expensive;
+    private final Executor executor;
+
+    ParallelValidation(ValidationPort<I>[] validators, Executor executor) {
+        if (validators.length == 0) {
+            throw new IllegalArgumentException("At least one validator is required");
+        }
+        this.validators = validators.clone();
+        this.executor = executor;
+        int cheapCount = 0;
+        for (ValidationPort<I> validator : this.validators) {
+            if (validator.isCheap()) {
+                cheapCount++;
+            }
+        }
+        this.cheap = new int[cheapCount];
+        this.expensive = new int[validators.length - cheapCount];
+        for (int i = 0, c = 0, e = 0; i < this.validators.length; i++) {
+            if (this.validators[i].isCheap()) {
+                cheap[c++] = i;
+            } else {
+                expensive[e++] = i;
+            }
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Result<I> validate(I input) {
+        Object[] results = new Object[validators.length];
+
+        // Start the offloaded validators first so they overlap with the rest
+        int offloaded = Math.max(0, expensive.length - 1);
+        CompletableFuture<Result<I>>[] pending = new CompletableFuture[offloaded];
+        for (int i = 0; i < offloaded; i++) {
+            ValidationPort<I> validator = validators[expensive[i]];
+            pending[i] = CompletableFuture.supplyAsync(() -> validator.validate(input), executor);
+        }
+        for (int index : cheap) {
+            results[index] = validators[index].validate(input);
+        }
+        if (expensive.length > 0) {
+            int last = expensive[expensive.length - 1];
+            results[last] = validators[last].validate(input);
+        }
+        for (int i = 0; i < offloaded; i++) {
+            results[expensive[i]] = join(pending[i]);
+        }
+
+        List<Result<?>> failures = null;
+        for (Object output : results) {
+            Result<I> result = (Result<I>) output;
+            if (result.isFailure()) {
+                if (failures == null) {
+                    failures = new ArrayList<>(2);
+                }
+                failures.add(result);
+            }
+        }
+        if (failures == null) {
+            return Result.ok(input);
+        }
+        if (failures.size() == 1) {
+            return (Result<I>) failures.get(0);
+        }
+        return Result.fail(ValidationError.MULTIPLE, List.copyOf(failures));
+    }
+
+    static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // Surface the validator's own exception, as if it had run inline
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.guinetik.hexafun.hexa;
+
+import java.time.Duration;
+
+/**
+ * How long one supplied port took to construct.
+ *
+ * @param port The port type
+ * @param elapsed Time spent in the port's supplier
+ * @param thread Name of the thread that ran the supplier
+ * @see com.guinetik.hexafun.HexaApp#portStartupReport()
+ */
+public record PortInit(Class<?> port, Duration elapsed, String thread) {}
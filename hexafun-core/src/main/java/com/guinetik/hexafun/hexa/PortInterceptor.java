@@ -0,0 +1,54 @@
+package com.guinetik.hexafun.hexa;
+
+import java.lang.reflect.Method;
+
+/**
+ * Middleware that runs around every method call on a registered port.
+ *
+ * <p>Port interceptors are registered with
+ * {@link UseCaseBuilder#withPortInterceptor(PortInterceptor)}. At build time
+ * each interface port is wrapped once in a {@link PortProxy} that routes
+ * calls through the interceptors; ports registered by class (not interface)
+ * are left as they are. When no port interceptor is registered, ports are
+ * stored untouched.
+ *
+ * <p>Example:
+ * <pre class="language-java">{@code
+ * HexaFun.dsl()
+ *     .withPort(TaskRepository.class, repo)
+ *     .withPortInterceptor((port, method, args, call) -> {
+ *         log.debug("{}.{}", port.getSimpleName(), method.getName());
+ *         return call.proceed();
+ *     })
+ *     .build();
+ * }</pre>
+ */
+@FunctionalInterface
+public interface PortInterceptor {
+    /**
+     * Handle a port call, usually by delegating to {@code call.proceed()}.
+     *
+     * @param port The port interface being called
+     * @param method The interface method being called
+     * @param args The call arguments (may be null for no-arg methods)
+     * @param call The rest of the chain, ending with the real implementation
+     * @return The value to return to the caller
+     * @throws Throwable Whatever the chain or the implementation throws
+     */
+    Object intercept(Class<?> port, Method method, Object[] args, Call call)
+        throws Throwable;
+
+    /**
+     * The remainder of a port call chain.
+     */
+    @FunctionalInterface
+    interface Call {
+        /**
+         * Continue with the next interceptor or the real implementation.
+         *
+         * @return The method's return value
+         * @throws Throwable Whatever the implementation throws
+         */
+        Object proceed() throws Throwable;
+    }
+}
@@ -0,0 +1,82 @@
+package com.guinetik.hexafun.hexa;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.List;
+
+/**
+ * Wraps port implementations in {@link java.lang.reflect.Proxy} instances
+ * that route every interface call through a chain of {@link PortInterceptor}s.
+ *
+ * <p>The proxy is generated once, when the port is registered. Calls to
+ * {@code equals}, {@code hashCode} and {@code toString} bypass the chain.
+ */
+public final class PortProxy {
+
+    private PortProxy() {}
+
+    /**
+     * Decorate a port implementation with interceptors.
+     *
+     * @param type The port type
+     * @param impl The real implementation
+     * @param interceptors The interceptors, outermost first
+     * @param <T> The port type
+     * @return A proxy implementing {@code type}, or {@code impl} itself if
+     *         there are no interceptors or {@code type} is not an interface
+     */
+    public static <T> T decorate(
+        Class<T> type,
+        T impl,
+        List<PortInterceptor> interceptors
+    ) {
+        if (impl == null || interceptors.isEmpty() || !type.isInterface()) {
+            return impl;
+        }
+        PortInterceptor[] chain = interceptors.toArray(new PortInterceptor[0]);
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return invoke(impl, method, args);
+            }
+            return proceed(type, impl, method, args, chain, 0);
+        };
+        return type.cast(
+            Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, handler)
+        );
+    }
+
+    private static Object proceed(
+        Class<?> type,
+        Object impl,
+        Method method,
+        Object[] args,
+        PortInterceptor[] chain,
+        int index
+    ) throws Throwable {
+        if (index == chain.length) {
+            return invoke(impl, method, args);
+        }
+        return chain[index].intercept(
+            type,
+            method,
+            args,
+            () -> proceed(type, impl, method, args, chain, index + 1)
+        );
+    }
+
+    private static Object invoke(Object impl, Method method, Object[] args)
+        throws Throwable {
+        if (!method.canAccess(impl)) {
+            // Non-public port interfaces; the proxy reuses its Method objects,
+            // so this happens once per method
+            method.trySetAccessible();
+        }
+        try {
+            return method.invoke(impl, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
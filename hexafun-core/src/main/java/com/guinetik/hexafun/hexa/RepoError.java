@@ -0,0 +1,34 @@
+package com.guinetik.hexafun.hexa;
+
+import com.guinetik.hexafun.fun.ErrorCode;
+
+/**
+ * Failure codes returned by {@link InMemoryHexaRepo}.
+ *
+ * <p>Callers can branch on {@code result.errorCode()} instead of parsing
+ * messages; the message is only rendered if {@code error()} is called.
+ */
+public enum RepoError implements ErrorCode {
+    ID_REQUIRED("ID cannot be null or empty"),
+    IDS_REQUIRED("IDs list cannot be null"),
+    NOT_FOUND("Entity not found with ID: {0}"),
+    UPDATE_NOT_FOUND("Cannot update: Entity not found with ID: {0}"),
+    ID_MISMATCH("Entity ID doesn't match the provided ID"),
+    NEGATIVE_OFFSET("Offset cannot be negative"),
+    NEGATIVE_LIMIT("Limit cannot be negative"),
+    SAVE_FAILED("Failed to save entity: {0}"),
+    SAVE_ALL_FAILED("Failed to save entities: {0}"),
+    FILTER_FAILED("Failed to filter entities: {0}"),
+    UPDATE_FAILED("Failed to update entity: {0}");
+
+    private final String template;
+
+    RepoError(String template) {
+        this.template = template;
+    }
+
+    @Override
+    public String template() {
+        return template;
+    }
+}
@@ -0,0 +1,19 @@
+package com.guinetik.hexafun.hexa;
+
+/**
+ * Whether a stream of invocations emits outputs in input order.
+ *
+ * @see com.guinetik.hexafun.HexaApp#invokeStream(UseCaseKey, java.util.concurrent.Flow.Publisher, int, StreamOrder)
+ */
+public enum StreamOrder {
+    /**
+     * Emit outputs in the order their inputs arrived; a slow element holds
+     * back the ones behind it.
+     */
+    ORDERED,
+
+    /**
+     * Emit each output as soon as its invocation completes.
+     */
+    UNORDERED
+}
@@ -0,0 +1,57 @@
+package com.guinetik.hexafun.hexa;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * An adapter that writes its output into a caller-supplied sink instead of
+ * returning a new {@code String}.
+ *
+ * <p>Registered with {@link UseCaseBuilder#withStreamingAdapter(AdapterKey, StreamingAdapter)}
+ * under an ordinary {@code AdapterKey<From, String>}, so {@code adapt(key, input)}
+ * keeps working. {@link com.guinetik.hexafun.HexaApp#adaptTo(AdapterKey, Object, Appendable)}
+ * streams straight into a reusable {@link StringBuilder}, a {@link java.io.Writer}
+ * or, through {@link #writeUtf8(Object, ByteBuffer)}, a {@link ByteBuffer}, with no
+ * intermediate string for the whole output.
+ *
+ * <p>Example:
+ * <pre class="language-java">{@code
+ * StreamingAdapter<Task> toCsv = (task, out) ->
+ *     out.append(task.id()).append(',').append(task.title()).append('\n');
+ *
+ * StringBuilder buffer = new StringBuilder();
+ * for (Task task : tasks) {
+ *     app.adaptTo(TO_CSV, task, buffer);
+ * }
+ * }</pre>
+ *
+ * @param <From> The source type
+ */
+@FunctionalInterface
+public interface StreamingAdapter<From> {
+    /**
+     * Write the adapted form of {@code input} to {@code out}.
+     *
+     * @param input The value to adapt
+     * @param out The sink to append to
+     * @throws IOException if the sink fails
+     */
+    void write(From input, Appendable out) throws IOException;
+
+    /**
+     * Write the adapted form of {@code input} into a byte buffer as UTF-8,
+     * starting at the buffer's position. Characters are encoded in place as
+     * they are appended, without building a {@code String} first.
+     *
+     * @param input The value to adapt
+     * @param out The buffer to write into
+     * @throws IOException if the adapter fails
+     * @throws java.nio.BufferOverflowException if the buffer runs out of
+     *         space; bytes written so far are left in the buffer
+     */
+    default void writeUtf8(From input, ByteBuffer out) throws IOException {
+        Utf8ByteBufferAppendable sink = new Utf8ByteBufferAppendable(out);
+        write(input, sink);
+        sink.flush();
+    }
+}
@@ -1,9 +1,35 @@
 package com.guinetik.hexafun.hexa;
 
 import com.guinetik.hexafun.HexaApp;
+import com.guinetik.hexafun.cache.MemoCache;
+import com.guinetik.hexafun.cache.SingleFlight;
+import com.guinetik.hexafun.fun.Result;
+import com.guinetik.hexafun.metrics.PortMetrics;
+import com.guinetik.hexafun.metrics.UseCaseMetrics;
+import com.guinetik.hexafun.resilience.Backoff;
+import com.guinetik.hexafun.resilience.Bulkhead;
+import com.guinetik.hexafun.resilience.CircuitBreaker;
+import com.guinetik.hexafun.resilience.CircuitOpenException;
+import com.guinetik.hexafun.resilience.ResilienceError;
+import com.guinetik.hexafun.resilience.RetryPolicy;
+import com.guinetik.hexafun.resilience.RetryingUseCase;
+import com.guinetik.hexafun.trace.Tracer;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * Builder for creating HexaApp instances with use cases, ports, and adapters.
@@ -29,10 +55,37 @@ public class UseCaseBuilder {
     private final Map<String, UseCase<?, ?>> useCases = new HashMap<>();
     private final Map<Class<?>, Object> ports = new HashMap<>();
     private final Map<String, Function<?, ?>> adapters = new HashMap<>();
+    private final Map<String, StreamingAdapter<?>> streamingAdapters = new HashMap<>();
+    private final Map<AdapterKey<?, ?>, AdapterChain<?, ?>> adapterChains =
+        new LinkedHashMap<>();
+    private final List<UseCaseInterceptor<Object, Object>> globalInterceptors =
+        new ArrayList<>();
+    private final Map<String, List<UseCaseInterceptor<?, ?>>> keyInterceptors =
+        new HashMap<>();
+    private final List<PortInterceptor> portInterceptors = new ArrayList<>();
+    private final Map<Class<?>, List<PortInterceptor>> typePortInterceptors =
+        new HashMap<>();
 
     // Pending registration - committed on next useCase() or build()
     private String pendingName;
     private UseCase<?, ?> pendingUseCase;
+    // Use cases staged through handleResult
+    private final Set<String> resultHandlers = new HashSet<>();
+
+    private final Map<UseCaseKey<?, ?>, Executor> executors = new HashMap<>();
+    private final Map<UseCaseKey<?, ?>, BatchUseCase<?, ?>> batchHandlers = new HashMap<>();
+    private final Map<String, CacheSpec> cacheSpecs = new HashMap<>();
+    private final Set<String> coalesced = new HashSet<>();
+    private final Map<String, BulkheadSpec> bulkheadSpecs = new HashMap<>();
+    private final Map<String, RetryPolicy> retryPolicies = new HashMap<>();
+    private Executor executor;
+    private boolean metricsEnabled;
+    private boolean portMetricsEnabled;
+    private final Set<Class<?>> eagerPorts = new HashSet<>();
+    private Executor portInitExecutor;
+    private Tracer tracer;
+    private boolean circuitBreakers;
+    private boolean frozen;
 
     /**
      * Register a port (output adapter) by its type.
@@ -54,6 +107,82 @@ public class UseCaseBuilder {
      */
     public <T> UseCaseBuilder withPort(Class<T> type, T impl) {
         ports.put(type, impl);
+        eagerPorts.remove(type);
+        return this;
+    }
+
+    /**
+     * Register a port that is constructed on first use.
+     *
+     * <p>The supplier runs at most once, when a handler first looks the
+     * port up; port interceptors are applied to the constructed instance.
+     *
+     * <p>Example:
+     * <pre class="language-java">{@code
+     * HexaFun.dsl()
+     *     .withLazyPort(MetricsProvider.class, OshiMetricsProvider::new)
+     *     .useCase(...)
+     *     .build();
+     * }</pre>
+     *
+     * @param type The interface/class type to register
+     * @param supplier Constructs the implementation
+     * @param <T> The port type
+     * @return This builder for chaining
+     * @see HexaApp#lazyPort(Class, Supplier)
+     */
+    public <T> UseCaseBuilder withLazyPort(Class<T> type, Supplier<? extends T> supplier) {
+        if (supplier == null) {
+            throw new IllegalArgumentException(
+                "Port supplier must not be null for type: " + type.getName()
+            );
+        }
+        ports.put(type, new SuppliedPort(supplier));
+        eagerPorts.remove(type);
+        return this;
+    }
+
+    /**
+     * Register a port that is constructed during {@link #build()}.
+     *
+     * <p>Eager ports are built one after another on the building thread,
+     * or concurrently when {@link #initPortsOn(Executor)} is set, so a
+     * slow constructor fails fast at startup instead of on first use.
+     * Their timings are listed in {@link HexaApp#portStartupReport()}.
+     *
+     * @param type The interface/class type to register
+     * @param supplier Constructs the implementation
+     * @param <T> The port type
+     * @return This builder for chaining
+     */
+    public <T> UseCaseBuilder withEagerPort(Class<T> type, Supplier<? extends T> supplier) {
+        withLazyPort(type, supplier);
+        eagerPorts.add(type);
+        return this;
+    }
+
+    /**
+     * Construct eager ports concurrently on an executor.
+     *
+     * <p>{@link #build()} submits every port registered with
+     * {@link #withEagerPort(Class, Supplier)} and waits for all of them,
+     * so startup takes as long as the slowest port rather than the sum.
+     *
+     * <p>Example:
+     * <pre class="language-java">{@code
+     * HexaApp app = HexaFun.dsl()
+     *     .withEagerPort(MetricsProvider.class, OshiMetricsProvider::new)
+     *     .withEagerPort(TaskRepository.class, JdbcTaskRepository::new)
+     *     .initPortsOn(ForkJoinPool.commonPool())
+     *     ...
+     *     .build();
+     * }</pre>
+     *
+     * @param executor The executor to construct eager ports on
+     * @return This builder for chaining
+     */
+    public UseCaseBuilder initPortsOn(Executor executor) {
+        this.portInitExecutor = executor;
         return this;
     }
 
@@ -81,6 +210,526 @@ public class UseCaseBuilder {
         Function<From, To> adapter
     ) {
         adapters.put(key.name(), adapter);
+        streamingAdapters.remove(key.name());
+        return this;
+    }
+
+    /**
+     * Register a streaming adapter under a string adapter key.
+     *
+     * <p>The app's {@code adaptTo(key, input, sink)} writes straight into the
+     * caller's {@link Appendable} or {@link java.nio.ByteBuffer}, while
+     * {@code adapt(key, input)} still returns a {@code String}.
+     *
+     * <p>Example:
+     * <pre class="language-java">{@code
+     * HexaFun.dsl()
+     *     .withStreamingAdapter(TO_CSV, (task, out) ->
+     *         out.append(task.id()).append(',').append(task.title()).append('\n'))
+     *     .build();
+     * }</pre>
+     *
+     * @param key The adapter key
+     * @param adapter The streaming adapter
+     * @param <From> The source type
+     * @return This builder for chaining
+     * @see HexaApp#adaptTo(AdapterKey, Object, Appendable)
+     */
+    public <From> UseCaseBuilder withStreamingAdapter(
+        AdapterKey<From, String> key,
+        StreamingAdapter<From> adapter
+    ) {
+        adapters.remove(key.name());
+        streamingAdapters.put(key.name(), adapter);
+        return this;
+    }
+
+    /**
+     * Register an adapter chain under its own key, compiled once at build
+     * time into a single function.
+     *
+     * <p>Every link must name an adapter registered with
+     * {@link #withAdapter(AdapterKey, Function)} or an earlier chain;
+     * {@link #build()} fails otherwise.
+     *
+     * <p>Example:
+     * <pre class="language-java">{@code
+     * HexaFun.dsl()
+     *     .withAdapter(TO_DTO, TaskDTO::from)
+     *     .withAdapter(DTO_TO_JSON, Json::write)
+     *     .withAdapterChain(TASK_TO_JSON, TO_DTO.then(DTO_TO_JSON))
+     *     .build();
+     * }</pre>
+     *
+     * @param key The key to register the chain under
+     * @param chain The adapter chain
+     * @param <From> The chain's input type
+     * @param <To> The chain's output type
+     * @return This builder for chaining
+     * @see HexaApp#compile(AdapterChain)
+     */
+    public <From, To> UseCaseBuilder withAdapterChain(
+        AdapterKey<From, To> key,
+        AdapterChain<From, To> chain
+    ) {
+        adapterChains.put(key, chain);
+        return this;
+    }
+
+    /**
+     * Register an interceptor that runs around every use case.
+     *
+     * <p>Global interceptors wrap the per-key ones, in registration order:
+     * the first one registered is the outermost.
+     *
+     * <p>Example:
+     * <pre class="language-java">{@code
+     * HexaFun.dsl()
+     *     .intercept((key, input, next) -> {
+     *         log.info("invoking {}", key.name());
+     *         return next.apply(input);
+     *     })
+     *     .useCase(...)
+     *     .build();
+     * }</pre>
+     *
+     * @param interceptor The interceptor to apply to all use cases
+     * @return This builder for chaining
+     */
+    public UseCaseBuilder intercept(UseCaseInterceptor<Object, Object> interceptor) {
+        globalInterceptors.add(interceptor);
+        return this;
+    }
+
+    /**
+     * Register an interceptor that runs around a single use case.
+     *
+     * @param key The use case to intercept
+     * @param interceptor The interceptor
+     * @param <I> Input type
+     * @param <O> Output type
+     * @return This builder for chaining
+     */
+    public <I, O> UseCaseBuilder intercept(
+        UseCaseKey<I, O> key,
+        UseCaseInterceptor<I, O> interceptor
+    ) {
+        keyInterceptors
+            .computeIfAbsent(key.name(), name -> new ArrayList<>())
+            .add(interceptor);
+        return this;
+    }
+
+    /**
+     * Register an interceptor that runs around every call on every
+     * interface port.
+     *
+     * <p>Ports are wrapped once, at build time, in a {@link PortProxy}.
+     * Interceptors run in registration order: the first one is outermost.
+     *
+     * @param interceptor The port interceptor
+     * @return This builder for chaining
+     */
+    public UseCaseBuilder withPortInterceptor(PortInterceptor interceptor) {
+        portInterceptors.add(interceptor);
+        return this;
+    }
+
+    /**
+     * Register an interceptor that runs around every call on one port.
+     * Per-port interceptors run inside the global ones.
+     *
+     * @param type The port interface
+     * @param interceptor The port interceptor
+     * @return This builder for chaining
+     */
+    public UseCaseBuilder withPortInterceptor(Class<?> type, PortInterceptor interceptor) {
+        typePortInterceptors
+            .computeIfAbsent(type, t -> new ArrayList<>())
+            .add(interceptor);
+        return this;
+    }
+
+    /**
+     * Guard a port with a circuit breaker.
+     *
+     * <p>While the breaker is open, calls on the port fail fast without
+     * reaching the implementation: methods returning {@link Result} get a
+     * failed result, others throw {@link CircuitOpenException}. Use cases
+     * returning a {@link Result} turn that exception into a failed result
+     * too, so callers never wait on a degraded backend: validated use cases,
+     * use cases defined with {@code handleResult(...)}, and handler classes
+     * whose {@code apply} declares a {@code Result} return type. A plain
+     * {@code handle(...)} lambda erases its return type, so it gets the
+     * exception.
+     *
+     * <p>Example:
+     * <pre class="language-java">{@code
+     * HexaFun.dsl()
+     *     .withPort(TaskRepository.class, repo)
+     *     .circuitBreaker(TaskRepository.class, CircuitBreaker.builder("tasks").build())
+     *     .useCase(...)
+     *     .build();
+     * }</pre>
+     *
+     * @param type The port interface
+     * @param breaker The circuit breaker
+     * @param <T> The port type
+     * @return This builder for chaining
+     */
+    public <T> UseCaseBuilder circuitBreaker(Class<T> type, CircuitBreaker breaker) {
+        circuitBreakers = true;
+        return withPortInterceptor(type, breaker.portInterceptor());
+    }
+
+    /**
+     * Trace every invocation with the given tracer.
+     *
+     * <p>Each use case invocation gets a span; its validation and handler
+     * stages, nested use cases, adapters and interface port calls get child
+     * spans. Without a tracer nothing is wrapped.
+     *
+     * <p>Example:
+     * <pre class="language-java">{@code
+     * HexaFun.dsl()
+     *     .withTracer(Tracer.create(new OtlpJsonFileSink(Path.of("traces.jsonl")), 0.1))
+     *     .useCase(...)
+     *     .build();
+     * }</pre>
+     *
+     * @param tracer The tracer to record spans with
+     * @return This builder for chaining
+     */
+    public UseCaseBuilder withTracer(Tracer tracer) {
+        this.tracer = tracer;
+        return this;
+    }
+
+    /**
+     * Set the app-wide executor for asynchronous invocation.
+     *
+     * @param executor The executor to run {@code invokeAsync} calls on
+     * @return This builder for chaining
+     * @see HexaApp#invokeAsync(UseCaseKey, Object)
+     */
+    public UseCaseBuilder withExecutor(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * Set the executor for one use case, overriding the app-wide executor.
+     *
+     * <p>Example:
+     * <pre class="language-java">{@code
+     * HexaFun.dsl()
+     *     .withExecutor(GET_ALL, ioPool)
+     *     .useCase(GET_ALL)
+     *         .handle(handler)
+     *     .build();
+     * }</pre>
+     *
+     * @param key The use case key
+     * @param executor The executor to run this use case on
+     * @param <I> Input type
+     * @param <O> Output type
+     * @return This builder for chaining
+     */
+    public <I, O> UseCaseBuilder withExecutor(
+        UseCaseKey<I, O> key,
+        Executor executor
+    ) {
+        executors.put(key, executor);
+        return this;
+    }
+
+    /**
+     * Register a native batch handler for a use case.
+     *
+     * <p>{@link HexaApp#invokeAll(UseCaseKey, java.util.Collection)} hands the
+     * whole input list to it instead of invoking the use case per element.
+     *
+     * <p>Example:
+     * <pre class="language-java">{@code
+     * HexaFun.dsl()
+     *     .useCase(CREATE)
+     *         .handle(createHandler)
+     *     .withBatchHandler(CREATE, inputs -> repo.saveAll(toTasks(inputs)))
+     *     .build();
+     * }</pre>
+     *
+     * @param key The use case key
+     * @param batch The batch implementation
+     * @param <I> Input type
+     * @param <O> Output type
+     * @return This builder for chaining
+     */
+    public <I, O> UseCaseBuilder withBatchHandler(
+        UseCaseKey<I, O> key,
+        BatchUseCase<I, O> batch
+    ) {
+        batchHandlers.put(key, batch);
+        return this;
+    }
+
+    /**
+     * Memoize a pure use case: equal inputs return the stored output instead
+     * of running the handler again. Failed {@link Result}s are not cached.
+     *
+     * <p>Example:
+     * <pre class="language-java">{@code
+     * HexaFun.dsl()
+     *     .useCase(ADD)
+     *         .validate(validator)
+     *         .handle(handler)
+     *     .cached(ADD, 10_000, Duration.ofMinutes(5))
+     *     .build();
+     * }</pre>
+     *
+     * @param key The use case key
+     * @param maxSize The maximum number of cached inputs
+     * @param ttl How long an output stays valid, or null to keep it until evicted
+     * @param <I> Input type
+     * @param <O> Output type
+     * @return This builder for chaining
+     * @see MemoCache
+     * @see HexaApp#cacheStats(UseCaseKey)
+     */
+    public <I, O> UseCaseBuilder cached(UseCaseKey<I, O> key, int maxSize, Duration ttl) {
+        return cached(key, maxSize, ttl, false);
+    }
+
+    /**
+     * Memoize a pure use case, choosing whether failed {@link Result}s are
+     * cached too.
+     *
+     * <p>The cache sits innermost, just around the handler, so interceptors
+     * (authorization, metrics, tracing) still run on every call. Inputs are
+     * compared with {@code equals}/{@code hashCode}.
+     *
+     * @param key The use case key
+     * @param maxSize The maximum number of cached inputs
+     * @param ttl How long an output stays valid, or null to keep it until evicted
+     * @param cacheFailures Whether {@code Result.Failure} outputs are stored
+     * @param <I> Input type
+     * @param <O> Output type
+     * @return This builder for chaining
+     * @throws IllegalArgumentException if maxSize or ttl is not positive
+     */
+    public <I, O> UseCaseBuilder cached(
+        UseCaseKey<I, O> key,
+        int maxSize,
+        Duration ttl,
+        boolean cacheFailures
+    ) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive: " + maxSize);
+        }
+        if (ttl != null && (ttl.isNegative() || ttl.isZero())) {
+            throw new IllegalArgumentException("Cache TTL must be positive: " + ttl);
+        }
+        cacheSpecs.put(key.name(), new CacheSpec(maxSize, ttl, cacheFailures));
+        return this;
+    }
+
+    /**
+     * Coalesce concurrent invocations of a use case with equal inputs.
+     *
+     * <p>While one invocation is running, others with an equal input wait
+     * for it and share its output instead of running the handler again.
+     * Useful for hot reads that would otherwise hit a port once per caller.
+     * Like caching, coalescing sits inside the interceptors, which still
+     * run for every caller.
+     *
+     * <p>Example:
+     * <pre class="language-java">{@code
+     * HexaFun.dsl()
+     *     .useCase(FIND)
+     *         .handle(findHandler)
+     *     .coalesced(FIND)
+     *     .build();
+     * }</pre>
+     *
+     * @param key The use case key
+     * @param <I> Input type
+     * @param <O> Output type
+     * @return This builder for chaining
+     * @see SingleFlight
+     */
+    public <I, O> UseCaseBuilder coalesced(UseCaseKey<I, O> key) {
+        coalesced.add(key.name());
+        return this;
+    }
+
+    /**
+     * Limit how many invocations of a use case run at once, rejecting
+     * callers beyond the limit immediately with a {@link Result#fail(String)}.
+     *
+     * @param key The use case key
+     * @param maxConcurrent How many invocations may run at once
+     * @param <I> Input type
+     * @param <T> Result value type
+     * @return This builder for chaining
+     * @see #bulkhead(UseCaseKey, int, int, Duration)
+     */
+    public <I, T> UseCaseBuilder bulkhead(UseCaseKey<I, Result<T>> key, int maxConcurrent) {
+        return bulkhead(key, maxConcurrent, 0, Duration.ZERO);
+    }
+
+    /**
+     * Limit how many invocations of a use case run at once, with a bounded
+     * wait queue.
+     *
+     * <p>Callers beyond {@code maxConcurrent} wait up to {@code maxWait} for
+     * a slot; once {@code maxQueued} callers are waiting, further ones are
+     * rejected at once. Rejections and timeouts return a failed
+     * {@link Result}. The bulkhead sits just inside metrics and tracing, so
+     * rejections are counted and traced but skip every other interceptor.
+     *
+     * <p>Example:
+     * <pre class="language-java">{@code
+     * HexaFun.dsl()
+     *     .useCase(EXPORT)
+     *         .handle(exportHandler)
+     *     .bulkhead(EXPORT, 4, 16, Duration.ofMillis(200))
+     *     .build();
+     * }</pre>
+     *
+     * @param key The use case key
+     * @param maxConcurrent How many invocations may run at once
+     * @param maxQueued How many callers may wait for a slot
+     * @param maxWait How long a queued caller waits before giving up
+     * @param <I> Input type
+     * @param <T> Result value type
+     * @return This builder for chaining
+     * @see HexaApp#bulkheadStats(UseCaseKey)
+     */
+    public <I, T> UseCaseBuilder bulkhead(
+        UseCaseKey<I, Result<T>> key,
+        int maxConcurrent,
+        int maxQueued,
+        Duration maxWait
+    ) {
+        bulkheadSpecs.put(key.name(), new BulkheadSpec(maxConcurrent, maxQueued, maxWait));
+        return this;
+    }
+
+    /**
+     * Retry a use case when it returns a failed {@link Result}.
+     *
+     * <p>Example:
+     * <pre class="language-java">{@code
+     * HexaFun.dsl()
+     *     .useCase(SYNC)
+     *         .handle(syncHandler)
+     *     .retry(SYNC, 4,
+     *         Backoff.exponential(Duration.ofMillis(50), Duration.ofSeconds(1)),
+     *         result -> result.error().startsWith("Unavailable"))
+     *     .build();
+     * }</pre>
+     *
+     * @param key The use case key
+     * @param maxAttempts Total attempts, including the first
+     * @param backoff The delay before each retry
+     * @param retryOn Which failed results are worth retrying
+     * @param <I> Input type
+     * @param <T> Result value type
+     * @return This builder for chaining
+     * @see #retry(UseCaseKey, RetryPolicy)
+     */
+    public <I, T> UseCaseBuilder retry(
+        UseCaseKey<I, Result<T>> key,
+        int maxAttempts,
+        Backoff backoff,
+        Predicate<? super Result<?>> retryOn
+    ) {
+        return retry(key, RetryPolicy.of(maxAttempts, backoff, retryOn));
+    }
+
+    /**
+     * Retry a use case according to a policy, for example one with a
+     * {@link com.guinetik.hexafun.resilience.RetryBudget}.
+     *
+     * <p>Retry wraps the whole fused chain, so metrics, tracing and the
+     * bulkhead see each attempt. {@link HexaApp#invokeAsync} waits between
+     * attempts without holding a thread.
+     *
+     * @param key The use case key
+     * @param policy The retry policy
+     * @param <I> Input type
+     * @param <T> Result value type
+     * @return This builder for chaining
+     * @see HexaApp#retryStats(UseCaseKey)
+     */
+    public <I, T> UseCaseBuilder retry(UseCaseKey<I, Result<T>> key, RetryPolicy policy) {
+        retryPolicies.put(key.name(), policy);
+        return this;
+    }
+
+    /**
+     * Record invocation counts and latency histograms for every use case.
+     *
+     * @return This builder for chaining
+     * @see HexaApp#stats(UseCaseKey)
+     */
+    public UseCaseBuilder withMetrics() {
+        return withMetrics(true);
+    }
+
+    /**
+     * Switch per-use-case metrics on or off.
+     *
+     * <p>When off (the default) no recording interceptor is installed, so
+     * use cases run with no instrumentation cost at all.
+     *
+     * @param enabled Whether to record metrics
+     * @return This builder for chaining
+     * @see HexaApp#stats(UseCaseKey)
+     */
+    public UseCaseBuilder withMetrics(boolean enabled) {
+        this.metricsEnabled = enabled;
+        return this;
+    }
+
+    /**
+     * Record per-method call counts and latency histograms for every
+     * interface port.
+     *
+     * <p>Each port is wrapped once, at build time, in a {@link PortProxy}
+     * whose outermost interceptor does the recording. Ports registered by
+     * class rather than interface are not instrumented.
+     *
+     * @return This builder for chaining
+     * @see HexaApp#portStats()
+     */
+    public UseCaseBuilder withPortMetrics() {
+        this.portMetricsEnabled = true;
+        return this;
+    }
+
+    /**
+     * Seal the app returned by {@link #build()}.
+     *
+     * <p>A frozen app uses immutable registries, rejects further
+     * {@code withUseCase}/{@code withAdapter}/{@code port} calls, and can be
+     * shared across a worker pool without synchronization once safely
+     * published, for example through a {@code final} field (see
+     * {@link HexaApp#freeze()}).
+     *
+     * <p>Example:
+     * <pre class="language-java">{@code
+     * HexaApp app = HexaFun.dsl()
+     *     .useCase(Keys.CREATE)
+     *         .handle(handler)
+     *     .frozen()
+     *     .build();
+     * }</pre>
+     *
+     * @return This builder for chaining
+     * @see HexaApp#freeze()
+     */
+    public UseCaseBuilder frozen() {
+        this.frozen = true;
         return this;
     }
 
@@ -102,9 +751,21 @@ public class UseCaseBuilder {
      * Stage a use case for registration. Will be committed on next useCase() or build().
      */
     <I, O> void stage(String name, UseCase<I, O> useCase) {
+        stage(name, useCase, false);
+    }
+
+    /**
+     * Stage a use case, recording whether it was declared to return a Result.
+     */
+    <I, O> void stage(String name, UseCase<I, O> useCase, boolean returnsResult) {
         commitPending();
         this.pendingName = name;
         this.pendingUseCase = useCase;
+        if (returnsResult) {
+            resultHandlers.add(name);
+        } else {
+            resultHandlers.remove(name);
+        }
     }
 
     /**
@@ -120,43 +781,387 @@ public class UseCaseBuilder {
 
     /**
      * Build a HexaApp with all the registered use cases and ports.
+     * The app is frozen if {@link #frozen()} was requested.
      * @return A new HexaApp instance
      */
     public HexaApp build() {
         commitPending();
 
+        checkKnown(keyInterceptors.keySet(), "Interceptor");
+        checkKnown(cacheSpecs.keySet(), "Cache");
+        checkKnown(coalesced, "Coalescing");
+        checkKnown(bulkheadSpecs.keySet(), "Bulkhead");
+        checkKnown(retryPolicies.keySet(), "Retry");
+        Set<String> knownAdapters = new HashSet<>(adapters.keySet());
+        knownAdapters.addAll(streamingAdapters.keySet());
+        for (Map.Entry<AdapterKey<?, ?>, AdapterChain<?, ?>> entry : adapterChains.entrySet()) {
+            for (AdapterKey<?, ?> link : entry.getValue().keys()) {
+                if (!knownAdapters.contains(link.name())) {
+                    throw new IllegalStateException(
+                        "Adapter chain " + entry.getKey().name()
+                            + " references unknown adapter: " + link.name()
+                    );
+                }
+            }
+            knownAdapters.add(entry.getKey().name());
+        }
+        for (Class<?> type : typePortInterceptors.keySet()) {
+            if (!ports.containsKey(type)) {
+                throw new IllegalStateException(
+                    "Port interceptor registered for unknown port: " + type.getName()
+                );
+            }
+        }
+
         HexaApp app = HexaApp.create();
 
-        // Register ports
+        // Register ports, proxied when there are port interceptors
+        List<PortInterceptor> portChain = new ArrayList<>();
+        if (portMetricsEnabled) {
+            PortMetrics portMetrics = new PortMetrics();
+            portChain.add(portMetrics.interceptor());
+            app.withPortMetrics(portMetrics);
+        }
+        if (tracer != null) {
+            portChain.add(tracer.portInterceptor());
+        }
+        portChain.addAll(portInterceptors);
+        List<LazyPort<?>> eager = new ArrayList<>();
         for (Map.Entry<Class<?>, Object> entry : ports.entrySet()) {
-            registerPort(app, entry.getKey(), entry.getValue());
+            List<PortInterceptor> chain = new ArrayList<>(portChain);
+            chain.addAll(typePortInterceptors.getOrDefault(entry.getKey(), List.of()));
+            if (entry.getValue() instanceof SuppliedPort supplied) {
+                LazyPort<?> lazy = supplyPort(app, entry.getKey(), supplied.supplier(), chain);
+                if (eagerPorts.contains(entry.getKey())) {
+                    eager.add(lazy);
+                }
+            } else {
+                registerPort(app, entry.getKey(), entry.getValue(), chain);
+            }
         }
+        initPorts(eager);
 
         // Register adapters
         for (Map.Entry<String, Function<?, ?>> entry : adapters.entrySet()) {
             registerAdapter(app, entry.getKey(), entry.getValue());
         }
+        for (Map.Entry<String, StreamingAdapter<?>> entry : streamingAdapters.entrySet()) {
+            registerStreamingAdapter(app, entry.getKey(), entry.getValue());
+        }
+        for (Map.Entry<AdapterKey<?, ?>, AdapterChain<?, ?>> entry : adapterChains.entrySet()) {
+            registerAdapter(app, entry.getKey().name(), app.compile(entry.getValue()));
+        }
 
-        // Register use cases
+        // Register use cases, fused with their interceptors
+        UseCaseMetrics metrics = metricsEnabled ? new UseCaseMetrics() : null;
         for (Map.Entry<String, UseCase<?, ?>> entry : useCases.entrySet()) {
-            registerUseCase(app, entry.getKey(), entry.getValue());
+            registerUseCase(app, entry.getKey(), entry.getValue(), metrics);
+        }
+        if (metrics != null) {
+            app.withMetrics(metrics);
+        }
+
+        // Register executors
+        if (executor != null) {
+            app.executor(executor);
+        }
+        for (Map.Entry<UseCaseKey<?, ?>, Executor> entry : executors.entrySet()) {
+            app.executor(entry.getKey(), entry.getValue());
+        }
+
+        // Register batch handlers
+        for (Map.Entry<UseCaseKey<?, ?>, BatchUseCase<?, ?>> entry : batchHandlers.entrySet()) {
+            registerBatchHandler(app, entry.getKey(), entry.getValue());
         }
 
-        return app;
+        return frozen ? app.freeze() : app;
+    }
+
+    private void checkKnown(Collection<String> names, String what) {
+        for (String name : names) {
+            if (!useCases.containsKey(name)) {
+                throw new IllegalStateException(
+                    what + " registered for unknown use case: " + name
+                );
+            }
+        }
     }
 
     @SuppressWarnings({ "unchecked", "rawtypes" })
-    private void registerPort(HexaApp app, Class type, Object impl) {
-        app.port(type, impl);
+    private void registerPort(
+        HexaApp app,
+        Class type,
+        Object impl,
+        List<PortInterceptor> portChain
+    ) {
+        app.port(type, PortProxy.decorate(type, impl, portChain));
+    }
+
+    private static <T> LazyPort<T> supplyPort(
+        HexaApp app,
+        Class<T> type,
+        Supplier<?> supplier,
+        List<PortInterceptor> portChain
+    ) {
+        LazyPort<T> lazy = LazyPort.of(
+            type,
+            () -> PortProxy.decorate(type, type.cast(supplier.get()), portChain)
+        );
+        app.lazyPort(type, lazy);
+        return lazy;
+    }
+
+    private void initPorts(List<LazyPort<?>> eager) {
+        if (portInitExecutor == null) {
+            for (LazyPort<?> lazy : eager) {
+                initPort(lazy, lazy::get);
+            }
+            return;
+        }
+        List<CompletableFuture<?>> pending = new ArrayList<>();
+        for (LazyPort<?> lazy : eager) {
+            pending.add(CompletableFuture.runAsync(lazy::get, portInitExecutor));
+        }
+        for (int i = 0; i < eager.size(); i++) {
+            CompletableFuture<?> future = pending.get(i);
+            initPort(eager.get(i), future::join);
+        }
+    }
+
+    private static void initPort(LazyPort<?> lazy, Runnable init) {
+        try {
+            init.run();
+        } catch (RuntimeException e) {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null
+                ? e.getCause()
+                : e;
+            throw new IllegalStateException(
+                "Failed to initialize port: " + lazy.type().getName(),
+                cause
+            );
+        }
     }
 
     @SuppressWarnings({ "unchecked", "rawtypes" })
     private void registerAdapter(HexaApp app, String name, Function adapter) {
-        app.withAdapter(name, adapter);
+        app.withAdapter(name, tracer == null ? adapter : tracer.adapter(name, adapter));
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private void registerStreamingAdapter(HexaApp app, String name, StreamingAdapter adapter) {
+        app.withStreamingAdapter(AdapterKey.of(name), adapter);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private void registerBatchHandler(HexaApp app, UseCaseKey key, BatchUseCase batch) {
+        app.withBatchHandler(key, batch);
     }
 
     @SuppressWarnings({ "unchecked", "rawtypes" })
-    private void registerUseCase(HexaApp app, String name, UseCase useCase) {
-        app.withUseCase(name, useCase);
+    private void registerUseCase(
+        HexaApp app,
+        String name,
+        UseCase useCase,
+        UseCaseMetrics metrics
+    ) {
+        UseCaseKey key = UseCaseKey.of(name);
+        if (useCase instanceof ValidatedUseCase validated) {
+            ValidationPort validator = validated.validator;
+            UseCase handler = validated.handler;
+            if (circuitBreakers) {
+                handler = failOnOpenCircuit(handler);
+            }
+            if (tracer != null) {
+                validator = tracer.validation(name + ".validate", validator);
+                handler = tracer.handler(name + ".handle", handler);
+            }
+            useCase = new ValidatedUseCase(validator, handler);
+        } else if (useCase instanceof AsyncValidatedUseCase validated) {
+            UseCase handler = validated.handler;
+            if (circuitBreakers) {
+                handler = failOnOpenCircuit(handler);
+            }
+            if (tracer != null) {
+                handler = tracer.handler(name + ".handle", handler);
+            }
+            useCase = validated.withHandler(handler);
+        } else if (circuitBreakers
+            && (resultHandlers.contains(name) || declaresResult(useCase))
+            && !(useCase instanceof AsyncUseCase)) {
+            useCase = failOnOpenCircuit(useCase);
+        }
+        UseCase fused = fuse(key, useCase, metrics, app);
+        RetryPolicy retryPolicy = retryPolicies.get(name);
+        if (retryPolicy != null) {
+            fused = new RetryingUseCase(fused, retryPolicy);
+        }
+        app.withUseCase(key, fused);
+    }
+
+    /**
+     * Fuse a handler with its global and per-key interceptors into a single
+     * use case. Metrics recording, when enabled, is outermost so it measures
+     * the whole chain, followed by tracing and then the bulkhead, so
+     * rejected calls skip the remaining interceptors. Coalescing and then the
+     * memoization cache, if any, are innermost so every interceptor still
+     * runs for each caller. With no interceptors the handler itself is
+     * returned; an asynchronous handler yields an asynchronous chain.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private <I, O> UseCase<I, O> fuse(
+        UseCaseKey<I, O> key,
+        UseCase<I, O> handler,
+        UseCaseMetrics metrics,
+        HexaApp app
+    ) {
+        List<UseCaseInterceptor> chain = new ArrayList<>();
+        if (metrics != null) {
+            chain.add(metrics.interceptor(key));
+        }
+        if (tracer != null) {
+            chain.add(tracer.interceptor());
+        }
+        BulkheadSpec bulkheadSpec = bulkheadSpecs.get(key.name());
+        if (bulkheadSpec != null) {
+            Bulkhead bulkhead = bulkheadSpec.create(key.name());
+            app.withBulkhead(key, bulkhead);
+            chain.add(bulkhead.interceptor());
+        }
+        chain.addAll(globalInterceptors);
+        chain.addAll(keyInterceptors.getOrDefault(key.name(), List.of()));
+        if (coalesced.contains(key.name())) {
+            chain.add(coalesce(new SingleFlight<>()));
+        }
+        CacheSpec spec = cacheSpecs.get(key.name());
+        if (spec != null) {
+            MemoCache<I, O> cache = spec.create();
+            app.withCache(key, cache);
+            chain.add(memoize(cache));
+        }
+
+        UseCase<I, O> fused = handler;
+        for (int i = chain.size() - 1; i >= 0; i--) {
+            fused = link(key, chain.get(i), fused);
+        }
+        return fused;
+    }
+
+    private record SuppliedPort(Supplier<?> supplier) {}
+
+    private record CacheSpec(int maxSize, Duration ttl, boolean cacheFailures) {
+        <I, O> MemoCache<I, O> create() {
+            return cacheFailures
+                ? new MemoCache<>(maxSize, ttl)
+                : new MemoCache<>(maxSize, ttl, UseCaseBuilder::isCacheable);
+        }
+    }
+
+    private record BulkheadSpec(int maxConcurrent, int maxQueued, Duration maxWait) {
+        Bulkhead create(String name) {
+            return new Bulkhead(name, maxConcurrent, maxQueued, maxWait);
+        }
+    }
+
+    private static <I, T> UseCase<I, Result<T>> failOnOpenCircuit(
+        UseCase<I, Result<T>> handler
+    ) {
+        return input -> {
+            try {
+                return handler.apply(input);
+            } catch (CircuitOpenException e) {
+                return Result.fail(ResilienceError.CIRCUIT_OPEN, e.breaker());
+            }
+        };
+    }
+
+    /**
+     * Whether a handler's class declares a {@link Result} return type.
+     * Lambdas erase it, so they only count when staged with handleResult.
+     */
+    private static boolean declaresResult(UseCase<?, ?> handler) {
+        for (Method method : handler.getClass().getMethods()) {
+            if (method.getName().equals("apply")
+                && method.getParameterCount() == 1
+                && !method.isBridge()
+                && Result.class.isAssignableFrom(method.getReturnType())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static <I, O> UseCaseInterceptor<I, O> memoize(MemoCache<I, O> cache) {
+        return new UseCaseInterceptor<>() {
+            @Override
+            public O intercept(UseCaseKey<I, O> key, I input, UseCase<I, O> next) {
+                return cache.get(input, next::apply);
+            }
+
+            @Override
+            public CompletableFuture<O> interceptAsync(
+                UseCaseKey<I, O> key,
+                I input,
+                AsyncUseCase<I, O> next,
+                Executor executor
+            ) {
+                return cache.getAsync(input, in -> next.applyAsync(in, executor));
+            }
+        };
+    }
+
+    private static <I, O> UseCaseInterceptor<I, O> coalesce(SingleFlight<I, O> flight) {
+        return new UseCaseInterceptor<>() {
+            @Override
+            public O intercept(UseCaseKey<I, O> key, I input, UseCase<I, O> next) {
+                return flight.execute(input, next::apply);
+            }
+
+            @Override
+            public CompletableFuture<O> interceptAsync(
+                UseCaseKey<I, O> key,
+                I input,
+                AsyncUseCase<I, O> next,
+                Executor executor
+            ) {
+                return flight.executeAsync(input, in -> next.applyAsync(in, executor));
+            }
+        };
+    }
+
+    private static boolean isCacheable(Object output) {
+        return !(output instanceof Result<?> result && result.isFailure());
+    }
+
+    private static <I, O> UseCase<I, O> link(
+        UseCaseKey<I, O> key,
+        UseCaseInterceptor<I, O> interceptor,
+        UseCase<I, O> next
+    ) {
+        if (next instanceof AsyncUseCase<I, O> async) {
+            return new AsyncLink<>(key, interceptor, async);
+        }
+        return input -> interceptor.intercept(key, input, next);
+    }
+
+    /** One interceptor in front of an asynchronous chain, kept asynchronous. */
+    private record AsyncLink<I, O>(
+        UseCaseKey<I, O> key,
+        UseCaseInterceptor<I, O> interceptor,
+        AsyncUseCase<I, O> next
+    ) implements AsyncUseCase<I, O> {
+
+        @Override
+        public O apply(I input) {
+            return interceptor.intercept(key, input, next);
+        }
+
+        @Override
+        public CompletableFuture<O> applyAsync(I input, Executor executor) {
+            try {
+                return interceptor.interceptAsync(key, input, next, executor);
+            } catch (RuntimeException | Error e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
     }
 }
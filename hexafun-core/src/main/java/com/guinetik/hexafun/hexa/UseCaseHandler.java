@@ -75,6 +75,8 @@ public abstract class UseCaseHandler<I, O> implements UseCase<I, O> {
      * @param <T> The port type
      * @return The registered implementation
      * @throws IllegalArgumentException if no port is registered for the given type
+     * @throws com.guinetik.hexafun.resilience.DeadlineExceededException if the
+     *         current invocation's deadline has passed
      */
     protected <T> T port(Class<T> type) {
         return app.port(type);
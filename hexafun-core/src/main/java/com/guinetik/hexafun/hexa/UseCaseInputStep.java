@@ -1,12 +1,18 @@
 package com.guinetik.hexafun.hexa;
 
+import com.guinetik.hexafun.fun.Result;
+import java.util.concurrent.Executor;
+
 /**
  * Builder step for defining the input handling of a use case.
  *
  * <p>From here you can:
  * <ul>
  *   <li>{@link #validate(ValidationPort)} - Add validation before handling</li>
+ *   <li>{@link #validateAll(ValidationPort[])} - Run independent validators together</li>
+ *   <li>{@link #validateAsync(AsyncValidationPort)} - Start with a non-blocking validator</li>
  *   <li>{@link #handle(UseCase)} - Go directly to handler (no validation)</li>
+ *   <li>{@link #handleResult(UseCase)} - Same, for a handler returning a {@code Result}</li>
  * </ul>
  *
  * @param <I> The input type of the use case
@@ -34,6 +40,24 @@ public class UseCaseInputStep<I, O> {
         return builder;
     }
 
+    /**
+     * Define the core logic of a {@link Result}-returning use case without
+     * validation.
+     *
+     * <p>Same as {@link #handle(UseCase)}, except the builder knows the
+     * output is a {@code Result}: with circuit breakers configured, an open
+     * circuit is returned as a failure instead of thrown, from the first
+     * call on.
+     *
+     * @param handler The use case logic
+     * @param <T> The success value type of the handler's result
+     * @return The builder for chaining more use cases
+     */
+    public <T> UseCaseBuilder handleResult(UseCase<I, Result<T>> handler) {
+        builder.stage(name, handler, true);
+        return builder;
+    }
+
     /**
      * Add a validation step before the handler.
      *
@@ -43,4 +67,45 @@ public class UseCaseInputStep<I, O> {
     public UseCaseValidationStep<I> validate(ValidationPort<I> validator) {
         return new UseCaseValidationStep<>(name, builder, validator);
     }
+
+    /**
+     * Start validation with a group of independent validators that run
+     * together and report every failure.
+     *
+     * @param validators The validators of the group
+     * @return The validation step for chaining more validators or the handler
+     * @see UseCaseValidationStep#validateAll(ValidationPort[])
+     */
+    @SafeVarargs
+    public final UseCaseValidationStep<I> validateAll(ValidationPort<I>... validators) {
+        return validateAllOn(DefaultExecutor.get(), validators);
+    }
+
+    /**
+     * Start validation with a group of independent validators, running the
+     * expensive ones on the given executor.
+     *
+     * @param executor The executor for validators not marked cheap
+     * @param validators The validators of the group
+     * @return The validation step for chaining more validators or the handler
+     * @see UseCaseValidationStep#validateAll(ValidationPort[])
+     */
+    @SafeVarargs
+    public final UseCaseValidationStep<I> validateAllOn(
+        Executor executor,
+        ValidationPort<I>... validators
+    ) {
+        return validate(new ParallelValidation<>(validators, executor));
+    }
+
+    /**
+     * Start validation with a non-blocking validator.
+     *
+     * @param validator The asynchronous validation port
+     * @return The validation step for chaining more validators or the handler
+     * @see UseCaseValidationStep#validateAsync(AsyncValidationPort)
+     */
+    public UseCaseValidationStep<I> validateAsync(AsyncValidationPort<I> validator) {
+        return UseCaseValidationStep.startAsync(name, builder, validator);
+    }
 }
@@ -0,0 +1,76 @@
+package com.guinetik.hexafun.hexa;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Middleware that runs around a use case invocation.
+ *
+ * <p>Interceptors are registered on {@link UseCaseBuilder}, either globally
+ * (for every use case) or for a single {@link UseCaseKey}. At build time
+ * each use case's interceptors are fused with its handler into a single
+ * {@link UseCase}; a use case without interceptors is registered as the
+ * bare handler, so it pays nothing for the feature.
+ *
+ * <p>An interceptor decides whether and how to call {@code next}:
+ * <pre class="language-java">{@code
+ * HexaFun.dsl()
+ *     .intercept((key, input, next) -> {
+ *         long start = System.nanoTime();
+ *         try {
+ *             return next.apply(input);
+ *         } finally {
+ *             log.debug("{} took {}ns", key.name(), System.nanoTime() - start);
+ *         }
+ *     })
+ *     .intercept(Keys.DELETE, (key, input, next) ->
+ *         auth.canDelete(input) ? next.apply(input) : Result.fail("Forbidden"))
+ *     .useCase(Keys.DELETE)
+ *         .handle(deleteHandler)
+ *     .build();
+ * }</pre>
+ *
+ * <p>When the handler is an {@link AsyncUseCase}, the fused chain is one
+ * too, and {@link com.guinetik.hexafun.HexaApp#invokeAsync(UseCaseKey, Object)}
+ * goes through {@link #interceptAsync}. Its default runs
+ * {@link #intercept} on the executor, which holds a thread while the rest
+ * of the chain completes; interceptors that only act before and after the
+ * call override it to stay non-blocking.
+ *
+ * @param <I> The input type of the intercepted use case
+ * @param <O> The output type of the intercepted use case
+ */
+@FunctionalInterface
+public interface UseCaseInterceptor<I, O> {
+    /**
+     * Handle an invocation, usually by delegating to {@code next}.
+     *
+     * @param key The key of the use case being invoked
+     * @param input The invocation input
+     * @param next The rest of the chain, ending with the handler
+     * @return The output of the invocation
+     */
+    O intercept(UseCaseKey<I, O> key, I input, UseCase<I, O> next);
+
+    /**
+     * Handle an asynchronous invocation, usually by composing on
+     * {@code next.applyAsync}.
+     *
+     * <p>The default runs {@link #intercept} on {@code executor}, so the
+     * rest of the chain is invoked synchronously on that thread.
+     *
+     * @param key The key of the use case being invoked
+     * @param input The invocation input
+     * @param next The rest of the chain, ending with the handler
+     * @param executor The executor selected for this use case
+     * @return A future completed with the output of the invocation
+     */
+    default CompletableFuture<O> interceptAsync(
+        UseCaseKey<I, O> key,
+        I input,
+        AsyncUseCase<I, O> next,
+        Executor executor
+    ) {
+        return CompletableFuture.supplyAsync(() -> intercept(key, input, next), executor);
+    }
+}
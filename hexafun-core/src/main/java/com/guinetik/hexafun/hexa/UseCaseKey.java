@@ -30,13 +30,17 @@ import java.util.Objects;
  */
 public final class UseCaseKey<I, O> {
 
+    private static final KeySlots USE_CASE_SLOTS = new KeySlots();
+
     private final String name;
+    private final int slot;
 
     private UseCaseKey(String name) {
         this.name = Objects.requireNonNull(
             name,
             "Use case name cannot be null"
         );
+        this.slot = USE_CASE_SLOTS.slotFor(name);
     }
 
     /**
@@ -59,6 +63,20 @@ public final class UseCaseKey<I, O> {
         return name;
     }
 
+    /**
+     * Get the dispatch slot of this key.
+     *
+     * <p>Slots are interned by name when the key is created, so every key
+     * with the same name shares one slot. {@link com.guinetik.hexafun.HexaApp}
+     * uses the slot as a direct index into its use case table instead of
+     * hashing the name on every call.
+     *
+     * @return The slot index for this key
+     */
+    public int slot() {
+        return slot;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,268 @@
+package com.guinetik.hexafun.hexa;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * A {@link Flow.Publisher} that invokes a use case once per element of an
+ * upstream publisher and publishes the outputs.
+ *
+ * <p>Created by
+ * {@link com.guinetik.hexafun.HexaApp#invokeStream(UseCaseKey, Flow.Publisher, int, StreamOrder)}.
+ * Each subscriber gets its own subscription to the upstream publisher. At
+ * most {@code parallelism} elements are requested from upstream and not yet
+ * delivered downstream at any time, whether they are in flight or finished
+ * and waiting for demand, so both the in-flight set and the output buffer
+ * are bounded by it and a slow subscriber slows the source down.
+ *
+ * <p>A failed {@code Result} is just another output and does not end the
+ * stream. An exception thrown by the use case, or a {@code null} output,
+ * cancels the upstream subscription and ends the stream with
+ * {@code onError}. From the moment such an invocation fails, elements
+ * still arriving from upstream are dropped without invoking the use case.
+ * An upstream {@code onError} or {@code onComplete} is
+ * passed on once every element received before it has been delivered.
+ *
+ * @param <I> The input type
+ * @param <O> The output type
+ */
+public final class UseCaseStream<I, O> implements Flow.Publisher<O> {
+
+    private final Flow.Publisher<? extends I> source;
+    private final Function<? super I, CompletableFuture<O>> invoker;
+    private final int parallelism;
+    private final StreamOrder order;
+
+    /**
+     * @param source The upstream publisher of inputs
+     * @param invoker Starts one invocation
+     * @param parallelism How many elements may be outstanding at once
+     * @param order Whether outputs keep input order
+     * @throws IllegalArgumentException if parallelism is not positive
+     */
+    public UseCaseStream(
+        Flow.Publisher<? extends I> source,
+        Function<? super I, CompletableFuture<O>> invoker,
+        int parallelism,
+        StreamOrder order
+    ) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException(
+                "Stream parallelism must be positive: " + parallelism
+            );
+        }
+        this.source = Objects.requireNonNull(source);
+        this.invoker = Objects.requireNonNull(invoker);
+        this.parallelism = parallelism;
+        this.order = Objects.requireNonNull(order);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super O> subscriber) {
+        Objects.requireNonNull(subscriber);
+        source.subscribe(new Bridge(subscriber));
+    }
+
+    /** Subscribes upstream, runs invocations and serves one downstream subscriber. */
+    private final class Bridge implements Flow.Subscriber<I>, Flow.Subscription {
+
+        private final Flow.Subscriber<? super O> downstream;
+        // Ordered: futures in arrival order. Unordered: futures in completion order.
+        private final Queue<CompletableFuture<O>> ready = new ConcurrentLinkedQueue<>();
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        // Received from upstream and not yet delivered
+        private final AtomicInteger pending = new AtomicInteger();
+        private Flow.Subscription upstream;
+        // Requested from upstream and not yet delivered; only touched in drain
+        private int outstanding;
+        private volatile boolean upstreamDone;
+        private volatile Throwable upstreamError;
+        private volatile Throwable badRequest;
+        private volatile boolean cancelled;
+        // Set as soon as an invocation fails: later items are dropped, not invoked
+        private volatile boolean failed;
+        private boolean terminated;
+
+        Bridge(Flow.Subscriber<? super O> downstream) {
+            this.downstream = downstream;
+        }
+
+        // --- upstream ---
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            if (upstream != null) {
+                subscription.cancel();
+                return;
+            }
+            upstream = subscription;
+            downstream.onSubscribe(this);
+            drain();
+        }
+
+        @Override
+        public void onNext(I item) {
+            if (cancelled || failed) {
+                return;
+            }
+            pending.incrementAndGet();
+            CompletableFuture<O> result;
+            try {
+                result = invoker.apply(item);
+            } catch (RuntimeException | Error e) {
+                result = CompletableFuture.failedFuture(e);
+            }
+            if (order == StreamOrder.ORDERED) {
+                ready.offer(result);
+                result.whenComplete((value, error) -> {
+                    if (error != null) {
+                        failed = true;
+                    }
+                    drain();
+                });
+            } else {
+                CompletableFuture<O> completed = result;
+                result.whenComplete((value, error) -> {
+                    if (error != null) {
+                        failed = true;
+                    }
+                    ready.offer(completed);
+                    drain();
+                });
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            upstreamError = throwable;
+            upstreamDone = true;
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            upstreamDone = true;
+            drain();
+        }
+
+        // --- downstream ---
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                badRequest = new IllegalArgumentException("Request must be positive: " + n);
+                drain();
+                return;
+            }
+            demand.getAndAccumulate(n, (current, add) -> {
+                long sum = current + add;
+                return sum < 0 ? Long.MAX_VALUE : sum;
+            });
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                upstream.cancel();
+                ready.clear();
+            }
+        }
+
+        // --- emission ---
+
+        /**
+         * Deliver whatever is deliverable and top up upstream requests.
+         * Serialized: concurrent callers just mark another pass as needed.
+         */
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                if (cancelled || terminated) {
+                    ready.clear();
+                } else {
+                    emit();
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void emit() {
+            if (badRequest != null) {
+                fail(badRequest);
+                return;
+            }
+            while (true) {
+                CompletableFuture<O> head = ready.peek();
+                if (head == null || !head.isDone()) {
+                    break;
+                }
+                O value;
+                try {
+                    value = head.join();
+                    if (value == null) {
+                        throw new NullPointerException("Use case returned null in a stream");
+                    }
+                } catch (CompletionException e) {
+                    fail(e.getCause() == null ? e : e.getCause());
+                    return;
+                } catch (RuntimeException e) {
+                    fail(e);
+                    return;
+                }
+                if (demand.get() == 0) {
+                    break;
+                }
+                ready.poll();
+                outstanding--;
+                pending.decrementAndGet();
+                demand.decrementAndGet();
+                downstream.onNext(value);
+                if (cancelled) {
+                    return;
+                }
+            }
+            if (upstreamDone) {
+                if (pending.get() == 0) {
+                    finish();
+                }
+                return;
+            }
+            int free = parallelism - outstanding;
+            if (free > 0) {
+                outstanding += free;
+                upstream.request(free);
+            }
+        }
+
+        private void fail(Throwable error) {
+            failed = true;
+            terminated = true;
+            upstream.cancel();
+            ready.clear();
+            downstream.onError(error);
+        }
+
+        private void finish() {
+            terminated = true;
+            Throwable error = upstreamError;
+            if (error != null) {
+                downstream.onError(error);
+            } else {
+                downstream.onComplete();
+            }
+        }
+    }
+}
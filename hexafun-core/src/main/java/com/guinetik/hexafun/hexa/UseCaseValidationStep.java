@@ -3,6 +3,7 @@ package com.guinetik.hexafun.hexa;
 import com.guinetik.hexafun.fun.Result;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
  * Builder step for defining validation and handler logic.
@@ -15,33 +16,52 @@ import java.util.List;
  *     .handle(input -> ...)
  * }</pre>
  *
+ * <p>Each step only links to the one before it, so adding a validator is
+ * constant time and earlier steps stay reusable. The chain is compiled into
+ * a single validator when {@link #handle(UseCase)} is called.
+ *
  * @param <I> The input type of the use case
  */
 public class UseCaseValidationStep<I> {
 
     private final String name;
     private final UseCaseBuilder builder;
-    private final List<ValidationPort<I>> validators;
+    private final UseCaseValidationStep<I> previous;
+    private final ValidationPort<I> validator;
+    private final AsyncValidationPort<I> asyncValidator;
+    private final int size;
+    private final boolean async;
 
     public UseCaseValidationStep(
         String name,
         UseCaseBuilder builder,
         ValidationPort<I> validator
     ) {
-        this.name = name;
-        this.builder = builder;
-        this.validators = new ArrayList<>();
-        this.validators.add(validator);
+        this(name, builder, null, validator, null);
     }
 
     private UseCaseValidationStep(
         String name,
         UseCaseBuilder builder,
-        List<ValidationPort<I>> validators
+        UseCaseValidationStep<I> previous,
+        ValidationPort<I> validator,
+        AsyncValidationPort<I> asyncValidator
     ) {
         this.name = name;
         this.builder = builder;
-        this.validators = validators;
+        this.previous = previous;
+        this.validator = validator;
+        this.asyncValidator = asyncValidator;
+        this.size = previous == null ? 1 : previous.size + 1;
+        this.async = asyncValidator != null || (previous != null && previous.async);
+    }
+
+    static <I> UseCaseValidationStep<I> startAsync(
+        String name,
+        UseCaseBuilder builder,
+        AsyncValidationPort<I> validator
+    ) {
+        return new UseCaseValidationStep<>(name, builder, null, null, validator);
     }
 
     /**
@@ -52,11 +72,71 @@ public class UseCaseValidationStep<I> {
      * @return This step for further chaining
      */
     public UseCaseValidationStep<I> validate(ValidationPort<I> validator) {
-        List<ValidationPort<I>> newValidators = new ArrayList<>(
-            this.validators
-        );
-        newValidators.add(validator);
-        return new UseCaseValidationStep<>(name, builder, newValidators);
+        return new UseCaseValidationStep<>(name, builder, this, validator, null);
+    }
+
+    /**
+     * Add a non-blocking validator to the chain, such as a lookup through
+     * a repository port.
+     *
+     * <p>With {@code invokeAsync} the chain then runs without blocking a
+     * thread while the lookup is in flight. Consecutive asynchronous
+     * validators are started together against the same input, so lookups
+     * they make through a shared
+     * {@link com.guinetik.hexafun.cache.BatchLoader} go out as one bulk
+     * call; the first failure in declaration order wins, and their success
+     * values are not passed on.
+     *
+     * @param validator The asynchronous validation port
+     * @return This step for further chaining
+     */
+    public UseCaseValidationStep<I> validateAsync(AsyncValidationPort<I> validator) {
+        return new UseCaseValidationStep<>(name, builder, this, null, validator);
+    }
+
+    /**
+     * Add a group of independent validators that all run against the same
+     * input, collecting every failure instead of stopping at the first.
+     *
+     * <p>Validators marked with {@link ValidationPort#cheap} run inline;
+     * the rest run concurrently on the default executor. The group passes
+     * the input on unchanged when every validator succeeds, returns the
+     * failure as is when exactly one fails, and otherwise fails with
+     * {@link ValidationError#MULTIPLE}.
+     *
+     * <pre class="language-java">{@code
+     * .useCase(CREATE)
+     *     .validate(Validators::notNull)
+     *     .validateAll(
+     *         ValidationPort.cheap(Validators::titleLength),
+     *         uniqueTitle,
+     *         knownOwner)
+     *     .handle(...)
+     * }</pre>
+     *
+     * @param validators The validators of the group
+     * @return This step for further chaining
+     */
+    @SafeVarargs
+    public final UseCaseValidationStep<I> validateAll(ValidationPort<I>... validators) {
+        return validateAllOn(DefaultExecutor.get(), validators);
+    }
+
+    /**
+     * Add a group of independent validators, running the expensive ones on
+     * the given executor.
+     *
+     * @param executor The executor for validators not marked cheap
+     * @param validators The validators of the group
+     * @return This step for further chaining
+     * @see #validateAll(ValidationPort[])
+     */
+    @SafeVarargs
+    public final UseCaseValidationStep<I> validateAllOn(
+        Executor executor,
+        ValidationPort<I>... validators
+    ) {
+        return validate(new ParallelValidation<>(validators, executor));
     }
 
     /**
@@ -67,30 +147,63 @@ public class UseCaseValidationStep<I> {
      * @return The builder for chaining more use cases
      */
     public <O> UseCaseBuilder handle(UseCase<I, Result<O>> handler) {
-        ValidationPort<I> composedValidator = composeValidators();
+        if (async) {
+            builder.stage(name, new AsyncValidatedUseCase<>(stages(), handler));
+            return builder;
+        }
+        ValidationPort<I> composedValidator = ValidationChain.compile(validators());
 
-        UseCase<I, Result<O>> useCase = input -> {
-            Result<I> validationResult = composedValidator.validate(input);
-            if (validationResult.isFailure()) {
-                return Result.fail(validationResult.error());
-            }
-            return handler.apply(validationResult.get());
-        };
-
-        builder.stage(name, useCase);
+        builder.stage(name, new ValidatedUseCase<>(composedValidator, handler));
         return builder;
     }
 
-    private ValidationPort<I> composeValidators() {
-        return input -> {
-            Result<I> result = Result.ok(input);
-            for (ValidationPort<I> validator : validators) {
-                result = result.flatMap(validator::validate);
-                if (result.isFailure()) {
-                    return result;
+    @SuppressWarnings("unchecked")
+    private ValidationPort<I>[] validators() {
+        ValidationPort<I>[] chain = new ValidationPort[size];
+        UseCaseValidationStep<I> step = this;
+        for (int i = size - 1; i >= 0; i--) {
+            chain[i] = step.validator;
+            step = step.previous;
+        }
+        return chain;
+    }
+
+    /**
+     * Split the chain into compiled synchronous runs and groups of
+     * consecutive asynchronous validators, in order.
+     */
+    @SuppressWarnings("unchecked")
+    private Object[] stages() {
+        UseCaseValidationStep<I>[] steps = new UseCaseValidationStep[size];
+        UseCaseValidationStep<I> step = this;
+        for (int i = size - 1; i >= 0; i--) {
+            steps[i] = step;
+            step = step.previous;
+        }
+        List<Object> stages = new ArrayList<>();
+        List<ValidationPort<I>> sync = new ArrayList<>();
+        List<AsyncValidationPort<I>> group = new ArrayList<>();
+        for (UseCaseValidationStep<I> current : steps) {
+            if (current.asyncValidator != null) {
+                if (!sync.isEmpty()) {
+                    stages.add(ValidationChain.compile(sync.toArray(new ValidationPort[0])));
+                    sync.clear();
+                }
+                group.add(current.asyncValidator);
+            } else {
+                if (!group.isEmpty()) {
+                    stages.add(group.toArray(new AsyncValidationPort[0]));
+                    group.clear();
                 }
+                sync.add(current.validator);
             }
-            return result;
-        };
+        }
+        if (!sync.isEmpty()) {
+            stages.add(ValidationChain.compile(sync.toArray(new ValidationPort[0])));
+        }
+        if (!group.isEmpty()) {
+            stages.add(group.toArray(new AsyncValidationPort[0]));
+        }
+        return stages.toArray();
     }
 }
@@ -0,0 +1,95 @@
+package com.guinetik.hexafun.hexa;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes appended characters as UTF-8 directly into a {@link ByteBuffer}.
+ *
+ * <p>A high surrogate at the end of one append is held until the next, so
+ * supplementary characters split across calls still encode correctly.
+ * Unpaired surrogates are written as {@code '?'}, as {@link String#getBytes}
+ * would.
+ */
+final class Utf8ByteBufferAppendable implements Appendable {
+
+    private final ByteBuffer buffer;
+    private char pendingHigh;
+
+    Utf8ByteBufferAppendable(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    @Override
+    public Appendable append(CharSequence csq) {
+        CharSequence s = csq == null ? "null" : csq;
+        return append(s, 0, s.length());
+    }
+
+    @Override
+    public Appendable append(CharSequence csq, int start, int end) {
+        CharSequence s = csq == null ? "null" : csq;
+        for (int i = start; i < end; i++) {
+            append(s.charAt(i));
+        }
+        return this;
+    }
+
+    @Override
+    public Appendable append(char c) {
+        if (pendingHigh != 0) {
+            char high = pendingHigh;
+            pendingHigh = 0;
+            if (Character.isLowSurrogate(c)) {
+                put(Character.toCodePoint(high, c));
+                return this;
+            }
+            put('?');
+        }
+        if (Character.isHighSurrogate(c)) {
+            pendingHigh = c;
+        } else {
+            put(Character.isLowSurrogate(c) ? '?' : c);
+        }
+        return this;
+    }
+
+    private void put(int cp) {
+        if (cp < 0x80) {
+            ensure(1);
+            buffer.put((byte) cp);
+        } else if (cp < 0x800) {
+            ensure(2);
+            buffer.put((byte) (0xC0 | (cp >> 6)));
+            buffer.put((byte) (0x80 | (cp & 0x3F)));
+        } else if (cp < 0x10000) {
+            ensure(3);
+            buffer.put((byte) (0xE0 | (cp >> 12)));
+            buffer.put((byte) (0x80 | ((cp >> 6) & 0x3F)));
+            buffer.put((byte) (0x80 | (cp & 0x3F)));
+        } else {
+            ensure(4);
+            buffer.put((byte) (0xF0 | (cp >> 18)));
+            buffer.put((byte) (0x80 | ((cp >> 12) & 0x3F)));
+            buffer.put((byte) (0x80 | ((cp >> 6) & 0x3F)));
+            buffer.put((byte) (0x80 | (cp & 0x3F)));
+        }
+    }
+
+    private void ensure(int bytes) {
+        // Check up front so a multi-byte character is never half written
+        if (buffer.remaining() < bytes) {
+            throw new BufferOverflowException();
+        }
+    }
+
+    /**
+     * Write out a trailing unpaired high surrogate, if any.
+     */
+    void flush() {
+        if (pendingHigh != 0) {
+            pendingHigh = 0;
+            put('?');
+        }
+    }
+}
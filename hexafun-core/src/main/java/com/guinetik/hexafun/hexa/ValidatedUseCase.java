@@ -0,0 +1,36 @@
+package com.guinetik.hexafun.hexa;
+
+import com.guinetik.hexafun.fun.Result;
+
+/**
+ * A use case made of a validation stage followed by a handler.
+ *
+ * <p>Staged by {@link UseCaseValidationStep#handle(UseCase)}. Keeping the two
+ * stages apart lets {@link UseCaseBuilder} decorate each one separately at
+ * build time (for example, to trace validation and handling as distinct
+ * spans).
+ *
+ * @param <I> The input type
+ * @param <O> The success value type of the handler's result
+ */
+final class ValidatedUseCase<I, O> implements UseCase<I, Result<O>> {
+
+    final ValidationPort<I> validator;
+    final UseCase<I, Result<O>> handler;
+
+    ValidatedUseCase(ValidationPort<I> validator, UseCase<I, Result<O>> handler) {
+        this.validator = validator;
+        this.handler = handler;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Result<O> apply(I input) {
+        Result<I> validationResult = validator.validate(input);
+        if (validationResult.isFailure()) {
+            // A failure holds no value, so it is reused as the handler's result
+            return (Result<O>) validationResult;
+        }
+        return handler.apply(validationResult.get());
+    }
+}
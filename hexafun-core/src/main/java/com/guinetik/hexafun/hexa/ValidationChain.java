@@ -0,0 +1,87 @@
+package com.guinetik.hexafun.hexa;
+
+import com.guinetik.hexafun.fun.Result;
+
+/**
+ * Compiles an ordered list of validators into a single {@link ValidationPort}.
+ *
+ * <p>Chains of up to four validators become one straight-line lambda that
+ * calls each validator directly and returns the first failure; a single
+ * validator is used as is. Longer chains fall back to a loop over an
+ * array. In every case the composition adds no {@code Result} of its own:
+ * each validator's result is either returned or unwrapped for the next.
+ */
+final class ValidationChain {
+
+    private ValidationChain() {}
+
+    /**
+     * Compile validators, run in array order, into one port.
+     *
+     * @param validators The validators, at least one
+     * @param <I> The input type
+     * @return A port that short-circuits on the first failure
+     */
+    static <I> ValidationPort<I> compile(ValidationPort<I>[] validators) {
+        return switch (validators.length) {
+            case 0 -> throw new IllegalArgumentException("At least one validator is required");
+            case 1 -> validators[0];
+            case 2 -> of(validators[0], validators[1]);
+            case 3 -> of(validators[0], validators[1], validators[2]);
+            case 4 -> of(validators[0], validators[1], validators[2], validators[3]);
+            default -> loop(validators.clone());
+        };
+    }
+
+    private static <I> ValidationPort<I> of(ValidationPort<I> a, ValidationPort<I> b) {
+        return input -> {
+            Result<I> result = a.validate(input);
+            return result.isFailure() ? result : b.validate(result.get());
+        };
+    }
+
+    private static <I> ValidationPort<I> of(
+        ValidationPort<I> a,
+        ValidationPort<I> b,
+        ValidationPort<I> c
+    ) {
+        return input -> {
+            Result<I> result = a.validate(input);
+            if (result.isFailure()) {
+                return result;
+            }
+            result = b.validate(result.get());
+            return result.isFailure() ? result : c.validate(result.get());
+        };
+    }
+
+    private static <I> ValidationPort<I> of(
+        ValidationPort<I> a,
+        ValidationPort<I> b,
+        ValidationPort<I> c,
+        ValidationPort<I> d
+    ) {
+        return input -> {
+            Result<I> result = a.validate(input);
+            if (result.isFailure()) {
+                return result;
+            }
+            result = b.validate(result.get());
+            if (result.isFailure()) {
+                return result;
+            }
+            result = c.validate(result.get());
+            return result.isFailure() ? result : d.validate(result.get());
+        };
+    }
+
+    private static <I> ValidationPort<I> loop(ValidationPort<I>[] chain) {
+        return input -> {
+            Result<I> result = chain[0].validate(input);
+            for (int i = 1; i < chain.length && result.isSuccess(); i++) {
+                result = chain[i].validate(result.get());
+            }
+            return result;
+        };
+    }
+}
@@ -0,0 +1,67 @@
+package com.guinetik.hexafun.hexa;
+
+import com.guinetik.hexafun.fun.ErrorCode;
+import com.guinetik.hexafun.fun.Result;
+import java.util.List;
+
+/**
+ * Failure codes produced by the validation pipeline itself.
+ */
+public enum ValidationError implements ErrorCode {
+    /**
+     * Several validators of a
+     * {@link UseCaseValidationStep#validateAll validateAll} group failed.
+     * The only parameter is the list of individual failures, in declaration
+     * order; the message joins their messages with {@code "; "}. Also
+     * used by {@link com.guinetik.hexafun.HexaApp#invokeAll(UseCaseKey,
+     * java.util.Collection, BatchMode) invokeAll} when several inputs of a
+     * {@link BatchMode#COLLECT_ALL} batch fail.
+     */
+    MULTIPLE("{0}");
+
+    private final String template;
+
+    ValidationError(String template) {
+        this.template = template;
+    }
+
+    @Override
+    public String template() {
+        return template;
+    }
+
+    @Override
+    public String render(Object... params) {
+        StringBuilder sb = new StringBuilder();
+        for (Result<?> failure : failures(params[0])) {
+            if (sb.length() > 0) {
+                sb.append("; ");
+            }
+            sb.append(failure.error());
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Get the individual failures behind a validation result.
+     *
+     * @param result A failed result
+     * @return The failures a {@link #MULTIPLE} result was built from, or
+     *     the result itself for any other failure
+     * @throws IllegalArgumentException if the result is a success
+     */
+    public static List<Result<?>> failures(Result<?> result) {
+        if (result.isSuccess()) {
+            throw new IllegalArgumentException("Result is not a failure");
+        }
+        if (result.errorCode() == MULTIPLE && result instanceof Result.Failure<?> failure) {
+            return failures(failure.params().get(0));
+        }
+        return List.of(result);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Result<?>> failures(Object param) {
+        return (List<Result<?>>) param;
+    }
+}
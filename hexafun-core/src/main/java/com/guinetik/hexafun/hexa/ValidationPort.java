@@ -14,4 +14,24 @@ public interface ValidationPort<I> {
      * @return A Result containing either the validated input or an error
      */
     Result<I> validate(I input);
+
+    /**
+     * Whether this validator is cheap enough to run inline in a
+     * {@link UseCaseValidationStep#validateAll validateAll} group.
+     * @return true for validators wrapped with {@link #cheap}
+     */
+    default boolean isCheap() {
+        return false;
+    }
+
+    /**
+     * Mark a validator as cheap: in a {@code validateAll} group it runs on
+     * the calling thread instead of being scheduled on the executor.
+     * @param validator A fast, non-blocking validator
+     * @param <I> Input type to validate
+     * @return The same validation, marked as cheap
+     */
+    static <I> ValidationPort<I> cheap(ValidationPort<I> validator) {
+        return validator.isCheap() ? validator : new CheapValidationPort<>(validator);
+    }
 }
@@ -0,0 +1,39 @@
+package com.guinetik.hexafun.metrics;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Success/failure counters and a latency histogram for one call site.
+ */
+final class CallRecorder {
+
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    void record(long nanos, boolean failed) {
+        (failed ? failures : successes).increment();
+        latency.record(nanos);
+    }
+
+    long successes() {
+        return successes.sum();
+    }
+
+    long failures() {
+        return failures.sum();
+    }
+
+    Duration mean() {
+        return Duration.ofNanos(Math.round(latency.mean()));
+    }
+
+    Duration percentile(double percentile) {
+        return Duration.ofNanos(latency.valueAtPercentile(percentile));
+    }
+
+    Duration max() {
+        return Duration.ofNanos(latency.max());
+    }
+}
@@ -0,0 +1,126 @@
+package com.guinetik.hexafun.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrent latency histogram with HDR-style log-linear buckets.
+ *
+ * <p>Values below 32ns are counted exactly. Above that, every power-of-two
+ * range is split into 16 linear sub-buckets, so any recorded value is
+ * reported within about 6% of its true value, from nanoseconds up to
+ * centuries, in a fixed array of 960 counters. Recording is a few bit
+ * operations and an atomic increment; no locks and no allocation.
+ *
+ * <p>Example:
+ * <pre class="language-java">{@code
+ * LatencyHistogram histogram = new LatencyHistogram();
+ * histogram.record(System.nanoTime() - start);
+ * long p99 = histogram.valueAtPercentile(99.0);
+ * }</pre>
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_LIMIT = SUB_BUCKETS * 2;
+    private static final int FIRST_EXPONENT = SUB_BUCKET_BITS + 1;
+    private static final int BUCKETS =
+        LINEAR_LIMIT + (63 - FIRST_EXPONENT) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Record a single value, typically a duration in nanoseconds.
+     * Negative values are recorded as zero.
+     *
+     * @param value The value to record
+     */
+    public void record(long value) {
+        long v = Math.max(0, value);
+        counts.incrementAndGet(indexOf(v));
+        count.increment();
+        sum.add(v);
+        max.accumulate(v);
+    }
+
+    /**
+     * Get the number of recorded values.
+     * @return The total count
+     */
+    public long count() {
+        return count.sum();
+    }
+
+    /**
+     * Get the largest recorded value.
+     * @return The maximum, or 0 if nothing was recorded
+     */
+    public long max() {
+        return max.get();
+    }
+
+    /**
+     * Get the arithmetic mean of the recorded values.
+     * @return The mean, or 0 if nothing was recorded
+     */
+    public double mean() {
+        long n = count.sum();
+        return n == 0 ? 0 : (double) sum.sum() / n;
+    }
+
+    /**
+     * Get the value at the given percentile.
+     *
+     * <p>The result is the upper bound of the bucket holding the requested
+     * rank, capped at {@link #max()}, so it never under-reports latency.
+     *
+     * @param percentile The percentile, from 0 to 100 (e.g. 99.9)
+     * @return The value at that percentile, or 0 if nothing was recorded
+     */
+    public long valueAtPercentile(double percentile) {
+        long[] snapshot = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        double p = Math.min(100.0, Math.max(0.0, percentile));
+        long rank = Math.max(1, (long) Math.ceil(p / 100.0 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(highestValueAt(i), max());
+            }
+        }
+        return max();
+    }
+
+    static int indexOf(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) - SUB_BUCKETS;
+        return LINEAR_LIMIT + (exponent - FIRST_EXPONENT) * SUB_BUCKETS + subBucket;
+    }
+
+    static long highestValueAt(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int offset = index - LINEAR_LIMIT;
+        int exponent = offset / SUB_BUCKETS + FIRST_EXPONENT;
+        long top = (offset % SUB_BUCKETS) + SUB_BUCKETS;
+        int shift = exponent - SUB_BUCKET_BITS;
+        return ((top + 1) << shift) - 1;
+    }
+}
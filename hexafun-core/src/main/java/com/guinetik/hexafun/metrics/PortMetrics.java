@@ -0,0 +1,132 @@
+package com.guinetik.hexafun.metrics;
+
+import com.guinetik.hexafun.fun.Result;
+import com.guinetik.hexafun.hexa.PortInterceptor;
+import com.guinetik.hexafun.hexa.PortProxy;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-method call counters and latency histograms for ports.
+ *
+ * <p>Enabled with {@link com.guinetik.hexafun.hexa.UseCaseBuilder#withPortMetrics()}.
+ * Every interface port is wrapped once, at build time, in a
+ * {@link PortProxy} whose outermost interceptor records into this registry.
+ * Recorders are cached per port type and {@link Method}, so after a
+ * method's first call the hot path is two lookups, a clock read and a
+ * histogram increment.
+ *
+ * <p>Example:
+ * <pre class="language-java">{@code
+ * HexaApp app = HexaFun.dsl()
+ *     .withPort(MetricsProvider.class, provider)
+ *     .withPortMetrics()
+ *     ...
+ *     .build();
+ *
+ * app.portStats().forEach((name, stats) ->
+ *     System.out.println(name + ": " + stats.calls() + " calls, p99=" + stats.p99()));
+ * }</pre>
+ */
+public final class PortMetrics {
+
+    // By port type, then method name: same-named ports in other packages stay apart
+    private final Map<Class<?>, Map<String, CallRecorder>> recorders = new ConcurrentHashMap<>();
+    // Keyed by port type first: ports inheriting one super-interface method share the Method
+    private final ClassValue<Map<Method, CallRecorder>> byMethod = new ClassValue<>() {
+        @Override
+        protected Map<Method, CallRecorder> computeValue(Class<?> port) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final PortInterceptor interceptor = (port, method, args, call) -> {
+        CallRecorder recorder = recorder(port, method);
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            Object result = call.proceed();
+            failed = result instanceof Result<?> r && r.isFailure();
+            return result;
+        } finally {
+            recorder.record(System.nanoTime() - start, failed);
+        }
+    };
+
+    /**
+     * Get the recording interceptor. Register it outermost so the measured
+     * latency includes every other port interceptor.
+     *
+     * @return An interceptor that records every port call
+     */
+    public PortInterceptor interceptor() {
+        return interceptor;
+    }
+
+    /**
+     * Wrap a port implementation so its calls are recorded here. Use this
+     * for ports wired directly into a {@link com.guinetik.hexafun.HexaApp}
+     * rather than through the builder.
+     *
+     * @param type The port interface
+     * @param impl The real implementation
+     * @param <T> The port type
+     * @return A recording proxy, or {@code impl} if {@code type} is not an interface
+     */
+    public <T> T instrument(Class<T> type, T impl) {
+        return PortProxy.decorate(type, impl, List.of(interceptor));
+    }
+
+    /**
+     * Get a snapshot of one port method's statistics.
+     *
+     * @param port The port interface
+     * @param method The method name
+     * @return The statistics, all zero if the method has not been called
+     */
+    public PortStats stats(Class<?> port, String method) {
+        Map<String, CallRecorder> methods = recorders.get(port);
+        CallRecorder recorder = methods == null ? null : methods.get(method);
+        return recorder == null
+            ? PortStats.empty(port.getSimpleName(), method)
+            : PortStats.of(port.getSimpleName(), method, recorder);
+    }
+
+    /**
+     * Get a snapshot of every port method called so far, sorted by name.
+     *
+     * @return Statistics keyed by {@code Port.method}, using the qualified
+     *         port name when two ports share a simple name
+     */
+    public Map<String, PortStats> snapshot() {
+        Map<String, Integer> simpleNames = new HashMap<>();
+        recorders.keySet().forEach(port -> simpleNames.merge(port.getSimpleName(), 1, Integer::sum));
+        Map<String, PortStats> snapshot = new TreeMap<>();
+        recorders.forEach((port, methods) -> {
+            String prefix = simpleNames.get(port.getSimpleName()) > 1
+                ? port.getName()
+                : port.getSimpleName();
+            methods.forEach((method, recorder) -> snapshot.put(
+                prefix + "." + method,
+                PortStats.of(port.getSimpleName(), method, recorder)
+            ));
+        });
+        return snapshot;
+    }
+
+    private CallRecorder recorder(Class<?> port, Method method) {
+        Map<Method, CallRecorder> methods = byMethod.get(port);
+        CallRecorder recorder = methods.get(method);
+        if (recorder == null) {
+            // Overloads share the recorder of their method name
+            recorder = methods.computeIfAbsent(method, m -> recorders
+                .computeIfAbsent(port, type -> new ConcurrentHashMap<>())
+                .computeIfAbsent(m.getName(), name -> new CallRecorder()));
+        }
+        return recorder;
+    }
+}
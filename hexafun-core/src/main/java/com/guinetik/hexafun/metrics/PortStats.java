@@ -0,0 +1,61 @@
+package com.guinetik.hexafun.metrics;
+
+import java.time.Duration;
+
+/**
+ * Point-in-time statistics for one port method.
+ *
+ * <p>A call counts as a failure when it throws or returns a
+ * {@link com.guinetik.hexafun.fun.Result} for which {@code isFailure()} is
+ * true. Overloads of the same method name are aggregated.
+ *
+ * @param port The port interface's simple name
+ * @param method The method name
+ * @param calls Total number of completed calls
+ * @param failures Calls that failed or threw
+ * @param mean Mean latency
+ * @param p50 Median latency
+ * @param p99 99th percentile latency
+ * @param p999 99.9th percentile latency
+ * @param max Highest latency seen
+ */
+public record PortStats(
+    String port,
+    String method,
+    long calls,
+    long failures,
+    Duration mean,
+    Duration p50,
+    Duration p99,
+    Duration p999,
+    Duration max
+) {
+    /**
+     * Statistics for a port method that has not been called.
+     *
+     * @param port The port interface's simple name
+     * @param method The method name
+     * @return Stats with all counters at zero
+     */
+    public static PortStats empty(String port, String method) {
+        return new PortStats(
+            port, method, 0, 0,
+            Duration.ZERO, Duration.ZERO, Duration.ZERO, Duration.ZERO, Duration.ZERO
+        );
+    }
+
+    static PortStats of(String port, String method, CallRecorder recorder) {
+        long failed = recorder.failures();
+        return new PortStats(
+            port,
+            method,
+            recorder.successes() + failed,
+            failed,
+            recorder.mean(),
+            recorder.percentile(50.0),
+            recorder.percentile(99.0),
+            recorder.percentile(99.9),
+            recorder.max()
+        );
+    }
+}
@@ -0,0 +1,61 @@
+package com.guinetik.hexafun.metrics;
+
+import java.time.Duration;
+
+/**
+ * Point-in-time statistics for one use case.
+ *
+ * <p>An invocation counts as a failure when it throws or returns a
+ * {@link com.guinetik.hexafun.fun.Result} for which {@code isFailure()} is
+ * true; everything else is a success.
+ *
+ * @param name The use case name
+ * @param invocations Total number of completed invocations
+ * @param successes Invocations that succeeded
+ * @param failures Invocations that failed or threw
+ * @param mean Mean latency
+ * @param p50 Median latency
+ * @param p99 99th percentile latency
+ * @param p999 99.9th percentile latency
+ * @param max Highest latency seen
+ */
+public record UseCaseStats(
+    String name,
+    long invocations,
+    long successes,
+    long failures,
+    Duration mean,
+    Duration p50,
+    Duration p99,
+    Duration p999,
+    Duration max
+) {
+    /**
+     * Statistics for a use case that has not been invoked.
+     *
+     * @param name The use case name
+     * @return Stats with all counters at zero
+     */
+    public static UseCaseStats empty(String name) {
+        return new UseCaseStats(
+            name, 0, 0, 0,
+            Duration.ZERO, Duration.ZERO, Duration.ZERO, Duration.ZERO, Duration.ZERO
+        );
+    }
+
+    static UseCaseStats of(String name, CallRecorder recorder) {
+        long ok = recorder.successes();
+        long failed = recorder.failures();
+        return new UseCaseStats(
+            name,
+            ok + failed,
+            ok,
+            failed,
+            recorder.mean(),
+            recorder.percentile(50.0),
+            recorder.percentile(99.0),
+            recorder.percentile(99.9),
+            recorder.max()
+        );
+    }
+}
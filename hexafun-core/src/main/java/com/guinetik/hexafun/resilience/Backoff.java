@@ -0,0 +1,87 @@
+package com.guinetik.hexafun.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * How long to wait before each retry attempt.
+ *
+ * <p>Example:
+ * <pre class="language-java">{@code
+ * Backoff.exponential(Duration.ofMillis(50), Duration.ofSeconds(2)); // full jitter
+ * Backoff.exponential(Duration.ofMillis(50), Duration.ofSeconds(2), 0.2);
+ * Backoff.fixed(Duration.ofMillis(100));
+ * }</pre>
+ */
+@FunctionalInterface
+public interface Backoff {
+    /**
+     * Get the delay before a retry.
+     *
+     * @param retry The retry number, starting at 1 for the second attempt
+     * @return The delay in nanoseconds
+     */
+    long delayNanos(int retry);
+
+    /**
+     * Retry immediately.
+     * @return A backoff with no delay
+     */
+    static Backoff none() {
+        return retry -> 0;
+    }
+
+    /**
+     * Wait the same time before every retry.
+     *
+     * @param delay The delay
+     * @return A fixed backoff
+     */
+    static Backoff fixed(Duration delay) {
+        long nanos = delay.toNanos();
+        return retry -> nanos;
+    }
+
+    /**
+     * Exponential backoff with full jitter: before retry {@code n} wait a
+     * random time between zero and {@code min(max, initial * 2^(n-1))}.
+     * Full jitter spreads retries from many callers so they do not arrive
+     * in synchronized waves.
+     *
+     * @param initial The base delay
+     * @param max The largest delay
+     * @return An exponential backoff
+     */
+    static Backoff exponential(Duration initial, Duration max) {
+        return exponential(initial, max, 1.0);
+    }
+
+    /**
+     * Exponential backoff with partial jitter: before retry {@code n} wait
+     * {@code d = min(max, initial * 2^(n-1))} minus a random part of up to
+     * {@code jitter * d}.
+     *
+     * @param initial The base delay
+     * @param max The largest delay
+     * @param jitter The random fraction, from 0 (none) to 1 (full jitter)
+     * @return An exponential backoff
+     * @throws IllegalArgumentException if jitter is outside [0, 1]
+     */
+    static Backoff exponential(Duration initial, Duration max, double jitter) {
+        if (!(jitter >= 0.0 && jitter <= 1.0)) {
+            throw new IllegalArgumentException("Jitter must be between 0 and 1: " + jitter);
+        }
+        long initialNanos = initial.toNanos();
+        long maxNanos = max.toNanos();
+        return retry -> {
+            int shift = Math.min(Math.max(retry - 1, 0), 62);
+            long ceiling = initialNanos > (maxNanos >> shift)
+                ? maxNanos
+                : Math.min(maxNanos, initialNanos << shift);
+            long spread = (long) (ceiling * jitter);
+            return spread == 0
+                ? ceiling
+                : ceiling - ThreadLocalRandom.current().nextLong(spread + 1);
+        };
+    }
+}
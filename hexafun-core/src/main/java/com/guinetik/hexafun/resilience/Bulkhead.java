@@ -0,0 +1,228 @@
+package com.guinetik.hexafun.resilience;
+
+import com.guinetik.hexafun.fun.Result;
+import com.guinetik.hexafun.hexa.AsyncUseCase;
+import com.guinetik.hexafun.hexa.UseCase;
+import com.guinetik.hexafun.hexa.UseCaseInterceptor;
+import com.guinetik.hexafun.hexa.UseCaseKey;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Admission control for one use case: at most {@code maxConcurrent}
+ * invocations run at once, at most {@code maxQueued} more wait for a slot,
+ * and a waiting caller gives up after {@code maxWait}.
+ *
+ * <p>Rejected callers get a {@link ResilienceError} failure straight away
+ * instead of piling up, so one slow use case cannot take every worker
+ * thread. Configured with
+ * {@link com.guinetik.hexafun.hexa.UseCaseBuilder#bulkhead(com.guinetik.hexafun.hexa.UseCaseKey, int, int, Duration)}.
+ *
+ * <p>Example:
+ * <pre class="language-java">{@code
+ * Bulkhead bulkhead = new Bulkhead("export", 4, 16, Duration.ofMillis(200));
+ * Result<Report> report = bulkhead.execute(exportHandler, request);
+ * }</pre>
+ */
+public final class Bulkhead {
+
+    private final String name;
+    private final int maxConcurrent;
+    private final int maxQueued;
+    private final long maxWaitNanos;
+    private final Semaphore permits;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+
+    /**
+     * Create a bulkhead.
+     *
+     * @param name The use case name, used in rejection messages
+     * @param maxConcurrent How many invocations may run at once
+     * @param maxQueued How many callers may wait for a slot (0 rejects at once)
+     * @param maxWait How long a queued caller waits before giving up
+     * @throws IllegalArgumentException if a limit is out of range
+     */
+    public Bulkhead(String name, int maxConcurrent, int maxQueued, Duration maxWait) {
+        if (maxConcurrent <= 0) {
+            throw new IllegalArgumentException(
+                "Bulkhead concurrency must be positive: " + maxConcurrent
+            );
+        }
+        if (maxQueued < 0) {
+            throw new IllegalArgumentException(
+                "Bulkhead queue size cannot be negative: " + maxQueued
+            );
+        }
+        if (maxWait == null || maxWait.isNegative()) {
+            throw new IllegalArgumentException("Bulkhead wait must be zero or positive");
+        }
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueued = maxQueued;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.permits = new Semaphore(maxConcurrent, true);
+    }
+
+    /**
+     * Run a use case if a slot is free or becomes free in time.
+     *
+     * @param useCase The use case to run
+     * @param input Its input
+     * @param <I> Input type
+     * @param <T> Result value type
+     * @return The use case's result, or a failure if the call was rejected
+     */
+    public <I, T> Result<T> execute(UseCase<I, Result<T>> useCase, I input) {
+        if (!tryAcquireFair()) {
+            Result<T> rejection = awaitPermit();
+            if (rejection != null) {
+                return rejection;
+            }
+        }
+        admitted.increment();
+        try {
+            return useCase.apply(input);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Run an asynchronous use case if a slot is free or becomes free in time.
+     *
+     * <p>The slot is held until the returned future completes. When one is
+     * free no thread waits; otherwise the wait in the queue happens on
+     * {@code executor}.
+     *
+     * @param useCase The use case to run
+     * @param input Its input
+     * @param executor The executor selected for the use case
+     * @param <I> Input type
+     * @param <T> Result value type
+     * @return The use case's result, or a failure if the call was rejected
+     */
+    public <I, T> CompletableFuture<Result<T>> executeAsync(
+        AsyncUseCase<I, Result<T>> useCase,
+        I input,
+        Executor executor
+    ) {
+        if (tryAcquireFair()) {
+            return runHolding(useCase, input, executor);
+        }
+        return CompletableFuture.supplyAsync(() -> this.<T>awaitPermit(), executor)
+            .thenCompose(rejection -> rejection != null
+                ? CompletableFuture.completedFuture(rejection)
+                : runHolding(useCase, input, executor));
+    }
+
+    /**
+     * Create an interceptor that runs the rest of the chain through this
+     * bulkhead.
+     *
+     * @param <I> Input type
+     * @param <T> Result value type
+     * @return The admission interceptor
+     */
+    public <I, T> UseCaseInterceptor<I, Result<T>> interceptor() {
+        return new UseCaseInterceptor<>() {
+            @Override
+            public Result<T> intercept(
+                UseCaseKey<I, Result<T>> key,
+                I input,
+                UseCase<I, Result<T>> next
+            ) {
+                return execute(next, input);
+            }
+
+            @Override
+            public CompletableFuture<Result<T>> interceptAsync(
+                UseCaseKey<I, Result<T>> key,
+                I input,
+                AsyncUseCase<I, Result<T>> next,
+                Executor executor
+            ) {
+                return executeAsync(next, input, executor);
+            }
+        };
+    }
+
+    /**
+     * Get a snapshot of occupancy and rejection counters.
+     * @return The bulkhead statistics
+     */
+    public BulkheadStats stats() {
+        return new BulkheadStats(
+            maxConcurrent,
+            maxQueued,
+            maxConcurrent - permits.availablePermits(),
+            queued.get(),
+            admitted.sum(),
+            rejected.sum(),
+            timedOut.sum()
+        );
+    }
+
+    /** Run with a permit already held, releasing it on completion. */
+    private <I, T> CompletableFuture<Result<T>> runHolding(
+        AsyncUseCase<I, Result<T>> useCase,
+        I input,
+        Executor executor
+    ) {
+        admitted.increment();
+        CompletableFuture<Result<T>> result;
+        try {
+            result = useCase.applyAsync(input, executor);
+        } catch (RuntimeException | Error e) {
+            permits.release();
+            return CompletableFuture.failedFuture(e);
+        }
+        return result.whenComplete((value, error) -> permits.release());
+    }
+
+    /**
+     * Take a free permit without waiting. Unlike {@link Semaphore#tryAcquire()},
+     * the timed form honors fairness, so it never barges ahead of queued callers.
+     */
+    private boolean tryAcquireFair() {
+        try {
+            return permits.tryAcquire(0, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            // Let awaitPermit see the interrupt and reject
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Wait in the queue for a permit.
+     * @return null once a permit is held, or the rejection to return
+     */
+    private <T> Result<T> awaitPermit() {
+        if (queued.incrementAndGet() > maxQueued) {
+            queued.decrementAndGet();
+            rejected.increment();
+            return Result.fail(ResilienceError.BULKHEAD_FULL, name);
+        }
+        try {
+            if (permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+                return null;
+            }
+            timedOut.increment();
+            return Result.fail(ResilienceError.BULKHEAD_TIMEOUT, name);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            rejected.increment();
+            return Result.fail(ResilienceError.BULKHEAD_INTERRUPTED, name);
+        } finally {
+            queued.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.guinetik.hexafun.resilience;
+
+/**
+ * Point-in-time occupancy of a {@link Bulkhead}.
+ *
+ * @param maxConcurrent The concurrency limit
+ * @param maxQueued The wait queue limit
+ * @param active Invocations running now
+ * @param queued Callers waiting for a slot now
+ * @param admitted Invocations let through so far
+ * @param rejected Callers turned away because the queue was full
+ * @param timedOut Callers that gave up waiting
+ */
+public record BulkheadStats(
+    int maxConcurrent,
+    int maxQueued,
+    int active,
+    int queued,
+    long admitted,
+    long rejected,
+    long timedOut
+) {
+    /** Statistics for a use case without a bulkhead. */
+    public static final BulkheadStats EMPTY = new BulkheadStats(0, 0, 0, 0, 0, 0, 0);
+}
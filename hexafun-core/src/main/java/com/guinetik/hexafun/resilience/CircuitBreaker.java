@@ -0,0 +1,369 @@
+package com.guinetik.hexafun.resilience;
+
+import com.guinetik.hexafun.fun.Result;
+import com.guinetik.hexafun.hexa.PortInterceptor;
+import com.guinetik.hexafun.hexa.PortProxy;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Circuit breaker for port calls.
+ *
+ * <p>Outcomes of the last {@code windowSize} calls are kept in a sliding
+ * window. A call is a failure when it throws or returns a failed
+ * {@link Result}, and slow when it takes at least {@code slowCallDuration}.
+ * Once the window holds {@code minimumCalls} outcomes and either the
+ * failure rate or the slow-call rate reaches its threshold, the breaker
+ * opens: calls are rejected without reaching the port. After
+ * {@code openDuration} it lets {@code halfOpenCalls} probe calls through;
+ * if their rates are under the thresholds it closes again, otherwise it
+ * reopens.
+ *
+ * <p>A rejected call returns {@code Result.fail(...)} when the port method
+ * returns a {@link Result}, and throws {@link CircuitOpenException}
+ * otherwise.
+ *
+ * <p>Example:
+ * <pre class="language-java">{@code
+ * CircuitBreaker breaker = CircuitBreaker.builder("tasks")
+ *     .failureRateThreshold(0.5)
+ *     .slowCallThreshold(Duration.ofMillis(200), 0.8)
+ *     .slidingWindow(50, 10)
+ *     .openDuration(Duration.ofSeconds(10))
+ *     .build();
+ *
+ * HexaFun.dsl()
+ *     .withPort(TaskRepository.class, repo)
+ *     .circuitBreaker(TaskRepository.class, breaker)
+ *     ...
+ * }</pre>
+ */
+public final class CircuitBreaker {
+
+    /**
+     * Circuit breaker states.
+     */
+    public enum State {
+        /** Calls flow and outcomes are recorded. */
+        CLOSED,
+        /** Calls are rejected until the open duration has passed. */
+        OPEN,
+        /** A limited number of probe calls decide whether to close. */
+        HALF_OPEN,
+    }
+
+    private static final byte FAILED = 1;
+    private static final byte SLOW = 2;
+
+    private final String name;
+    private final double failureRateThreshold;
+    private final double slowCallRateThreshold;
+    private final long slowCallNanos;
+    private final int minimumCalls;
+    private final long openNanos;
+    private final int halfOpenCalls;
+
+    // Guarded by this
+    private final byte[] window;
+    private int windowCount;
+    private int windowNext;
+    private int windowFailures;
+    private int windowSlow;
+    private State state = State.CLOSED;
+    private long openUntil;
+    private int probesIssued;
+
+    private final LongAdder rejected = new LongAdder();
+
+    private CircuitBreaker(Builder builder) {
+        this.name = builder.name;
+        this.failureRateThreshold = builder.failureRateThreshold;
+        this.slowCallRateThreshold = builder.slowCallRateThreshold;
+        this.slowCallNanos = builder.slowCallDuration.toNanos();
+        this.minimumCalls = builder.minimumCalls;
+        this.openNanos = builder.openDuration.toNanos();
+        this.halfOpenCalls = builder.halfOpenCalls;
+        this.window = new byte[builder.windowSize];
+    }
+
+    /**
+     * Start configuring a circuit breaker. Defaults: 50% failure rate,
+     * 100% slow-call rate at 60 seconds (slow calls effectively ignored),
+     * a window of 100 calls with at least 10 recorded, 30 seconds open and
+     * 5 half-open probes.
+     *
+     * @param name The breaker name, used in rejection messages
+     * @return A new builder
+     */
+    public static Builder builder(String name) {
+        return new Builder(name);
+    }
+
+    /**
+     * Wrap a port implementation so every call goes through this breaker.
+     *
+     * @param type The port interface
+     * @param impl The real implementation
+     * @param <T> The port type
+     * @return A guarded proxy, or {@code impl} if {@code type} is not an interface
+     */
+    public <T> T decorate(Class<T> type, T impl) {
+        return PortProxy.decorate(type, impl, List.of(portInterceptor()));
+    }
+
+    /**
+     * Create a port interceptor that guards calls with this breaker.
+     *
+     * @return The guarding interceptor
+     */
+    public PortInterceptor portInterceptor() {
+        return (port, method, args, call) -> {
+            if (!tryAcquire()) {
+                rejected.increment();
+                return reject(method);
+            }
+            long start = System.nanoTime();
+            Object out;
+            try {
+                out = call.proceed();
+            } catch (Throwable t) {
+                onComplete(System.nanoTime() - start, true);
+                throw t;
+            }
+            onComplete(
+                System.nanoTime() - start,
+                out instanceof Result<?> result && result.isFailure()
+            );
+            return out;
+        };
+    }
+
+    /**
+     * Get the breaker name.
+     * @return The name
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Get the current state. An open breaker whose open duration has passed
+     * still reports {@link State#OPEN} until the next call probes it.
+     * @return The state
+     */
+    public synchronized State state() {
+        return state;
+    }
+
+    /**
+     * Get the failure rate over the calls in the current window.
+     * @return The rate from 0 to 1, or 0 if the window is empty
+     */
+    public synchronized double failureRate() {
+        return windowCount == 0 ? 0 : (double) windowFailures / windowCount;
+    }
+
+    /**
+     * Get the slow-call rate over the calls in the current window.
+     * @return The rate from 0 to 1, or 0 if the window is empty
+     */
+    public synchronized double slowCallRate() {
+        return windowCount == 0 ? 0 : (double) windowSlow / windowCount;
+    }
+
+    /**
+     * Get the number of calls rejected without reaching the port.
+     * @return The rejected call count
+     */
+    public long rejectedCalls() {
+        return rejected.sum();
+    }
+
+    private synchronized boolean tryAcquire() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openUntil < 0) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            probesIssued = 0;
+            clearWindow();
+        }
+        if (probesIssued < halfOpenCalls) {
+            probesIssued++;
+            return true;
+        }
+        return false;
+    }
+
+    private synchronized void onComplete(long nanos, boolean failed) {
+        byte outcome = (byte) ((failed ? FAILED : 0) | (nanos >= slowCallNanos ? SLOW : 0));
+        if (state == State.OPEN) {
+            // Call admitted before the breaker opened
+            return;
+        }
+        record(outcome);
+        if (state == State.HALF_OPEN) {
+            if (windowCount >= halfOpenCalls) {
+                if (tripped()) {
+                    open();
+                } else {
+                    state = State.CLOSED;
+                    clearWindow();
+                }
+            }
+        } else if (windowCount >= minimumCalls && tripped()) {
+            open();
+        }
+    }
+
+    private void record(byte outcome) {
+        if (windowCount == window.length) {
+            byte evicted = window[windowNext];
+            windowFailures -= evicted & FAILED;
+            windowSlow -= (evicted & SLOW) >> 1;
+        } else {
+            windowCount++;
+        }
+        window[windowNext] = outcome;
+        windowNext = (windowNext + 1) % window.length;
+        windowFailures += outcome & FAILED;
+        windowSlow += (outcome & SLOW) >> 1;
+    }
+
+    private boolean tripped() {
+        return (double) windowFailures / windowCount >= failureRateThreshold
+            || (double) windowSlow / windowCount >= slowCallRateThreshold;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openUntil = System.nanoTime() + openNanos;
+        clearWindow();
+    }
+
+    private void clearWindow() {
+        windowCount = 0;
+        windowNext = 0;
+        windowFailures = 0;
+        windowSlow = 0;
+    }
+
+    private Object reject(Method method) {
+        if (method.getReturnType() == Result.class) {
+            return Result.fail(ResilienceError.CIRCUIT_OPEN, name);
+        }
+        throw new CircuitOpenException(name);
+    }
+
+    /**
+     * Fluent configuration for a {@link CircuitBreaker}.
+     */
+    public static final class Builder {
+
+        private final String name;
+        private double failureRateThreshold = 0.5;
+        private double slowCallRateThreshold = 1.0;
+        private Duration slowCallDuration = Duration.ofSeconds(60);
+        private int windowSize = 100;
+        private int minimumCalls = 10;
+        private Duration openDuration = Duration.ofSeconds(30);
+        private int halfOpenCalls = 5;
+
+        private Builder(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Open when at least this fraction of calls fail.
+         *
+         * @param rate The threshold, from 0 (exclusive) to 1
+         * @return This builder
+         */
+        public Builder failureRateThreshold(double rate) {
+            this.failureRateThreshold = checkRate(rate);
+            return this;
+        }
+
+        /**
+         * Open when at least {@code rate} of calls take {@code duration} or longer.
+         *
+         * @param duration What counts as a slow call
+         * @param rate The threshold, from 0 (exclusive) to 1
+         * @return This builder
+         */
+        public Builder slowCallThreshold(Duration duration, double rate) {
+            if (duration == null || duration.isNegative() || duration.isZero()) {
+                throw new IllegalArgumentException("Slow call duration must be positive");
+            }
+            this.slowCallDuration = duration;
+            this.slowCallRateThreshold = checkRate(rate);
+            return this;
+        }
+
+        /**
+         * Size the sliding window.
+         *
+         * @param size How many recent calls the rates are computed over
+         * @param minimumCalls How many calls are needed before the breaker may open
+         * @return This builder
+         */
+        public Builder slidingWindow(int size, int minimumCalls) {
+            if (size <= 0 || minimumCalls <= 0 || minimumCalls > size) {
+                throw new IllegalArgumentException(
+                    "Window size and minimum calls must be positive, with minimum <= size"
+                );
+            }
+            this.windowSize = size;
+            this.minimumCalls = minimumCalls;
+            return this;
+        }
+
+        /**
+         * Set how long the breaker stays open before probing.
+         *
+         * @param duration The open duration
+         * @return This builder
+         */
+        public Builder openDuration(Duration duration) {
+            if (duration == null || duration.isNegative()) {
+                throw new IllegalArgumentException("Open duration cannot be negative");
+            }
+            this.openDuration = duration;
+            return this;
+        }
+
+        /**
+         * Set how many probe calls are let through when half-open.
+         *
+         * @param calls The number of probe calls
+         * @return This builder
+         */
+        public Builder halfOpenCalls(int calls) {
+            if (calls <= 0) {
+                throw new IllegalArgumentException("Half-open calls must be positive: " + calls);
+            }
+            this.halfOpenCalls = calls;
+            return this;
+        }
+
+        /**
+         * Create the circuit breaker.
+         * @return A new, closed circuit breaker
+         */
+        public CircuitBreaker build() {
+            return new CircuitBreaker(this);
+        }
+
+        private static double checkRate(double rate) {
+            if (!(rate > 0.0 && rate <= 1.0)) {
+                throw new IllegalArgumentException("Rate must be in (0, 1]: " + rate);
+            }
+            return rate;
+        }
+    }
+}
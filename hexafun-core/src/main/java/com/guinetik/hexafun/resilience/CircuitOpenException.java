@@ -0,0 +1,37 @@
+package com.guinetik.hexafun.resilience;
+
+/**
+ * Thrown by a port guarded by an open {@link CircuitBreaker} when the
+ * called method does not return a {@link com.guinetik.hexafun.fun.Result}
+ * that the rejection could be reported through.
+ *
+ * <p>Use cases returning a {@code Result} on a builder with circuit
+ * breakers turn this exception into a failed {@code Result}; see
+ * {@link com.guinetik.hexafun.hexa.UseCaseBuilder#circuitBreaker(Class, CircuitBreaker)}.
+ */
+public class CircuitOpenException extends RuntimeException {
+
+    private final String breaker;
+
+    /**
+     * @param breaker The name of the open circuit breaker
+     */
+    public CircuitOpenException(String breaker) {
+        this.breaker = breaker;
+    }
+
+    /**
+     * Get the name of the open circuit breaker, the parameter of
+     * {@link ResilienceError#CIRCUIT_OPEN}.
+     *
+     * @return The breaker name
+     */
+    public String breaker() {
+        return breaker;
+    }
+
+    @Override
+    public String getMessage() {
+        return ResilienceError.CIRCUIT_OPEN.render(breaker);
+    }
+}
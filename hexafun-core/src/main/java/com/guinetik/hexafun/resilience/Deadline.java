@@ -0,0 +1,223 @@
+package com.guinetik.hexafun.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * A point in time by which an invocation must finish.
+ *
+ * <p>Deadlines are scoped to the running thread: code executed through
+ * {@link #execute(Executor, Supplier, Supplier)} sees this deadline as
+ * {@link #current()}, and so does everything it calls on that thread,
+ * including nested use cases. Nested deadlines can only shorten the
+ * budget, never extend it. Handlers can use {@link #remaining()} to skip
+ * work that can no longer finish in time:
+ * <pre class="language-java">{@code
+ * Deadline deadline = Deadline.current();
+ * if (deadline != null && deadline.remaining().compareTo(Duration.ofMillis(50)) < 0) {
+ *     return Result.fail("Not enough time to rebuild the index");
+ * }
+ * }</pre>
+ *
+ * @see com.guinetik.hexafun.HexaApp#invoke(com.guinetik.hexafun.hexa.UseCaseKey, Object, Duration)
+ */
+public final class Deadline {
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private final long expiresAtNanos;
+
+    private Deadline(long expiresAtNanos) {
+        this.expiresAtNanos = expiresAtNanos;
+    }
+
+    /**
+     * Create a deadline some time from now.
+     *
+     * @param budget How long from now the deadline falls
+     * @return The new deadline
+     * @throws IllegalArgumentException if budget is null or negative
+     */
+    public static Deadline after(Duration budget) {
+        if (budget == null || budget.isNegative()) {
+            throw new IllegalArgumentException("Deadline budget must be zero or positive");
+        }
+        return new Deadline(System.nanoTime() + saturatedNanos(budget));
+    }
+
+    /**
+     * Get the deadline of the invocation running on this thread.
+     *
+     * @return The current deadline, or null if there is none
+     */
+    public static Deadline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Throw if the current deadline, if any, has passed.
+     *
+     * @param what What is about to be done, for the exception message
+     * @throws DeadlineExceededException if the current deadline has passed
+     */
+    public static void checkCurrent(String what) {
+        Deadline deadline = CURRENT.get();
+        if (deadline != null && deadline.isExpired()) {
+            throw new DeadlineExceededException("Deadline exceeded before " + what);
+        }
+    }
+
+    /**
+     * Get the time left before this deadline.
+     *
+     * @return The remaining budget, {@link Duration#ZERO} once expired
+     */
+    public Duration remaining() {
+        return Duration.ofNanos(remainingNanos());
+    }
+
+    /**
+     * Get the time left before this deadline, in nanoseconds.
+     *
+     * @return The remaining nanoseconds, 0 once expired
+     */
+    public long remainingNanos() {
+        return Math.max(0, expiresAtNanos - System.nanoTime());
+    }
+
+    /**
+     * Check whether this deadline has passed.
+     *
+     * @return true if no time is left
+     */
+    public boolean isExpired() {
+        return expiresAtNanos - System.nanoTime() <= 0;
+    }
+
+    /**
+     * Pick the earlier of this deadline and another.
+     *
+     * @param other Another deadline (may be null)
+     * @return Whichever deadline falls first
+     */
+    public Deadline earliest(Deadline other) {
+        return other == null || expiresAtNanos - other.expiresAtNanos <= 0 ? this : other;
+    }
+
+    /**
+     * Run work on an executor within this deadline, waiting at most until
+     * the deadline for it to finish.
+     *
+     * <p>The work sees this deadline as {@link #current()}. If it does not
+     * finish in time, or throws {@link DeadlineExceededException}, the
+     * result of {@code onTimeout} is returned instead; the worker thread is
+     * interrupted so blocking calls can stop early. Other exceptions are
+     * rethrown to the caller.
+     *
+     * @param executor Where to run the work
+     * @param work The work
+     * @param onTimeout Produces the value to return when time runs out
+     * @param <T> The result type
+     * @return The work's result, or the timeout value
+     */
+    public <T> T execute(Executor executor, Supplier<T> work, Supplier<T> onTimeout) {
+        if (isExpired()) {
+            return onTimeout.get();
+        }
+        Worker<T> worker = new Worker<>(this, work);
+        CompletableFuture<T> future = CompletableFuture.supplyAsync(worker, executor);
+        try {
+            return future.get(remainingNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            worker.interrupt();
+            return onTimeout.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            worker.interrupt();
+            return onTimeout.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() instanceof CompletionException
+                ? e.getCause().getCause()
+                : e.getCause();
+            if (cause instanceof DeadlineExceededException) {
+                return onTimeout.get();
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private static long saturatedNanos(Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE / 2;
+        }
+    }
+
+    /**
+     * Runs work in the deadline's scope and lets the waiting caller
+     * interrupt it, but only while it is still running.
+     */
+    private static final class Worker<T> implements Supplier<T> {
+
+        private final Deadline deadline;
+        private final Supplier<T> work;
+        private Thread thread;
+        private boolean done;
+        private boolean interrupted;
+
+        Worker(Deadline deadline, Supplier<T> work) {
+            this.deadline = deadline;
+            this.work = work;
+        }
+
+        @Override
+        public T get() {
+            synchronized (this) {
+                if (done) {
+                    throw new DeadlineExceededException("Deadline exceeded before start");
+                }
+                thread = Thread.currentThread();
+            }
+            Deadline previous = CURRENT.get();
+            CURRENT.set(deadline.earliest(previous));
+            try {
+                return work.get();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+                synchronized (this) {
+                    done = true;
+                    thread = null;
+                    if (interrupted) {
+                        // Don't leak our interrupt into the pool's next task
+                        Thread.interrupted();
+                    }
+                }
+            }
+        }
+
+        synchronized void interrupt() {
+            if (thread != null) {
+                thread.interrupt();
+                interrupted = true;
+            }
+            done = true;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.guinetik.hexafun.resilience;
+
+/**
+ * Thrown when work is attempted after the current {@link Deadline} has
+ * passed, for example when a handler looks up a port too late.
+ *
+ * <p>{@link com.guinetik.hexafun.HexaApp#invoke(com.guinetik.hexafun.hexa.UseCaseKey, Object, java.time.Duration)}
+ * turns it into a timeout {@code Result.fail}.
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+    /**
+     * @param message What could not be done in time
+     */
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,30 @@
+package com.guinetik.hexafun.resilience;
+
+import com.guinetik.hexafun.fun.ErrorCode;
+
+/**
+ * Failure codes for calls rejected by a bulkhead, circuit breaker or
+ * deadline.
+ *
+ * <p>Rejections are cheapest exactly when they matter most: under overload
+ * a bulkhead may turn away most callers, and none of those failures render
+ * a message unless someone reads {@code error()}.
+ */
+public enum ResilienceError implements ErrorCode {
+    BULKHEAD_FULL("Bulkhead full for use case: {0}"),
+    BULKHEAD_TIMEOUT("Timed out waiting for bulkhead of use case: {0}"),
+    BULKHEAD_INTERRUPTED("Interrupted waiting for bulkhead of use case: {0}"),
+    CIRCUIT_OPEN("Circuit breaker '{0}' is open"),
+    DEADLINE_EXCEEDED("Deadline exceeded for use case: {0}");
+
+    private final String template;
+
+    ResilienceError(String template) {
+        this.template = template;
+    }
+
+    @Override
+    public String template() {
+        return template;
+    }
+}
@@ -0,0 +1,82 @@
+package com.guinetik.hexafun.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caps retries to a fraction of calls, so retries cannot multiply load on
+ * a backend that is already failing.
+ *
+ * <p>Each call deposits {@code ratio} tokens, up to {@code maxTokens}; each
+ * retry withdraws one. With a ratio of 0.2, sustained retries are limited
+ * to 20% extra traffic, while {@code maxTokens} allows short bursts. The
+ * budget starts full. A budget can be shared by several policies to cap
+ * retries against one backend as a whole.
+ *
+ * <p>Example:
+ * <pre class="language-java">{@code
+ * RetryBudget budget = RetryBudget.of(0.2, 10);
+ * }</pre>
+ */
+public final class RetryBudget {
+
+    private static final long SCALE = 1000;
+
+    private final long depositMillis;
+    private final long capMillis;
+    private final AtomicLong tokens;
+
+    private RetryBudget(double ratio, int maxTokens) {
+        this.depositMillis = Math.round(ratio * SCALE);
+        this.capMillis = maxTokens * SCALE;
+        this.tokens = new AtomicLong(capMillis);
+    }
+
+    /**
+     * Create a budget.
+     *
+     * @param ratio Retries allowed per call, e.g. 0.2
+     * @param maxTokens The most retries that can be saved up
+     * @return A new, full budget
+     * @throws IllegalArgumentException if ratio is negative or maxTokens is not positive
+     */
+    public static RetryBudget of(double ratio, int maxTokens) {
+        if (!(ratio >= 0.0) || maxTokens <= 0) {
+            throw new IllegalArgumentException(
+                "Retry budget needs a ratio >= 0 and a positive token cap"
+            );
+        }
+        return new RetryBudget(ratio, maxTokens);
+    }
+
+    /**
+     * Get the retries that could be made right now.
+     * @return The whole tokens available
+     */
+    public long available() {
+        return tokens.get() / SCALE;
+    }
+
+    void deposit() {
+        if (depositMillis == 0) {
+            return;
+        }
+        long current;
+        do {
+            current = tokens.get();
+            if (current >= capMillis) {
+                return;
+            }
+        } while (!tokens.compareAndSet(current, Math.min(capMillis, current + depositMillis)));
+    }
+
+    boolean tryWithdraw() {
+        long current;
+        do {
+            current = tokens.get();
+            if (current < SCALE) {
+                return false;
+            }
+        } while (!tokens.compareAndSet(current, current - SCALE));
+        return true;
+    }
+}
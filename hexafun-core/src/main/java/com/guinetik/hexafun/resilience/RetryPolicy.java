@@ -0,0 +1,99 @@
+package com.guinetik.hexafun.resilience;
+
+import com.guinetik.hexafun.fun.Result;
+import java.util.function.Predicate;
+
+/**
+ * When and how a failed {@link Result} is retried.
+ *
+ * <p>Only failed results matching {@code retryOn} are retried; successes
+ * and thrown exceptions are returned as they are.
+ *
+ * <p>Example:
+ * <pre class="language-java">{@code
+ * RetryPolicy policy = RetryPolicy.of(
+ *         4,
+ *         Backoff.exponential(Duration.ofMillis(50), Duration.ofSeconds(1)),
+ *         result -> result.error().startsWith("Unavailable"))
+ *     .withBudget(RetryBudget.of(0.2, 10));
+ * }</pre>
+ */
+public final class RetryPolicy {
+
+    private final int maxAttempts;
+    private final Backoff backoff;
+    private final Predicate<? super Result<?>> retryOn;
+    private final RetryBudget budget;
+
+    private RetryPolicy(
+        int maxAttempts,
+        Backoff backoff,
+        Predicate<? super Result<?>> retryOn,
+        RetryBudget budget
+    ) {
+        this.maxAttempts = maxAttempts;
+        this.backoff = backoff;
+        this.retryOn = retryOn;
+        this.budget = budget;
+    }
+
+    /**
+     * Create a policy without a retry budget.
+     *
+     * @param maxAttempts Total attempts, including the first
+     * @param backoff The delay before each retry
+     * @param retryOn Which failed results are worth retrying
+     * @return A new policy
+     * @throws IllegalArgumentException if maxAttempts is not positive
+     */
+    public static RetryPolicy of(
+        int maxAttempts,
+        Backoff backoff,
+        Predicate<? super Result<?>> retryOn
+    ) {
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException(
+                "Retry attempts must be positive: " + maxAttempts
+            );
+        }
+        return new RetryPolicy(maxAttempts, backoff, retryOn, null);
+    }
+
+    /**
+     * Copy this policy with a retry budget.
+     *
+     * @param budget The budget retries draw from
+     * @return A new policy
+     */
+    public RetryPolicy withBudget(RetryBudget budget) {
+        return new RetryPolicy(maxAttempts, backoff, retryOn, budget);
+    }
+
+    /**
+     * Get the total number of attempts, including the first.
+     * @return The attempt limit
+     */
+    public int maxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Get the backoff between attempts.
+     * @return The backoff
+     */
+    public Backoff backoff() {
+        return backoff;
+    }
+
+    /**
+     * Get the budget retries draw from.
+     * @return The budget, or null if retries are unlimited
+     */
+    public RetryBudget budget() {
+        return budget;
+    }
+
+    boolean shouldRetry(Result<?> result) {
+        return result.isFailure() && retryOn.test(result);
+    }
+}
@@ -0,0 +1,21 @@
+package com.guinetik.hexafun.resilience;
+
+/**
+ * Counters for a retrying use case.
+ *
+ * @param calls Invocations of the use case
+ * @param attempts Attempts made, including first attempts
+ * @param retries Attempts after the first
+ * @param exhausted Invocations that still failed after the last attempt
+ * @param budgetDenied Retries skipped because the retry budget was empty
+ */
+public record RetryStats(
+    long calls,
+    long attempts,
+    long retries,
+    long exhausted,
+    long budgetDenied
+) {
+    /** Statistics for a use case without retries. */
+    public static final RetryStats EMPTY = new RetryStats(0, 0, 0, 0, 0);
+}
@@ -0,0 +1,164 @@
+package com.guinetik.hexafun.resilience;
+
+import com.guinetik.hexafun.fun.Result;
+import com.guinetik.hexafun.hexa.AsyncUseCase;
+import com.guinetik.hexafun.hexa.UseCase;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs a Result-returning use case again when it fails, following a
+ * {@link RetryPolicy}.
+ *
+ * <p>Synchronous calls sleep between attempts. Asynchronous calls schedule
+ * the next attempt with {@link CompletableFuture#delayedExecutor}, so no
+ * thread is held while waiting, and an {@link AsyncUseCase} delegate is
+ * run through its own {@code applyAsync}. Retrying also stops early when the
+ * next delay would run past the caller's current {@link Deadline}.
+ *
+ * <p>Installed by
+ * {@link com.guinetik.hexafun.hexa.UseCaseBuilder#retry(com.guinetik.hexafun.hexa.UseCaseKey, RetryPolicy)}.
+ *
+ * @param <I> The input type
+ * @param <T> The success value type
+ */
+public final class RetryingUseCase<I, T> implements AsyncUseCase<I, Result<T>> {
+
+    private final UseCase<I, Result<T>> delegate;
+    private final RetryPolicy policy;
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder attempts = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder exhausted = new LongAdder();
+    private final LongAdder budgetDenied = new LongAdder();
+
+    /**
+     * @param delegate The use case to retry
+     * @param policy When and how to retry
+     */
+    public RetryingUseCase(UseCase<I, Result<T>> delegate, RetryPolicy policy) {
+        this.delegate = delegate;
+        this.policy = policy;
+    }
+
+    @Override
+    public Result<T> apply(I input) {
+        begin();
+        for (int attempt = 1;; attempt++) {
+            attempts.increment();
+            Result<T> result = delegate.apply(input);
+            long delay = nextDelay(result, attempt, Deadline.current());
+            if (delay < 0 || (delay > 0 && !sleep(delay))) {
+                return result;
+            }
+        }
+    }
+
+    @Override
+    public CompletableFuture<Result<T>> applyAsync(I input, Executor executor) {
+        begin();
+        CompletableFuture<Result<T>> promise = new CompletableFuture<>();
+        // Continuations run on other threads, so the caller's deadline is captured here
+        attemptAsync(input, executor, Deadline.current(), 1, promise);
+        return promise;
+    }
+
+    /**
+     * Get a snapshot of the retry counters.
+     * @return The retry statistics
+     */
+    public RetryStats stats() {
+        return new RetryStats(
+            calls.sum(),
+            attempts.sum(),
+            retries.sum(),
+            exhausted.sum(),
+            budgetDenied.sum()
+        );
+    }
+
+    private void begin() {
+        calls.increment();
+        if (policy.budget() != null) {
+            policy.budget().deposit();
+        }
+    }
+
+    private void attemptAsync(
+        I input,
+        Executor executor,
+        Deadline deadline,
+        int attempt,
+        CompletableFuture<Result<T>> promise
+    ) {
+        attempts.increment();
+        start(input, executor).whenComplete((result, error) -> {
+            if (error != null) {
+                promise.completeExceptionally(
+                    error instanceof CompletionException ? error.getCause() : error
+                );
+                return;
+            }
+            long delay = nextDelay(result, attempt, deadline);
+            if (delay < 0) {
+                promise.complete(result);
+            } else if (delay == 0) {
+                attemptAsync(input, executor, deadline, attempt + 1, promise);
+            } else {
+                CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS, executor).execute(
+                    () -> attemptAsync(input, executor, deadline, attempt + 1, promise)
+                );
+            }
+        });
+    }
+
+    /** Start one attempt, natively when the delegate is asynchronous. */
+    private CompletableFuture<Result<T>> start(I input, Executor executor) {
+        if (delegate instanceof AsyncUseCase<I, Result<T>> async) {
+            try {
+                return async.applyAsync(input, executor);
+            } catch (RuntimeException | Error e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+        return CompletableFuture.supplyAsync(() -> delegate.apply(input), executor);
+    }
+
+    /**
+     * Decide whether to retry after an attempt.
+     * @return The delay before the next attempt, or -1 to stop
+     */
+    private long nextDelay(Result<T> result, int attempt, Deadline deadline) {
+        if (!policy.shouldRetry(result)) {
+            return -1;
+        }
+        if (attempt >= policy.maxAttempts()) {
+            exhausted.increment();
+            return -1;
+        }
+        long delay = policy.backoff().delayNanos(attempt);
+        if (deadline != null && deadline.remainingNanos() <= delay) {
+            return -1;
+        }
+        RetryBudget budget = policy.budget();
+        if (budget != null && !budget.tryWithdraw()) {
+            budgetDenied.increment();
+            return -1;
+        }
+        retries.increment();
+        return delay;
+    }
+
+    private static boolean sleep(long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.guinetik.hexafun.trace;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes each trace as one line of OTLP/JSON to a local file.
+ *
+ * <p>Every line is a complete {@code ExportTraceServiceRequest} in the
+ * OpenTelemetry protocol's JSON encoding, so the file can be replayed into
+ * an OpenTelemetry Collector (for example with its {@code otlpjsonfile}
+ * receiver) or read line by line with any JSON tool.
+ *
+ * <p>Example:
+ * <pre class="language-java">{@code
+ * try (OtlpJsonFileSink sink = new OtlpJsonFileSink(Path.of("traces.jsonl"), "tasks")) {
+ *     HexaApp app = HexaFun.dsl()
+ *         .withTracer(Tracer.create(sink))
+ *         ...
+ * }
+ * }</pre>
+ */
+public final class OtlpJsonFileSink implements TraceSink, Closeable {
+
+    private static final int SPAN_KIND_INTERNAL = 1;
+    private static final int SPAN_KIND_CLIENT = 3;
+    private static final int STATUS_OK = 1;
+    private static final int STATUS_ERROR = 2;
+
+    private final BufferedWriter writer;
+    private final String serviceName;
+
+    /**
+     * Open a sink appending to the given file, with service name "hexafun".
+     *
+     * @param file The file to append to; created if missing
+     * @throws UncheckedIOException if the file cannot be opened
+     */
+    public OtlpJsonFileSink(Path file) {
+        this(file, "hexafun");
+    }
+
+    /**
+     * Open a sink appending to the given file.
+     *
+     * @param file The file to append to; created if missing
+     * @param serviceName The {@code service.name} resource attribute
+     * @throws UncheckedIOException if the file cannot be opened
+     */
+    public OtlpJsonFileSink(Path file, String serviceName) {
+        this.serviceName = serviceName;
+        try {
+            this.writer = Files.newBufferedWriter(
+                file,
+                StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND
+            );
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void export(List<Span> spans) {
+        String line = toJson(spans);
+        synchronized (writer) {
+            try {
+                writer.write(line);
+                writer.newLine();
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (writer) {
+            writer.close();
+        }
+    }
+
+    /**
+     * Render a trace as a single-line OTLP/JSON export request.
+     */
+    String toJson(List<Span> spans) {
+        StringBuilder out = new StringBuilder(256 + spans.size() * 256);
+        out.append("{\"resourceSpans\":[{\"resource\":{\"attributes\":[");
+        attribute(out, "service.name", serviceName);
+        out.append("]},\"scopeSpans\":[{\"scope\":{\"name\":\"hexafun\"},\"spans\":[");
+        for (int i = 0; i < spans.size(); i++) {
+            if (i > 0) {
+                out.append(',');
+            }
+            span(out, spans.get(i));
+        }
+        out.append("]}]}]}");
+        return out.toString();
+    }
+
+    private static void span(StringBuilder out, Span span) {
+        out.append("{\"traceId\":\"").append(span.traceId())
+            .append("\",\"spanId\":\"").append(span.spanId()).append('"');
+        if (span.parentSpanId() != null) {
+            out.append(",\"parentSpanId\":\"").append(span.parentSpanId()).append('"');
+        }
+        out.append(",\"name\":");
+        string(out, span.name());
+        out.append(",\"kind\":")
+            .append(span.kind() == SpanKind.PORT ? SPAN_KIND_CLIENT : SPAN_KIND_INTERNAL)
+            .append(",\"startTimeUnixNano\":\"").append(span.startEpochNanos())
+            .append("\",\"endTimeUnixNano\":\"").append(span.endEpochNanos())
+            .append("\",\"attributes\":[");
+        attribute(out, "hexafun.kind", span.kind().name());
+        for (Map.Entry<String, String> entry : span.attributes().entrySet()) {
+            out.append(',');
+            attribute(out, entry.getKey(), entry.getValue());
+        }
+        out.append("],\"status\":{");
+        if (span.isError()) {
+            out.append("\"code\":").append(STATUS_ERROR).append(",\"message\":");
+            string(out, span.error());
+        } else {
+            out.append("\"code\":").append(STATUS_OK);
+        }
+        out.append("}}");
+    }
+
+    private static void attribute(StringBuilder out, String key, String value) {
+        out.append("{\"key\":");
+        string(out, key);
+        out.append(",\"value\":{\"stringValue\":");
+        string(out, value);
+        out.append("}}");
+    }
+
+    private static void string(StringBuilder out, String value) {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+        out.append('"');
+    }
+}
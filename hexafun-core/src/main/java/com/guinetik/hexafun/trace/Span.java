@@ -0,0 +1,195 @@
+package com.guinetik.hexafun.trace;
+
+import com.guinetik.hexafun.fun.ErrorCode;
+import com.guinetik.hexafun.fun.Result;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One timed operation inside a trace.
+ *
+ * <p>Spans are created and ended by {@link Tracer}; sinks only read them.
+ * Timestamps are nanoseconds since the Unix epoch, derived from a monotonic
+ * clock so durations are exact.
+ */
+public final class Span {
+
+    private final String traceId;
+    private final String spanId;
+    private final String parentSpanId;
+    private final String name;
+    private final SpanKind kind;
+    private final long startEpochNanos;
+    private final Map<String, String> attributes = new LinkedHashMap<>();
+    private long endEpochNanos;
+    private String error;
+    // A failed Result is kept as is and only rendered if the error is read
+    private Result<?> failure;
+
+    final Span parent;
+    final Trace trace;
+
+    Span(
+        Trace trace,
+        Span parent,
+        String spanId,
+        String name,
+        SpanKind kind,
+        long startEpochNanos
+    ) {
+        this.trace = trace;
+        this.parent = parent;
+        this.traceId = trace == null ? null : trace.traceId;
+        this.spanId = spanId;
+        this.parentSpanId = parent == null ? null : parent.spanId;
+        this.name = name;
+        this.kind = kind;
+        this.startEpochNanos = startEpochNanos;
+    }
+
+    /**
+     * Get the 32-character hex id shared by every span of the trace.
+     * @return The trace id
+     */
+    public String traceId() {
+        return traceId;
+    }
+
+    /**
+     * Get this span's 16-character hex id.
+     * @return The span id
+     */
+    public String spanId() {
+        return spanId;
+    }
+
+    /**
+     * Get the id of the enclosing span.
+     * @return The parent span id, or null for the root span
+     */
+    public String parentSpanId() {
+        return parentSpanId;
+    }
+
+    /**
+     * Get the span name, e.g. {@code createTask} or {@code TaskRepository.findById}.
+     * @return The span name
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Get what kind of operation this span covers.
+     * @return The span kind
+     */
+    public SpanKind kind() {
+        return kind;
+    }
+
+    /**
+     * Get the start time.
+     * @return Nanoseconds since the Unix epoch
+     */
+    public long startEpochNanos() {
+        return startEpochNanos;
+    }
+
+    /**
+     * Get the end time.
+     * @return Nanoseconds since the Unix epoch, or 0 if still open
+     */
+    public long endEpochNanos() {
+        return endEpochNanos;
+    }
+
+    /**
+     * Get the span duration.
+     * @return The duration in nanoseconds
+     */
+    public long durationNanos() {
+        return endEpochNanos - startEpochNanos;
+    }
+
+    /**
+     * Check whether the operation failed, by throwing or returning a
+     * failed {@code Result}.
+     * @return true if the span recorded an error
+     */
+    public boolean isError() {
+        return error != null || failure != null;
+    }
+
+    /**
+     * Get the recorded error message. A failed {@code Result}'s message is
+     * rendered here, on first read, rather than when the span ended.
+     * @return The error, or null if the operation succeeded
+     */
+    public String error() {
+        String rendered = error;
+        if (rendered == null && failure != null) {
+            rendered = failure.error();
+            error = rendered;
+        }
+        return rendered;
+    }
+
+    /**
+     * Get the error code of a failed {@code Result} output.
+     * @return The code, or null if the operation succeeded or threw
+     */
+    public ErrorCode errorCode() {
+        return failure == null ? null : failure.errorCode();
+    }
+
+    /**
+     * Get the template parameters of a failed {@code Result} output.
+     * @return The parameters, empty if there are none or there was no failed Result
+     */
+    public List<Object> errorParams() {
+        return failure instanceof Result.Failure<?> f ? f.params() : List.of();
+    }
+
+    /**
+     * Get the span attributes.
+     * @return An unmodifiable view of the attributes, in insertion order
+     */
+    public Map<String, String> attributes() {
+        return Collections.unmodifiableMap(attributes);
+    }
+
+    /**
+     * Attach an attribute to this span. Ignored on unsampled spans.
+     *
+     * @param key The attribute name
+     * @param value The attribute value
+     * @return This span for chaining
+     */
+    public Span attribute(String key, String value) {
+        if (trace != null) {
+            attributes.put(key, value);
+        }
+        return this;
+    }
+
+    /**
+     * Check whether this span is being recorded.
+     * @return false for spans of unsampled traces
+     */
+    public boolean isRecording() {
+        return trace != null;
+    }
+
+    void end(long endEpochNanos, String error, Result<?> failure) {
+        this.endEpochNanos = endEpochNanos;
+        this.error = error;
+        this.failure = failure;
+    }
+
+    @Override
+    public String toString() {
+        return "Span[" + kind + " " + name + " " + spanId + "]";
+    }
+}
@@ -0,0 +1,17 @@
+package com.guinetik.hexafun.trace;
+
+/**
+ * What part of the hexagon a {@link Span} covers.
+ */
+public enum SpanKind {
+    /** A use case invocation, including its interceptors. */
+    USE_CASE,
+    /** The validation stage of a validated use case. */
+    VALIDATION,
+    /** The handler stage of a validated use case. */
+    HANDLER,
+    /** A call on a port, such as {@code TaskRepository.findById}. */
+    PORT,
+    /** An adapter transformation. */
+    ADAPTER,
+}
@@ -0,0 +1,18 @@
+package com.guinetik.hexafun.trace;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * The spans collected for one sampled root invocation.
+ */
+final class Trace {
+
+    final String traceId;
+    // Asynchronous spans end on whichever thread completes them
+    final Queue<Span> finished = new ConcurrentLinkedQueue<>();
+
+    Trace(String traceId) {
+        this.traceId = traceId;
+    }
+}
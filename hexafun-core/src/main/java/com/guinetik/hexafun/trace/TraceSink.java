@@ -0,0 +1,24 @@
+package com.guinetik.hexafun.trace;
+
+import java.util.List;
+
+/**
+ * Destination for finished traces.
+ *
+ * <p>A sink receives each sampled trace once, when its root span ends, as
+ * the list of all its spans in the order they finished (so the root is
+ * last). Sinks are called on the thread that ends the root span, which
+ * for an asynchronous invocation is the one completing it, and should be
+ * quick.
+ *
+ * @see OtlpJsonFileSink
+ */
+@FunctionalInterface
+public interface TraceSink {
+    /**
+     * Export a finished trace.
+     *
+     * @param spans Every span of the trace, root last
+     */
+    void export(List<Span> spans);
+}
@@ -0,0 +1,362 @@
+package com.guinetik.hexafun.trace;
+
+import com.guinetik.hexafun.fun.Result;
+import com.guinetik.hexafun.hexa.AsyncUseCase;
+import com.guinetik.hexafun.hexa.PortInterceptor;
+import com.guinetik.hexafun.hexa.UseCase;
+import com.guinetik.hexafun.hexa.UseCaseInterceptor;
+import com.guinetik.hexafun.hexa.UseCaseKey;
+import com.guinetik.hexafun.hexa.ValidationPort;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * Records invocations as trees of {@link Span}s and hands finished traces
+ * to a {@link TraceSink}.
+ *
+ * <p>Each top-level use case invocation opens a root span. Nested use case
+ * invocations, the validation and handler stages, adapters and port calls
+ * made on the same thread open child spans under it. Sampling is decided
+ * once per root: an unsampled invocation records nothing, and its nested
+ * calls cost a thread-local read each.
+ *
+ * <p>Install a tracer with {@code UseCaseBuilder.withTracer(Tracer)}:
+ * <pre class="language-java">{@code
+ * HexaFun.dsl()
+ *     .withTracer(Tracer.create(new OtlpJsonFileSink(Path.of("traces.jsonl")), 0.1))
+ *     .withPort(TaskRepository.class, repo)
+ *     .useCase(Keys.CREATE)
+ *         .validate(validator)
+ *         .handle(handler)
+ *     .build();
+ * }</pre>
+ *
+ * <p>The current span lives in a thread-local, so work handed to another
+ * thread (for example through {@code invokeAsync}) starts its own trace.
+ */
+public final class Tracer {
+
+    private static final Span NOOP = new Span(null, null, null, "noop", null, 0);
+    private static final Span UNSAMPLED = new Span(null, null, null, "unsampled", null, 0);
+
+    private final TraceSink sink;
+    private final double sampleRatio;
+    private final ThreadLocal<Span> current = new ThreadLocal<>();
+    private final long anchorEpochNanos;
+    private final long anchorNanoTime;
+
+    private Tracer(TraceSink sink, double sampleRatio) {
+        this.sink = sink;
+        this.sampleRatio = sampleRatio;
+        Instant now = Instant.now();
+        this.anchorNanoTime = System.nanoTime();
+        this.anchorEpochNanos = now.getEpochSecond() * 1_000_000_000L + now.getNano();
+    }
+
+    /**
+     * Create a tracer that records every invocation.
+     *
+     * @param sink Where finished traces go
+     * @return A new tracer
+     */
+    public static Tracer create(TraceSink sink) {
+        return create(sink, 1.0);
+    }
+
+    /**
+     * Create a tracer that records a fraction of root invocations.
+     *
+     * @param sink Where finished traces go
+     * @param sampleRatio The fraction of traces to record, from 0 to 1
+     * @return A new tracer
+     * @throws IllegalArgumentException if the ratio is outside [0, 1]
+     */
+    public static Tracer create(TraceSink sink, double sampleRatio) {
+        if (sink == null) {
+            throw new IllegalArgumentException("Trace sink cannot be null");
+        }
+        if (!(sampleRatio >= 0.0 && sampleRatio <= 1.0)) {
+            throw new IllegalArgumentException(
+                "Sample ratio must be between 0 and 1: " + sampleRatio
+            );
+        }
+        return new Tracer(sink, sampleRatio);
+    }
+
+    /**
+     * Get the fraction of root invocations that are recorded.
+     * @return The sample ratio
+     */
+    public double sampleRatio() {
+        return sampleRatio;
+    }
+
+    /**
+     * Get the span open on the calling thread.
+     * @return The current recording span, or null outside a sampled trace
+     */
+    public Span current() {
+        Span span = current.get();
+        return span == null || !span.isRecording() ? null : span;
+    }
+
+    /**
+     * Open a span: a child of the current span, or the root of a new trace
+     * (subject to sampling) if none is open. Must be closed with
+     * {@link #end(Span, String)} on the same thread.
+     *
+     * @param name The span name
+     * @param kind The span kind
+     * @return The new span, possibly non-recording
+     */
+    public Span start(String name, SpanKind kind) {
+        Span parent = current.get();
+        if (parent == null) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            if (sampleRatio < 1.0 && random.nextDouble() >= sampleRatio) {
+                current.set(UNSAMPLED);
+                return UNSAMPLED;
+            }
+            Trace trace = new Trace(hex(random.nextLong()) + hex(random.nextLong()));
+            return open(trace, null, name, kind);
+        }
+        return parent.isRecording() ? open(parent.trace, parent, name, kind) : NOOP;
+    }
+
+    /**
+     * Open a span only if a sampled trace is already in progress.
+     *
+     * @param name The span name
+     * @param kind The span kind
+     * @return The new span, or a non-recording span outside a trace
+     */
+    public Span startChild(String name, SpanKind kind) {
+        Span parent = current.get();
+        if (parent == null || !parent.isRecording()) {
+            return NOOP;
+        }
+        return open(parent.trace, parent, name, kind);
+    }
+
+    /**
+     * Close a span. Closing a root span exports its trace.
+     *
+     * @param span The span returned by {@code start} or {@code startChild}
+     * @param error The failure message, or null on success
+     */
+    public void end(Span span, String error) {
+        restore(span);
+        finish(span, error, null);
+    }
+
+    /**
+     * Create an interceptor that wraps a use case in a span named after
+     * its key.
+     *
+     * <p>An asynchronous invocation opens its span on the calling thread,
+     * which is current only while the chain is being started, and ends it
+     * when the returned future completes, so no thread waits for it. Stages
+     * that continue on another thread are not recorded under it.
+     *
+     * @param <I> Input type
+     * @param <O> Output type
+     * @return The tracing interceptor
+     */
+    public <I, O> UseCaseInterceptor<I, O> interceptor() {
+        return new UseCaseInterceptor<>() {
+            @Override
+            public O intercept(UseCaseKey<I, O> key, I input, UseCase<I, O> next) {
+                return traced(key.name(), SpanKind.USE_CASE, false, next, input);
+            }
+
+            @Override
+            public CompletableFuture<O> interceptAsync(
+                UseCaseKey<I, O> key,
+                I input,
+                AsyncUseCase<I, O> next,
+                Executor executor
+            ) {
+                return tracedAsync(key.name(), next, input, executor);
+            }
+        };
+    }
+
+    /**
+     * Wrap a validator in a {@link SpanKind#VALIDATION} child span.
+     *
+     * @param name The span name
+     * @param validator The validator to trace
+     * @param <I> Input type
+     * @return The traced validator
+     */
+    public <I> ValidationPort<I> validation(String name, ValidationPort<I> validator) {
+        UseCase<I, Result<I>> stage = validator::validate;
+        return input -> traced(name, SpanKind.VALIDATION, true, stage, input);
+    }
+
+    /**
+     * Wrap a handler in a {@link SpanKind#HANDLER} child span.
+     *
+     * @param name The span name
+     * @param handler The handler to trace
+     * @param <I> Input type
+     * @param <O> Output type
+     * @return The traced handler
+     */
+    public <I, O> UseCase<I, O> handler(String name, UseCase<I, O> handler) {
+        return input -> traced(name, SpanKind.HANDLER, true, handler, input);
+    }
+
+    /**
+     * Wrap an adapter in an {@link SpanKind#ADAPTER} child span.
+     *
+     * @param name The span name, usually the adapter key name
+     * @param adapter The adapter to trace
+     * @param <From> Source type
+     * @param <To> Target type
+     * @return The traced adapter
+     */
+    public <From, To> Function<From, To> adapter(String name, Function<From, To> adapter) {
+        UseCase<From, To> stage = adapter::apply;
+        return input -> traced(name, SpanKind.ADAPTER, true, stage, input);
+    }
+
+    /**
+     * Create a port interceptor that records each port call as a
+     * {@link SpanKind#PORT} child span named {@code Port.method}.
+     *
+     * @return The tracing port interceptor
+     */
+    public PortInterceptor portInterceptor() {
+        return (port, method, args, call) -> {
+            Span span = startChild(
+                port.getSimpleName() + "." + method.getName(),
+                SpanKind.PORT
+            );
+            Object out;
+            try {
+                out = call.proceed();
+            } catch (Throwable t) {
+                end(span, t.toString());
+                throw t;
+            }
+            endWith(span, out);
+            return out;
+        };
+    }
+
+    private <I, O> O traced(
+        String name,
+        SpanKind kind,
+        boolean childOnly,
+        UseCase<I, O> next,
+        I input
+    ) {
+        Span span = childOnly ? startChild(name, kind) : start(name, kind);
+        O out;
+        try {
+            out = next.apply(input);
+        } catch (RuntimeException | Error e) {
+            end(span, e.toString());
+            throw e;
+        }
+        endWith(span, out);
+        return out;
+    }
+
+    private <I, O> CompletableFuture<O> tracedAsync(
+        String name,
+        AsyncUseCase<I, O> next,
+        I input,
+        Executor executor
+    ) {
+        Span previous = current.get();
+        Span span = start(name, SpanKind.USE_CASE);
+        CompletableFuture<O> out;
+        try {
+            out = next.applyAsync(input, executor);
+        } catch (RuntimeException | Error e) {
+            end(span, e.toString());
+            throw e;
+        }
+        if (previous == null) {
+            current.remove();
+        } else {
+            current.set(previous);
+        }
+        return out.whenComplete((value, error) -> {
+            if (error == null) {
+                finish(span, null, failureOf(value));
+            } else {
+                finish(span, unwrap(error).toString(), null);
+            }
+        });
+    }
+
+    /** End a span with an output, keeping a failed Result unrendered. */
+    private void endWith(Span span, Object out) {
+        restore(span);
+        finish(span, null, failureOf(out));
+    }
+
+    /** Make the span's parent current again on this thread. */
+    private void restore(Span span) {
+        if (span == NOOP) {
+            return;
+        }
+        if (span == UNSAMPLED || span.parent == null) {
+            current.remove();
+        } else {
+            current.set(span.parent);
+        }
+    }
+
+    /** Record a span as ended without touching the calling thread's current span. */
+    private void finish(Span span, String error, Result<?> failure) {
+        if (span == NOOP || span == UNSAMPLED) {
+            return;
+        }
+        span.end(now(), error, failure);
+        span.trace.finished.add(span);
+        if (span.parent == null) {
+            sink.export(List.copyOf(span.trace.finished));
+        }
+    }
+
+    private Span open(Trace trace, Span parent, String name, SpanKind kind) {
+        Span span = new Span(
+            trace,
+            parent,
+            hex(ThreadLocalRandom.current().nextLong()),
+            name,
+            kind,
+            now()
+        );
+        current.set(span);
+        return span;
+    }
+
+    private long now() {
+        return anchorEpochNanos + (System.nanoTime() - anchorNanoTime);
+    }
+
+    private static Result<?> failureOf(Object out) {
+        return out instanceof Result<?> result && result.isFailure() ? result : null;
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null
+            ? error.getCause()
+            : error;
+    }
+
+    private static String hex(long value) {
+        String digits = Long.toHexString(value);
+        return "0".repeat(16 - digits.length()) + digits;
+    }
+}
@@ -0,0 +1,25 @@
+package com.guinetik.hexafun.validation;
+
+import com.guinetik.hexafun.fun.ErrorCode;
+
+/**
+ * Failure codes produced by validators compiled from {@link Rules}.
+ * The first parameter is always the field label.
+ */
+public enum RuleError implements ErrorCode {
+    REQUIRED("{0} cannot be null"),
+    BLANK("{0} cannot be empty"),
+    TOO_LONG("{0} cannot exceed {1} characters"),
+    OUT_OF_RANGE("{0} must be between {1} and {2}");
+
+    private final String template;
+
+    RuleError(String template) {
+        this.template = template;
+    }
+
+    @Override
+    public String template() {
+        return template;
+    }
+}
@@ -0,0 +1,324 @@
+package com.guinetik.hexafun.validation;
+
+import com.guinetik.hexafun.fun.Result;
+import com.guinetik.hexafun.hexa.ValidationPort;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * Declarative validation rules for an input record, compiled into a single
+ * {@link ValidationPort}.
+ *
+ * <p>Rules are grouped by field, and like the use case DSL there is no
+ * explicit {@code .and()}: declaring the next field closes the previous one.
+ * <pre class="language-java">{@code
+ * static final ValidationPort<CreateTask> CREATE = Rules.of(CreateTask.class)
+ *     .text("Title", CreateTask::title).notBlank().maxLength(100)
+ *     .compile();
+ *
+ * static final ValidationPort<AddInput> ADD = Rules.of(AddInput.class)
+ *     .required("Counter", AddInput::counter)
+ *     .integer("Amount", AddInput::amount).range(-100, 100)
+ *     .compile();
+ * }</pre>
+ *
+ * <p>The compiled validator reads each field once, runs that field's checks
+ * back to back, and returns the first failure. Every failure it can produce
+ * is built at compile time, so a rejection allocates nothing; a pass
+ * allocates only the returned {@code Result}. A {@code null} input fails
+ * with "Input cannot be null". Compiled validators report
+ * {@link ValidationPort#isCheap()} as true, so they run inline in a
+ * {@code validateAll} group.
+ *
+ * <p>Failures carry a {@link RuleError} code with the field label as first
+ * parameter, e.g. {@code BLANK} renders as "Title cannot be empty".
+ *
+ * @param <I> The input type
+ */
+public final class Rules<I> {
+
+    private final List<Supplier<Check<I>>> fields = new ArrayList<>();
+
+    private Rules() {}
+
+    /**
+     * Start a rule set.
+     *
+     * @param type The input type, for inference only
+     * @param <I> The input type
+     * @return An empty rule set
+     */
+    public static <I> Rules<I> of(Class<I> type) {
+        return new Rules<>();
+    }
+
+    /**
+     * Require a field to be non-null.
+     *
+     * @param label The field name used in messages
+     * @param field The field accessor
+     * @return This rule set
+     */
+    public Rules<I> required(String label, Function<? super I, ?> field) {
+        Result<?> missing = Result.fail(RuleError.REQUIRED, label);
+        Check<I> check = input -> field.apply(input) == null ? missing : null;
+        fields.add(() -> check);
+        return this;
+    }
+
+    /**
+     * Start rules for a text field.
+     *
+     * @param label The field name used in messages
+     * @param field The field accessor
+     * @return The text field's rules
+     */
+    public Text text(String label, Function<? super I, String> field) {
+        Text text = new Text(label, field);
+        fields.add(text::compileField);
+        return text;
+    }
+
+    /**
+     * Start rules for an int field.
+     *
+     * @param label The field name used in messages
+     * @param field The field accessor
+     * @return The int field's rules
+     */
+    public Int integer(String label, ToIntFunction<? super I> field) {
+        Int number = new Int(label, field);
+        fields.add(number::compileField);
+        return number;
+    }
+
+    /**
+     * Compile the rules into one validator.
+     *
+     * @return The validator
+     */
+    @SuppressWarnings("unchecked")
+    public ValidationPort<I> compile() {
+        List<Check<I>> checks = new ArrayList<>();
+        for (Supplier<Check<I>> field : fields) {
+            Check<I> check = field.get();
+            if (check != null) {
+                checks.add(check);
+            }
+        }
+        return new Compiled<>(checks.toArray(new Check[0]));
+    }
+
+    /**
+     * Rules for one text field. Checks run in the order null, blank, length.
+     */
+    public final class Text {
+        private final String label;
+        private final Function<? super I, String> field;
+        private boolean notNull;
+        private boolean notBlank;
+        private int maxLength = -1;
+
+        private Text(String label, Function<? super I, String> field) {
+            this.label = label;
+            this.field = field;
+        }
+
+        /**
+         * Reject a {@code null} value.
+         * @return These rules
+         */
+        public Text notNull() {
+            notNull = true;
+            return this;
+        }
+
+        /**
+         * Reject a {@code null}, empty or whitespace-only value.
+         * @return These rules
+         */
+        public Text notBlank() {
+            notBlank = true;
+            return this;
+        }
+
+        /**
+         * Reject values longer than {@code max} characters.
+         * @param max The maximum length
+         * @return These rules
+         */
+        public Text maxLength(int max) {
+            if (max < 0) {
+                throw new IllegalArgumentException("Max length cannot be negative: " + max);
+            }
+            maxLength = max;
+            return this;
+        }
+
+        // Implicit closure: continue with the next field
+
+        /** @see Rules#required */
+        public Rules<I> required(String label, Function<? super I, ?> field) {
+            return Rules.this.required(label, field);
+        }
+
+        /** @see Rules#text */
+        public Text text(String label, Function<? super I, String> field) {
+            return Rules.this.text(label, field);
+        }
+
+        /** @see Rules#integer */
+        public Int integer(String label, ToIntFunction<? super I> field) {
+            return Rules.this.integer(label, field);
+        }
+
+        /** @see Rules#compile */
+        public ValidationPort<I> compile() {
+            return Rules.this.compile();
+        }
+
+        private Check<I> compileField() {
+            if (!notNull && !notBlank && maxLength < 0) {
+                return null;
+            }
+            Function<? super I, String> field = this.field;
+            boolean blankCheck = notBlank;
+            int max = maxLength;
+            Result<?> onNull = notBlank
+                ? Result.fail(RuleError.BLANK, label)
+                : notNull ? Result.fail(RuleError.REQUIRED, label) : null;
+            Result<?> blank = Result.fail(RuleError.BLANK, label);
+            Result<?> tooLong = Result.fail(RuleError.TOO_LONG, label, max);
+            return input -> {
+                String value = field.apply(input);
+                if (value == null) {
+                    return onNull;
+                }
+                if (blankCheck && value.isBlank()) {
+                    return blank;
+                }
+                if (max >= 0 && value.length() > max) {
+                    return tooLong;
+                }
+                return null;
+            };
+        }
+    }
+
+    /**
+     * Rules for one int field.
+     */
+    public final class Int {
+        private final String label;
+        private final ToIntFunction<? super I> field;
+        private int min = Integer.MIN_VALUE;
+        private int max = Integer.MAX_VALUE;
+
+        private Int(String label, ToIntFunction<? super I> field) {
+            this.label = label;
+            this.field = field;
+        }
+
+        /**
+         * Reject values outside {@code [min, max]}.
+         * @param min The smallest allowed value
+         * @param max The largest allowed value
+         * @return These rules
+         */
+        public Int range(int min, int max) {
+            if (min > max) {
+                throw new IllegalArgumentException(
+                    "Range minimum " + min + " is greater than maximum " + max
+                );
+            }
+            this.min = min;
+            this.max = max;
+            return this;
+        }
+
+        // Implicit closure: continue with the next field
+
+        /** @see Rules#required */
+        public Rules<I> required(String label, Function<? super I, ?> field) {
+            return Rules.this.required(label, field);
+        }
+
+        /** @see Rules#text */
+        public Text text(String label, Function<? super I, String> field) {
+            return Rules.this.text(label, field);
+        }
+
+        /** @see Rules#integer */
+        public Int integer(String label, ToIntFunction<? super I> field) {
+            return Rules.this.integer(label, field);
+        }
+
+        /** @see Rules#compile */
+        public ValidationPort<I> compile() {
+            return Rules.this.compile();
+        }
+
+        private Check<I> compileField() {
+            if (min == Integer.MIN_VALUE && max == Integer.MAX_VALUE) {
+                return null;
+            }
+            ToIntFunction<? super I> field = this.field;
+            int low = min;
+            int high = max;
+            Result<?> outOfRange = Result.fail(RuleError.OUT_OF_RANGE, label, low, high);
+            return input -> {
+                int value = field.applyAsInt(input);
+                return value < low || value > high ? outOfRange : null;
+            };
+        }
+    }
+
+    /** One field's checks: returns the shared failure, or null when they pass. */
+    @FunctionalInterface
+    private interface Check<I> {
+        Result<?> check(I input);
+    }
+
+    private static final class Compiled<I> implements ValidationPort<I> {
+        private static final Result<?> NULL_INPUT = Result.fail(RuleError.REQUIRED, "Input");
+
+        private final Check<I> first;
+        private final Check<I> second;
+        private final Check<I>[] rest;
+
+        Compiled(Check<I>[] checks) {
+            this.first = checks.length > 0 ? checks[0] : null;
+            this.second = checks.length > 1 ? checks[1] : null;
+            this.rest = checks.length > 2
+                ? Arrays.copyOfRange(checks, 2, checks.length)
+                : null;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Result<I> validate(I input) {
+            if (input == null) {
+                return (Result<I>) NULL_INPUT;
+            }
+            Result<?> failure = first == null ? null : first.check(input);
+            if (failure == null && second != null) {
+                failure = second.check(input);
+            }
+            if (failure == null && rest != null) {
+                for (int i = 0; i < rest.length && failure == null; i++) {
+                    failure = rest[i].check(input);
+                }
+            }
+            return failure == null ? Result.ok(input) : (Result<I>) failure;
+        }
+
+        @Override
+        public boolean isCheap() {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.guinetik.hexafun.hexa;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * Default executor for asynchronous use case invocation.
+ *
+ * <p>This is the Java 21 variant, which starts one virtual thread per
+ * invocation. I/O-bound use cases can then block on slow ports without
+ * holding a platform thread.
+ *
+ * @see com.guinetik.hexafun.HexaApp#invokeAsync(UseCaseKey, Object)
+ */
+public final class DefaultExecutor {
+
+    private static final Executor VIRTUAL =
+        Executors.newVirtualThreadPerTaskExecutor();
+
+    private DefaultExecutor() {}
+
+    /**
+     * Get the executor used when neither the app nor the use case
+     * configured one.
+     *
+     * @return The default executor
+     */
+    public static Executor get() {
+        return VIRTUAL;
+    }
+
+    /**
+     * Check whether the default executor runs work on virtual threads.
+     *
+     * @return true on Java 21+, false otherwise
+     */
+    public static boolean usesVirtualThreads() {
+        return true;
+    }
+}
@@ -0,0 +1,139 @@
+package com.guinetik.hexafun.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link BatchLoader}.
+ */
+@DisplayName("BatchLoader")
+public class BatchLoaderTest {
+
+    private static Map<String, Integer> lengths(Set<String> keys, List<Set<String>> calls) {
+        calls.add(Set.copyOf(keys));
+        Map<String, Integer> values = new HashMap<>();
+        for (String key : keys) {
+            if (!key.startsWith("missing")) {
+                values.put(key, key.length());
+            }
+        }
+        return values;
+    }
+
+    @Nested
+    @DisplayName("batching")
+    class BatchingTests {
+
+        @Test
+        @DisplayName("should answer loads within the window with one bulk call")
+        void shouldBatchWithinWindow() throws Exception {
+            List<Set<String>> calls = new ArrayList<>();
+            BatchLoader<String, Integer> loader = new BatchLoader<>(
+                keys -> lengths(keys, calls), 100, Duration.ofMillis(50)
+            );
+
+            CompletableFuture<Integer> a = loader.load("a");
+            CompletableFuture<Integer> bb = loader.load("bb");
+            CompletableFuture<Integer> again = loader.load("a");
+
+            assertEquals(1, a.get(5, TimeUnit.SECONDS));
+            assertEquals(2, bb.get(5, TimeUnit.SECONDS));
+            assertSame(a, again);
+            assertEquals(List.of(Set.of("a", "bb")), calls);
+            assertEquals(1, loader.batches());
+            assertEquals(2, loader.keys());
+            assertEquals(1, loader.coalesced());
+        }
+
+        @Test
+        @DisplayName("should dispatch as soon as a batch is full")
+        void shouldDispatchFullBatch() throws Exception {
+            List<Set<String>> calls = new ArrayList<>();
+            BatchLoader<String, Integer> loader = new BatchLoader<>(
+                keys -> lengths(keys, calls), 2, Duration.ofHours(1)
+            );
+
+            CompletableFuture<Integer> a = loader.load("a");
+            CompletableFuture<Integer> b = loader.load("b");
+
+            assertEquals(1, a.get(5, TimeUnit.SECONDS));
+            assertEquals(1, b.get(5, TimeUnit.SECONDS));
+            assertEquals(1, loader.batches());
+        }
+
+        @Test
+        @DisplayName("should open a new batch after one is dispatched")
+        void shouldOpenNewBatch() throws Exception {
+            List<Set<String>> calls = new ArrayList<>();
+            BatchLoader<String, Integer> loader = new BatchLoader<>(
+                keys -> lengths(keys, calls), 100, Duration.ZERO
+            );
+
+            loader.load("a").get(5, TimeUnit.SECONDS);
+            loader.load("b").get(5, TimeUnit.SECONDS);
+
+            assertEquals(2, loader.batches());
+        }
+    }
+
+    @Nested
+    @DisplayName("results")
+    class ResultTests {
+
+        @Test
+        @DisplayName("should complete missing keys with null")
+        void shouldCompleteMissingWithNull() throws Exception {
+            BatchLoader<String, Integer> loader = new BatchLoader<>(
+                keys -> lengths(keys, new ArrayList<>()), 100, Duration.ZERO
+            );
+
+            assertNull(loader.load("missing-1").get(5, TimeUnit.SECONDS));
+        }
+
+        @Test
+        @DisplayName("should fail every load in a batch when the bulk call throws")
+        void shouldFailWholeBatch() {
+            IllegalStateException failure = new IllegalStateException("port down");
+            BatchLoader<String, Integer> loader = new BatchLoader<>(
+                keys -> { throw failure; }, 100, Duration.ofMillis(20)
+            );
+
+            CompletableFuture<Integer> a = loader.load("a");
+            CompletableFuture<Integer> b = loader.load("b");
+
+            CompletionException thrown = assertThrows(CompletionException.class, a::join);
+            assertSame(failure, thrown.getCause());
+            assertThrows(CompletionException.class, b::join);
+        }
+
+        @Test
+        @DisplayName("should reject null keys and invalid limits")
+        void shouldRejectInvalidArguments() {
+            BatchLoader<String, Integer> loader = new BatchLoader<>(
+                keys -> Map.of(), 10, Duration.ZERO
+            );
+
+            assertThrows(NullPointerException.class, () -> loader.load(null));
+            assertThrows(
+                IllegalArgumentException.class,
+                () -> new BatchLoader<String, Integer>(keys -> Map.of(), 0, Duration.ZERO)
+            );
+            assertThrows(
+                IllegalArgumentException.class,
+                () -> new BatchLoader<String, Integer>(keys -> Map.of(), 1, Duration.ofMillis(-1))
+            );
+        }
+    }
+}
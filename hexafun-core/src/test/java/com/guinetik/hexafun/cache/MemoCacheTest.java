@@ -0,0 +1,241 @@
+package com.guinetik.hexafun.cache;
+
+import com.guinetik.hexafun.HexaApp;
+import com.guinetik.hexafun.HexaFun;
+import com.guinetik.hexafun.fun.Result;
+import com.guinetik.hexafun.hexa.UseCaseBuilder;
+import com.guinetik.hexafun.hexa.UseCaseKey;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the memoization cache.
+ */
+@DisplayName("MemoCache")
+public class MemoCacheTest {
+
+    record Point(int x, int y) {}
+
+    static final UseCaseKey<Point, Integer> SUM = UseCaseKey.of("cacheSum");
+    static final UseCaseKey<Integer, Result<Integer>> CHECK = UseCaseKey.of("cacheCheck");
+
+    @Nested
+    @DisplayName("cache")
+    class CacheTests {
+
+        @Test
+        @DisplayName("should compute once per equal key")
+        void shouldComputeOncePerKey() {
+            AtomicInteger loads = new AtomicInteger();
+            MemoCache<Point, Integer> cache = new MemoCache<>(10, null);
+
+            for (int i = 0; i < 5; i++) {
+                assertEquals(3, cache.get(new Point(1, 2), p -> {
+                    loads.incrementAndGet();
+                    return p.x() + p.y();
+                }));
+            }
+
+            assertEquals(1, loads.get());
+            CacheStats stats = cache.stats();
+            assertEquals(4, stats.hits());
+            assertEquals(1, stats.misses());
+            assertEquals(0.8, stats.hitRate(), 1e-9);
+            assertEquals(0.2, stats.missRate(), 1e-9);
+        }
+
+        @Test
+        @DisplayName("should evict the least recently used entry")
+        void shouldEvictLeastRecentlyUsed() {
+            MemoCache<Integer, Integer> cache = new MemoCache<>(2, null);
+            AtomicInteger loads = new AtomicInteger();
+
+            cache.get(1, k -> loads.incrementAndGet());
+            cache.get(2, k -> loads.incrementAndGet());
+            cache.get(1, k -> loads.incrementAndGet()); // touch 1
+            cache.get(3, k -> loads.incrementAndGet()); // evicts 2
+            cache.get(1, k -> loads.incrementAndGet());
+            cache.get(2, k -> loads.incrementAndGet());
+
+            assertEquals(4, loads.get());
+            assertEquals(2, cache.size());
+            assertEquals(2, cache.stats().evictions());
+        }
+
+        @Test
+        @DisplayName("should stay within its size bound")
+        void shouldStayBounded() {
+            MemoCache<Integer, Integer> cache = new MemoCache<>(1000, null);
+
+            IntStream.range(0, 100_000).parallel().forEach(i -> cache.get(i, k -> k));
+
+            assertTrue(cache.size() <= 1000);
+            assertEquals(100_000, cache.stats().misses());
+        }
+
+        @Test
+        @DisplayName("should expire entries after the TTL")
+        void shouldExpireEntries() throws InterruptedException {
+            MemoCache<String, Integer> cache = new MemoCache<>(10, Duration.ofMillis(20));
+            AtomicInteger loads = new AtomicInteger();
+
+            cache.get("a", k -> loads.incrementAndGet());
+            cache.get("a", k -> loads.incrementAndGet());
+            Thread.sleep(40);
+            cache.get("a", k -> loads.incrementAndGet());
+
+            assertEquals(2, loads.get());
+        }
+
+        @Test
+        @DisplayName("should only store admitted values and allow null keys")
+        void shouldRespectAdmission() {
+            MemoCache<String, Integer> cache = new MemoCache<>(10, null, v -> v > 0);
+            AtomicInteger loads = new AtomicInteger();
+
+            cache.get("neg", k -> { loads.incrementAndGet(); return -1; });
+            cache.get("neg", k -> { loads.incrementAndGet(); return -1; });
+            cache.get(null, k -> { loads.incrementAndGet(); return 1; });
+            cache.get(null, k -> { loads.incrementAndGet(); return 1; });
+
+            assertEquals(3, loads.get());
+        }
+
+        @Test
+        @DisplayName("getAsync should store the value once its future completes")
+        void getAsyncShouldStoreOnCompletion() {
+            MemoCache<String, Integer> cache = new MemoCache<>(10, null);
+            CompletableFuture<Integer> load = new CompletableFuture<>();
+
+            CompletableFuture<Integer> first = cache.getAsync("k", k -> load);
+            assertFalse(first.isDone());
+            assertEquals(0, cache.size());
+
+            load.complete(7);
+            assertEquals(7, first.join());
+            CompletableFuture<Integer> second = cache.getAsync("k", k -> {
+                throw new AssertionError("should be a hit");
+            });
+            assertEquals(7, second.getNow(null));
+            assertEquals(1, cache.stats().hits());
+        }
+
+        @Test
+        @DisplayName("getAsync should not store a failed future")
+        void getAsyncShouldNotStoreFailures() {
+            MemoCache<String, Integer> cache = new MemoCache<>(10, null);
+
+            CompletableFuture<Integer> failed = cache.getAsync(
+                "k", k -> CompletableFuture.failedFuture(new IllegalStateException("down"))
+            );
+
+            assertTrue(failed.isCompletedExceptionally());
+            assertEquals(0, cache.size());
+        }
+
+        @Test
+        @DisplayName("should reject invalid sizes and TTLs")
+        void shouldRejectInvalidConfig() {
+            assertThrows(IllegalArgumentException.class, () -> new MemoCache<>(0, null));
+            assertThrows(
+                IllegalArgumentException.class,
+                () -> new MemoCache<>(10, Duration.ZERO)
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("cached use cases")
+    class CachedUseCaseTests {
+
+        @Test
+        @DisplayName("should memoize by record input and report stats")
+        void shouldMemoizeUseCase() {
+            AtomicInteger calls = new AtomicInteger();
+            HexaApp app = HexaFun.dsl()
+                .useCase(SUM).handle(p -> {
+                    calls.incrementAndGet();
+                    return p.x() + p.y();
+                })
+                .cached(SUM, 100, Duration.ofMinutes(1))
+                .build();
+
+            assertEquals(3, app.invoke(SUM, new Point(1, 2)));
+            assertEquals(3, app.invoke(SUM, new Point(1, 2)));
+            assertEquals(7, app.invoke(SUM, new Point(3, 4)));
+
+            assertEquals(2, calls.get());
+            assertEquals(1, app.cacheStats(SUM).hits());
+            assertEquals(2, app.cacheStats(SUM).misses());
+        }
+
+        @Test
+        @DisplayName("should skip failures by default and cache them on request")
+        void shouldHandleFailures() {
+            AtomicInteger calls = new AtomicInteger();
+            UseCaseBuilder builder = HexaFun.dsl()
+                .useCase(CHECK)
+                    .validate(i -> i < 0 ? Result.fail("negative") : Result.ok(i))
+                    .handle(i -> {
+                        calls.incrementAndGet();
+                        return i == 0 ? Result.fail("zero") : Result.ok(i);
+                    });
+
+            HexaApp skipping = builder.cached(CHECK, 100, null).build();
+            skipping.invoke(CHECK, 0);
+            skipping.invoke(CHECK, 0);
+            assertEquals(2, calls.get());
+
+            calls.set(0);
+            HexaApp caching = builder.cached(CHECK, 100, null, true).build();
+            caching.invoke(CHECK, 0);
+            assertEquals("zero", caching.invoke(CHECK, 0).error());
+            assertEquals(1, calls.get());
+        }
+
+        @Test
+        @DisplayName("should run interceptors on every hit")
+        void shouldRunInterceptorsOnHits() {
+            AtomicInteger intercepted = new AtomicInteger();
+            HexaApp app = HexaFun.dsl()
+                .intercept(SUM, (key, input, next) -> {
+                    intercepted.incrementAndGet();
+                    return next.apply(input);
+                })
+                .useCase(SUM).handle(p -> p.x() + p.y())
+                .cached(SUM, 100, null)
+                .frozen()
+                .build();
+
+            app.invoke(SUM, new Point(1, 1));
+            app.invoke(SUM, new Point(1, 1));
+
+            assertEquals(2, intercepted.get());
+            assertEquals(1, app.cacheStats(SUM).hits());
+        }
+
+        @Test
+        @DisplayName("should report empty stats for uncached use cases")
+        void shouldReportEmptyStats() {
+            HexaApp app = HexaFun.dsl().useCase(SUM).handle(p -> 0).build();
+            assertSame(CacheStats.EMPTY, app.cacheStats(SUM));
+        }
+
+        @Test
+        @DisplayName("should reject caches for unknown use cases")
+        void shouldRejectUnknownUseCase() {
+            UseCaseBuilder builder = HexaFun.dsl()
+                .useCase(SUM).handle(p -> 0)
+                .cached(CHECK, 10, null);
+
+            assertThrows(IllegalStateException.class, builder::build);
+        }
+    }
+}
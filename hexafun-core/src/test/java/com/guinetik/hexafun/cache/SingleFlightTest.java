@@ -0,0 +1,221 @@
+package com.guinetik.hexafun.cache;
+
+import com.guinetik.hexafun.HexaApp;
+import com.guinetik.hexafun.HexaFun;
+import com.guinetik.hexafun.hexa.UseCaseBuilder;
+import com.guinetik.hexafun.hexa.UseCaseKey;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for single-flight coalescing.
+ */
+@DisplayName("SingleFlight")
+public class SingleFlightTest {
+
+    static final UseCaseKey<String, String> LOOKUP = UseCaseKey.of("flightLookup");
+
+    private static final int CALLERS = 8;
+
+    /**
+     * Run CALLERS concurrent calls; the computation holds until every
+     * caller has started, so the followers find it in flight.
+     */
+    private static List<Object> burst(Callable<Object> task) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<Object>> futures = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                futures.add(pool.submit(task));
+            }
+            List<Object> results = new ArrayList<>();
+            for (Future<Object> future : futures) {
+                try {
+                    results.add(future.get(5, TimeUnit.SECONDS));
+                } catch (ExecutionException e) {
+                    results.add(e.getCause());
+                }
+            }
+            return results;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static void pause(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Nested
+    @DisplayName("execute")
+    class ExecuteTests {
+
+        @Test
+        @DisplayName("should run one computation for concurrent equal keys")
+        void shouldShareInFlightComputation() throws Exception {
+            SingleFlight<String, String> flight = new SingleFlight<>();
+            AtomicInteger runs = new AtomicInteger();
+            CountDownLatch started = new CountDownLatch(CALLERS);
+
+            List<Object> results = burst(() -> {
+                started.countDown();
+                return flight.execute("hot", key -> {
+                    runs.incrementAndGet();
+                    awaitQuietly(started);
+                    pause(100);
+                    return key + "!";
+                });
+            });
+
+            assertEquals(1, runs.get());
+            assertEquals(1, flight.executions());
+            assertEquals(CALLERS - 1, flight.coalesced());
+            results.forEach(result -> assertEquals("hot!", result));
+        }
+
+        @Test
+        @DisplayName("should share the leader's exception")
+        void shouldShareException() throws Exception {
+            SingleFlight<String, String> flight = new SingleFlight<>();
+            CountDownLatch started = new CountDownLatch(CALLERS);
+
+            List<Object> results = burst(() -> {
+                started.countDown();
+                return flight.execute("hot", key -> {
+                    awaitQuietly(started);
+                    pause(100);
+                    throw new IllegalStateException("down");
+                });
+            });
+
+            for (Object result : results) {
+                assertTrue(result instanceof IllegalStateException);
+            }
+            assertEquals(1, flight.executions());
+        }
+
+        @Test
+        @DisplayName("should run again once the previous computation finished")
+        void shouldNotRememberResults() {
+            SingleFlight<String, Integer> flight = new SingleFlight<>();
+            AtomicInteger runs = new AtomicInteger();
+
+            flight.execute("k", key -> runs.incrementAndGet());
+            flight.execute("k", key -> runs.incrementAndGet());
+            flight.execute(null, key -> runs.incrementAndGet());
+
+            assertEquals(3, runs.get());
+            assertEquals(0, flight.coalesced());
+        }
+
+        @Test
+        @DisplayName("executeAsync should share the leader's future without waiting")
+        void executeAsyncShouldShareFuture() {
+            SingleFlight<String, Integer> flight = new SingleFlight<>();
+            CompletableFuture<Integer> load = new CompletableFuture<>();
+            AtomicInteger runs = new AtomicInteger();
+
+            CompletableFuture<Integer> leader = flight.executeAsync("k", key -> {
+                runs.incrementAndGet();
+                return load;
+            });
+            CompletableFuture<Integer> follower = flight.executeAsync("k", key -> {
+                runs.incrementAndGet();
+                return CompletableFuture.completedFuture(-1);
+            });
+            assertFalse(leader.isDone());
+            assertFalse(follower.isDone());
+
+            follower.cancel(false);
+            load.complete(5);
+
+            assertEquals(5, leader.join());
+            assertEquals(1, runs.get());
+            assertEquals(1, flight.coalesced());
+            // Finished flights are forgotten
+            assertEquals(6, flight.executeAsync("k", key -> CompletableFuture.completedFuture(6)).join());
+        }
+    }
+
+    @Nested
+    @DisplayName("coalesced use cases")
+    class CoalescedUseCaseTests {
+
+        @Test
+        @DisplayName("should share one handler run between concurrent invokes")
+        void shouldCoalesceInvokes() throws Exception {
+            AtomicInteger calls = new AtomicInteger();
+            CountDownLatch started = new CountDownLatch(CALLERS);
+            HexaApp app = HexaFun.dsl()
+                .useCase(LOOKUP).handle(id -> {
+                    calls.incrementAndGet();
+                    awaitQuietly(started);
+                    pause(100);
+                    return "task-" + id;
+                })
+                .coalesced(LOOKUP)
+                .frozen()
+                .build();
+
+            List<Object> results = burst(() -> {
+                started.countDown();
+                return app.invoke(LOOKUP, "42");
+            });
+
+            assertEquals(1, calls.get());
+            results.forEach(result -> assertEquals("task-42", result));
+        }
+
+        @Test
+        @DisplayName("should not coalesce different inputs")
+        void shouldKeepDifferentInputsApart() throws Exception {
+            AtomicInteger calls = new AtomicInteger();
+            AtomicInteger next = new AtomicInteger();
+            HexaApp app = HexaFun.dsl()
+                .useCase(LOOKUP).handle(id -> {
+                    calls.incrementAndGet();
+                    pause(20);
+                    return id;
+                })
+                .coalesced(LOOKUP)
+                .build();
+
+            burst(() -> app.invoke(LOOKUP, "id-" + next.incrementAndGet()));
+
+            assertEquals(CALLERS, calls.get());
+        }
+
+        @Test
+        @DisplayName("should reject coalescing for unknown use cases")
+        void shouldRejectUnknownUseCase() {
+            UseCaseBuilder builder = HexaFun.dsl().coalesced(LOOKUP);
+            assertThrows(IllegalStateException.class, builder::build);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
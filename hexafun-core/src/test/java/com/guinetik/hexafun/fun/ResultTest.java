@@ -3,6 +3,7 @@ package com.guinetik.hexafun.fun;
 import org.junit.jupiter.api.Test;
 
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -104,4 +105,112 @@ public class ResultTest {
         // The map function should not be called for failures
         assertFalse(mapCalled.get());
     }
+
+    @Test
+    void testConstantResultsAreShared() {
+        assertSame(Result.ok(null), Result.ok(null));
+        assertSame(Result.ok(true), Result.ok(Boolean.TRUE));
+        assertSame(Result.ok(false), Result.ok(false));
+        assertNotSame(Result.ok(true), Result.ok(false));
+
+        assertTrue(Result.ok(null).isSuccess());
+        assertNull(Result.ok(null).get());
+        assertEquals(true, Result.ok(true).get());
+        assertEquals(false, Result.ok(false).get());
+    }
+
+    @Test
+    void testFailurePassesThroughChainUnchanged() {
+        Result<Integer> failure = Result.fail("Stop");
+
+        Result<String> chained = failure
+            .map(i -> i + 1)
+            .flatMap(i -> Result.ok("Value: " + i))
+            .map(String::trim);
+
+        assertSame(failure, chained);
+    }
+
+    @Test
+    void testIdentityMapReusesSuccess() {
+        Result<String> success = Result.ok("Same");
+
+        assertSame(success, success.map(value -> value));
+        assertEquals("SAME", success.map(String::toUpperCase).get());
+    }
+
+    enum TestError implements ErrorCode {
+        NOT_FOUND("Missing {0} in {1}"),
+        PLAIN("Plain");
+
+        private final String template;
+
+        TestError(String template) {
+            this.template = template;
+        }
+
+        @Override
+        public String template() {
+            return template;
+        }
+    }
+
+    @Test
+    void testStructuredFailure() {
+        Result<String> result = Result.fail(TestError.NOT_FOUND, "task-1", "board");
+
+        assertTrue(result.isFailure());
+        assertEquals(TestError.NOT_FOUND, result.errorCode());
+        assertEquals("Missing task-1 in board", result.error());
+        assertEquals(java.util.List.of("task-1", "board"), ((Result.Failure<String>) result).params());
+        assertNull(((Result.Failure<String>) result).cause());
+        assertThrows(IllegalStateException.class, () -> Result.ok(1).errorCode());
+    }
+
+    @Test
+    void testStructuredFailureRendersLazily() {
+        AtomicInteger renders = new AtomicInteger();
+        ErrorCode counting = () -> {
+            renders.incrementAndGet();
+            return "Rejected {0}";
+        };
+
+        Result<String> result = Result.fail(counting, 42);
+        Result<Integer> chained = result.map(String::length).flatMap(Result::ok);
+
+        assertTrue(chained.isFailure());
+        assertSame(counting, chained.errorCode());
+        assertEquals(0, renders.get());
+
+        assertEquals("Rejected 42", chained.error());
+        assertEquals("Rejected 42", chained.error());
+        assertEquals(1, renders.get());
+    }
+
+    @Test
+    void testStructuredFailureKeepsCause() {
+        IllegalArgumentException cause = new IllegalArgumentException("bad");
+        Result<String> result = Result.fail(cause, TestError.NOT_FOUND, "x", null);
+
+        assertEquals("Missing x in null", result.error());
+        assertSame(cause, ((Result.Failure<String>) result).cause());
+        IllegalStateException thrown = assertThrows(IllegalStateException.class, result::get);
+        assertSame(cause, thrown.getCause());
+    }
+
+    @Test
+    void testMessageFailureHasMessageCode() {
+        Result<String> result = Result.fail("Plain message {0}");
+
+        assertSame(ErrorCode.MESSAGE, result.errorCode());
+        assertEquals("Plain message {0}", result.error());
+    }
+
+    @Test
+    void testTemplateRendering() {
+        assertEquals("Plain", TestError.PLAIN.render("ignored"));
+        assertEquals("Missing a in {1}", TestError.NOT_FOUND.render("a"));
+        ErrorCode odd = () -> "{x} {0} {} {0";
+        assertEquals("{x} a {} {0", odd.render("a"));
+    }
 }
@@ -2,6 +2,8 @@ package com.guinetik.hexafun.hexa;
 
 import com.guinetik.hexafun.HexaApp;
 import com.guinetik.hexafun.HexaFun;
+import java.util.List;
+import java.util.function.Function;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -69,6 +71,17 @@ public class AdapterKeyTest {
             AdapterKey<String, Integer> key = AdapterKey.of("myAdapter");
             assertTrue(key.toString().contains("myAdapter"));
         }
+
+        @Test
+        @DisplayName("should share a slot when names match")
+        void shouldShareSlotWhenNamesMatch() {
+            AdapterKey<String, Integer> key1 = AdapterKey.of("slotted");
+            AdapterKey<Double, Boolean> key2 = AdapterKey.of("slotted");
+            AdapterKey<String, Integer> other = AdapterKey.of("slottedOther");
+
+            assertEquals(key1.slot(), key2.slot());
+            assertNotEquals(key1.slot(), other.slot());
+        }
     }
 
     @Nested
@@ -99,6 +112,16 @@ public class AdapterKeyTest {
             assertEquals(2, app.registeredAdapters().size());
         }
 
+        @Test
+        @DisplayName("should adapt with adapters registered by name")
+        void shouldAdaptWithAdaptersRegisteredByName() {
+            HexaApp app = HexaApp.create()
+                .withAdapter("byNameLength", (String s) -> s.length());
+
+            AdapterKey<String, Integer> BY_NAME = AdapterKey.of("byNameLength");
+            assertEquals(4, (int) app.adapt(BY_NAME, "four"));
+        }
+
         @Test
         @DisplayName("should chain withAdapter calls")
         void shouldChainWithAdapterCalls() {
@@ -285,4 +308,80 @@ public class AdapterKeyTest {
             assertFalse(app.hasAdapter(MISSING));
         }
     }
+
+    @Nested
+    @DisplayName("adapter chains")
+    class AdapterChainTests {
+
+        final AdapterKey<Integer, String> TO_TEXT = AdapterKey.of("chainIntToText");
+        final AdapterKey<String, String> SHOUT = AdapterKey.of("chainShout");
+        final AdapterKey<String, Integer> LENGTH = AdapterKey.of("chainLength");
+        final AdapterKey<Integer, Integer> TEXT_LENGTH = AdapterKey.of("chainTextLength");
+
+        @Test
+        @DisplayName("should compose keys in order")
+        void shouldComposeInOrder() {
+            AdapterChain<Integer, Integer> chain = TO_TEXT.then(SHOUT).then(LENGTH);
+
+            assertEquals(List.of(TO_TEXT, SHOUT, LENGTH), chain.keys());
+            assertEquals(
+                "AdapterChain(chainIntToText -> chainShout -> chainLength)",
+                chain.toString()
+            );
+            assertEquals(chain, TO_TEXT.then(SHOUT).then(LENGTH));
+        }
+
+        @Test
+        @DisplayName("should compile a chain into one function")
+        void shouldCompileChain() {
+            HexaApp app = HexaApp.create()
+                .withAdapter(TO_TEXT, i -> "n" + i)
+                .withAdapter(SHOUT, s -> s.toUpperCase() + "!");
+
+            Function<Integer, String> fn = app.compile(TO_TEXT.then(SHOUT));
+
+            assertEquals("N42!", fn.apply(42));
+        }
+
+        @Test
+        @DisplayName("should reject chains with missing links when compiled")
+        void shouldRejectMissingLinks() {
+            HexaApp app = HexaApp.create().withAdapter(TO_TEXT, i -> "n" + i);
+
+            IllegalArgumentException e = assertThrows(
+                IllegalArgumentException.class,
+                () -> app.compile(TO_TEXT.then(SHOUT))
+            );
+            assertTrue(e.getMessage().contains("chainShout"));
+        }
+
+        @Test
+        @DisplayName("should register a compiled chain under its own key")
+        void shouldRegisterChain() {
+            HexaApp app = HexaFun.dsl()
+                .withAdapter(TO_TEXT, i -> "n" + i)
+                .withAdapter(LENGTH, String::length)
+                .withAdapterChain(TEXT_LENGTH, TO_TEXT.then(LENGTH))
+                .build();
+
+            assertEquals(4, app.adapt(TEXT_LENGTH, 123));
+            assertTrue(app.hasAdapter(TEXT_LENGTH));
+        }
+
+        @Test
+        @DisplayName("should fail the build when a chain link is unknown")
+        void shouldFailBuildOnUnknownLink() {
+            IllegalStateException e = assertThrows(
+                IllegalStateException.class,
+                () -> HexaFun.dsl()
+                    .withAdapter(TO_TEXT, i -> "n" + i)
+                    .withAdapterChain(TEXT_LENGTH, TO_TEXT.then(LENGTH))
+                    .build()
+            );
+            assertEquals(
+                "Adapter chain chainTextLength references unknown adapter: chainLength",
+                e.getMessage()
+            );
+        }
+    }
 }
@@ -0,0 +1,143 @@
+package com.guinetik.hexafun.hexa;
+
+import com.guinetik.hexafun.HexaApp;
+import com.guinetik.hexafun.HexaFun;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for asynchronous use case invocation.
+ */
+@DisplayName("invokeAsync")
+public class AsyncInvokeTest {
+
+    static final UseCaseKey<String, String> THREAD_NAME = UseCaseKey.of("asyncThreadName");
+    static final UseCaseKey<String, String> OTHER_THREAD = UseCaseKey.of("asyncOtherThread");
+    static final UseCaseKey<String, String> FAILING = UseCaseKey.of("asyncFailing");
+
+    private ExecutorService appPool;
+    private ExecutorService useCasePool;
+
+    @BeforeEach
+    void setUp() {
+        appPool = Executors.newSingleThreadExecutor(named("app-pool"));
+        useCasePool = Executors.newSingleThreadExecutor(named("use-case-pool"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        appPool.shutdown();
+        useCasePool.shutdown();
+    }
+
+    private static ThreadFactory named(String name) {
+        return runnable -> new Thread(runnable, name);
+    }
+
+    @Nested
+    @DisplayName("executor selection")
+    class ExecutorSelectionTests {
+
+        @Test
+        @DisplayName("should complete with the use case result on the default executor")
+        void shouldCompleteOnDefaultExecutor() {
+            HexaApp app = HexaFun.dsl()
+                .useCase(THREAD_NAME).handle(s -> s + "!")
+                .build();
+
+            assertEquals("hi!", app.invokeAsync(THREAD_NAME, "hi").join());
+            assertSame(DefaultExecutor.get(), app.executorFor(THREAD_NAME));
+        }
+
+        @Test
+        @DisplayName("should run on the app-wide executor")
+        void shouldRunOnAppExecutor() {
+            HexaApp app = HexaFun.dsl()
+                .withExecutor(appPool)
+                .useCase(THREAD_NAME).handle(s -> Thread.currentThread().getName())
+                .build();
+
+            assertEquals("app-pool", app.invokeAsync(THREAD_NAME, "x").join());
+        }
+
+        @Test
+        @DisplayName("per-use-case executor should override the app-wide one")
+        void perUseCaseExecutorShouldWin() {
+            HexaApp app = HexaFun.dsl()
+                .withExecutor(appPool)
+                .withExecutor(THREAD_NAME, useCasePool)
+                .useCase(THREAD_NAME).handle(s -> Thread.currentThread().getName())
+                .useCase(OTHER_THREAD).handle(s -> Thread.currentThread().getName())
+                .build();
+
+            assertEquals("use-case-pool", app.invokeAsync(THREAD_NAME, "x").join());
+            assertEquals("app-pool", app.invokeAsync(OTHER_THREAD, "x").join());
+        }
+
+        @Test
+        @DisplayName("should configure executors directly on HexaApp")
+        void shouldConfigureDirectly() {
+            HexaApp app = HexaApp.create()
+                .withUseCase(THREAD_NAME, s -> Thread.currentThread().getName())
+                .executor(THREAD_NAME, useCasePool);
+
+            assertEquals("use-case-pool", app.invokeAsync(THREAD_NAME, "x").join());
+        }
+
+        @Test
+        @DisplayName("frozen app should reject executor changes")
+        void frozenAppShouldRejectExecutors() {
+            HexaApp app = HexaFun.dsl()
+                .useCase(THREAD_NAME).handle(s -> s)
+                .frozen()
+                .build();
+
+            assertThrows(IllegalStateException.class, () -> app.executor(appPool));
+            assertThrows(
+                IllegalStateException.class,
+                () -> app.executor(THREAD_NAME, appPool)
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("failures")
+    class FailureTests {
+
+        @Test
+        @DisplayName("should complete exceptionally when the use case throws")
+        void shouldCompleteExceptionally() {
+            HexaApp app = HexaFun.dsl()
+                .useCase(FAILING).handle(s -> {
+                    throw new IllegalStateException("boom");
+                })
+                .build();
+
+            CompletableFuture<String> future = app.invokeAsync(FAILING, "x");
+            CompletionException ex = assertThrows(CompletionException.class, future::join);
+            assertTrue(ex.getCause() instanceof IllegalStateException);
+        }
+
+        @Test
+        @DisplayName("should throw when use case not found")
+        void shouldThrowWhenNotFound() {
+            UseCaseKey<String, String> MISSING = UseCaseKey.of("asyncMissing");
+            HexaApp app = HexaFun.dsl().build();
+
+            assertThrows(
+                IllegalArgumentException.class,
+                () -> app.invokeAsync(MISSING, "x")
+            );
+        }
+    }
+}
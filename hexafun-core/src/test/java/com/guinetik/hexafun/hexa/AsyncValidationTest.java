@@ -0,0 +1,275 @@
+package com.guinetik.hexafun.hexa;
+
+import com.guinetik.hexafun.HexaApp;
+import com.guinetik.hexafun.HexaFun;
+import com.guinetik.hexafun.cache.BatchLoader;
+import com.guinetik.hexafun.fun.Result;
+import com.guinetik.hexafun.trace.Span;
+import com.guinetik.hexafun.trace.Tracer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for asynchronous validators.
+ */
+@DisplayName("validateAsync")
+public class AsyncValidationTest {
+
+    @Nested
+    @DisplayName("pipeline")
+    class PipelineTests {
+
+        @Test
+        @DisplayName("invokeAsync should not block while a validator is pending")
+        void shouldNotBlock() throws Exception {
+            CompletableFuture<Result<String>> lookup = new CompletableFuture<>();
+            UseCaseKey<String, Result<String>> KEY = UseCaseKey.of("asyncValidationPending");
+            HexaApp app = HexaFun.dsl()
+                .useCase(KEY)
+                    .validateAsync(input -> lookup)
+                    .handle(input -> Result.ok(input + "!"))
+                .build();
+
+            CompletableFuture<Result<String>> result = app.invokeAsync(KEY, "x");
+            assertFalse(result.isDone());
+
+            lookup.complete(Result.ok("x"));
+            assertEquals("x!", result.get(5, TimeUnit.SECONDS).get());
+        }
+
+        @Test
+        @DisplayName("invokeAsync should not block behind metrics and a bulkhead")
+        void shouldNotBlockBehindInterceptors() throws Exception {
+            CompletableFuture<Result<String>> lookup = new CompletableFuture<>();
+            AtomicInteger tasks = new AtomicInteger();
+            Executor counting = task -> {
+                tasks.incrementAndGet();
+                ForkJoinPool.commonPool().execute(task);
+            };
+            UseCaseKey<String, Result<String>> KEY = UseCaseKey.of("asyncValidationIntercepted");
+            HexaApp app = HexaFun.dsl()
+                .withMetrics()
+                .withExecutor(counting)
+                .bulkhead(KEY, 1)
+                .useCase(KEY)
+                    .validateAsync(input -> lookup)
+                    .handle(input -> Result.ok(input + "!"))
+                .build();
+
+            CompletableFuture<Result<String>> result = app.invokeAsync(KEY, "x");
+            assertFalse(result.isDone());
+            // Nothing was handed to the executor to wait on the lookup
+            assertEquals(0, tasks.get());
+            assertEquals(1, app.bulkheadStats(KEY).active());
+
+            lookup.complete(Result.ok("x"));
+            assertEquals("x!", result.get(5, TimeUnit.SECONDS).get());
+            assertEquals(1, tasks.get());
+            assertEquals(0, app.bulkheadStats(KEY).active());
+            assertEquals(1, app.stats(KEY).invocations());
+        }
+
+        @Test
+        @DisplayName("invokeAsync should not block behind tracing, coalescing and a cache")
+        void shouldNotBlockBehindTracingAndCaching() throws Exception {
+            CompletableFuture<Result<String>> lookup = new CompletableFuture<>();
+            AtomicInteger lookups = new AtomicInteger();
+            AtomicInteger tasks = new AtomicInteger();
+            Executor counting = task -> {
+                tasks.incrementAndGet();
+                ForkJoinPool.commonPool().execute(task);
+            };
+            List<List<Span>> traces = new CopyOnWriteArrayList<>();
+            Tracer tracer = Tracer.create(traces::add);
+            UseCaseKey<String, Result<String>> KEY = UseCaseKey.of("asyncValidationTraced");
+            HexaApp app = HexaFun.dsl()
+                .withTracer(tracer)
+                .withExecutor(counting)
+                .coalesced(KEY)
+                .cached(KEY, 10, null)
+                .useCase(KEY)
+                    .validateAsync(input -> {
+                        lookups.incrementAndGet();
+                        return lookup;
+                    })
+                    .handle(input -> Result.ok(input + "!"))
+                .build();
+
+            CompletableFuture<Result<String>> first = app.invokeAsync(KEY, "x");
+            CompletableFuture<Result<String>> second = app.invokeAsync(KEY, "x");
+            assertFalse(first.isDone());
+            assertFalse(second.isDone());
+            // Nothing was handed to the executor to wait on the lookup
+            assertEquals(0, tasks.get());
+            assertEquals(1, lookups.get());
+            assertTrue(traces.isEmpty());
+            assertNull(tracer.current());
+
+            lookup.complete(Result.ok("x"));
+            assertEquals("x!", first.get(5, TimeUnit.SECONDS).get());
+            assertEquals("x!", second.get(5, TimeUnit.SECONDS).get());
+            assertEquals(1, tasks.get());
+            assertEquals(2, traces.size());
+            assertEquals("asyncValidationTraced", traces.get(0).get(0).name());
+
+            // The completed value is now cached
+            assertTrue(app.invokeAsync(KEY, "x").isDone());
+            assertEquals(1, lookups.get());
+        }
+
+        @Test
+        @DisplayName("invoke should wait for asynchronous validators")
+        void invokeShouldWait() {
+            UseCaseKey<String, Result<String>> KEY = UseCaseKey.of("asyncValidationSync");
+            HexaApp app = HexaFun.dsl()
+                .useCase(KEY)
+                    .validateAsync(input -> CompletableFuture.supplyAsync(() -> Result.ok(input)))
+                    .handle(input -> Result.ok(input.toUpperCase()))
+                .build();
+
+            assertEquals("X", app.invoke(KEY, "x").get());
+        }
+
+        @Test
+        @DisplayName("should run sync and async stages in declaration order")
+        void shouldRunStagesInOrder() {
+            List<String> seen = new ArrayList<>();
+            UseCaseKey<String, Result<String>> KEY = UseCaseKey.of("asyncValidationOrder");
+            HexaApp app = HexaFun.dsl()
+                .useCase(KEY)
+                    .validate(input -> Result.ok(input.trim()))
+                    .validateAsync(input -> {
+                        seen.add("async:" + input);
+                        return CompletableFuture.completedFuture(Result.ok("ignored"));
+                    })
+                    .validate(input -> {
+                        seen.add("sync:" + input);
+                        return Result.ok(input + "?");
+                    })
+                    .handle(Result::ok)
+                .build();
+
+            assertEquals("a?", app.invokeAsync(KEY, " a ").join().get());
+            assertEquals(List.of("async:a", "sync:a"), seen);
+        }
+
+        @Test
+        @DisplayName("should stop at an asynchronous failure")
+        void shouldShortCircuit() {
+            AtomicInteger later = new AtomicInteger();
+            UseCaseKey<String, Result<String>> KEY = UseCaseKey.of("asyncValidationFailure");
+            HexaApp app = HexaFun.dsl()
+                .useCase(KEY)
+                    .validateAsync(input ->
+                        CompletableFuture.completedFuture(Result.fail("unknown id")))
+                    .validate(input -> {
+                        later.incrementAndGet();
+                        return Result.ok(input);
+                    })
+                    .handle(input -> {
+                        later.incrementAndGet();
+                        return Result.ok(input);
+                    })
+                .build();
+
+            assertEquals("unknown id", app.invokeAsync(KEY, "x").join().error());
+            assertEquals("unknown id", app.invoke(KEY, "x").error());
+            assertEquals(0, later.get());
+        }
+
+        @Test
+        @DisplayName("should report the first failure of a group in declaration order")
+        void shouldReportFirstGroupFailure() {
+            CompletableFuture<Result<String>> slow = new CompletableFuture<>();
+            UseCaseKey<String, Result<String>> KEY = UseCaseKey.of("asyncValidationGroup");
+            HexaApp app = HexaFun.dsl()
+                .useCase(KEY)
+                    .validateAsync(input -> slow)
+                    .validateAsync(input ->
+                        CompletableFuture.completedFuture(Result.fail("second")))
+                    .handle(Result::ok)
+                .build();
+
+            CompletableFuture<Result<String>> result = app.invokeAsync(KEY, "x");
+            slow.complete(Result.fail("first"));
+
+            assertEquals("first", result.join().error());
+        }
+
+        @Test
+        @DisplayName("should surface a validator's exception")
+        void shouldSurfaceExceptions() {
+            IllegalStateException failure = new IllegalStateException("port down");
+            UseCaseKey<String, Result<String>> KEY = UseCaseKey.of("asyncValidationThrows");
+            HexaApp app = HexaFun.dsl()
+                .useCase(KEY)
+                    .validateAsync(input -> CompletableFuture.failedFuture(failure))
+                    .handle(Result::ok)
+                .build();
+
+            CompletionException async =
+                assertThrows(CompletionException.class, () -> app.invokeAsync(KEY, "x").join());
+            assertSame(failure, async.getCause());
+            assertSame(failure, assertThrows(IllegalStateException.class, () -> app.invoke(KEY, "x")));
+        }
+    }
+
+    @Nested
+    @DisplayName("batching")
+    class BatchingTests {
+
+        @Test
+        @DisplayName("consecutive validators should share one bulk lookup")
+        void shouldShareBulkLookup() {
+            Map<String, String> owners = Map.of("task-1", "ana", "ana", "user");
+            List<Integer> bulkSizes = new ArrayList<>();
+            BatchLoader<String, String> lookup = new BatchLoader<>(
+                keys -> {
+                    bulkSizes.add(keys.size());
+                    Map<String, String> found = new HashMap<>();
+                    keys.forEach(key -> {
+                        if (owners.containsKey(key)) {
+                            found.put(key, owners.get(key));
+                        }
+                    });
+                    return found;
+                },
+                100,
+                Duration.ofMillis(50)
+            );
+
+            record Assign(String taskId, String userId) {}
+            AsyncValidationPort<Assign> taskExists = input -> lookup.load(input.taskId())
+                .thenApply(found -> found != null ? Result.ok(input) : Result.fail("no task"));
+            AsyncValidationPort<Assign> userExists = input -> lookup.load(input.userId())
+                .thenApply(found -> found != null ? Result.ok(input) : Result.fail("no user"));
+
+            UseCaseKey<Assign, Result<String>> ASSIGN = UseCaseKey.of("asyncValidationBatched");
+            HexaApp app = HexaFun.dsl()
+                .useCase(ASSIGN)
+                    .validateAsync(taskExists)
+                    .validateAsync(userExists)
+                    .handle(input -> Result.ok(input.taskId() + "->" + input.userId()))
+                .build();
+
+            assertEquals("task-1->ana", app.invokeAsync(ASSIGN, new Assign("task-1", "ana")).join().get());
+            assertEquals(List.of(2), bulkSizes);
+            assertEquals("no user", app.invoke(ASSIGN, new Assign("task-1", "bob")).error());
+        }
+    }
+}
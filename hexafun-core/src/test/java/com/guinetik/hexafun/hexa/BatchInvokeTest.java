@@ -0,0 +1,216 @@
+package com.guinetik.hexafun.hexa;
+
+import com.guinetik.hexafun.HexaApp;
+import com.guinetik.hexafun.HexaFun;
+import com.guinetik.hexafun.fun.Result;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for batch invocation.
+ */
+@DisplayName("invokeAll")
+public class BatchInvokeTest {
+
+    static final UseCaseKey<Integer, Integer> SQUARE = UseCaseKey.of("batchSquare");
+    static final UseCaseKey<Integer, Result<Integer>> HALVE = UseCaseKey.of("batchHalve");
+
+    private static List<Integer> range(int size) {
+        return IntStream.range(0, size).boxed().collect(Collectors.toList());
+    }
+
+    private static Result<Integer> halve(int i) {
+        return i % 2 == 0 ? Result.ok(i / 2) : Result.fail("odd: " + i);
+    }
+
+    @Nested
+    @DisplayName("fan-out")
+    class FanOutTests {
+
+        @Test
+        @DisplayName("should keep output order")
+        void shouldKeepOutputOrder() {
+            HexaApp app = HexaFun.dsl()
+                .useCase(SQUARE).handle(i -> i * i)
+                .build();
+
+            List<Integer> outputs = app.invokeAll(SQUARE, range(1000));
+
+            assertEquals(1000, outputs.size());
+            for (int i = 0; i < outputs.size(); i++) {
+                assertEquals(i * i, outputs.get(i));
+            }
+        }
+
+        @Test
+        @DisplayName("should spread work over several threads")
+        void shouldSpreadWorkOverThreads() {
+            Set<String> threads = ConcurrentHashMap.newKeySet();
+            HexaApp app = HexaFun.dsl()
+                .useCase(SQUARE).handle(i -> {
+                    threads.add(Thread.currentThread().getName());
+                    try {
+                        Thread.sleep(1);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return i;
+                })
+                .build();
+
+            app.invokeAll(SQUARE, range(200));
+
+            if (Runtime.getRuntime().availableProcessors() > 1) {
+                assertTrue(threads.size() > 1);
+            }
+        }
+
+        @Test
+        @DisplayName("should handle empty and single inputs")
+        void shouldHandleEmptyAndSingle() {
+            HexaApp app = HexaFun.dsl()
+                .useCase(SQUARE).handle(i -> i * i)
+                .build();
+
+            assertTrue(app.invokeAll(SQUARE, List.of()).isEmpty());
+            assertEquals(List.of(9), app.invokeAll(SQUARE, List.of(3)));
+        }
+
+        @Test
+        @DisplayName("should throw when use case not found")
+        void shouldThrowWhenNotFound() {
+            UseCaseKey<Integer, Integer> MISSING = UseCaseKey.of("batchMissing");
+            HexaApp app = HexaFun.dsl().build();
+
+            assertThrows(
+                IllegalArgumentException.class,
+                () -> app.invokeAll(MISSING, List.of(1))
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("Result modes")
+    class ResultModeTests {
+
+        @Test
+        @DisplayName("should return all values when every input succeeds")
+        void shouldReturnAllValues() {
+            HexaApp app = HexaFun.dsl()
+                .useCase(HALVE).handle(BatchInvokeTest::halve)
+                .build();
+
+            Result<List<Integer>> result = app.invokeAll(
+                HALVE, List.of(2, 4, 6), BatchMode.COLLECT_ALL
+            );
+
+            assertTrue(result.isSuccess());
+            assertEquals(List.of(1, 2, 3), result.get());
+        }
+
+        @Test
+        @DisplayName("COLLECT_ALL should run everything and report every error")
+        void collectAllShouldReportEveryError() {
+            AtomicInteger calls = new AtomicInteger();
+            HexaApp app = HexaFun.dsl()
+                .useCase(HALVE).handle(i -> {
+                    calls.incrementAndGet();
+                    return halve(i);
+                })
+                .build();
+
+            Result<List<Integer>> result = app.invokeAll(
+                HALVE, List.of(1, 2, 3, 4), BatchMode.COLLECT_ALL
+            );
+
+            assertTrue(result.isFailure());
+            assertEquals(ValidationError.MULTIPLE, result.errorCode());
+            assertEquals(2, ValidationError.failures(result).size());
+            assertEquals("odd: 1; odd: 3", result.error());
+            assertEquals(4, calls.get());
+        }
+
+        @Test
+        @DisplayName("FAIL_FAST should return the first failure and skip the rest")
+        void failFastShouldStopEarly() {
+            AtomicInteger calls = new AtomicInteger();
+            HexaApp app = HexaFun.dsl()
+                .useCase(HALVE).handle(i -> {
+                    calls.incrementAndGet();
+                    return i % 100 == 0 ? Result.fail("bad") : Result.ok(i);
+                })
+                .build();
+
+            List<Integer> inputs = new ArrayList<>(range(10_000));
+            Result<List<Integer>> result = app.invokeAll(
+                HALVE, inputs, BatchMode.FAIL_FAST
+            );
+
+            assertTrue(result.isFailure());
+            assertEquals("bad", result.error());
+            assertTrue(calls.get() < inputs.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("native batch handler")
+    class NativeBatchTests {
+
+        @Test
+        @DisplayName("should hand the whole list to the batch handler")
+        void shouldUseBatchHandler() {
+            AtomicInteger batchCalls = new AtomicInteger();
+            HexaApp app = HexaFun.dsl()
+                .useCase(SQUARE).handle(i -> { throw new AssertionError("per-element"); })
+                .withBatchHandler(SQUARE, inputs -> {
+                    batchCalls.incrementAndGet();
+                    return inputs.stream().map(i -> i * i).collect(Collectors.toList());
+                })
+                .build();
+
+            assertEquals(List.of(1, 4, 9), app.invokeAll(SQUARE, List.of(1, 2, 3)));
+            assertEquals(1, batchCalls.get());
+            assertThrows(AssertionError.class, () -> app.invoke(SQUARE, 2));
+        }
+
+        @Test
+        @DisplayName("should apply Result modes to batch handler outputs")
+        void shouldApplyModesToBatchOutputs() {
+            HexaApp app = HexaFun.dsl()
+                .useCase(HALVE).handle(BatchInvokeTest::halve)
+                .withBatchHandler(HALVE, inputs -> inputs.stream()
+                    .map(BatchInvokeTest::halve)
+                    .collect(Collectors.toList()))
+                .build();
+
+            Result<List<Integer>> result = app.invokeAll(
+                HALVE, List.of(2, 3, 5), BatchMode.FAIL_FAST
+            );
+            assertEquals("odd: 3", result.error());
+        }
+
+        @Test
+        @DisplayName("should reject batch handlers that lose outputs")
+        void shouldRejectMismatchedBatchOutputs() {
+            HexaApp app = HexaFun.dsl()
+                .useCase(SQUARE).handle(i -> i)
+                .withBatchHandler(SQUARE, inputs -> List.of())
+                .build();
+
+            assertThrows(
+                IllegalStateException.class,
+                () -> app.invokeAll(SQUARE, List.of(1, 2))
+            );
+        }
+    }
+}
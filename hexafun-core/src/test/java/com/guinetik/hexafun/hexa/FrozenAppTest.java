@@ -0,0 +1,151 @@
+package com.guinetik.hexafun.hexa;
+
+import com.guinetik.hexafun.HexaApp;
+import com.guinetik.hexafun.HexaFun;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for frozen (sealed) HexaApp instances.
+ */
+@DisplayName("Frozen HexaApp")
+public class FrozenAppTest {
+
+    interface Greeter {
+        String greet(String name);
+    }
+
+    static final UseCaseKey<String, String> GREET = UseCaseKey.of("frozenGreet");
+    static final UseCaseKey<String, Integer> LENGTH = UseCaseKey.of("frozenLength");
+    static final AdapterKey<String, String> UPPER = AdapterKey.of("frozenUpper");
+
+    private static HexaApp frozenApp() {
+        return HexaFun.dsl()
+            .withPort(Greeter.class, name -> "Hello, " + name)
+            .withAdapter(UPPER, String::toUpperCase)
+            .useCase(GREET).handle(name -> name + "!")
+            .frozen()
+            .build();
+    }
+
+    @Nested
+    @DisplayName("builder")
+    class BuilderTests {
+
+        @Test
+        @DisplayName("should not freeze unless requested")
+        void shouldNotFreezeByDefault() {
+            HexaApp app = HexaFun.dsl()
+                .useCase(GREET).handle(name -> name)
+                .build();
+
+            assertFalse(app.isFrozen());
+            app.withUseCase(LENGTH, String::length);
+            assertEquals(3, (int) app.invoke(LENGTH, "abc"));
+        }
+
+        @Test
+        @DisplayName("should freeze when requested")
+        void shouldFreezeWhenRequested() {
+            assertTrue(frozenApp().isFrozen());
+        }
+
+        @Test
+        @DisplayName("frozen app should keep all registrations")
+        void frozenAppShouldKeepRegistrations() {
+            HexaApp app = frozenApp();
+
+            assertEquals("World!", app.invoke(GREET, "World"));
+            assertEquals("ABC", app.adapt(UPPER, "abc"));
+            assertEquals("Hello, Bob", app.port(Greeter.class).greet("Bob"));
+            assertTrue(app.registeredUseCases().contains("frozenGreet"));
+        }
+    }
+
+    @Nested
+    @DisplayName("mutation")
+    class MutationTests {
+
+        @Test
+        @DisplayName("should reject new use cases")
+        void shouldRejectUseCases() {
+            HexaApp app = frozenApp();
+            assertThrows(
+                IllegalStateException.class,
+                () -> app.withUseCase(LENGTH, String::length)
+            );
+            assertThrows(
+                IllegalStateException.class,
+                () -> app.withUseCase("other", (String s) -> s)
+            );
+        }
+
+        @Test
+        @DisplayName("should reject new ports and adapters")
+        void shouldRejectPortsAndAdapters() {
+            HexaApp app = frozenApp();
+            assertThrows(
+                IllegalStateException.class,
+                () -> app.port(Greeter.class, name -> name)
+            );
+            assertThrows(
+                IllegalStateException.class,
+                () -> app.withAdapter(UPPER, String::toLowerCase)
+            );
+        }
+
+        @Test
+        @DisplayName("registry views should be immutable")
+        void registryViewsShouldBeImmutable() {
+            HexaApp app = frozenApp();
+            assertThrows(
+                UnsupportedOperationException.class,
+                () -> app.registeredUseCases().clear()
+            );
+            assertThrows(
+                UnsupportedOperationException.class,
+                () -> app.registeredPorts().clear()
+            );
+        }
+
+        @Test
+        @DisplayName("freezing twice should be a no-op")
+        void freezingTwiceShouldBeNoOp() {
+            HexaApp app = frozenApp();
+            assertSame(app, app.freeze());
+            assertEquals("x!", app.invoke(GREET, "x"));
+        }
+    }
+
+    @Nested
+    @DisplayName("concurrency")
+    class ConcurrencyTests {
+
+        @Test
+        @DisplayName("should serve invocations from many threads")
+        void shouldServeManyThreads() throws Exception {
+            HexaApp app = frozenApp();
+            ExecutorService pool = Executors.newFixedThreadPool(8);
+            try {
+                List<Future<String>> futures = new ArrayList<>();
+                for (int i = 0; i < 1000; i++) {
+                    String name = "n" + i;
+                    futures.add(pool.submit(() -> app.invoke(GREET, name)));
+                }
+                for (int i = 0; i < futures.size(); i++) {
+                    assertEquals("n" + i + "!", futures.get(i).get());
+                }
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+}
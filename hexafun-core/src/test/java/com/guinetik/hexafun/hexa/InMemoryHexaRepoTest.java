@@ -137,6 +137,7 @@ class InMemoryHexaRepoTest {
         
         // Assert
         assertTrue(result.isFailure());
+        assertEquals(RepoError.NOT_FOUND, result.errorCode());
         assertTrue(result.error().contains("not found"));
     }
     
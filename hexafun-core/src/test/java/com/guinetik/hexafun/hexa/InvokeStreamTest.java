@@ -0,0 +1,435 @@
+package com.guinetik.hexafun.hexa;
+
+import com.guinetik.hexafun.HexaApp;
+import com.guinetik.hexafun.HexaFun;
+import com.guinetik.hexafun.fun.Result;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for stream invocation.
+ */
+@DisplayName("invokeStream")
+public class InvokeStreamTest {
+
+    static final UseCaseKey<Integer, Integer> DOUBLE = UseCaseKey.of("streamDouble");
+    static final UseCaseKey<Integer, Result<Integer>> HALVE = UseCaseKey.of("streamHalve");
+
+    private static List<Integer> range(int size) {
+        return IntStream.range(0, size).boxed().collect(Collectors.toList());
+    }
+
+    /** Emits a list on request, recording how much was asked for. */
+    static final class ListPublisher implements Flow.Publisher<Integer> {
+        final List<Integer> items;
+        final AtomicLong requested = new AtomicLong();
+        volatile boolean cancelled;
+
+        ListPublisher(List<Integer> items) {
+            this.items = items;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super Integer> subscriber) {
+            AtomicInteger index = new AtomicInteger();
+            AtomicLong demand = new AtomicLong();
+            AtomicInteger wip = new AtomicInteger();
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    requested.addAndGet(n);
+                    demand.addAndGet(n);
+                    if (wip.getAndIncrement() != 0) {
+                        return;
+                    }
+                    do {
+                        while (demand.get() > 0 && !cancelled && index.get() < items.size()) {
+                            demand.decrementAndGet();
+                            subscriber.onNext(items.get(index.getAndIncrement()));
+                        }
+                        if (!cancelled && index.get() == items.size()) {
+                            index.incrementAndGet();
+                            subscriber.onComplete();
+                        }
+                    } while (wip.decrementAndGet() != 0);
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                }
+            });
+        }
+    }
+
+    /** Collects everything, requesting a fixed amount up front. */
+    static final class Collector<T> implements Flow.Subscriber<T> {
+        final List<T> items = new CopyOnWriteArrayList<>();
+        final CountDownLatch done = new CountDownLatch(1);
+        final long initial;
+        volatile Flow.Subscription subscription;
+        volatile Throwable error;
+        volatile boolean completed;
+
+        Collector(long initial) {
+            this.initial = initial;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (initial > 0) {
+                subscription.request(initial);
+            }
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            done.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            done.countDown();
+        }
+
+        void await() throws InterruptedException {
+            assertTrue(done.await(5, TimeUnit.SECONDS), "stream did not terminate");
+        }
+    }
+
+    private static HexaApp doubling() {
+        return HexaFun.dsl()
+            .useCase(DOUBLE).handle(i -> i * 2)
+            .build();
+    }
+
+    @Nested
+    @DisplayName("ordering")
+    class OrderingTests {
+
+        @Test
+        @DisplayName("should publish outputs in input order by default")
+        void shouldKeepOrder() throws InterruptedException {
+            Collector<Integer> sink = new Collector<>(Long.MAX_VALUE);
+            doubling().invokeStream(DOUBLE, new ListPublisher(range(100))).subscribe(sink);
+
+            sink.await();
+            assertTrue(sink.completed);
+            assertEquals(range(100).stream().map(i -> i * 2).collect(Collectors.toList()), sink.items);
+        }
+
+        @Test
+        @DisplayName("should keep order with parallel invocations")
+        void shouldKeepOrderInParallel() throws InterruptedException {
+            HexaApp app = HexaFun.dsl()
+                .useCase(DOUBLE).handle(i -> {
+                    sleep(i % 3);
+                    return i * 2;
+                })
+                .build();
+            Collector<Integer> sink = new Collector<>(Long.MAX_VALUE);
+            app.invokeStream(DOUBLE, new ListPublisher(range(60)), 4, StreamOrder.ORDERED)
+                .subscribe(sink);
+
+            sink.await();
+            assertEquals(range(60).stream().map(i -> i * 2).collect(Collectors.toList()), sink.items);
+        }
+
+        @Test
+        @DisplayName("should let fast outputs overtake slow ones when unordered")
+        void shouldEmitOnCompletionWhenUnordered() throws InterruptedException {
+            CountDownLatch release = new CountDownLatch(1);
+            HexaApp app = HexaFun.dsl()
+                .useCase(DOUBLE).handle(i -> {
+                    if (i == 0) {
+                        await(release);
+                    }
+                    return i * 2;
+                })
+                .build();
+            Collector<Integer> sink = new Collector<>(Long.MAX_VALUE);
+            app.invokeStream(DOUBLE, new ListPublisher(range(2)), 2, StreamOrder.UNORDERED)
+                .subscribe(sink);
+
+            waitFor(() -> sink.items.size() == 1);
+            assertEquals(List.of(2), sink.items);
+            release.countDown();
+            sink.await();
+            assertEquals(List.of(2, 0), sink.items);
+        }
+    }
+
+    @Nested
+    @DisplayName("flow control")
+    class FlowControlTests {
+
+        @Test
+        @DisplayName("should never run more than parallelism invocations at once")
+        void shouldBoundParallelism() throws InterruptedException {
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger peak = new AtomicInteger();
+            HexaApp app = HexaFun.dsl()
+                .useCase(DOUBLE).handle(i -> {
+                    peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    sleep(2);
+                    running.decrementAndGet();
+                    return i;
+                })
+                .build();
+            Collector<Integer> sink = new Collector<>(Long.MAX_VALUE);
+            app.invokeStream(DOUBLE, new ListPublisher(range(50)), 3, StreamOrder.UNORDERED)
+                .subscribe(sink);
+
+            sink.await();
+            assertEquals(50, sink.items.size());
+            assertTrue(peak.get() <= 3, "peak was " + peak.get());
+        }
+
+        @Test
+        @DisplayName("should request no more than parallelism ahead of demand")
+        void shouldHonorBackpressure() throws InterruptedException {
+            ListPublisher source = new ListPublisher(range(100));
+            Collector<Integer> sink = new Collector<>(0);
+            doubling().invokeStream(DOUBLE, source, 4, StreamOrder.ORDERED).subscribe(sink);
+
+            waitFor(() -> source.requested.get() == 4);
+            sleep(20);
+            assertEquals(4, source.requested.get());
+            assertTrue(sink.items.isEmpty());
+
+            sink.subscription.request(2);
+            waitFor(() -> sink.items.size() == 2);
+            waitFor(() -> source.requested.get() == 6);
+            sleep(20);
+            assertEquals(6, source.requested.get());
+            assertEquals(List.of(0, 2), sink.items);
+        }
+
+        @Test
+        @DisplayName("should stop the source on cancel")
+        void shouldCancelUpstream() throws InterruptedException {
+            ListPublisher source = new ListPublisher(range(100));
+            Collector<Integer> sink = new Collector<>(3);
+            doubling().invokeStream(DOUBLE, source, 2, StreamOrder.ORDERED).subscribe(sink);
+
+            waitFor(() -> sink.items.size() == 3);
+            sink.subscription.cancel();
+            assertTrue(source.cancelled);
+            assertFalse(sink.completed);
+        }
+
+        @Test
+        @DisplayName("should reject a non-positive request")
+        void shouldRejectBadRequest() throws InterruptedException {
+            ListPublisher source = new ListPublisher(range(10));
+            Collector<Integer> sink = new Collector<>(0);
+            doubling().invokeStream(DOUBLE, source).subscribe(sink);
+
+            sink.subscription.request(0);
+            sink.await();
+            assertInstanceOf(IllegalArgumentException.class, sink.error);
+            assertTrue(source.cancelled);
+        }
+    }
+
+    @Nested
+    @DisplayName("failures")
+    class FailureTests {
+
+        @Test
+        @DisplayName("should publish failed results as elements")
+        void shouldPublishFailures() throws InterruptedException {
+            HexaApp app = HexaFun.dsl()
+                .useCase(HALVE).handle(i -> i % 2 == 0 ? Result.ok(i / 2) : Result.fail("odd: " + i))
+                .build();
+            Collector<Result<Integer>> sink = new Collector<>(Long.MAX_VALUE);
+            app.invokeStream(HALVE, new ListPublisher(range(4)), 2, StreamOrder.ORDERED)
+                .subscribe(sink);
+
+            sink.await();
+            assertTrue(sink.completed);
+            assertEquals(4, sink.items.size());
+            assertEquals(1, sink.items.get(2).get());
+            assertEquals("odd: 3", sink.items.get(3).error());
+        }
+
+        @Test
+        @DisplayName("should end the stream when a use case throws")
+        void shouldErrorOnException() throws InterruptedException {
+            ListPublisher source = new ListPublisher(range(100));
+            HexaApp app = HexaFun.dsl()
+                .useCase(DOUBLE).handle(i -> {
+                    if (i == 2) {
+                        throw new IllegalStateException("boom");
+                    }
+                    return i;
+                })
+                .build();
+            Collector<Integer> sink = new Collector<>(Long.MAX_VALUE);
+            app.invokeStream(DOUBLE, source).subscribe(sink);
+
+            sink.await();
+            assertEquals(List.of(0, 1), sink.items);
+            assertInstanceOf(IllegalStateException.class, sink.error);
+            assertTrue(source.cancelled);
+        }
+
+        @Test
+        @DisplayName("should not invoke the use case for items arriving after an error")
+        void shouldDropItemsAfterError() throws InterruptedException {
+            // Delivers everything requested, even after cancel, as a source may
+            // for items already in flight
+            Flow.Publisher<Integer> source = subscriber -> subscriber.onSubscribe(
+                new Flow.Subscription() {
+                    int next;
+
+                    @Override
+                    public void request(long n) {
+                        for (long i = 0; i < n; i++) {
+                            subscriber.onNext(next++);
+                        }
+                    }
+
+                    @Override
+                    public void cancel() {}
+                }
+            );
+            List<Integer> invoked = new CopyOnWriteArrayList<>();
+            UseCaseKey<Integer, Integer> key = UseCaseKey.of("streamFailOnce");
+            HexaApp app = HexaFun.dsl()
+                .useCase(key).handle(new AsyncUseCase<Integer, Integer>() {
+                    @Override
+                    public CompletableFuture<Integer> applyAsync(Integer input, Executor executor) {
+                        invoked.add(input);
+                        return input == 1
+                            ? CompletableFuture.failedFuture(new IllegalStateException("boom"))
+                            : CompletableFuture.completedFuture(input);
+                    }
+
+                    @Override
+                    public Integer apply(Integer input) {
+                        throw new AssertionError("should not block");
+                    }
+                })
+                .build();
+            Collector<Integer> sink = new Collector<>(Long.MAX_VALUE);
+            app.invokeStream(key, source, 4, StreamOrder.ORDERED).subscribe(sink);
+
+            sink.await();
+            assertInstanceOf(IllegalStateException.class, sink.error);
+            assertEquals(List.of(0), sink.items);
+            assertEquals(List.of(0, 1), invoked);
+        }
+
+        @Test
+        @DisplayName("should pass an upstream error on after pending outputs")
+        void shouldForwardUpstreamError() throws InterruptedException {
+            RuntimeException failure = new RuntimeException("source failed");
+            Flow.Publisher<Integer> source = subscriber -> subscriber.onSubscribe(
+                new Flow.Subscription() {
+                    boolean sent;
+
+                    @Override
+                    public void request(long n) {
+                        if (!sent) {
+                            sent = true;
+                            subscriber.onNext(1);
+                            subscriber.onError(failure);
+                        }
+                    }
+
+                    @Override
+                    public void cancel() {}
+                }
+            );
+            Collector<Integer> sink = new Collector<>(Long.MAX_VALUE);
+            doubling().invokeStream(DOUBLE, source, 2, StreamOrder.UNORDERED).subscribe(sink);
+
+            sink.await();
+            assertEquals(List.of(2), sink.items);
+            assertSame(failure, sink.error);
+        }
+
+        @Test
+        @DisplayName("should reject unknown keys and bad parallelism")
+        void shouldRejectBadArguments() {
+            HexaApp app = doubling();
+            ListPublisher source = new ListPublisher(range(1));
+            assertThrows(IllegalArgumentException.class,
+                () -> app.invokeStream(HALVE, new ListPublisher(range(1))));
+            assertThrows(IllegalArgumentException.class,
+                () -> app.invokeStream(DOUBLE, source, 0, StreamOrder.ORDERED));
+        }
+    }
+
+    @Test
+    @DisplayName("should run asynchronous use cases without blocking a thread")
+    void shouldUseAsyncUseCases() throws InterruptedException {
+        UseCaseKey<Integer, Integer> key = UseCaseKey.of("streamAsyncTriple");
+        HexaApp app = HexaFun.dsl()
+            .useCase(key).handle(new AsyncUseCase<Integer, Integer>() {
+                @Override
+                public CompletableFuture<Integer> applyAsync(Integer input, Executor executor) {
+                    return CompletableFuture.completedFuture(input * 3);
+                }
+
+                @Override
+                public Integer apply(Integer input) {
+                    throw new AssertionError("should not block");
+                }
+            })
+            .build();
+        Collector<Integer> sink = new Collector<>(Long.MAX_VALUE);
+        app.invokeStream(key, new ListPublisher(range(5)), 2, StreamOrder.ORDERED).subscribe(sink);
+
+        sink.await();
+        assertEquals(List.of(0, 3, 6, 9, 12), sink.items);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitFor(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not reached");
+            sleep(1);
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.guinetik.hexafun.hexa;
+
+import com.guinetik.hexafun.HexaApp;
+import com.guinetik.hexafun.HexaFun;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for lazily and eagerly supplied ports.
+ */
+@DisplayName("LazyPort")
+public class LazyPortTest {
+
+    interface Clock {
+        long now();
+        String zone();
+    }
+
+    interface Store {
+        String load(String id);
+        int size();
+    }
+
+    record FixedClock(long now) implements Clock {
+        @Override
+        public String zone() {
+            return "UTC";
+        }
+    }
+
+    static class PrefixStore implements Store {
+        @Override
+        public String load(String id) {
+            return "item:" + id;
+        }
+
+        @Override
+        public int size() {
+            return 0;
+        }
+    }
+
+    @Nested
+    @DisplayName("lazy registration")
+    class LazyTests {
+
+        @Test
+        @DisplayName("should construct the port on first lookup only")
+        void shouldConstructOnFirstLookup() {
+            AtomicInteger built = new AtomicInteger();
+            HexaApp app = HexaApp.create().lazyPort(Clock.class, () -> {
+                built.incrementAndGet();
+                return new FixedClock(42L);
+            });
+
+            assertEquals(0, built.get());
+            assertTrue(app.hasPort(Clock.class));
+            assertTrue(app.portStartupReport().isEmpty());
+
+            assertEquals(42L, app.port(Clock.class).now());
+            assertSame(app.port(Clock.class), app.port(Clock.class));
+            assertEquals(1, built.get());
+
+            List<PortInit> report = app.portStartupReport();
+            assertEquals(1, report.size());
+            assertEquals(Clock.class, report.get(0).port());
+        }
+
+        @Test
+        @DisplayName("should retry a supplier that threw")
+        void shouldRetryAfterFailure() {
+            AtomicInteger attempts = new AtomicInteger();
+            LazyPort<Clock> lazy = LazyPort.of(Clock.class, () -> {
+                if (attempts.incrementAndGet() == 1) {
+                    throw new IllegalStateException("not ready");
+                }
+                return new FixedClock(1L);
+            });
+
+            assertThrows(IllegalStateException.class, lazy::get);
+            assertFalse(lazy.isInitialized());
+            assertEquals(1L, lazy.get().now());
+            assertTrue(lazy.isInitialized());
+        }
+
+        @Test
+        @DisplayName("should reject a supplier that returns null")
+        void shouldRejectNullImplementation() {
+            HexaApp app = HexaApp.create().lazyPort(Clock.class, () -> null);
+
+            IllegalStateException e = assertThrows(
+                IllegalStateException.class,
+                () -> app.port(Clock.class)
+            );
+            assertTrue(e.getMessage().contains(Clock.class.getName()));
+        }
+
+        @Test
+        @DisplayName("should construct once under concurrent lookups")
+        void shouldConstructOnceConcurrently() throws Exception {
+            AtomicInteger built = new AtomicInteger();
+            HexaApp app = HexaApp.create().lazyPort(Clock.class, () -> {
+                built.incrementAndGet();
+                return new FixedClock(7L);
+            }).freeze();
+
+            ExecutorService pool = Executors.newFixedThreadPool(8);
+            CountDownLatch start = new CountDownLatch(1);
+            try {
+                for (int i = 0; i < 8; i++) {
+                    pool.execute(() -> {
+                        try {
+                            start.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        app.port(Clock.class).now();
+                    });
+                }
+                start.countDown();
+            } finally {
+                pool.shutdown();
+                assertTrue(pool.awaitTermination(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, built.get());
+        }
+
+        @Test
+        @DisplayName("should apply port interceptors to the constructed instance")
+        void shouldInterceptLazyPorts() {
+            AtomicInteger built = new AtomicInteger();
+            AtomicInteger intercepted = new AtomicInteger();
+            HexaApp app = HexaFun.dsl()
+                .withLazyPort(Store.class, () -> {
+                    built.incrementAndGet();
+                    return new PrefixStore();
+                })
+                .withPortInterceptor((port, method, args, call) -> {
+                    intercepted.incrementAndGet();
+                    return call.proceed();
+                })
+                .build();
+
+            assertEquals(0, built.get());
+            assertEquals("item:1", app.port(Store.class).load("1"));
+            assertEquals(1, built.get());
+            assertEquals(1, intercepted.get());
+        }
+    }
+
+    @Nested
+    @DisplayName("eager registration")
+    class EagerTests {
+
+        @Test
+        @DisplayName("should construct eager ports during build")
+        void shouldConstructDuringBuild() {
+            AtomicInteger built = new AtomicInteger();
+            HexaApp app = HexaFun.dsl()
+                .withEagerPort(Clock.class, () -> {
+                    built.incrementAndGet();
+                    return new FixedClock(1L);
+                })
+                .withLazyPort(Store.class, () -> {
+                    built.incrementAndGet();
+                    return new PrefixStore();
+                })
+                .build();
+
+            assertEquals(1, built.get());
+            assertEquals(1, app.portStartupReport().size());
+            assertEquals(Clock.class, app.portStartupReport().get(0).port());
+        }
+
+        @Test
+        @DisplayName("should construct eager ports concurrently on the executor")
+        void shouldConstructConcurrently() {
+            CountDownLatch bothStarted = new CountDownLatch(2);
+            ExecutorService pool = Executors.newFixedThreadPool(2);
+            try {
+                HexaApp app = HexaFun.dsl()
+                    .withEagerPort(Clock.class, () -> {
+                        awaitOther(bothStarted);
+                        return new FixedClock(1L);
+                    })
+                    .withEagerPort(Store.class, () -> {
+                        awaitOther(bothStarted);
+                        return new PrefixStore();
+                    })
+                    .initPortsOn(pool)
+                    .build();
+
+                List<PortInit> report = app.portStartupReport();
+                assertEquals(2, report.size());
+                assertTrue(report.get(0).elapsed().compareTo(report.get(1).elapsed()) >= 0);
+                assertNotEquals(Thread.currentThread().getName(), report.get(0).thread());
+            } finally {
+                pool.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("should fail the build when an eager port fails")
+        void shouldFailBuild() {
+            ExecutorService pool = Executors.newSingleThreadExecutor();
+            try {
+                IllegalStateException e = assertThrows(
+                    IllegalStateException.class,
+                    () -> HexaFun.dsl()
+                        .withEagerPort(Clock.class, () -> {
+                            throw new IllegalArgumentException("no clock");
+                        })
+                        .initPortsOn(pool)
+                        .build()
+                );
+                assertEquals("Failed to initialize port: " + Clock.class.getName(), e.getMessage());
+                assertInstanceOf(IllegalArgumentException.class, e.getCause());
+            } finally {
+                pool.shutdownNow();
+            }
+        }
+
+        private static void awaitOther(CountDownLatch latch) {
+            latch.countDown();
+            try {
+                // Only completes if both suppliers run at the same time
+                assertTrue(latch.await(5, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
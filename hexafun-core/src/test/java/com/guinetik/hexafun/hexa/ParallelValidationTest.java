@@ -0,0 +1,219 @@
+package com.guinetik.hexafun.hexa;
+
+import com.guinetik.hexafun.HexaApp;
+import com.guinetik.hexafun.HexaFun;
+import com.guinetik.hexafun.fun.Result;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@code validateAll} groups.
+ */
+@DisplayName("validateAll")
+public class ParallelValidationTest {
+
+    private ExecutorService pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    private static ValidationPort<String> rejecting(String message) {
+        return input -> Result.fail(message);
+    }
+
+    @Nested
+    @DisplayName("results")
+    class ResultTests {
+
+        @Test
+        @DisplayName("should collect every failure in declaration order")
+        void shouldCollectEveryFailure() {
+            UseCaseKey<String, Result<String>> KEY = UseCaseKey.of("validateAllCollect");
+            HexaApp app = HexaFun.dsl()
+                .useCase(KEY)
+                    .validateAllOn(
+                        pool,
+                        rejecting("first"),
+                        ValidationPort.cheap(Result::ok),
+                        ValidationPort.cheap(rejecting("second")),
+                        rejecting("third")
+                    )
+                    .handle(Result::ok)
+                .build();
+
+            Result<String> result = app.invoke(KEY, "x");
+
+            assertEquals(ValidationError.MULTIPLE, result.errorCode());
+            assertEquals("first; second; third", result.error());
+            assertEquals(
+                List.of("first", "second", "third"),
+                ValidationError.failures(result).stream().map(Result::error).toList()
+            );
+        }
+
+        @Test
+        @DisplayName("should return a single failure as is")
+        void shouldReturnSingleFailure() {
+            Result<String> rejected = Result.fail("only");
+            UseCaseKey<String, Result<String>> KEY = UseCaseKey.of("validateAllSingle");
+            HexaApp app = HexaFun.dsl()
+                .useCase(KEY)
+                    .validateAllOn(pool, Result::ok, input -> rejected, Result::ok)
+                    .handle(Result::ok)
+                .build();
+
+            Result<String> result = app.invoke(KEY, "x");
+
+            assertSame(rejected, result);
+            assertEquals(List.of(rejected), ValidationError.failures(result));
+        }
+
+        @Test
+        @DisplayName("should pass the original input on when everything succeeds")
+        void shouldPassInputOn() {
+            UseCaseKey<String, Result<String>> KEY = UseCaseKey.of("validateAllPass");
+            HexaApp app = HexaFun.dsl()
+                .useCase(KEY)
+                    .validate(input -> Result.ok(input.trim()))
+                    .validateAllOn(pool, input -> Result.ok("ignored"), Result::ok)
+                    .validate(input -> Result.ok(input + "!"))
+                    .handle(Result::ok)
+                .build();
+
+            assertEquals("x!", app.invoke(KEY, " x ").get());
+        }
+
+        @Test
+        @DisplayName("should not run the group after an earlier validator fails")
+        void shouldShortCircuitBeforeGroup() {
+            AtomicInteger calls = new AtomicInteger();
+            UseCaseKey<String, Result<String>> KEY = UseCaseKey.of("validateAllAfterFailure");
+            HexaApp app = HexaFun.dsl()
+                .useCase(KEY)
+                    .validate(rejecting("blank"))
+                    .validateAllOn(pool, input -> {
+                        calls.incrementAndGet();
+                        return Result.ok(input);
+                    })
+                    .handle(Result::ok)
+                .build();
+
+            assertEquals("blank", app.invoke(KEY, "x").error());
+            assertEquals(0, calls.get());
+        }
+    }
+
+    @Nested
+    @DisplayName("scheduling")
+    class SchedulingTests {
+
+        @Test
+        @DisplayName("should run expensive validators concurrently")
+        void shouldRunConcurrently() {
+            CountDownLatch together = new CountDownLatch(3);
+            ValidationPort<String> slow = input -> {
+                together.countDown();
+                try {
+                    return together.await(5, TimeUnit.SECONDS)
+                        ? Result.ok(input)
+                        : Result.fail("ran alone");
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return Result.fail("interrupted");
+                }
+            };
+            UseCaseKey<String, Result<String>> KEY = UseCaseKey.of("validateAllConcurrent");
+            HexaApp app = HexaFun.dsl()
+                .useCase(KEY)
+                    .validateAllOn(pool, slow, slow, slow)
+                    .handle(Result::ok)
+                .build();
+
+            assertTrue(app.invoke(KEY, "x").isSuccess());
+        }
+
+        @Test
+        @DisplayName("should run cheap validators inline without the executor")
+        void shouldRunCheapInline() {
+            AtomicInteger scheduled = new AtomicInteger();
+            Thread caller = Thread.currentThread();
+            ValidationPort<String> onCaller = input -> Thread.currentThread() == caller
+                ? Result.ok(input)
+                : Result.fail("not inline");
+            UseCaseKey<String, Result<String>> KEY = UseCaseKey.of("validateAllInline");
+            HexaApp app = HexaFun.dsl()
+                .useCase(KEY)
+                    .validateAllOn(
+                        task -> {
+                            scheduled.incrementAndGet();
+                            task.run();
+                        },
+                        ValidationPort.cheap(onCaller),
+                        ValidationPort.cheap(onCaller),
+                        onCaller
+                    )
+                    .handle(Result::ok)
+                .build();
+
+            assertTrue(app.invoke(KEY, "x").isSuccess());
+            assertEquals(0, scheduled.get()); // the last expensive one runs on the caller too
+        }
+
+        @Test
+        @DisplayName("should rethrow an offloaded validator's exception")
+        void shouldRethrowValidatorException() {
+            UseCaseKey<String, Result<String>> KEY = UseCaseKey.of("validateAllThrows");
+            HexaApp app = HexaFun.dsl()
+                .useCase(KEY)
+                    .validateAllOn(
+                        pool,
+                        input -> { throw new IllegalStateException("lookup failed"); },
+                        Result::ok
+                    )
+                    .handle(Result::ok)
+                .build();
+
+            IllegalStateException thrown =
+                assertThrows(IllegalStateException.class, () -> app.invoke(KEY, "x"));
+            assertEquals("lookup failed", thrown.getMessage());
+        }
+
+        @Test
+        @DisplayName("should reject an empty group")
+        void shouldRejectEmptyGroup() {
+            assertThrows(
+                IllegalArgumentException.class,
+                () -> HexaFun.dsl().useCase(UseCaseKey.<String, Result<String>>of("validateAllEmpty"))
+                    .validateAll()
+            );
+        }
+
+        @Test
+        @DisplayName("cheap should not wrap twice")
+        void cheapShouldBeIdempotent() {
+            ValidationPort<String> cheap = ValidationPort.cheap(Result::ok);
+
+            assertTrue(cheap.isCheap());
+            assertSame(cheap, ValidationPort.cheap(cheap));
+            assertFalse(((ValidationPort<String>) Result::ok).isCheap());
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.guinetik.hexafun.hexa;
+
+import com.guinetik.hexafun.HexaApp;
+import com.guinetik.hexafun.HexaFun;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for port interceptors and proxies.
+ */
+@DisplayName("PortInterceptor")
+public class PortInterceptorTest {
+
+    interface Greeter {
+        String greet(String name);
+
+        default String greetAll(String a, String b) {
+            return greet(a) + "," + greet(b);
+        }
+    }
+
+    static class SimpleGreeter implements Greeter {
+        public String greet(String name) {
+            if (name.isEmpty()) {
+                throw new IllegalArgumentException("empty");
+            }
+            return "hi " + name;
+        }
+    }
+
+    @Test
+    @DisplayName("should run interceptors in registration order around port calls")
+    void shouldWrapPortCalls() {
+        List<String> calls = new ArrayList<>();
+        HexaApp app = HexaFun.dsl()
+            .withPort(Greeter.class, new SimpleGreeter())
+            .withPortInterceptor((port, method, args, call) -> {
+                calls.add("outer " + port.getSimpleName() + "." + method.getName());
+                return call.proceed();
+            })
+            .withPortInterceptor((port, method, args, call) -> "[" + call.proceed() + "]")
+            .build();
+
+        assertEquals("[hi bob]", app.port(Greeter.class).greet("bob"));
+        assertEquals(List.of("outer Greeter.greet"), calls);
+    }
+
+    @Test
+    @DisplayName("should rethrow the implementation's exception unwrapped")
+    void shouldUnwrapExceptions() {
+        HexaApp app = HexaFun.dsl()
+            .withPort(Greeter.class, new SimpleGreeter())
+            .withPortInterceptor((port, method, args, call) -> call.proceed())
+            .build();
+
+        Greeter greeter = app.port(Greeter.class);
+        assertThrows(IllegalArgumentException.class, () -> greeter.greet(""));
+        assertEquals("hi a,hi b", greeter.greetAll("a", "b"));
+    }
+
+    @Test
+    @DisplayName("should leave ports untouched without interceptors")
+    void shouldNotProxyWithoutInterceptors() {
+        SimpleGreeter impl = new SimpleGreeter();
+        HexaApp app = HexaFun.dsl()
+            .withPort(Greeter.class, impl)
+            .build();
+
+        assertSame(impl, app.port(Greeter.class));
+        assertSame(impl, PortProxy.decorate(SimpleGreeter.class, impl, List.of(
+            (port, method, args, call) -> call.proceed()
+        )));
+    }
+}
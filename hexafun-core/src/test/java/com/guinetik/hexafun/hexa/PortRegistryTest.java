@@ -2,11 +2,14 @@ package com.guinetik.hexafun.hexa;
 
 import com.guinetik.hexafun.HexaApp;
 import com.guinetik.hexafun.HexaFun;
+import com.sun.management.ThreadMXBean;
+import java.lang.management.ManagementFactory;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 /**
  * Unit tests for the port registry functionality.
@@ -145,6 +148,30 @@ public class PortRegistryTest {
             assertTrue(ports.contains(TaskRepository.class));
             assertTrue(ports.contains(EmailService.class));
         }
+
+        @Test
+        @DisplayName("lookup without a deadline should not allocate")
+        void lookupShouldNotAllocate() {
+            ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+            assumeTrue(threads.isThreadAllocatedMemorySupported());
+            threads.setThreadAllocatedMemoryEnabled(true);
+
+            HexaApp app = HexaApp.create();
+            app.port(TaskRepository.class, new InMemoryTaskRepository());
+
+            for (int i = 0; i < 20_000; i++) {
+                app.port(TaskRepository.class);
+            }
+            long thread = Thread.currentThread().getId();
+            long before = threads.getThreadAllocatedBytes(thread);
+            for (int i = 0; i < 100_000; i++) {
+                app.port(TaskRepository.class);
+            }
+            long allocated = threads.getThreadAllocatedBytes(thread) - before;
+
+            // Allow for the measurement call itself, not for a per-lookup message
+            assertTrue(allocated < 100_000, "allocated " + allocated + " bytes");
+        }
     }
 
     @Nested
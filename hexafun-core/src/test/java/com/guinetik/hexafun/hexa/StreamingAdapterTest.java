@@ -0,0 +1,183 @@
+package com.guinetik.hexafun.hexa;
+
+import com.guinetik.hexafun.HexaApp;
+import com.guinetik.hexafun.HexaFun;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for streaming adapters.
+ */
+@DisplayName("StreamingAdapter")
+public class StreamingAdapterTest {
+
+    record Point(int x, int y) {}
+
+    static final AdapterKey<Point, String> TO_CSV = AdapterKey.of("streamPointToCsv");
+    static final AdapterKey<String, String> ECHO = AdapterKey.of("streamEcho");
+    static final AdapterKey<Point, String> PLAIN = AdapterKey.of("streamPlain");
+
+    static final StreamingAdapter<Point> CSV = (p, out) ->
+        out.append(Integer.toString(p.x())).append(',').append(Integer.toString(p.y())).append('\n');
+
+    private static HexaApp app() {
+        return HexaFun.dsl()
+            .withStreamingAdapter(TO_CSV, CSV)
+            .withStreamingAdapter(ECHO, (s, out) -> out.append(s))
+            .withAdapter(PLAIN, p -> "(" + p.x() + ")")
+            .build();
+    }
+
+    @Nested
+    @DisplayName("adaptTo(Appendable)")
+    class AppendableTests {
+
+        @Test
+        @DisplayName("should write into a reused builder")
+        void shouldWriteIntoBuilder() {
+            HexaApp app = app();
+            StringBuilder out = new StringBuilder();
+
+            app.adaptTo(TO_CSV, new Point(1, 2), out);
+            app.adaptTo(TO_CSV, new Point(3, 4), out);
+
+            assertEquals("1,2\n3,4\n", out.toString());
+        }
+
+        @Test
+        @DisplayName("should return the sink for chaining")
+        void shouldReturnSink() {
+            StringWriter writer = new StringWriter();
+            assertSame(writer, app().adaptTo(TO_CSV, new Point(5, 6), writer));
+            assertEquals("5,6\n", writer.toString());
+        }
+
+        @Test
+        @DisplayName("should keep adapt() working on streaming keys")
+        void shouldKeepAdaptWorking() {
+            assertEquals("7,8\n", app().adapt(TO_CSV, new Point(7, 8)));
+        }
+
+        @Test
+        @DisplayName("should append the result of plain adapters")
+        void shouldFallBackToPlainAdapters() {
+            StringBuilder out = new StringBuilder("p=");
+            app().adaptTo(PLAIN, new Point(9, 0), out);
+            assertEquals("p=(9)", out.toString());
+        }
+
+        @Test
+        @DisplayName("should wrap sink failures")
+        void shouldWrapSinkFailures() {
+            Appendable broken = new Appendable() {
+                public Appendable append(CharSequence csq) throws IOException {
+                    throw new IOException("closed");
+                }
+                public Appendable append(CharSequence csq, int start, int end) throws IOException {
+                    throw new IOException("closed");
+                }
+                public Appendable append(char c) throws IOException {
+                    throw new IOException("closed");
+                }
+            };
+            assertThrows(
+                UncheckedIOException.class,
+                () -> app().adaptTo(TO_CSV, new Point(1, 1), broken)
+            );
+        }
+
+        @Test
+        @DisplayName("should reject unknown keys")
+        void shouldRejectUnknownKeys() {
+            AdapterKey<Point, String> missing = AdapterKey.of("streamMissing");
+            assertThrows(
+                IllegalArgumentException.class,
+                () -> app().adaptTo(missing, new Point(1, 1), new StringBuilder())
+            );
+        }
+
+        @Test
+        @DisplayName("should let a plain adapter replace a streaming one")
+        void shouldReplaceStreamingAdapter() {
+            HexaApp app = HexaApp.create()
+                .withStreamingAdapter(TO_CSV, CSV)
+                .withAdapter(TO_CSV, p -> "replaced");
+
+            assertEquals("replaced", app.adaptTo(TO_CSV, new Point(1, 1), new StringBuilder()).toString());
+        }
+    }
+
+    @Nested
+    @DisplayName("adaptTo(ByteBuffer)")
+    class ByteBufferTests {
+
+        @Test
+        @DisplayName("should encode UTF-8 at the buffer position")
+        void shouldEncodeUtf8() {
+            String text = "aé█😀";
+            ByteBuffer buffer = ByteBuffer.allocate(32);
+            buffer.put((byte) '>');
+
+            app().adaptTo(ECHO, text, buffer);
+
+            buffer.flip();
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            assertArrayEquals(
+                (">" + text).getBytes(StandardCharsets.UTF_8),
+                bytes
+            );
+        }
+
+        @Test
+        @DisplayName("should replace unpaired surrogates like String.getBytes")
+        void shouldReplaceUnpairedSurrogates() {
+            String text = "x\uD83Dy\uDE00";
+            ByteBuffer buffer = app().adaptTo(ECHO, text, ByteBuffer.allocate(16));
+
+            assertArrayEquals(
+                text.getBytes(StandardCharsets.UTF_8),
+                Arrays.copyOf(buffer.array(), buffer.position())
+            );
+        }
+
+        @Test
+        @DisplayName("should encode supplementary characters split across appends")
+        void shouldEncodeSplitSurrogatePairs() {
+            AdapterKey<String, String> split = AdapterKey.of("streamSplit");
+            HexaApp app = HexaApp.create().withStreamingAdapter(split, (s, out) -> {
+                for (int i = 0; i < s.length(); i++) {
+                    out.append(s.charAt(i));
+                }
+            });
+            String text = "😀!";
+            ByteBuffer buffer = app.adaptTo(split, text, ByteBuffer.allocate(16));
+
+            assertArrayEquals(
+                text.getBytes(StandardCharsets.UTF_8),
+                Arrays.copyOf(buffer.array(), buffer.position())
+            );
+        }
+
+        @Test
+        @DisplayName("should overflow without writing half a character")
+        void shouldOverflowCleanly() {
+            ByteBuffer buffer = ByteBuffer.allocate(2);
+            assertThrows(
+                BufferOverflowException.class,
+                () -> app().adaptTo(ECHO, "a█", buffer)
+            );
+            assertEquals(1, buffer.position());
+        }
+    }
+}
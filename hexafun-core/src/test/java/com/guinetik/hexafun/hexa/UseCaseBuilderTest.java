@@ -145,6 +145,21 @@ public class UseCaseBuilderTest {
             app.invoke(KEY, 1);
             assertEquals(1, callCount[0]); // Second validator never called
         }
+
+        @Test
+        @DisplayName("validation failure should be returned as is")
+        void validationFailureShouldBeReused() {
+            UseCaseKey<Integer, Result<Integer>> REUSE = UseCaseKey.of("reuseFailure");
+            Result<Integer> rejected = Result.fail("rejected");
+
+            HexaApp app = HexaFun.dsl()
+                .useCase(REUSE)
+                    .validate(i -> rejected)
+                    .handle(i -> Result.ok(i))
+                .build();
+
+            assertSame(rejected, app.invoke(REUSE, 1));
+        }
     }
 
     @Nested
@@ -233,6 +248,41 @@ public class UseCaseBuilderTest {
             assertTrue(key.toString().contains("myKey"));
         }
 
+        @Test
+        @DisplayName("should share a slot when names match")
+        void shouldShareSlotWhenNamesMatch() {
+            UseCaseKey<String, String> key1 = UseCaseKey.of("slotted");
+            UseCaseKey<Integer, Integer> key2 = UseCaseKey.of("slotted");
+            UseCaseKey<String, String> other = UseCaseKey.of("slottedOther");
+
+            assertEquals(key1.slot(), key2.slot());
+            assertNotEquals(key1.slot(), other.slot());
+        }
+
+        @Test
+        @DisplayName("should dispatch through an equal key created later")
+        void shouldDispatchThroughEqualKey() {
+            UseCaseKey<String, String> ECHO = UseCaseKey.of("echo");
+
+            HexaApp app = HexaFun.dsl()
+                .useCase(ECHO).handle(s -> s)
+                .build();
+
+            UseCaseKey<String, String> sameName = UseCaseKey.of("echo");
+            assertEquals("hi", app.invoke(sameName, "hi"));
+            assertEquals("hi", app.invokeByName("echo", "hi"));
+        }
+
+        @Test
+        @DisplayName("should dispatch use cases registered by name")
+        void shouldDispatchUseCasesRegisteredByName() {
+            HexaApp app = HexaApp.create()
+                .withUseCase("byName", (String s) -> s.length());
+
+            UseCaseKey<String, Integer> BY_NAME = UseCaseKey.of("byName");
+            assertEquals(3, (int) app.invoke(BY_NAME, "abc"));
+        }
+
         @Test
         @DisplayName("should throw when use case not found")
         void shouldThrowWhenNotFound() {
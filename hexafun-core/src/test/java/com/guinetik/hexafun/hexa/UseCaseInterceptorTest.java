@@ -0,0 +1,141 @@
+package com.guinetik.hexafun.hexa;
+
+import com.guinetik.hexafun.HexaApp;
+import com.guinetik.hexafun.HexaFun;
+import com.guinetik.hexafun.fun.Result;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for use case interceptors.
+ */
+@DisplayName("UseCaseInterceptor")
+public class UseCaseInterceptorTest {
+
+    static final UseCaseKey<String, String> ECHO = UseCaseKey.of("icEcho");
+    static final UseCaseKey<String, String> SHOUT = UseCaseKey.of("icShout");
+    static final UseCaseKey<Integer, Result<Integer>> DELETE = UseCaseKey.of("icDelete");
+
+    @Nested
+    @DisplayName("ordering")
+    class OrderingTests {
+
+        @Test
+        @DisplayName("global interceptors should wrap per-key ones in registration order")
+        void shouldApplyInRegistrationOrder() {
+            List<String> calls = new ArrayList<>();
+
+            HexaApp app = HexaFun.dsl()
+                .intercept((key, input, next) -> {
+                    calls.add("global-1");
+                    return next.apply(input);
+                })
+                .intercept(ECHO, (key, input, next) -> {
+                    calls.add("key-1");
+                    return next.apply(input);
+                })
+                .intercept((key, input, next) -> {
+                    calls.add("global-2");
+                    return next.apply(input);
+                })
+                .intercept(ECHO, (key, input, next) -> {
+                    calls.add("key-2");
+                    return next.apply(input);
+                })
+                .useCase(ECHO).handle(s -> {
+                    calls.add("handler");
+                    return s;
+                })
+                .build();
+
+            app.invoke(ECHO, "x");
+            assertEquals(
+                List.of("global-1", "global-2", "key-1", "key-2", "handler"),
+                calls
+            );
+        }
+
+        @Test
+        @DisplayName("per-key interceptors should only apply to their use case")
+        void perKeyInterceptorsShouldBeScoped() {
+            HexaApp app = HexaFun.dsl()
+                .intercept(SHOUT, (key, input, next) -> next.apply(input).toUpperCase())
+                .useCase(ECHO).handle(s -> s)
+                .useCase(SHOUT).handle(s -> s)
+                .build();
+
+            assertEquals("hey", app.invoke(ECHO, "hey"));
+            assertEquals("HEY", app.invoke(SHOUT, "hey"));
+        }
+    }
+
+    @Nested
+    @DisplayName("behaviour")
+    class BehaviourTests {
+
+        @Test
+        @DisplayName("should see the key and be able to transform input and output")
+        void shouldTransformInputAndOutput() {
+            List<String> seenKeys = new ArrayList<>();
+
+            HexaApp app = HexaFun.dsl()
+                .intercept((key, input, next) -> {
+                    seenKeys.add(key.name());
+                    return "<" + next.apply(input + "?") + ">";
+                })
+                .useCase(ECHO).handle(s -> s)
+                .build();
+
+            assertEquals("<hi?>", app.invoke(ECHO, "hi"));
+            assertEquals(List.of("icEcho"), seenKeys);
+        }
+
+        @Test
+        @DisplayName("should be able to short-circuit the handler")
+        void shouldShortCircuit() {
+            int[] handlerCalls = {0};
+
+            HexaApp app = HexaFun.dsl()
+                .intercept(DELETE, (key, input, next) ->
+                    input < 0 ? Result.fail("Forbidden") : next.apply(input))
+                .useCase(DELETE)
+                    .validate(i -> Result.ok(i))
+                    .handle(i -> {
+                        handlerCalls[0]++;
+                        return Result.ok(i);
+                    })
+                .build();
+
+            assertEquals("Forbidden", app.invoke(DELETE, -1).error());
+            assertEquals(0, handlerCalls[0]);
+            assertEquals(5, app.invoke(DELETE, 5).get());
+        }
+
+        @Test
+        @DisplayName("should apply to invokeByName and invokeAsync")
+        void shouldApplyToAllInvocationPaths() {
+            HexaApp app = HexaFun.dsl()
+                .intercept((key, input, next) -> "[" + next.apply(input) + "]")
+                .useCase(ECHO).handle(s -> s)
+                .build();
+
+            assertEquals("[a]", app.invokeByName("icEcho", "a"));
+            assertEquals("[b]", app.invokeAsync(ECHO, "b").join());
+        }
+
+        @Test
+        @DisplayName("should reject interceptors for unknown use cases")
+        void shouldRejectUnknownUseCase() {
+            UseCaseBuilder builder = HexaFun.dsl()
+                .intercept(SHOUT, (key, input, next) -> next.apply(input))
+                .useCase(ECHO).handle(s -> s);
+
+            assertThrows(IllegalStateException.class, builder::build);
+        }
+    }
+}
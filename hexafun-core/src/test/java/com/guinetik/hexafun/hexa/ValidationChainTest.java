@@ -0,0 +1,120 @@
+package com.guinetik.hexafun.hexa;
+
+import com.guinetik.hexafun.HexaApp;
+import com.guinetik.hexafun.HexaFun;
+import com.guinetik.hexafun.fun.Result;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for compiled validation chains.
+ */
+@DisplayName("ValidationChain")
+public class ValidationChainTest {
+
+    /** Validators that append their index, failing at {@code failAt} (or never). */
+    @SuppressWarnings("unchecked")
+    private static ValidationPort<String>[] chain(int size, int failAt, List<Integer> calls) {
+        ValidationPort<String>[] validators = new ValidationPort[size];
+        for (int i = 0; i < size; i++) {
+            int index = i;
+            validators[i] = input -> {
+                calls.add(index);
+                return index == failAt
+                    ? Result.fail("failed at " + index)
+                    : Result.ok(input + index);
+            };
+        }
+        return validators;
+    }
+
+    @Nested
+    @DisplayName("compile")
+    class CompileTests {
+
+        @Test
+        @DisplayName("should run every validator in order, feeding each the previous value")
+        void shouldRunInOrder() {
+            for (int size = 1; size <= 6; size++) {
+                List<Integer> calls = new ArrayList<>();
+                ValidationPort<String> compiled =
+                    ValidationChain.compile(chain(size, -1, calls));
+
+                Result<String> result = compiled.validate(">");
+
+                StringBuilder expected = new StringBuilder(">");
+                List<Integer> expectedCalls = new ArrayList<>();
+                for (int i = 0; i < size; i++) {
+                    expected.append(i);
+                    expectedCalls.add(i);
+                }
+                assertEquals(expected.toString(), result.get(), "size " + size);
+                assertEquals(expectedCalls, calls, "size " + size);
+            }
+        }
+
+        @Test
+        @DisplayName("should stop at the first failure for every chain length")
+        void shouldShortCircuit() {
+            for (int size = 1; size <= 6; size++) {
+                for (int failAt = 0; failAt < size; failAt++) {
+                    List<Integer> calls = new ArrayList<>();
+                    Result<String> result =
+                        ValidationChain.compile(chain(size, failAt, calls)).validate("");
+
+                    assertEquals("failed at " + failAt, result.error());
+                    assertEquals(failAt + 1, calls.size(), size + "/" + failAt);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("should use a single validator as is")
+        void shouldReturnSingleValidator() {
+            ValidationPort<String> only = Result::ok;
+            @SuppressWarnings("unchecked")
+            ValidationPort<String>[] validators = new ValidationPort[] { only };
+
+            assertSame(only, ValidationChain.compile(validators));
+        }
+
+        @Test
+        @DisplayName("should reject an empty chain")
+        void shouldRejectEmptyChain() {
+            @SuppressWarnings("unchecked")
+            ValidationPort<String>[] validators = new ValidationPort[0];
+
+            assertThrows(IllegalArgumentException.class, () -> ValidationChain.compile(validators));
+        }
+    }
+
+    @Nested
+    @DisplayName("validation step")
+    class StepTests {
+
+        @Test
+        @DisplayName("should let two use cases branch from a shared step")
+        void shouldBranchFromSharedStep() {
+            UseCaseKey<Integer, Result<Integer>> SMALL = UseCaseKey.of("chainBranchSmall");
+
+            UseCaseBuilder builder = HexaFun.dsl();
+            UseCaseValidationStep<Integer> positive = builder.useCase(SMALL)
+                .validate(i -> i > 0 ? Result.ok(i) : Result.fail("not positive"));
+            UseCaseValidationStep<Integer> small =
+                positive.validate(i -> i < 10 ? Result.ok(i) : Result.fail("too big"));
+            positive.validate(i -> i % 2 == 0 ? Result.ok(i) : Result.fail("odd"));
+
+            HexaApp app = small.handle(Result::ok).build();
+
+            assertEquals("too big", app.invoke(SMALL, 12).error());
+            assertEquals(3, app.invoke(SMALL, 3).get());
+            assertEquals("not positive", app.invoke(SMALL, -1).error());
+            assertEquals(5, app.invoke(SMALL, 5).get()); // odd check belongs to the other branch
+        }
+    }
+}
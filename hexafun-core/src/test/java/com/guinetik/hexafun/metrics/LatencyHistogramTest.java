@@ -0,0 +1,79 @@
+package com.guinetik.hexafun.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LatencyHistogram.
+ */
+@DisplayName("LatencyHistogram")
+public class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("should report zero when empty")
+    void shouldReportZeroWhenEmpty() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertEquals(0, histogram.count());
+        assertEquals(0, histogram.valueAtPercentile(99.0));
+        assertEquals(0.0, histogram.mean());
+    }
+
+    @Test
+    @DisplayName("should count small values exactly")
+    void shouldCountSmallValuesExactly() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 20; i++) {
+            histogram.record(i);
+        }
+
+        assertEquals(20, histogram.count());
+        assertEquals(10, histogram.valueAtPercentile(50.0));
+        assertEquals(20, histogram.valueAtPercentile(100.0));
+        assertEquals(10.5, histogram.mean(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("percentiles should stay within bucket precision")
+    void percentilesShouldStayWithinPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 100_000; i++) {
+            histogram.record(i * 1_000);
+        }
+
+        assertWithin(50_000_000L, histogram.valueAtPercentile(50.0));
+        assertWithin(99_000_000L, histogram.valueAtPercentile(99.0));
+        assertWithin(99_900_000L, histogram.valueAtPercentile(99.9));
+        assertEquals(100_000_000L, histogram.max());
+    }
+
+    @Test
+    @DisplayName("bucket bounds should cover every value they index")
+    void bucketBoundsShouldCoverValues() {
+        long[] samples = { 0, 31, 32, 33, 1_000, 123_456_789L, Long.MAX_VALUE };
+        for (long value : samples) {
+            int index = LatencyHistogram.indexOf(value);
+            assertTrue(LatencyHistogram.highestValueAt(index) >= value);
+            if (index > 0) {
+                assertTrue(LatencyHistogram.highestValueAt(index - 1) < value);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("should clamp negative values to zero")
+    void shouldClampNegativeValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+
+        assertEquals(1, histogram.count());
+        assertEquals(0, histogram.max());
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        double error = Math.abs(actual - expected) / (double) expected;
+        assertTrue(error < 0.07, "expected ~" + expected + " but was " + actual);
+    }
+}
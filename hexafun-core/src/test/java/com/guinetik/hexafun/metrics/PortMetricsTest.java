@@ -0,0 +1,195 @@
+package com.guinetik.hexafun.metrics;
+
+import com.guinetik.hexafun.HexaApp;
+import com.guinetik.hexafun.HexaFun;
+import com.guinetik.hexafun.fun.Result;
+import com.guinetik.hexafun.hexa.UseCaseKey;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for per-method port metrics.
+ */
+@DisplayName("PortMetrics")
+public class PortMetricsTest {
+
+    interface Store {
+        Result<String> find(int id);
+        Result<String> find(String name);
+        int count();
+    }
+
+    static class FakeStore implements Store {
+        @Override
+        public Result<String> find(int id) {
+            return id > 0 ? Result.ok("item" + id) : Result.fail("not found");
+        }
+
+        @Override
+        public Result<String> find(String name) {
+            return Result.ok(name);
+        }
+
+        @Override
+        public int count() {
+            throw new IllegalStateException("offline");
+        }
+    }
+
+    static final UseCaseKey<Integer, Result<String>> FIND = UseCaseKey.of("portMetricsFind");
+
+    interface Named {
+        String name();
+    }
+
+    interface Users extends Named {}
+
+    interface Orders extends Named {}
+
+    static class Billing {
+        interface Repository extends Named {}
+    }
+
+    static class Shipping {
+        interface Repository extends Named {}
+    }
+
+    @Nested
+    @DisplayName("instrument")
+    class InstrumentTests {
+
+        @Test
+        @DisplayName("should keep inherited methods apart per port")
+        void shouldSeparateInheritedMethods() {
+            PortMetrics metrics = new PortMetrics();
+            Users users = metrics.instrument(Users.class, () -> "users");
+            Orders orders = metrics.instrument(Orders.class, () -> "orders");
+
+            users.name();
+            users.name();
+            orders.name();
+
+            assertEquals(2, metrics.stats(Users.class, "name").calls());
+            assertEquals(1, metrics.stats(Orders.class, "name").calls());
+        }
+
+        @Test
+        @DisplayName("should keep same-named ports from different owners apart")
+        void shouldSeparateSameNamedPorts() {
+            PortMetrics metrics = new PortMetrics();
+            Billing.Repository billing = metrics.instrument(Billing.Repository.class, () -> "billing");
+            Shipping.Repository shipping = metrics.instrument(Shipping.Repository.class, () -> "shipping");
+
+            billing.name();
+            billing.name();
+            shipping.name();
+
+            PortStats billingStats = metrics.stats(Billing.Repository.class, "name");
+            assertEquals(2, billingStats.calls());
+            assertEquals("Repository", billingStats.port());
+            assertEquals(1, metrics.stats(Shipping.Repository.class, "name").calls());
+
+            Map<String, PortStats> snapshot = metrics.snapshot();
+            assertEquals(2, snapshot.size());
+            assertEquals(2, snapshot.get(Billing.Repository.class.getName() + ".name").calls());
+            assertEquals(1, snapshot.get(Shipping.Repository.class.getName() + ".name").calls());
+        }
+
+        @Test
+        @DisplayName("should count calls and Result failures per method")
+        void shouldCountCallsAndFailures() {
+            PortMetrics metrics = new PortMetrics();
+            Store store = metrics.instrument(Store.class, new FakeStore());
+
+            store.find(1);
+            store.find(2);
+            store.find(-1);
+
+            PortStats stats = metrics.stats(Store.class, "find");
+            assertEquals("Store", stats.port());
+            assertEquals("find", stats.method());
+            assertEquals(3, stats.calls());
+            assertEquals(1, stats.failures());
+            assertTrue(stats.max().compareTo(stats.p50()) >= 0);
+        }
+
+        @Test
+        @DisplayName("should aggregate overloads under one method name")
+        void shouldAggregateOverloads() {
+            PortMetrics metrics = new PortMetrics();
+            Store store = metrics.instrument(Store.class, new FakeStore());
+
+            store.find(1);
+            store.find("a");
+
+            assertEquals(2, metrics.stats(Store.class, "find").calls());
+        }
+
+        @Test
+        @DisplayName("should record thrown exceptions as failures and rethrow them")
+        void shouldRecordThrownExceptions() {
+            PortMetrics metrics = new PortMetrics();
+            Store store = metrics.instrument(Store.class, new FakeStore());
+
+            assertThrows(IllegalStateException.class, store::count);
+
+            PortStats stats = metrics.stats(Store.class, "count");
+            assertEquals(1, stats.calls());
+            assertEquals(1, stats.failures());
+        }
+
+        @Test
+        @DisplayName("should report zeros for methods never called")
+        void shouldReportZerosForUncalledMethods() {
+            PortStats stats = new PortMetrics().stats(Store.class, "count");
+            assertEquals(0, stats.calls());
+            assertEquals(PortStats.empty("Store", "count"), stats);
+        }
+    }
+
+    @Nested
+    @DisplayName("builder")
+    class BuilderTests {
+
+        @Test
+        @DisplayName("should instrument ports used by handlers")
+        void shouldInstrumentPorts() {
+            HexaApp[] holder = new HexaApp[1];
+            HexaApp app = HexaFun.dsl()
+                .withPort(Store.class, new FakeStore())
+                .withPortMetrics()
+                .useCase(FIND)
+                    .handle(id -> holder[0].port(Store.class).find(id))
+                .build();
+            holder[0] = app;
+
+            app.invoke(FIND, 1);
+            app.invoke(FIND, 0);
+
+            Map<String, PortStats> snapshot = app.portStats();
+            assertEquals(1, snapshot.size());
+            PortStats stats = snapshot.get("Store.find");
+            assertEquals(2, stats.calls());
+            assertEquals(1, stats.failures());
+            assertEquals(stats, app.portStats(Store.class, "find"));
+        }
+
+        @Test
+        @DisplayName("should leave ports untouched when disabled")
+        void shouldLeavePortsUntouched() {
+            FakeStore store = new FakeStore();
+            HexaApp app = HexaFun.dsl()
+                .withPort(Store.class, store)
+                .useCase(FIND).handle(id -> Result.ok("x"))
+                .build();
+
+            assertSame(store, app.port(Store.class));
+            assertTrue(app.portStats().isEmpty());
+            assertEquals(0, app.portStats(Store.class, "find").calls());
+        }
+    }
+}
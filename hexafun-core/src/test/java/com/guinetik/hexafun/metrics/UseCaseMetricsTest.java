@@ -0,0 +1,146 @@
+package com.guinetik.hexafun.metrics;
+
+import com.guinetik.hexafun.HexaApp;
+import com.guinetik.hexafun.HexaFun;
+import com.guinetik.hexafun.fun.Result;
+import com.guinetik.hexafun.hexa.UseCaseKey;
+import java.time.Duration;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for per-use-case metrics.
+ */
+@DisplayName("UseCaseMetrics")
+public class UseCaseMetricsTest {
+
+    static final UseCaseKey<Integer, Result<Integer>> CHECK = UseCaseKey.of("metricsCheck");
+    static final UseCaseKey<String, String> ECHO = UseCaseKey.of("metricsEcho");
+
+    private static HexaApp instrumentedApp() {
+        return HexaFun.dsl()
+            .withMetrics()
+            .useCase(CHECK)
+                .validate(i -> i >= 0 ? Result.ok(i) : Result.fail("negative"))
+                .handle(i -> Result.ok(i))
+            .useCase(ECHO).handle(s -> {
+                if (s == null) {
+                    throw new IllegalArgumentException("null");
+                }
+                return s;
+            })
+            .build();
+    }
+
+    @Nested
+    @DisplayName("counting")
+    class CountingTests {
+
+        @Test
+        @DisplayName("should split successes and Result failures")
+        void shouldSplitSuccessesAndFailures() {
+            HexaApp app = instrumentedApp();
+            app.invoke(CHECK, 1);
+            app.invoke(CHECK, 2);
+            app.invoke(CHECK, -1);
+
+            UseCaseStats stats = app.stats(CHECK);
+            assertEquals("metricsCheck", stats.name());
+            assertEquals(3, stats.invocations());
+            assertEquals(2, stats.successes());
+            assertEquals(1, stats.failures());
+        }
+
+        @Test
+        @DisplayName("should count thrown exceptions as failures")
+        void shouldCountExceptionsAsFailures() {
+            HexaApp app = instrumentedApp();
+            app.invoke(ECHO, "ok");
+            assertThrows(IllegalArgumentException.class, () -> app.invoke(ECHO, null));
+
+            UseCaseStats stats = app.stats(ECHO);
+            assertEquals(1, stats.successes());
+            assertEquals(1, stats.failures());
+        }
+
+        @Test
+        @DisplayName("should count concurrent invocations without losing any")
+        void shouldCountConcurrentInvocations() {
+            HexaApp app = instrumentedApp();
+            app.invokeAll(
+                CHECK,
+                IntStream.range(0, 5_000).boxed().collect(Collectors.toList())
+            );
+
+            assertEquals(5_000, app.stats(CHECK).successes());
+        }
+    }
+
+    @Nested
+    @DisplayName("latency")
+    class LatencyTests {
+
+        @Test
+        @DisplayName("should record latency percentiles")
+        void shouldRecordLatency() {
+            UseCaseKey<Long, Long> SLEEP = UseCaseKey.of("metricsSleep");
+            HexaApp app = HexaFun.dsl()
+                .withMetrics()
+                .useCase(SLEEP).handle(ms -> {
+                    try {
+                        Thread.sleep(ms);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return ms;
+                })
+                .build();
+
+            app.invoke(SLEEP, 5L);
+            app.invoke(SLEEP, 5L);
+
+            UseCaseStats stats = app.stats(SLEEP);
+            assertTrue(stats.p50().compareTo(Duration.ofMillis(4)) > 0);
+            assertTrue(stats.p99().compareTo(stats.p50()) >= 0);
+            assertTrue(stats.p999().compareTo(stats.p99()) >= 0);
+            assertTrue(stats.max().compareTo(Duration.ofMillis(4)) > 0);
+        }
+    }
+
+    @Nested
+    @DisplayName("snapshot")
+    class SnapshotTests {
+
+        @Test
+        @DisplayName("should list every use case")
+        void shouldListEveryUseCase() {
+            HexaApp app = instrumentedApp();
+            app.invoke(ECHO, "x");
+
+            Map<String, UseCaseStats> snapshot = app.stats();
+            assertEquals(2, snapshot.size());
+            assertEquals(1, snapshot.get("metricsEcho").invocations());
+            assertEquals(0, snapshot.get("metricsCheck").invocations());
+        }
+
+        @Test
+        @DisplayName("should record nothing when metrics are off")
+        void shouldRecordNothingWhenOff() {
+            HexaApp app = HexaFun.dsl()
+                .withMetrics(false)
+                .useCase(ECHO).handle(s -> s)
+                .build();
+
+            app.invoke(ECHO, "x");
+
+            assertTrue(app.stats().isEmpty());
+            assertEquals(0, app.stats(ECHO).invocations());
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.guinetik.hexafun.resilience;
+
+import com.guinetik.hexafun.HexaApp;
+import com.guinetik.hexafun.HexaFun;
+import com.guinetik.hexafun.fun.Result;
+import com.guinetik.hexafun.hexa.UseCaseBuilder;
+import com.guinetik.hexafun.hexa.UseCaseKey;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for per-use-case bulkheads.
+ */
+@DisplayName("Bulkhead")
+public class BulkheadTest {
+
+    static final UseCaseKey<String, Result<String>> SLOW = UseCaseKey.of("bulkheadSlow");
+    static final UseCaseKey<String, Result<String>> FAST = UseCaseKey.of("bulkheadFast");
+
+    /** Handler that blocks until released, signalling when it starts. */
+    static class Gate {
+        final CountDownLatch entered;
+        final CountDownLatch release = new CountDownLatch(1);
+
+        Gate(int expected) {
+            this.entered = new CountDownLatch(expected);
+        }
+
+        Result<String> pass(String input) {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Result.ok(input);
+        }
+
+        void awaitEntered() throws InterruptedException {
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+        }
+    }
+
+    private static CompletableFuture<Result<String>> async(HexaApp app, String input) {
+        return CompletableFuture.supplyAsync(
+            () -> app.invoke(SLOW, input),
+            runnable -> new Thread(runnable).start()
+        );
+    }
+
+    @Nested
+    @DisplayName("admission")
+    class AdmissionTests {
+
+        @Test
+        @DisplayName("should reject callers beyond the limit immediately")
+        void shouldRejectBeyondLimit() throws Exception {
+            Gate gate = new Gate(2);
+            HexaApp app = HexaFun.dsl()
+                .useCase(SLOW).handle(gate::pass)
+                .useCase(FAST).handle(Result::ok)
+                .bulkhead(SLOW, 2)
+                .build();
+
+            CompletableFuture<Result<String>> first = async(app, "a");
+            CompletableFuture<Result<String>> second = async(app, "b");
+            gate.awaitEntered();
+
+            Result<String> rejected = app.invoke(SLOW, "c");
+            assertTrue(rejected.isFailure());
+            assertEquals("Bulkhead full for use case: bulkheadSlow", rejected.error());
+            assertEquals("ok", app.invoke(FAST, "ok").get());
+
+            BulkheadStats busy = app.bulkheadStats(SLOW);
+            assertEquals(2, busy.active());
+            assertEquals(1, busy.rejected());
+
+            gate.release.countDown();
+            assertEquals("a", first.get(5, TimeUnit.SECONDS).get());
+            assertEquals("b", second.get(5, TimeUnit.SECONDS).get());
+
+            BulkheadStats idle = app.bulkheadStats(SLOW);
+            assertEquals(0, idle.active());
+            assertEquals(2, idle.admitted());
+            assertSame(BulkheadStats.EMPTY, app.bulkheadStats(FAST));
+        }
+
+        @Test
+        @DisplayName("should time out queued callers")
+        void shouldTimeOutQueuedCallers() throws Exception {
+            Gate gate = new Gate(1);
+            HexaApp app = HexaFun.dsl()
+                .useCase(SLOW).handle(gate::pass)
+                .bulkhead(SLOW, 1, 1, Duration.ofMillis(50))
+                .build();
+
+            CompletableFuture<Result<String>> first = async(app, "a");
+            gate.awaitEntered();
+
+            Result<String> waited = app.invoke(SLOW, "b");
+            assertEquals(
+                "Timed out waiting for bulkhead of use case: bulkheadSlow",
+                waited.error()
+            );
+            assertEquals(1, app.bulkheadStats(SLOW).timedOut());
+            assertEquals(0, app.bulkheadStats(SLOW).queued());
+
+            gate.release.countDown();
+            first.get(5, TimeUnit.SECONDS);
+        }
+
+        @Test
+        @DisplayName("should admit queued callers when a slot frees up")
+        void shouldAdmitQueuedCallers() throws Exception {
+            Gate gate = new Gate(1);
+            HexaApp app = HexaFun.dsl()
+                .useCase(SLOW).handle(gate::pass)
+                .bulkhead(SLOW, 1, 1, Duration.ofSeconds(5))
+                .build();
+
+            CompletableFuture<Result<String>> first = async(app, "a");
+            gate.awaitEntered();
+            CompletableFuture<Result<String>> second = async(app, "b");
+            while (app.bulkheadStats(SLOW).queued() == 0) {
+                Thread.onSpinWait();
+            }
+
+            assertEquals("Bulkhead full for use case: bulkheadSlow", app.invoke(SLOW, "c").error());
+
+            gate.release.countDown();
+            assertEquals("a", first.get(5, TimeUnit.SECONDS).get());
+            assertEquals("b", second.get(5, TimeUnit.SECONDS).get());
+        }
+    }
+
+    @Nested
+    @DisplayName("configuration")
+    class ConfigurationTests {
+
+        @Test
+        @DisplayName("should release the slot when the handler throws")
+        void shouldReleaseOnException() {
+            HexaApp app = HexaFun.dsl()
+                .useCase(SLOW).handle(s -> {
+                    throw new IllegalStateException("boom");
+                })
+                .bulkhead(SLOW, 1)
+                .build();
+
+            assertThrows(IllegalStateException.class, () -> app.invoke(SLOW, "a"));
+            assertThrows(IllegalStateException.class, () -> app.invoke(SLOW, "b"));
+            assertEquals(0, app.bulkheadStats(SLOW).active());
+        }
+
+        @Test
+        @DisplayName("should reject invalid limits and unknown use cases")
+        void shouldRejectInvalidConfig() {
+            assertThrows(
+                IllegalArgumentException.class,
+                () -> new Bulkhead("x", 0, 0, Duration.ZERO)
+            );
+            assertThrows(
+                IllegalArgumentException.class,
+                () -> new Bulkhead("x", 1, -1, Duration.ZERO)
+            );
+
+            UseCaseBuilder builder = HexaFun.dsl()
+                .useCase(FAST).handle(Result::ok)
+                .bulkhead(SLOW, 1);
+            assertThrows(IllegalStateException.class, builder::build);
+        }
+    }
+}
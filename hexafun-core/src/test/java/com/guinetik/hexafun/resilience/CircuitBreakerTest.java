@@ -0,0 +1,284 @@
+package com.guinetik.hexafun.resilience;
+
+import com.guinetik.hexafun.HexaApp;
+import com.guinetik.hexafun.HexaFun;
+import com.guinetik.hexafun.fun.Result;
+import com.guinetik.hexafun.hexa.UseCase;
+import com.guinetik.hexafun.hexa.UseCaseBuilder;
+import com.guinetik.hexafun.hexa.UseCaseKey;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for port circuit breakers.
+ */
+@DisplayName("CircuitBreaker")
+public class CircuitBreakerTest {
+
+    static final UseCaseKey<String, Result<String>> LOAD = UseCaseKey.of("breakerLoad");
+
+    interface Store {
+        String load(String id);
+
+        Result<String> tryLoad(String id);
+    }
+
+    /** Store whose health can be switched at runtime. */
+    static class FlakyStore implements Store {
+        final AtomicBoolean healthy = new AtomicBoolean(true);
+        final AtomicInteger calls = new AtomicInteger();
+        volatile long delayMillis;
+
+        public String load(String id) {
+            calls.incrementAndGet();
+            pause(delayMillis);
+            if (!healthy.get()) {
+                throw new IllegalStateException("store down");
+            }
+            return "value-" + id;
+        }
+
+        public Result<String> tryLoad(String id) {
+            calls.incrementAndGet();
+            return healthy.get() ? Result.ok("value-" + id) : Result.fail("store down");
+        }
+    }
+
+    private static void pause(long millis) {
+        if (millis > 0) {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static CircuitBreaker.Builder breaker() {
+        return CircuitBreaker.builder("store")
+            .failureRateThreshold(0.5)
+            .slidingWindow(10, 4)
+            .openDuration(Duration.ofMillis(50))
+            .halfOpenCalls(2);
+    }
+
+    private static void failTimes(Store store, int times) {
+        for (int i = 0; i < times; i++) {
+            try {
+                store.load("x");
+            } catch (IllegalStateException e) {
+                // expected from the implementation
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("state transitions")
+    class StateTests {
+
+        @Test
+        @DisplayName("should open after the failure rate threshold and fail fast")
+        void shouldOpenOnFailures() {
+            FlakyStore impl = new FlakyStore();
+            CircuitBreaker breaker = breaker().build();
+            Store store = breaker.decorate(Store.class, impl);
+
+            impl.healthy.set(false);
+            failTimes(store, 4);
+            assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+
+            CircuitOpenException ex = assertThrows(
+                CircuitOpenException.class,
+                () -> store.load("y")
+            );
+            assertEquals("Circuit breaker 'store' is open", ex.getMessage());
+            assertEquals("Circuit breaker 'store' is open", store.tryLoad("y").error());
+            assertEquals(4, impl.calls.get());
+            assertEquals(2, breaker.rejectedCalls());
+        }
+
+        @Test
+        @DisplayName("should stay closed below the minimum number of calls")
+        void shouldWaitForMinimumCalls() {
+            FlakyStore impl = new FlakyStore();
+            CircuitBreaker breaker = breaker().build();
+            Store store = breaker.decorate(Store.class, impl);
+
+            impl.healthy.set(false);
+            failTimes(store, 3);
+
+            assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+            assertEquals(1.0, breaker.failureRate());
+        }
+
+        @Test
+        @DisplayName("should close after successful half-open probes")
+        void shouldCloseAfterProbes() {
+            FlakyStore impl = new FlakyStore();
+            CircuitBreaker breaker = breaker().build();
+            Store store = breaker.decorate(Store.class, impl);
+
+            impl.healthy.set(false);
+            failTimes(store, 4);
+            impl.healthy.set(true);
+            pause(80);
+
+            assertEquals("value-a", store.load("a"));
+            assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+            assertEquals("value-b", store.load("b"));
+            assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        }
+
+        @Test
+        @DisplayName("should reopen when half-open probes fail")
+        void shouldReopenAfterFailedProbes() {
+            FlakyStore impl = new FlakyStore();
+            CircuitBreaker breaker = breaker().build();
+            Store store = breaker.decorate(Store.class, impl);
+
+            impl.healthy.set(false);
+            failTimes(store, 4);
+            pause(80);
+            failTimes(store, 2);
+
+            assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+            assertThrows(CircuitOpenException.class, () -> store.load("z"));
+        }
+
+        @Test
+        @DisplayName("should open on slow calls")
+        void shouldOpenOnSlowCalls() {
+            FlakyStore impl = new FlakyStore();
+            CircuitBreaker breaker = breaker()
+                .slowCallThreshold(Duration.ofMillis(5), 0.5)
+                .build();
+            Store store = breaker.decorate(Store.class, impl);
+
+            impl.delayMillis = 10;
+            for (int i = 0; i < 4; i++) {
+                store.load("slow");
+            }
+
+            assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        }
+    }
+
+    @Nested
+    @DisplayName("builder integration")
+    class BuilderTests {
+
+        @Test
+        @DisplayName("validated use cases should see a failed Result when open")
+        void useCasesShouldSeeFailedResult() {
+            FlakyStore impl = new FlakyStore();
+            CircuitBreaker breaker = breaker().build();
+            HexaApp[] self = new HexaApp[1];
+            self[0] = HexaFun.dsl()
+                .withPort(Store.class, impl)
+                .circuitBreaker(Store.class, breaker)
+                .useCase(LOAD)
+                    .validate(Result::ok)
+                    .handle(id -> Result.ok(self[0].port(Store.class).load(id)))
+                .build();
+
+            assertEquals("value-1", self[0].invoke(LOAD, "1").get());
+
+            impl.healthy.set(false);
+            failTimes(self[0].port(Store.class), 3); // 3 of 4 calls failed
+            Result<String> result = self[0].invoke(LOAD, "2");
+
+            assertTrue(result.isFailure());
+            assertEquals("Circuit breaker 'store' is open", result.error());
+        }
+
+        @Test
+        @DisplayName("handler classes declaring Result should fail when open")
+        void handlerClassesShouldSeeFailedResult() {
+            FlakyStore impl = new FlakyStore();
+            CircuitBreaker breaker = breaker().build();
+            Store store = breaker.decorate(Store.class, impl);
+            impl.healthy.set(false);
+            failTimes(store, 4);
+
+            class Load implements UseCase<String, Result<String>> {
+                @Override
+                public Result<String> apply(String id) {
+                    return Result.ok(store.load(id));
+                }
+            }
+            UseCaseKey<String, Result<String>> key = UseCaseKey.of("breakerClassLoad");
+            HexaApp app = HexaFun.dsl()
+                .withPort(Store.class, impl)
+                .circuitBreaker(Store.class, breaker)
+                .useCase(key).handle(new Load())
+                .build();
+
+            assertEquals(ResilienceError.CIRCUIT_OPEN, app.invoke(key, "1").errorCode());
+        }
+
+        @Test
+        @DisplayName("handleResult use cases should fail when the first call hits an open circuit")
+        void plainUseCasesShouldFailOnFirstCall() {
+            FlakyStore impl = new FlakyStore();
+            CircuitBreaker breaker = breaker().build();
+            Store shared = breaker.decorate(Store.class, impl);
+            impl.healthy.set(false);
+            failTimes(shared, 4);
+            assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+
+            UseCaseKey<String, Result<String>> key = UseCaseKey.of("breakerFirstCall");
+            HexaApp[] self = new HexaApp[1];
+            self[0] = HexaFun.dsl()
+                .withPort(Store.class, impl)
+                .circuitBreaker(Store.class, breaker)
+                .useCase(key).handleResult(id -> Result.ok(self[0].port(Store.class).load(id)))
+                .build();
+
+            Result<String> result = self[0].invoke(key, "1");
+            assertEquals(ResilienceError.CIRCUIT_OPEN, result.errorCode());
+            assertEquals("Circuit breaker 'store' is open", result.error());
+        }
+
+        @Test
+        @DisplayName("plain handle lambdas should still throw when open")
+        void otherUseCasesShouldThrow() {
+            FlakyStore impl = new FlakyStore();
+            UseCaseKey<String, String> key = UseCaseKey.of("breakerRawLoad");
+            HexaApp[] self = new HexaApp[1];
+            self[0] = HexaFun.dsl()
+                .withPort(Store.class, impl)
+                .circuitBreaker(Store.class, breaker().build())
+                .useCase(key).handle(id -> self[0].port(Store.class).load(id))
+                .build();
+
+            assertEquals("value-1", self[0].invoke(key, "1"));
+
+            impl.healthy.set(false);
+            failTimes(self[0].port(Store.class), 3);
+            assertThrows(CircuitOpenException.class, () -> self[0].invoke(key, "2"));
+        }
+
+        @Test
+        @DisplayName("should reject breakers for unknown ports and bad config")
+        void shouldRejectInvalidConfig() {
+            UseCaseBuilder builder = HexaFun.dsl()
+                .circuitBreaker(Store.class, breaker().build());
+            assertThrows(IllegalStateException.class, builder::build);
+
+            assertThrows(
+                IllegalArgumentException.class,
+                () -> CircuitBreaker.builder("x").failureRateThreshold(0)
+            );
+            assertThrows(
+                IllegalArgumentException.class,
+                () -> CircuitBreaker.builder("x").slidingWindow(5, 10)
+            );
+        }
+    }
+}
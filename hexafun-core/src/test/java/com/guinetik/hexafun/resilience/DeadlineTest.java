@@ -0,0 +1,168 @@
+package com.guinetik.hexafun.resilience;
+
+import com.guinetik.hexafun.HexaApp;
+import com.guinetik.hexafun.HexaFun;
+import com.guinetik.hexafun.fun.Result;
+import com.guinetik.hexafun.hexa.UseCaseKey;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for deadline-bounded invocation.
+ */
+@DisplayName("Deadline")
+public class DeadlineTest {
+
+    static final UseCaseKey<String, Result<String>> ECHO = UseCaseKey.of("deadlineEcho");
+    static final UseCaseKey<Long, Result<Long>> BUDGET = UseCaseKey.of("deadlineBudget");
+    static final UseCaseKey<Long, Result<Long>> OUTER = UseCaseKey.of("deadlineOuter");
+    static final UseCaseKey<String, Result<String>> STUCK = UseCaseKey.of("deadlineStuck");
+    static final UseCaseKey<String, Result<String>> LATE = UseCaseKey.of("deadlineLate");
+
+    interface Clock {
+        long now();
+    }
+
+    private static void pause(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Nested
+    @DisplayName("invoke with deadline")
+    class InvokeTests {
+
+        @Test
+        @DisplayName("should return the result when it finishes in time")
+        void shouldReturnResultInTime() {
+            HexaApp app = HexaFun.dsl()
+                .useCase(ECHO).handle(Result::ok)
+                .build();
+
+            assertEquals("hi", app.invoke(ECHO, "hi", Duration.ofSeconds(5)).get());
+            assertNull(Deadline.current());
+        }
+
+        @Test
+        @DisplayName("should fail with a timeout and interrupt a stuck use case")
+        void shouldTimeOutStuckUseCase() throws InterruptedException {
+            CountDownLatch interrupted = new CountDownLatch(1);
+            HexaApp app = HexaFun.dsl()
+                .useCase(STUCK).handle(s -> {
+                    try {
+                        Thread.sleep(10_000);
+                    } catch (InterruptedException e) {
+                        interrupted.countDown();
+                    }
+                    return Result.ok(s);
+                })
+                .build();
+
+            long start = System.nanoTime();
+            Result<String> result = app.invoke(STUCK, "x", Duration.ofMillis(50));
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            assertEquals("Deadline exceeded for use case: deadlineStuck", result.error());
+            assertTrue(elapsedMillis < 2_000);
+            assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        }
+
+        @Test
+        @DisplayName("should rethrow exceptions from the use case")
+        void shouldRethrowExceptions() {
+            HexaApp app = HexaFun.dsl()
+                .useCase(ECHO).handle(s -> {
+                    throw new IllegalStateException("boom");
+                })
+                .build();
+
+            assertThrows(
+                IllegalStateException.class,
+                () -> app.invoke(ECHO, "x", Duration.ofSeconds(5))
+            );
+        }
+
+        @Test
+        @DisplayName("should reject negative budgets")
+        void shouldRejectNegativeBudget() {
+            HexaApp app = HexaFun.dsl()
+                .useCase(ECHO).handle(Result::ok)
+                .build();
+
+            assertThrows(
+                IllegalArgumentException.class,
+                () -> app.invoke(ECHO, "x", Duration.ofMillis(-1))
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("propagation")
+    class PropagationTests {
+
+        @Test
+        @DisplayName("should expose the remaining budget and never extend it when nested")
+        void shouldPropagateToNestedUseCases() {
+            HexaApp[] self = new HexaApp[1];
+            self[0] = HexaFun.dsl()
+                .useCase(BUDGET).handle(ignored ->
+                    Result.ok(Deadline.current().remaining().toMillis()))
+                .useCase(OUTER).handle(ignored ->
+                    self[0].invoke(BUDGET, 0L, Duration.ofSeconds(30)))
+                .build();
+
+            long direct = self[0].invoke(BUDGET, 0L, Duration.ofMillis(500)).get();
+            long nested = self[0].invoke(OUTER, 0L, Duration.ofMillis(500)).get();
+
+            assertTrue(direct > 0 && direct <= 500);
+            assertTrue(nested > 0 && nested <= 500);
+        }
+
+        @Test
+        @DisplayName("should stop port lookups once the deadline has passed")
+        void shouldFailPortLookupsAfterDeadline() {
+            HexaApp[] self = new HexaApp[1];
+            self[0] = HexaFun.dsl()
+                .withPort(Clock.class, System::nanoTime)
+                // Run on the caller so the deadline passes inside the handler
+                .withExecutor(LATE, Runnable::run)
+                .useCase(LATE).handle(s -> {
+                    pause(30);
+                    self[0].port(Clock.class);
+                    return Result.ok("too late");
+                })
+                .build();
+
+            Result<String> result = self[0].invoke(LATE, "x", Duration.ofMillis(10));
+            assertEquals("Deadline exceeded for use case: deadlineLate", result.error());
+
+            assertThrows(DeadlineExceededException.class, () ->
+                Deadline.after(Duration.ZERO).execute(
+                    Runnable::run,
+                    () -> "never",
+                    () -> { throw new DeadlineExceededException("expired"); }
+                )
+            );
+        }
+
+        @Test
+        @DisplayName("should pick the earliest of two deadlines")
+        void shouldPickEarliest() {
+            Deadline soon = Deadline.after(Duration.ofMillis(10));
+            Deadline later = Deadline.after(Duration.ofSeconds(10));
+
+            assertSame(soon, soon.earliest(later));
+            assertSame(soon, later.earliest(soon));
+            assertSame(later, later.earliest(null));
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package com.guinetik.hexafun.resilience;
+
+import com.guinetik.hexafun.HexaApp;
+import com.guinetik.hexafun.HexaFun;
+import com.guinetik.hexafun.fun.Result;
+import com.guinetik.hexafun.hexa.UseCaseBuilder;
+import com.guinetik.hexafun.hexa.UseCaseKey;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for retry policies.
+ */
+@DisplayName("Retry")
+public class RetryTest {
+
+    static final UseCaseKey<String, Result<String>> FLAKY = UseCaseKey.of("retryFlaky");
+    static final UseCaseKey<String, Result<String>> QUICK = UseCaseKey.of("retryQuick");
+
+    /** Fails the first {@code failures} calls, then succeeds. */
+    static class Flaky {
+        final AtomicInteger calls = new AtomicInteger();
+        final int failures;
+
+        Flaky(int failures) {
+            this.failures = failures;
+        }
+
+        Result<String> apply(String input) {
+            return calls.incrementAndGet() <= failures
+                ? Result.fail("Unavailable")
+                : Result.ok(input);
+        }
+    }
+
+    private static HexaApp app(Flaky flaky, RetryPolicy policy) {
+        return HexaFun.dsl()
+            .useCase(FLAKY).handle(flaky::apply)
+            .retry(FLAKY, policy)
+            .build();
+    }
+
+    @Nested
+    @DisplayName("synchronous retries")
+    class SyncTests {
+
+        @Test
+        @DisplayName("should retry until the use case succeeds")
+        void shouldRetryUntilSuccess() {
+            Flaky flaky = new Flaky(2);
+            HexaApp app = HexaFun.dsl()
+                .useCase(FLAKY).handle(flaky::apply)
+                .retry(FLAKY, 5, Backoff.fixed(Duration.ofMillis(1)), r -> true)
+                .build();
+
+            assertEquals("ok", app.invoke(FLAKY, "ok").get());
+
+            RetryStats stats = app.retryStats(FLAKY);
+            assertEquals(1, stats.calls());
+            assertEquals(3, stats.attempts());
+            assertEquals(2, stats.retries());
+            assertEquals(0, stats.exhausted());
+        }
+
+        @Test
+        @DisplayName("should give up after the last attempt")
+        void shouldStopAfterMaxAttempts() {
+            Flaky flaky = new Flaky(Integer.MAX_VALUE);
+            HexaApp app = app(flaky, RetryPolicy.of(3, Backoff.none(), r -> true));
+
+            assertEquals("Unavailable", app.invoke(FLAKY, "x").error());
+            assertEquals(3, flaky.calls.get());
+            assertEquals(1, app.retryStats(FLAKY).exhausted());
+        }
+
+        @Test
+        @DisplayName("should only retry failures matching retryOn")
+        void shouldRespectRetryOn() {
+            Flaky flaky = new Flaky(1);
+            HexaApp app = app(
+                flaky,
+                RetryPolicy.of(3, Backoff.none(), r -> r.error().equals("Timeout"))
+            );
+
+            assertTrue(app.invoke(FLAKY, "x").isFailure());
+            assertEquals(1, flaky.calls.get());
+        }
+
+        @Test
+        @DisplayName("should stop retrying when the budget runs out")
+        void shouldRespectBudget() {
+            Flaky flaky = new Flaky(Integer.MAX_VALUE);
+            RetryBudget budget = RetryBudget.of(0.0, 2);
+            HexaApp app = app(
+                flaky,
+                RetryPolicy.of(3, Backoff.none(), r -> true).withBudget(budget)
+            );
+
+            app.invoke(FLAKY, "a"); // 3 attempts, 2 tokens used
+            app.invoke(FLAKY, "b"); // 1 attempt, retry denied
+
+            assertEquals(4, flaky.calls.get());
+            assertEquals(1, app.retryStats(FLAKY).budgetDenied());
+            assertEquals(0, budget.available());
+        }
+
+        @Test
+        @DisplayName("should report empty stats and reject unknown use cases")
+        void shouldHandleMissingRetry() {
+            HexaApp app = HexaFun.dsl().useCase(QUICK).handle(Result::ok).build();
+            assertSame(RetryStats.EMPTY, app.retryStats(QUICK));
+
+            UseCaseBuilder builder = HexaFun.dsl()
+                .retry(FLAKY, 2, Backoff.none(), r -> true);
+            assertThrows(IllegalStateException.class, builder::build);
+            assertThrows(
+                IllegalArgumentException.class,
+                () -> RetryPolicy.of(0, Backoff.none(), r -> true)
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("asynchronous retries")
+    class AsyncTests {
+
+        @Test
+        @DisplayName("should not hold a thread while waiting between attempts")
+        void shouldNotBlockWhileWaiting() throws Exception {
+            ExecutorService single = Executors.newSingleThreadExecutor();
+            try {
+                Flaky flaky = new Flaky(1);
+                HexaApp app = HexaFun.dsl()
+                    .withExecutor(single)
+                    .useCase(FLAKY).handle(flaky::apply)
+                    .useCase(QUICK).handle(Result::ok)
+                    .retry(FLAKY, 2, Backoff.fixed(Duration.ofMillis(300)), r -> true)
+                    .build();
+
+                CompletableFuture<Result<String>> slow = app.invokeAsync(FLAKY, "slow");
+                Thread.sleep(50);
+                CompletableFuture<Result<String>> quick = app.invokeAsync(QUICK, "quick");
+
+                // The only worker thread is free during the backoff
+                assertEquals("quick", quick.get(200, TimeUnit.MILLISECONDS).get());
+                assertFalse(slow.isDone());
+                assertEquals("slow", slow.get(5, TimeUnit.SECONDS).get());
+                assertEquals(2, app.retryStats(FLAKY).attempts());
+            } finally {
+                single.shutdown();
+            }
+        }
+
+        @Test
+        @DisplayName("should run an asynchronous use case without holding a thread")
+        void shouldRunAsyncDelegateNatively() throws Exception {
+            CompletableFuture<Result<String>> lookup = new CompletableFuture<>();
+            AtomicInteger tasks = new AtomicInteger();
+            Executor counting = task -> {
+                tasks.incrementAndGet();
+                ForkJoinPool.commonPool().execute(task);
+            };
+            Flaky flaky = new Flaky(1);
+            UseCaseKey<String, Result<String>> key = UseCaseKey.of("retryAsyncDelegate");
+            HexaApp app = HexaFun.dsl()
+                .withExecutor(counting)
+                .useCase(key)
+                    .validateAsync(input -> lookup)
+                    .handle(flaky::apply)
+                .retry(key, 2, Backoff.none(), r -> true)
+                .build();
+
+            CompletableFuture<Result<String>> result = app.invokeAsync(key, "x");
+            assertFalse(result.isDone());
+            assertEquals(0, tasks.get());
+
+            lookup.complete(Result.ok("x"));
+            assertEquals("x", result.get(5, TimeUnit.SECONDS).get());
+            assertEquals(2, app.retryStats(key).attempts());
+        }
+
+        @Test
+        @DisplayName("should stop retrying at the caller's deadline")
+        void shouldHonorCallerDeadline() {
+            Flaky flaky = new Flaky(1);
+            UseCaseKey<String, Result<String>> outer = UseCaseKey.of("retryDeadlineOuter");
+            HexaApp[] holder = new HexaApp[1];
+            holder[0] = HexaFun.dsl()
+                .useCase(FLAKY).handle(flaky::apply)
+                .retry(FLAKY, 2, Backoff.fixed(Duration.ofSeconds(2)), r -> true)
+                .useCase(outer).handle(input -> holder[0].invokeAsync(FLAKY, input).join())
+                .build();
+
+            // The backoff would outlive the deadline, so the first failure is returned
+            Result<String> result = holder[0].invoke(outer, "x", Duration.ofSeconds(1));
+            assertEquals("Unavailable", result.error());
+            assertEquals(1, holder[0].retryStats(FLAKY).attempts());
+        }
+
+        @Test
+        @DisplayName("should complete exceptionally when an attempt throws")
+        void shouldPropagateExceptions() {
+            HexaApp app = HexaFun.dsl()
+                .useCase(FLAKY).handle(s -> {
+                    throw new IllegalStateException("boom");
+                })
+                .retry(FLAKY, 3, Backoff.none(), r -> true)
+                .build();
+
+            Exception ex = assertThrows(Exception.class, () -> app.invokeAsync(FLAKY, "x").join());
+            assertTrue(ex.getCause() instanceof IllegalStateException);
+        }
+    }
+
+    @Nested
+    @DisplayName("backoff")
+    class BackoffTests {
+
+        @Test
+        @DisplayName("exponential backoff should double up to the cap without jitter")
+        void exponentialShouldDouble() {
+            Backoff backoff = Backoff.exponential(Duration.ofNanos(10), Duration.ofNanos(100), 0);
+
+            assertEquals(10, backoff.delayNanos(1));
+            assertEquals(20, backoff.delayNanos(2));
+            assertEquals(40, backoff.delayNanos(3));
+            assertEquals(80, backoff.delayNanos(4));
+            assertEquals(100, backoff.delayNanos(5));
+            assertEquals(100, backoff.delayNanos(500));
+        }
+
+        @Test
+        @DisplayName("full jitter should stay between zero and the ceiling")
+        void fullJitterShouldStayInRange() {
+            Backoff backoff = Backoff.exponential(Duration.ofMillis(10), Duration.ofSeconds(1));
+
+            for (int i = 0; i < 1000; i++) {
+                long delay = backoff.delayNanos(3);
+                assertTrue(delay >= 0 && delay <= 40_000_000L);
+            }
+            assertThrows(
+                IllegalArgumentException.class,
+                () -> Backoff.exponential(Duration.ofMillis(1), Duration.ofMillis(2), 1.5)
+            );
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.guinetik.hexafun.trace;
+
+import com.guinetik.hexafun.HexaApp;
+import com.guinetik.hexafun.HexaFun;
+import com.guinetik.hexafun.hexa.UseCaseKey;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the OTLP/JSON file sink.
+ */
+@DisplayName("OtlpJsonFileSink")
+public class OtlpJsonFileSinkTest {
+
+    static final UseCaseKey<String, String> GREET = UseCaseKey.of("otlpGreet");
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("should write one OTLP/JSON line per trace")
+    void shouldWriteOneLinePerTrace() throws IOException {
+        Path file = dir.resolve("traces.jsonl");
+        try (OtlpJsonFileSink sink = new OtlpJsonFileSink(file, "tests")) {
+            HexaApp app = HexaFun.dsl()
+                .withTracer(Tracer.create(sink))
+                .useCase(GREET).handle(name -> "hi \"" + name + "\"")
+                .build();
+
+            app.invoke(GREET, "a");
+            app.invoke(GREET, "b");
+        }
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(2, lines.size());
+        String line = lines.get(0);
+        assertTrue(line.startsWith("{\"resourceSpans\":[{\"resource\":{\"attributes\":["));
+        assertTrue(line.contains("{\"key\":\"service.name\",\"value\":{\"stringValue\":\"tests\"}}"));
+        assertTrue(line.contains("\"name\":\"otlpGreet\""));
+        assertTrue(line.matches(".*\"traceId\":\"[0-9a-f]{32}\".*"));
+        assertTrue(line.matches(".*\"spanId\":\"[0-9a-f]{16}\".*"));
+        assertTrue(line.contains("\"status\":{\"code\":1}"));
+        assertFalse(line.contains("parentSpanId"));
+    }
+
+    @Test
+    @DisplayName("should escape strings and encode error status")
+    void shouldEscapeAndEncodeErrors() throws IOException {
+        Path file = dir.resolve("errors.jsonl");
+        try (OtlpJsonFileSink sink = new OtlpJsonFileSink(file)) {
+            Tracer tracer = Tracer.create(sink);
+            Span span = tracer.start("quote\"d\n", SpanKind.USE_CASE);
+            span.attribute("note", "a\\b");
+            tracer.end(span, "bad \"input\"");
+        }
+
+        String line = Files.readAllLines(file).get(0);
+        assertTrue(line.contains("\"name\":\"quote\\\"d\\n\""));
+        assertTrue(line.contains("{\"key\":\"note\",\"value\":{\"stringValue\":\"a\\\\b\"}}"));
+        assertTrue(line.contains("\"status\":{\"code\":2,\"message\":\"bad \\\"input\\\"\"}"));
+    }
+}
@@ -0,0 +1,247 @@
+package com.guinetik.hexafun.trace;
+
+import com.guinetik.hexafun.HexaApp;
+import com.guinetik.hexafun.HexaFun;
+import com.guinetik.hexafun.fun.ErrorCode;
+import com.guinetik.hexafun.fun.Result;
+import com.guinetik.hexafun.hexa.AdapterKey;
+import com.guinetik.hexafun.hexa.UseCaseKey;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for invocation tracing.
+ */
+@DisplayName("Tracer")
+public class TracerTest {
+
+    static final UseCaseKey<String, Result<String>> FIND = UseCaseKey.of("traceFind");
+    static final UseCaseKey<String, Result<String>> OUTER = UseCaseKey.of("traceOuter");
+    static final UseCaseKey<String, String> BOOM = UseCaseKey.of("traceBoom");
+    static final AdapterKey<String, Integer> LENGTH = AdapterKey.of("traceLength");
+
+    interface Store {
+        String findById(String id);
+    }
+
+    static class MapStore implements Store {
+        public String findById(String id) {
+            return "task-" + id;
+        }
+    }
+
+    static class Collector implements TraceSink {
+        final List<List<Span>> traces = new ArrayList<>();
+
+        public void export(List<Span> spans) {
+            traces.add(spans);
+        }
+    }
+
+    private static HexaApp tracedApp(Tracer tracer) {
+        HexaApp[] self = new HexaApp[1];
+        self[0] = HexaFun.dsl()
+            .withTracer(tracer)
+            .withPort(Store.class, new MapStore())
+            .withAdapter(LENGTH, String::length)
+            .useCase(FIND)
+                .validate(id -> id.isBlank() ? Result.fail("blank") : Result.ok(id))
+                .handle(id -> Result.ok(self[0].port(Store.class).findById(id)))
+            .useCase(OUTER)
+                .handle(id -> {
+                    self[0].adapt(LENGTH, id);
+                    return self[0].invoke(FIND, id);
+                })
+            .useCase(BOOM)
+                .handle(s -> {
+                    throw new IllegalStateException("boom");
+                })
+            .build();
+        return self[0];
+    }
+
+    @Nested
+    @DisplayName("span tree")
+    class SpanTreeTests {
+
+        @Test
+        @DisplayName("should split validation, handler and port calls into child spans")
+        void shouldRecordChildSpans() {
+            Collector sink = new Collector();
+            HexaApp app = tracedApp(Tracer.create(sink));
+
+            assertEquals("task-1", app.invoke(FIND, "1").get());
+
+            assertEquals(1, sink.traces.size());
+            Map<String, Span> spans = byName(sink.traces.get(0));
+            assertEquals(4, spans.size());
+
+            Span root = spans.get("traceFind");
+            assertNull(root.parentSpanId());
+            assertEquals(SpanKind.USE_CASE, root.kind());
+            assertEquals(root.spanId(), spans.get("traceFind.validate").parentSpanId());
+            assertEquals(root.spanId(), spans.get("traceFind.handle").parentSpanId());
+            assertEquals(
+                spans.get("traceFind.handle").spanId(),
+                spans.get("Store.findById").parentSpanId()
+            );
+            assertEquals(SpanKind.PORT, spans.get("Store.findById").kind());
+            for (Span span : spans.values()) {
+                assertEquals(root.traceId(), span.traceId());
+                assertTrue(span.durationNanos() >= 0);
+                assertFalse(span.isError());
+            }
+            assertSame(root, sink.traces.get(0).get(3));
+        }
+
+        @Test
+        @DisplayName("should nest use case and adapter calls under the caller")
+        void shouldNestUseCasesAndAdapters() {
+            Collector sink = new Collector();
+            HexaApp app = tracedApp(Tracer.create(sink));
+
+            app.invoke(OUTER, "7");
+
+            assertEquals(1, sink.traces.size());
+            Map<String, Span> spans = byName(sink.traces.get(0));
+            String outer = spans.get("traceOuter").spanId();
+            assertEquals(outer, spans.get("traceLength").parentSpanId());
+            assertEquals(SpanKind.ADAPTER, spans.get("traceLength").kind());
+            assertEquals(outer, spans.get("traceFind").parentSpanId());
+        }
+
+        @Test
+        @DisplayName("should not trace adapters called outside a use case")
+        void shouldNotStartTracesFromAdapters() {
+            Collector sink = new Collector();
+            HexaApp app = tracedApp(Tracer.create(sink));
+
+            assertEquals(3, app.adapt(LENGTH, "abc"));
+            assertTrue(sink.traces.isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("status")
+    class StatusTests {
+
+        @Test
+        @DisplayName("should mark failed Results as errors")
+        void shouldRecordFailedResults() {
+            Collector sink = new Collector();
+            HexaApp app = tracedApp(Tracer.create(sink));
+
+            app.invoke(FIND, " ");
+
+            Map<String, Span> spans = byName(sink.traces.get(0));
+            assertEquals("blank", spans.get("traceFind").error());
+            assertEquals("blank", spans.get("traceFind.validate").error());
+            assertFalse(spans.containsKey("traceFind.handle"));
+        }
+
+        @Test
+        @DisplayName("should keep failure codes unrendered until the error is read")
+        void shouldRenderErrorsLazily() {
+            AtomicInteger renders = new AtomicInteger();
+            ErrorCode missing = new ErrorCode() {
+                public String template() {
+                    return "missing {0}";
+                }
+
+                public String render(Object... params) {
+                    renders.incrementAndGet();
+                    return ErrorCode.super.render(params);
+                }
+            };
+            UseCaseKey<String, Result<String>> LOAD = UseCaseKey.of("traceLazyError");
+            Collector sink = new Collector();
+            HexaApp app = HexaFun.dsl()
+                .withTracer(Tracer.create(sink))
+                .useCase(LOAD).handle(id -> Result.fail(missing, id))
+                .build();
+
+            app.invoke(LOAD, "42");
+
+            Span root = sink.traces.get(0).get(sink.traces.get(0).size() - 1);
+            assertTrue(root.isError());
+            assertSame(missing, root.errorCode());
+            assertEquals(List.of("42"), root.errorParams());
+            assertEquals(0, renders.get());
+            assertEquals("missing 42", root.error());
+            assertEquals(1, renders.get());
+        }
+
+        @Test
+        @DisplayName("should record exceptions and still close the trace")
+        void shouldRecordExceptions() {
+            Collector sink = new Collector();
+            Tracer tracer = Tracer.create(sink);
+            HexaApp app = tracedApp(tracer);
+
+            assertThrows(IllegalStateException.class, () -> app.invoke(BOOM, "x"));
+
+            Span root = sink.traces.get(0).get(0);
+            assertTrue(root.isError());
+            assertTrue(root.error().contains("boom"));
+            assertNull(tracer.current());
+        }
+    }
+
+    @Nested
+    @DisplayName("sampling")
+    class SamplingTests {
+
+        @Test
+        @DisplayName("should record nothing with a zero sample ratio")
+        void shouldRecordNothingWhenUnsampled() {
+            Collector sink = new Collector();
+            Tracer tracer = Tracer.create(sink, 0.0);
+            HexaApp app = tracedApp(tracer);
+
+            for (int i = 0; i < 100; i++) {
+                app.invoke(OUTER, "1");
+            }
+
+            assertTrue(sink.traces.isEmpty());
+            assertNull(tracer.current());
+        }
+
+        @Test
+        @DisplayName("should sample roughly the requested fraction of roots")
+        void shouldSampleFraction() {
+            Collector sink = new Collector();
+            HexaApp app = tracedApp(Tracer.create(sink, 0.5));
+
+            for (int i = 0; i < 2000; i++) {
+                app.invoke(OUTER, "1");
+            }
+
+            assertTrue(sink.traces.size() > 700 && sink.traces.size() < 1300);
+            for (List<Span> trace : sink.traces) {
+                assertEquals(6, trace.size());
+            }
+        }
+
+        @Test
+        @DisplayName("should reject ratios outside [0, 1]")
+        void shouldRejectInvalidRatios() {
+            Collector sink = new Collector();
+            assertThrows(IllegalArgumentException.class, () -> Tracer.create(sink, 1.5));
+            assertThrows(IllegalArgumentException.class, () -> Tracer.create(sink, -0.1));
+            assertThrows(IllegalArgumentException.class, () -> Tracer.create(null));
+        }
+    }
+
+    private static Map<String, Span> byName(List<Span> spans) {
+        return spans.stream().collect(Collectors.toMap(Span::name, Function.identity()));
+    }
+}
@@ -0,0 +1,147 @@
+package com.guinetik.hexafun.validation;
+
+import com.guinetik.hexafun.fun.Result;
+import com.guinetik.hexafun.hexa.ValidationPort;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for declarative validation rules.
+ */
+@DisplayName("Rules")
+public class RulesTest {
+
+    record Create(String title, String owner, int priority) {}
+
+    private static final ValidationPort<Create> CREATE = Rules.of(Create.class)
+        .text("Title", Create::title).notBlank().maxLength(10)
+        .required("Owner", Create::owner)
+        .integer("Priority", Create::priority).range(1, 5)
+        .compile();
+
+    @Nested
+    @DisplayName("compiled validator")
+    class CompiledTests {
+
+        @Test
+        @DisplayName("should pass valid input through unchanged")
+        void shouldPassValidInput() {
+            Create input = new Create("Write", "ana", 3);
+
+            Result<Create> result = CREATE.validate(input);
+
+            assertSame(input, result.get());
+        }
+
+        @Test
+        @DisplayName("should report the first failing rule in declaration order")
+        void shouldReportFirstFailure() {
+            Result<Create> blank = CREATE.validate(new Create(" ", null, 9));
+            assertEquals(RuleError.BLANK, blank.errorCode());
+            assertEquals("Title cannot be empty", blank.error());
+
+            assertEquals("Title cannot be empty", CREATE.validate(new Create(null, "a", 1)).error());
+            assertEquals(
+                "Title cannot exceed 10 characters",
+                CREATE.validate(new Create("Much too long", "a", 1)).error()
+            );
+            assertEquals("Owner cannot be null", CREATE.validate(new Create("ok", null, 1)).error());
+            assertEquals(
+                "Priority must be between 1 and 5",
+                CREATE.validate(new Create("ok", "a", 0)).error()
+            );
+        }
+
+        @Test
+        @DisplayName("should reject a null input")
+        void shouldRejectNullInput() {
+            Result<Create> result = CREATE.validate(null);
+
+            assertEquals(RuleError.REQUIRED, result.errorCode());
+            assertEquals("Input cannot be null", result.error());
+        }
+
+        @Test
+        @DisplayName("should reuse the same failure for every rejection")
+        void shouldReuseFailures() {
+            assertSame(
+                CREATE.validate(new Create("", "a", 1)),
+                CREATE.validate(new Create("  ", "b", 2))
+            );
+        }
+
+        @Test
+        @DisplayName("should read each field once")
+        void shouldReadFieldOnce() {
+            AtomicInteger reads = new AtomicInteger();
+            ValidationPort<Create> rules = Rules.of(Create.class)
+                .text("Title", input -> {
+                    reads.incrementAndGet();
+                    return input.title();
+                }).notNull().notBlank().maxLength(10)
+                .compile();
+
+            assertTrue(rules.validate(new Create("Write", "a", 1)).isSuccess());
+            assertEquals(1, reads.get());
+        }
+
+        @Test
+        @DisplayName("should be marked cheap")
+        void shouldBeCheap() {
+            assertTrue(CREATE.isCheap());
+        }
+    }
+
+    @Nested
+    @DisplayName("rule definitions")
+    class DefinitionTests {
+
+        @Test
+        @DisplayName("notNull should allow blank text")
+        void notNullShouldAllowBlank() {
+            ValidationPort<Create> rules = Rules.of(Create.class)
+                .text("Title", Create::title).notNull()
+                .compile();
+
+            assertTrue(rules.validate(new Create("", "a", 1)).isSuccess());
+            assertEquals("Title cannot be null", rules.validate(new Create(null, "a", 1)).error());
+        }
+
+        @Test
+        @DisplayName("maxLength alone should allow null")
+        void maxLengthShouldAllowNull() {
+            ValidationPort<Create> rules = Rules.of(Create.class)
+                .text("Title", Create::title).maxLength(3)
+                .compile();
+
+            assertTrue(rules.validate(new Create(null, "a", 1)).isSuccess());
+            assertTrue(rules.validate(new Create("abcd", "a", 1)).isFailure());
+        }
+
+        @Test
+        @DisplayName("an empty rule set should only reject null input")
+        void emptyRulesShouldOnlyRejectNull() {
+            ValidationPort<Create> rules = Rules.of(Create.class).compile();
+
+            assertTrue(rules.validate(new Create(null, null, 0)).isSuccess());
+            assertTrue(rules.validate(null).isFailure());
+        }
+
+        @Test
+        @DisplayName("should reject invalid bounds")
+        void shouldRejectInvalidBounds() {
+            assertThrows(
+                IllegalArgumentException.class,
+                () -> Rules.of(Create.class).integer("Priority", Create::priority).range(5, 1)
+            );
+            assertThrows(
+                IllegalArgumentException.class,
+                () -> Rules.of(Create.class).text("Title", Create::title).maxLength(-1)
+            );
+        }
+    }
+}
@@ -16,7 +16,8 @@ import static com.guinetik.hexafun.examples.counter.CounterValidators.*;
  *   <li>Type-safe keys (UseCaseKey) instead of strings</li>
  *   <li>Cleaner syntax: validate/handle instead of from/to</li>
  *   <li>Implicit closure: no .and() chaining needed</li>
- *   <li>Validator chaining: multiple .validate() calls</li>
+ *   <li>Declarative validation rules compiled with {@code Rules}</li>
+ *   <li>Memoization of pure use cases with .cached()</li>
  * </ul>
  */
 public class CounterApp {
@@ -28,20 +29,25 @@ public class CounterApp {
 
             // Increment: single validator
             .useCase(INCREMENT)
-                .validate(CounterValidators::validateIncrement)
+                .validate(CounterValidators.INCREMENT_RULES)
                 .handle(input -> Result.ok(input.counter().increment()))
 
             // Decrement: single validator
             .useCase(DECREMENT)
-                .validate(CounterValidators::validateDecrement)
+                .validate(CounterValidators.DECREMENT_RULES)
                 .handle(input -> Result.ok(input.counter().decrement()))
 
-            // Add: chained validators (counter not null + amount in range)
+            // Add: one compiled rule set (counter not null + amount in range)
             .useCase(ADD)
-                .validate(CounterValidators::validateAddCounter)
-                .validate(CounterValidators::validateAddAmount)
+                .validate(CounterValidators.ADD_RULES)
                 .handle(input -> Result.ok(input.counter().add(input.amount())))
 
+            // Pure operations on record inputs: memoize by input equality
+            .cached(INCREMENT, 1_000, null)
+            .cached(DECREMENT, 1_000, null)
+            .cached(ADD, 1_000, null)
+
+            .frozen()
             .build();
     }
 
@@ -1,13 +1,15 @@
 package com.guinetik.hexafun.examples.counter;
 
-import com.guinetik.hexafun.fun.Result;
 import com.guinetik.hexafun.examples.counter.CounterInputs.*;
+import com.guinetik.hexafun.hexa.ValidationPort;
+import com.guinetik.hexafun.validation.Rules;
 
 /**
- * Validation functions for counter operations.
+ * Validation rules for counter operations.
  *
- * <p>Each validator is a pure function: Input -> Result&lt;Input&gt;
- * Can be composed/chained in the DSL.
+ * <p>Each validator is a pure function: Input -> Result&lt;Input&gt;,
+ * compiled from declarative rules. A {@code null} input is rejected with
+ * "Input cannot be null" before any field is read.
  */
 public final class CounterValidators {
 
@@ -16,49 +18,26 @@ public final class CounterValidators {
     /**
      * Validates that the counter in IncrementInput is not null.
      */
-    public static Result<IncrementInput> validateIncrement(IncrementInput input) {
-        if (input == null) {
-            return Result.fail("Input cannot be null");
-        }
-        if (input.counter() == null) {
-            return Result.fail("Counter cannot be null");
-        }
-        return Result.ok(input);
-    }
+    public static final ValidationPort<IncrementInput> INCREMENT_RULES =
+        Rules.of(IncrementInput.class)
+            .required("Counter", IncrementInput::counter)
+            .compile();
 
     /**
      * Validates that the counter in DecrementInput is not null.
      */
-    public static Result<DecrementInput> validateDecrement(DecrementInput input) {
-        if (input == null) {
-            return Result.fail("Input cannot be null");
-        }
-        if (input.counter() == null) {
-            return Result.fail("Counter cannot be null");
-        }
-        return Result.ok(input);
-    }
+    public static final ValidationPort<DecrementInput> DECREMENT_RULES =
+        Rules.of(DecrementInput.class)
+            .required("Counter", DecrementInput::counter)
+            .compile();
 
     /**
-     * Validates that the counter in AddInput is not null.
+     * Validates that the counter in AddInput is not null and the amount is
+     * within bounds [-100, 100].
      */
-    public static Result<AddInput> validateAddCounter(AddInput input) {
-        if (input == null) {
-            return Result.fail("Input cannot be null");
-        }
-        if (input.counter() == null) {
-            return Result.fail("Counter cannot be null");
-        }
-        return Result.ok(input);
-    }
-
-    /**
-     * Validates that the amount in AddInput is within bounds [-100, 100].
-     */
-    public static Result<AddInput> validateAddAmount(AddInput input) {
-        if (input.amount() < -100 || input.amount() > 100) {
-            return Result.fail("Amount must be between -100 and 100");
-        }
-        return Result.ok(input);
-    }
+    public static final ValidationPort<AddInput> ADD_RULES =
+        Rules.of(AddInput.class)
+            .required("Counter", AddInput::counter)
+            .integer("Amount", AddInput::amount).range(-100, 100)
+            .compile();
 }
@@ -1,6 +1,7 @@
 package com.guinetik.hexafun.examples.sysmon;
 
-import java.util.function.Function;
+import com.guinetik.hexafun.hexa.StreamingAdapter;
+import java.io.IOException;
 
 import static com.guinetik.hexafun.examples.tui.Ansi.*;
 import static com.guinetik.hexafun.examples.tui.Widgets.*;
@@ -19,6 +20,11 @@ import static com.guinetik.hexafun.examples.tui.Widgets.*;
  *   <li><b>JSON</b> - Machine-readable</li>
  *   <li><b>Prometheus</b> - Metrics exposition format</li>
  * </ul>
+ *
+ * <p>The adapters are {@link StreamingAdapter}s: they append their output
+ * piece by piece to whatever sink the caller provides (a reused
+ * {@code StringBuilder}, a {@code Writer}, or a {@code ByteBuffer} via
+ * {@code app.adaptTo}) instead of formatting a fresh {@code String}.</p>
  */
 public final class SysmonAdapters {
 
@@ -26,6 +32,7 @@ public final class SysmonAdapters {
 
     private static final int BAR_WIDTH = 20;
     private static final int BOX_WIDTH = 36;
+    private static final String INDENT = "  ";
 
     // ═══════════════════════════════════════════════════════════════════
     //  TUI ADAPTER - Colorful gauges with box drawing
@@ -42,53 +49,46 @@ public final class SysmonAdapters {
      * └──────────────────────────────────┘
      * </pre>
      */
-    public static final Function<SystemMetrics, String> TUI_ADAPTER = metrics -> {
-        StringBuilder sb = new StringBuilder();
-        String indent = "  ";
-
+    public static final StreamingAdapter<SystemMetrics> TUI_ADAPTER = (metrics, out) -> {
         // Header
-        sb.append(indent).append(color(BOX_TOP_LEFT + "─ System Monitor " +
-            repeat(BOX_HORIZONTAL, BOX_WIDTH - 19) + BOX_TOP_RIGHT, CYAN)).append("\n");
-
-        // CPU gauge
-        sb.append(indent).append(color(BOX_VERTICAL, CYAN))
-          .append(gauge("CPU ", metrics.cpu(), metrics.cpuWarning()))
-          .append(color(BOX_VERTICAL, CYAN)).append("\n");
-
-        // Memory gauge
-        sb.append(indent).append(color(BOX_VERTICAL, CYAN))
-          .append(gauge("MEM ", metrics.memory(), metrics.memoryWarning()))
-          .append(color(BOX_VERTICAL, CYAN)).append("\n");
+        out.append(INDENT).append(CYAN).append(BOX_TOP_LEFT).append("─ System Monitor ");
+        repeatTo(out, BOX_HORIZONTAL, BOX_WIDTH - 19);
+        out.append(BOX_TOP_RIGHT).append(RESET).append('\n');
 
-        // Disk gauge
-        sb.append(indent).append(color(BOX_VERTICAL, CYAN))
-          .append(gauge("DISK", metrics.disk(), metrics.diskWarning()))
-          .append(color(BOX_VERTICAL, CYAN)).append("\n");
+        gauge(out, "CPU ", metrics.cpu(), metrics.cpuWarning());
+        gauge(out, "MEM ", metrics.memory(), metrics.memoryWarning());
+        gauge(out, "DISK", metrics.disk(), metrics.diskWarning());
 
         // Footer
-        sb.append(indent).append(color(BOX_BOTTOM_LEFT + repeat(BOX_HORIZONTAL, BOX_WIDTH - 2) +
-            BOX_BOTTOM_RIGHT, CYAN)).append("\n");
-
-        return sb.toString();
+        out.append(INDENT).append(CYAN).append(BOX_BOTTOM_LEFT);
+        repeatTo(out, BOX_HORIZONTAL, BOX_WIDTH - 2);
+        out.append(BOX_BOTTOM_RIGHT).append(RESET).append('\n');
     };
 
     /**
-     * Build a single gauge line with color-coded bar.
+     * Write a single boxed gauge line with color-coded bar.
      */
-    private static String gauge(String label, double percent, boolean warning) {
+    private static void gauge(Appendable out, String label, double percent, boolean warning)
+        throws IOException {
         int filled = (int) ((BAR_WIDTH * percent) / 100);
-        int empty = BAR_WIDTH - filled;
-
-        String barColor = warning ? RED : GREEN;
-        String warnIcon = warning ? color(" ⚠", YELLOW) : "  ";
-
-        return " " + color(label, BOLD) + " " +
-            color("[", DIM) +
-            color(repeat(BLOCK_FULL, filled), barColor) +
-            color(repeat(BLOCK_LIGHT, empty), BRIGHT_BLACK) +
-            color("]", DIM) +
-            color(String.format(" %3.0f%%", percent), warning ? RED : WHITE) +
-            warnIcon + " ";
+
+        out.append(INDENT).append(CYAN).append(BOX_VERTICAL).append(RESET)
+            .append(' ').append(BOLD).append(label).append(RESET).append(' ')
+            .append(DIM).append('[').append(RESET)
+            .append(warning ? RED : GREEN);
+        repeatTo(out, BLOCK_FULL, filled);
+        out.append(RESET).append(BRIGHT_BLACK);
+        repeatTo(out, BLOCK_LIGHT, BAR_WIDTH - filled);
+        out.append(RESET).append(DIM).append(']').append(RESET)
+            .append(warning ? RED : WHITE).append(' ');
+        fixed(out, percent, 0, 3);
+        out.append('%').append(RESET);
+        if (warning) {
+            out.append(YELLOW).append(" ⚠").append(RESET);
+        } else {
+            out.append("  ");
+        }
+        out.append(' ').append(CYAN).append(BOX_VERTICAL).append(RESET).append('\n');
     }
 
     // ═══════════════════════════════════════════════════════════════════
@@ -104,9 +104,15 @@ public final class SysmonAdapters {
      * disk: 91%
      * </pre>
      */
-    public static final Function<SystemMetrics, String> CLI_ADAPTER = metrics ->
-        String.format("cpu: %.0f%%\nmem: %.0f%%\ndisk: %.0f%%\n",
-            metrics.cpu(), metrics.memory(), metrics.disk());
+    public static final StreamingAdapter<SystemMetrics> CLI_ADAPTER = (metrics, out) -> {
+        out.append("cpu: ");
+        fixed(out, metrics.cpu(), 0, 0);
+        out.append("%\nmem: ");
+        fixed(out, metrics.memory(), 0, 0);
+        out.append("%\ndisk: ");
+        fixed(out, metrics.disk(), 0, 0);
+        out.append("%\n");
+    };
 
     // ═══════════════════════════════════════════════════════════════════
     //  JSON ADAPTER - Machine readable
@@ -124,28 +130,29 @@ public final class SysmonAdapters {
      * }
      * </pre>
      */
-    public static final Function<SystemMetrics, String> JSON_ADAPTER = metrics -> {
-        StringBuilder warnings = new StringBuilder("[");
+    public static final StreamingAdapter<SystemMetrics> JSON_ADAPTER = (metrics, out) -> {
+        out.append("{\n  \"cpu\": ");
+        fixed(out, metrics.cpu(), 1, 0);
+        out.append(",\n  \"memory\": ");
+        fixed(out, metrics.memory(), 1, 0);
+        out.append(",\n  \"disk\": ");
+        fixed(out, metrics.disk(), 1, 0);
+        out.append(",\n  \"warnings\": [");
         boolean first = true;
         if (metrics.cpuWarning()) {
-            warnings.append("\"cpu\"");
+            out.append("\"cpu\"");
             first = false;
         }
         if (metrics.memoryWarning()) {
-            if (!first) warnings.append(", ");
-            warnings.append("\"memory\"");
+            if (!first) out.append(", ");
+            out.append("\"memory\"");
             first = false;
         }
         if (metrics.diskWarning()) {
-            if (!first) warnings.append(", ");
-            warnings.append("\"disk\"");
+            if (!first) out.append(", ");
+            out.append("\"disk\"");
         }
-        warnings.append("]");
-
-        return String.format(
-            "{\n  \"cpu\": %.1f,\n  \"memory\": %.1f,\n  \"disk\": %.1f,\n  \"warnings\": %s\n}\n",
-            metrics.cpu(), metrics.memory(), metrics.disk(), warnings
-        );
+        out.append("]\n}\n");
     };
 
     // ═══════════════════════════════════════════════════════════════════
@@ -167,21 +174,68 @@ public final class SysmonAdapters {
      * system_disk_percent 91.0
      * </pre>
      */
-    public static final Function<SystemMetrics, String> PROMETHEUS_ADAPTER = metrics -> {
-        StringBuilder sb = new StringBuilder();
+    public static final StreamingAdapter<SystemMetrics> PROMETHEUS_ADAPTER = (metrics, out) -> {
+        gaugeMetric(out, "system_cpu_percent", "Current CPU usage percentage", metrics.cpu());
+        gaugeMetric(out, "system_memory_percent", "Current memory usage percentage", metrics.memory());
+        gaugeMetric(out, "system_disk_percent", "Current disk usage percentage", metrics.disk());
+    };
+
+    private static void gaugeMetric(Appendable out, String name, String help, double value)
+        throws IOException {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n')
+            .append("# TYPE ").append(name).append(" gauge\n")
+            .append(name).append(' ');
+        fixed(out, value, 1, 0);
+        out.append('\n');
+    }
+
+    // ═══════════════════════════════════════════════════════════════════
+    //  HELPERS
+    // ═══════════════════════════════════════════════════════════════════
 
-        sb.append("# HELP system_cpu_percent Current CPU usage percentage\n");
-        sb.append("# TYPE system_cpu_percent gauge\n");
-        sb.append(String.format("system_cpu_percent %.1f\n", metrics.cpu()));
+    /**
+     * Append {@code value} with 0 or 1 decimals, right-aligned to
+     * {@code width} - the streaming equivalent of {@code %width.decimalsf}.
+     */
+    private static void fixed(Appendable out, double value, int decimals, int width)
+        throws IOException {
+        long scale = decimals == 0 ? 1 : 10;
+        long scaled = Math.round(Math.abs(value) * scale);
+        long whole = scaled / scale;
+        boolean negative = value < 0 && scaled != 0;
+
+        int length = digits(whole) + (negative ? 1 : 0) + (decimals == 0 ? 0 : 2);
+        for (int i = length; i < width; i++) {
+            out.append(' ');
+        }
+        if (negative) {
+            out.append('-');
+        }
+        appendDigits(out, whole);
+        if (decimals == 1) {
+            out.append('.').append((char) ('0' + scaled % 10));
+        }
+    }
 
-        sb.append("# HELP system_memory_percent Current memory usage percentage\n");
-        sb.append("# TYPE system_memory_percent gauge\n");
-        sb.append(String.format("system_memory_percent %.1f\n", metrics.memory()));
+    private static int digits(long n) {
+        int count = 1;
+        while (n >= 10) {
+            n /= 10;
+            count++;
+        }
+        return count;
+    }
 
-        sb.append("# HELP system_disk_percent Current disk usage percentage\n");
-        sb.append("# TYPE system_disk_percent gauge\n");
-        sb.append(String.format("system_disk_percent %.1f\n", metrics.disk()));
+    private static void appendDigits(Appendable out, long n) throws IOException {
+        if (n >= 10) {
+            appendDigits(out, n / 10);
+        }
+        out.append((char) ('0' + n % 10));
+    }
 
-        return sb.toString();
-    };
+    private static void repeatTo(Appendable out, String s, int count) throws IOException {
+        for (int i = 0; i < count; i++) {
+            out.append(s);
+        }
+    }
 }
@@ -4,6 +4,8 @@ import static com.guinetik.hexafun.examples.sysmon.SysmonAdapters.*;
 import static com.guinetik.hexafun.examples.sysmon.SysmonKeys.*;
 
 import com.guinetik.hexafun.HexaApp;
+import com.guinetik.hexafun.metrics.PortMetrics;
+import java.util.function.Supplier;
 
 /**
  * Factory for creating the System Monitor HexaApp instance.
@@ -33,7 +35,41 @@ public final class SysmonApp {
      * @return Configured HexaApp with all use cases and adapters registered
      */
     public static HexaApp createApp(MetricsProvider provider) {
-        HexaApp app = HexaApp.create().port(MetricsProvider.class, provider);
+        return register(HexaApp.create().port(MetricsProvider.class, provider));
+    }
+
+    /**
+     * Create a HexaApp that constructs its MetricsProvider on first use.
+     *
+     * <p>Providers such as {@link OshiMetricsProvider} pause to prime their
+     * counters, so deferring construction keeps that cost off startup.
+     *
+     * @param provider Constructs the MetricsProvider implementation
+     * @return Configured HexaApp with a lazily built MetricsProvider port
+     */
+    public static HexaApp createApp(Supplier<? extends MetricsProvider> provider) {
+        return register(HexaApp.create().lazyPort(MetricsProvider.class, provider));
+    }
+
+    /**
+     * Create a HexaApp whose MetricsProvider calls are timed per method.
+     *
+     * <p>Read the results with {@link HexaApp#portStats()} to see which
+     * provider call (e.g. {@code getDiskUsage}) dominates a refresh.
+     *
+     * @param provider The MetricsProvider implementation to use
+     * @param portMetrics The registry the provider's calls record into
+     * @return Configured HexaApp with an instrumented MetricsProvider port
+     */
+    public static HexaApp createApp(MetricsProvider provider, PortMetrics portMetrics) {
+        return register(
+            HexaApp.create()
+                .port(MetricsProvider.class, portMetrics.instrument(MetricsProvider.class, provider))
+                .withPortMetrics(portMetrics)
+        );
+    }
+
+    private static HexaApp register(HexaApp app) {
 
         // Register use case handlers
         app
@@ -44,10 +80,10 @@ public final class SysmonApp {
 
         // Register output adapters
         app
-            .withAdapter(TO_TUI, TUI_ADAPTER)
-            .withAdapter(TO_CLI, CLI_ADAPTER)
-            .withAdapter(TO_JSON, JSON_ADAPTER)
-            .withAdapter(TO_PROMETHEUS, PROMETHEUS_ADAPTER);
+            .withStreamingAdapter(TO_TUI, TUI_ADAPTER)
+            .withStreamingAdapter(TO_CLI, CLI_ADAPTER)
+            .withStreamingAdapter(TO_JSON, JSON_ADAPTER)
+            .withStreamingAdapter(TO_PROMETHEUS, PROMETHEUS_ADAPTER);
 
         return app;
     }
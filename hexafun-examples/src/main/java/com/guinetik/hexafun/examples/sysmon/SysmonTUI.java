@@ -39,7 +39,7 @@ public class SysmonTUI {
     private InputStream ttyInput;
 
     public SysmonTUI() {
-        this.app = SysmonApp.createApp(new OshiMetricsProvider());
+        this.app = SysmonApp.createApp(OshiMetricsProvider::new);
         this.screen = SysmonView.screen();
     }
 
@@ -35,34 +35,32 @@ public class TaskApp {
             .withPort(TaskRepository.class, repository)
             // CREATE: validate title, then save
             .useCase(CREATE)
-            .validate(TaskValidators::validateCreateTitle)
-            .validate(TaskValidators::validateCreateTitleLength)
+            .validate(TaskValidators.CREATE_RULES)
             .handle(input -> {
                 Task task = Task.create(input.title(), input.description());
                 return Result.ok(repository.save(task));
             })
             // START: validate ID, find task, move to DOING
             .useCase(START)
-            .validate(TaskValidators::validateStartTaskId)
+            .validate(TaskValidators.START_RULES)
             .handle(input ->
                 repository
                     .findById(input.taskId())
                     .map(task -> Result.ok(repository.save(task.start())))
-                    .orElse(Result.fail("Task not found: " + input.taskId()))
+                    .orElseGet(() -> Result.fail(TaskError.NOT_FOUND, input.taskId()))
             )
             // COMPLETE: validate ID, find task, move to DONE
             .useCase(COMPLETE)
-            .validate(TaskValidators::validateCompleteTaskId)
+            .validate(TaskValidators.COMPLETE_RULES)
             .handle(input ->
                 repository
                     .findById(input.taskId())
                     .map(task -> Result.ok(repository.save(task.complete())))
-                    .orElse(Result.fail("Task not found: " + input.taskId()))
+                    .orElseGet(() -> Result.fail(TaskError.NOT_FOUND, input.taskId()))
             )
             // UPDATE: validate ID and title, find and update
             .useCase(UPDATE)
-            .validate(TaskValidators::validateUpdateTaskId)
-            .validate(TaskValidators::validateUpdateTitle)
+            .validate(TaskValidators.UPDATE_RULES)
             .handle(input ->
                 repository
                     .findById(input.taskId())
@@ -72,24 +70,28 @@ public class TaskApp {
                             .withDescription(input.description());
                         return Result.ok(repository.save(updated));
                     })
-                    .orElse(Result.fail("Task not found: " + input.taskId()))
+                    .orElseGet(() -> Result.fail(TaskError.NOT_FOUND, input.taskId()))
             )
             // DELETE: validate ID, delete from repo
             .useCase(DELETE)
-            .validate(TaskValidators::validateDeleteTaskId)
+            .validate(TaskValidators.DELETE_RULES)
             .handle(input -> Result.ok(repository.delete(input.taskId())))
             // FIND: validate ID, look up in repo
             .useCase(FIND)
-            .validate(TaskValidators::validateFindTaskId)
+            .validate(TaskValidators.FIND_RULES)
             .handle(input ->
                 repository
                     .findById(input.taskId())
                     .map(Result::ok)
-                    .orElse(Result.fail("Task not found: " + input.taskId()))
+                    .orElseGet(() -> Result.fail(TaskError.NOT_FOUND, input.taskId()))
             )
             // LIST: no validation needed, just return all
             .useCase(LIST)
             .handle(input -> repository.findAll())
+            // Concurrent lookups of the same task share one repository call
+            .coalesced(FIND)
+            // Seal the app so it can be shared across threads
+            .frozen()
             .build();
     }
 
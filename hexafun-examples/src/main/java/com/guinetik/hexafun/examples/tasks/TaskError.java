@@ -0,0 +1,21 @@
+package com.guinetik.hexafun.examples.tasks;
+
+import com.guinetik.hexafun.fun.ErrorCode;
+
+/**
+ * Failure codes returned by the task use cases.
+ */
+public enum TaskError implements ErrorCode {
+    NOT_FOUND("Task not found: {0}");
+
+    private final String template;
+
+    TaskError(String template) {
+        this.template = template;
+    }
+
+    @Override
+    public String template() {
+        return template;
+    }
+}
@@ -1,79 +1,50 @@
 package com.guinetik.hexafun.examples.tasks;
 
-import com.guinetik.hexafun.fun.Result;
+import com.guinetik.hexafun.hexa.ValidationPort;
+import com.guinetik.hexafun.validation.Rules;
 
 import static com.guinetik.hexafun.examples.tasks.TaskInputs.*;
 
 /**
- * Validation functions for task inputs.
+ * Validation rules for task inputs.
+ *
+ * <p>Each input record's rules compile into one validator that reads every
+ * field once and returns a shared, pre-built failure on rejection.
  */
-public class TaskValidators {
-
-    // --- CreateTask validators ---
-
-    public static Result<CreateTask> validateCreateTitle(CreateTask input) {
-        if (input.title() == null || input.title().isBlank()) {
-            return Result.fail("Title cannot be empty");
-        }
-        return Result.ok(input);
-    }
-
-    public static Result<CreateTask> validateCreateTitleLength(CreateTask input) {
-        if (input.title().length() > 100) {
-            return Result.fail("Title cannot exceed 100 characters");
-        }
-        return Result.ok(input);
-    }
-
-    // --- StartTask validators ---
-
-    public static Result<StartTask> validateStartTaskId(StartTask input) {
-        if (input.taskId() == null || input.taskId().isBlank()) {
-            return Result.fail("Task ID cannot be empty");
-        }
-        return Result.ok(input);
-    }
-
-    // --- CompleteTask validators ---
-
-    public static Result<CompleteTask> validateCompleteTaskId(CompleteTask input) {
-        if (input.taskId() == null || input.taskId().isBlank()) {
-            return Result.fail("Task ID cannot be empty");
-        }
-        return Result.ok(input);
-    }
-
-    // --- UpdateTask validators ---
-
-    public static Result<UpdateTask> validateUpdateTaskId(UpdateTask input) {
-        if (input.taskId() == null || input.taskId().isBlank()) {
-            return Result.fail("Task ID cannot be empty");
-        }
-        return Result.ok(input);
-    }
-
-    public static Result<UpdateTask> validateUpdateTitle(UpdateTask input) {
-        if (input.title() == null || input.title().isBlank()) {
-            return Result.fail("Title cannot be empty");
-        }
-        return Result.ok(input);
-    }
-
-    // --- DeleteTask validators ---
-
-    public static Result<DeleteTask> validateDeleteTaskId(DeleteTask input) {
-        if (input.taskId() == null || input.taskId().isBlank()) {
-            return Result.fail("Task ID cannot be empty");
-        }
-        return Result.ok(input);
-    }
-
-    // --- FindTask validators ---
-
-    public static Result<FindTask> validateFindTaskId(FindTask input) {
-        if (input.taskId() == null || input.taskId().isBlank()) {
-            return Result.fail("Task ID cannot be empty");
-        }
-        return Result.ok(input);
-    }
+public final class TaskValidators {
+
+    private TaskValidators() {}
+
+    private static final int MAX_TITLE_LENGTH = 100;
+
+    public static final ValidationPort<CreateTask> CREATE_RULES =
+        Rules.of(CreateTask.class)
+            .text("Title", CreateTask::title).notBlank().maxLength(MAX_TITLE_LENGTH)
+            .compile();
+
+    public static final ValidationPort<StartTask> START_RULES =
+        Rules.of(StartTask.class)
+            .text("Task ID", StartTask::taskId).notBlank()
+            .compile();
+
+    public static final ValidationPort<CompleteTask> COMPLETE_RULES =
+        Rules.of(CompleteTask.class)
+            .text("Task ID", CompleteTask::taskId).notBlank()
+            .compile();
+
+    public static final ValidationPort<UpdateTask> UPDATE_RULES =
+        Rules.of(UpdateTask.class)
+            .text("Task ID", UpdateTask::taskId).notBlank()
+            .text("Title", UpdateTask::title).notBlank()
+            .compile();
+
+    public static final ValidationPort<DeleteTask> DELETE_RULES =
+        Rules.of(DeleteTask.class)
+            .text("Task ID", DeleteTask::taskId).notBlank()
+            .compile();
+
+    public static final ValidationPort<FindTask> FIND_RULES =
+        Rules.of(FindTask.class)
+            .text("Task ID", FindTask::taskId).notBlank()
+            .compile();
 }
@@ -0,0 +1,423 @@
+package com.guinetik.hexafun.processor;
+
+import com.guinetik.hexafun.annotation.HexaPort;
+import com.guinetik.hexafun.annotation.HexaUseCase;
+import com.guinetik.hexafun.hexa.UseCase;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+
+/**
+ * Generates typed keys and direct-call dispatch code for
+ * {@link HexaUseCase} handlers.
+ *
+ * <p>For each package with annotated handlers it writes:
+ * <ul>
+ *   <li>{@code HexaKeys} - one {@code UseCaseKey} constant per use case</li>
+ *   <li>{@code HexaDispatch} - takes every port the handlers need, builds
+ *       each handler once, and exposes one method per use case that calls
+ *       the concrete handler class directly. Its {@code WIRING} constant is
+ *       the precomputed use case to port graph, and {@code toApp()} bridges
+ *       to a frozen {@code HexaApp} for code written against that API.</li>
+ * </ul>
+ *
+ * <p>Misconfigured handlers are reported as compile errors on the offending
+ * element rather than failing at startup. A package's sources are written in
+ * the first round that sees its handlers; handlers another processor
+ * generates into the same package in a later round are reported as errors,
+ * since the sources cannot be rewritten. Later rounds may add new packages.
+ */
+@SupportedAnnotationTypes("com.guinetik.hexafun.annotation.HexaUseCase")
+public final class HexaProcessor extends AbstractProcessor {
+
+    static final String KEYS_CLASS = "HexaKeys";
+    static final String DISPATCH_CLASS = "HexaDispatch";
+
+    private static final String GENERATED =
+        "@javax.annotation.processing.Generated(\"" + HexaProcessor.class.getName() + "\")";
+
+    /** Members of the generated dispatch class a use case method would clash with. */
+    private static final Set<String> RESERVED = Set.of(
+        "WIRING", "toApp",
+        "clone", "equals", "finalize", "getClass", "hashCode",
+        "notify", "notifyAll", "toString", "wait"
+    );
+
+    /** Packages whose sources were written in an earlier round. */
+    private final Set<String> generated = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        Map<String, List<Handler>> byPackage = new TreeMap<>();
+        for (Element element : round.getElementsAnnotatedWith(HexaUseCase.class)) {
+            Handler handler = handler(element);
+            if (handler != null) {
+                byPackage.computeIfAbsent(handler.pkg(), pkg -> new ArrayList<>()).add(handler);
+            }
+        }
+        for (Map.Entry<String, List<Handler>> entry : byPackage.entrySet()) {
+            List<Handler> handlers = entry.getValue();
+            if (!generated.add(entry.getKey())) {
+                // The package's sources exist and cannot be rewritten
+                for (Handler handler : handlers) {
+                    error(handler.type(), "@HexaUseCase handler appeared in a later processing "
+                        + "round than the rest of its package, whose " + KEYS_CLASS
+                        + " is already generated: " + handler.type().getQualifiedName());
+                }
+                continue;
+            }
+            handlers.sort((a, b) -> a.name().compareTo(b.name()));
+            if (checkUnique(handlers)) {
+                Map<String, TypeMirror> ports = ports(handlers);
+                write(entry.getKey(), KEYS_CLASS, keysSource(entry.getKey(), handlers), handlers);
+                write(
+                    entry.getKey(),
+                    DISPATCH_CLASS,
+                    dispatchSource(entry.getKey(), handlers, ports),
+                    handlers
+                );
+            }
+        }
+        return true;
+    }
+
+    // ===== Validation =====
+
+    private Handler handler(Element element) {
+        if (element.getKind() != ElementKind.CLASS) {
+            return error(element, "@HexaUseCase must annotate a class");
+        }
+        TypeElement type = (TypeElement) element;
+        String name = type.getAnnotation(HexaUseCase.class).value();
+        if (!SourceVersion.isIdentifier(name) || SourceVersion.isKeyword(name)) {
+            return error(element, "Use case name is not a valid Java identifier: " + name);
+        }
+        if (RESERVED.contains(name)) {
+            return error(element, "Use case name collides with a generated member: " + name);
+        }
+        Set<Modifier> modifiers = type.getModifiers();
+        if (modifiers.contains(Modifier.ABSTRACT) || modifiers.contains(Modifier.PRIVATE)) {
+            return error(element, "@HexaUseCase class must be concrete and not private");
+        }
+        if (type.getNestingKind() == NestingKind.MEMBER && !modifiers.contains(Modifier.STATIC)) {
+            return error(element, "@HexaUseCase nested class must be static");
+        }
+        if (type.getNestingKind() == NestingKind.LOCAL
+            || type.getNestingKind() == NestingKind.ANONYMOUS) {
+            return error(element, "@HexaUseCase class must be top-level or a static member");
+        }
+        if (!type.getTypeParameters().isEmpty()) {
+            return error(element, "@HexaUseCase class must not be generic");
+        }
+        DeclaredType useCase = useCaseSupertype(type.asType());
+        if (useCase == null || useCase.getTypeArguments().size() != 2) {
+            return error(element, "@HexaUseCase class must implement UseCase<I, O>");
+        }
+
+        List<ExecutableElement> constructors = new ArrayList<>();
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (!constructor.getModifiers().contains(Modifier.PRIVATE)) {
+                constructors.add(constructor);
+            }
+        }
+        if (constructors.size() != 1) {
+            return error(element, "@HexaUseCase class must have exactly one non-private constructor");
+        }
+        List<TypeMirror> ports = new ArrayList<>();
+        boolean valid = true;
+        for (VariableElement parameter : constructors.get(0).getParameters()) {
+            TypeMirror portType = parameter.asType();
+            Element portElement = types().asElement(portType);
+            if (portType.getKind() != TypeKind.DECLARED
+                || portElement.getAnnotation(HexaPort.class) == null) {
+                error(parameter, "Handler dependency is not a @HexaPort: " + portType);
+                valid = false;
+            }
+            ports.add(portType);
+        }
+        if (!valid) {
+            return null;
+        }
+
+        PackageElement pkg = processingEnv.getElementUtils().getPackageOf(type);
+        return new Handler(
+            type,
+            pkg.getQualifiedName().toString(),
+            name,
+            useCase.getTypeArguments().get(0),
+            useCase.getTypeArguments().get(1),
+            ports
+        );
+    }
+
+    private DeclaredType useCaseSupertype(TypeMirror type) {
+        TypeMirror target = types().erasure(
+            processingEnv.getElementUtils().getTypeElement(UseCase.class.getName()).asType()
+        );
+        for (TypeMirror supertype : types().directSupertypes(type)) {
+            if (types().isSameType(types().erasure(supertype), target)) {
+                return (DeclaredType) supertype;
+            }
+            DeclaredType found = useCaseSupertype(supertype);
+            if (found != null) {
+                return found;
+            }
+        }
+        return null;
+    }
+
+    private boolean checkUnique(List<Handler> handlers) {
+        Set<String> names = new HashSet<>();
+        Set<String> constants = new HashSet<>();
+        boolean unique = true;
+        for (Handler handler : handlers) {
+            if (!names.add(handler.name()) || !constants.add(constantName(handler.name()))) {
+                error(handler.type(), "Duplicate use case name in package: " + handler.name());
+                unique = false;
+            }
+        }
+        return unique;
+    }
+
+    /**
+     * Collect the distinct ports of all handlers, keyed by the parameter
+     * name the dispatch constructor will use, in first-seen order. Names
+     * are chosen so they never shadow a handler field.
+     */
+    private Map<String, TypeMirror> ports(List<Handler> handlers) {
+        Set<String> handlerNames = new HashSet<>();
+        for (Handler handler : handlers) {
+            handlerNames.add(handler.name());
+        }
+        Map<String, TypeMirror> ports = new LinkedHashMap<>();
+        for (Handler handler : handlers) {
+            for (TypeMirror port : handler.ports()) {
+                if (paramName(ports, port) == null) {
+                    String base = decapitalize(types().asElement(port).getSimpleName().toString());
+                    if (SourceVersion.isKeyword(base) || handlerNames.contains(base)) {
+                        base = base + "Port";
+                    }
+                    String name = base;
+                    for (int i = 2; ports.containsKey(name) || handlerNames.contains(name); i++) {
+                        name = base + i;
+                    }
+                    ports.put(name, port);
+                }
+            }
+        }
+        return ports;
+    }
+
+    private String paramName(Map<String, TypeMirror> ports, TypeMirror port) {
+        for (Map.Entry<String, TypeMirror> entry : ports.entrySet()) {
+            if (types().isSameType(entry.getValue(), port)) {
+                return entry.getKey();
+            }
+        }
+        return null;
+    }
+
+    // ===== Code generation =====
+
+    private String keysSource(String pkg, List<Handler> handlers) {
+        StringBuilder out = header(pkg);
+        out.append("/**\n")
+            .append(" * Typed use case keys for the {@code @HexaUseCase} handlers in this package.\n")
+            .append(" */\n")
+            .append(GENERATED).append('\n')
+            .append("public final class ").append(KEYS_CLASS).append(" {\n\n");
+        for (Handler handler : handlers) {
+            out.append("    /** Key for {@link ").append(handler.type().getQualifiedName()).append("}. */\n")
+                .append("    public static final com.guinetik.hexafun.hexa.UseCaseKey<")
+                .append(handler.input()).append(", ").append(handler.output()).append("> ")
+                .append(constantName(handler.name()))
+                .append(" =\n        com.guinetik.hexafun.hexa.UseCaseKey.of(\"")
+                .append(handler.name()).append("\");\n\n");
+        }
+        out.append("    private ").append(KEYS_CLASS).append("() {}\n}\n");
+        return out.toString();
+    }
+
+    private String dispatchSource(String pkg, List<Handler> handlers, Map<String, TypeMirror> ports) {
+        StringBuilder out = header(pkg);
+        out.append("/**\n")
+            .append(" * Direct-call dispatch for the {@code @HexaUseCase} handlers in this package.\n")
+            .append(" *\n")
+            .append(" * <p>Each use case method calls its concrete handler class, so call sites\n")
+            .append(" * stay monomorphic and there are no registry lookups or casts.\n")
+            .append(" */\n")
+            .append(GENERATED).append('\n')
+            .append("public final class ").append(DISPATCH_CLASS).append(" {\n\n");
+
+        // Wiring graph
+        out.append("    /** The ports each use case depends on, in constructor order. */\n")
+            .append("    public static final java.util.Map<String, java.util.List<Class<?>>> WIRING =\n")
+            .append("        java.util.Map.ofEntries(");
+        for (int i = 0; i < handlers.size(); i++) {
+            Handler handler = handlers.get(i);
+            out.append(i == 0 ? "\n" : ",\n")
+                .append("            java.util.Map.entry(\"").append(handler.name())
+                .append("\", java.util.List.<Class<?>>of(");
+            for (int j = 0; j < handler.ports().size(); j++) {
+                out.append(j == 0 ? "" : ", ")
+                    .append(types().erasure(handler.ports().get(j))).append(".class");
+            }
+            out.append("))");
+        }
+        out.append("\n        );\n\n");
+
+        // Fields
+        for (Map.Entry<String, TypeMirror> port : ports.entrySet()) {
+            out.append("    private final ").append(port.getValue()).append(' ')
+                .append(port.getKey()).append(";\n");
+        }
+        for (Handler handler : handlers) {
+            out.append("    private final ").append(handler.type().getQualifiedName()).append(' ')
+                .append(handler.name()).append(";\n");
+        }
+
+        // Constructor
+        out.append("\n    /**\n     * Build every handler from its ports.\n     *\n");
+        for (Map.Entry<String, TypeMirror> port : ports.entrySet()) {
+            out.append("     * @param ").append(port.getKey()).append(" The {@code ")
+                .append(types().asElement(port.getValue()).getSimpleName()).append("} port\n");
+        }
+        out.append("     */\n    public ").append(DISPATCH_CLASS).append('(');
+        int index = 0;
+        for (Map.Entry<String, TypeMirror> port : ports.entrySet()) {
+            out.append(index++ == 0 ? "\n        " : ",\n        ")
+                .append(port.getValue()).append(' ').append(port.getKey());
+        }
+        out.append(ports.isEmpty() ? ") {\n" : "\n    ) {\n");
+        for (String port : ports.keySet()) {
+            out.append("        this.").append(port).append(" = ").append(port).append(";\n");
+        }
+        for (Handler handler : handlers) {
+            out.append("        this.").append(handler.name()).append(" = new ")
+                .append(handler.type().getQualifiedName()).append('(');
+            for (int j = 0; j < handler.ports().size(); j++) {
+                out.append(j == 0 ? "" : ", ").append(paramName(ports, handler.ports().get(j)));
+            }
+            out.append(");\n");
+        }
+        out.append("    }\n");
+
+        // Use case methods
+        for (Handler handler : handlers) {
+            out.append("\n    /**\n     * Invoke the {@code ").append(handler.name())
+                .append("} use case.\n     *\n     * @param input The use case input\n")
+                .append("     * @return The use case output\n     */\n")
+                .append("    public ").append(handler.output()).append(' ').append(handler.name())
+                .append('(').append(handler.input()).append(" input) {\n")
+                .append("        return this.").append(handler.name()).append(".apply(input);\n")
+                .append("    }\n");
+        }
+
+        // Bridge to the runtime container
+        out.append("\n    /**\n")
+            .append("     * Register the same ports and handler instances in a frozen HexaApp,\n")
+            .append("     * for code written against the HexaApp API (e.g. invokeAsync).\n")
+            .append("     *\n     * @return A frozen HexaApp sharing this dispatcher's instances\n")
+            .append("     */\n")
+            .append("    public com.guinetik.hexafun.HexaApp toApp() {\n")
+            .append("        com.guinetik.hexafun.HexaApp container = com.guinetik.hexafun.HexaApp.create();\n");
+        for (Map.Entry<String, TypeMirror> port : ports.entrySet()) {
+            out.append("        container.port(").append(types().erasure(port.getValue()))
+                .append(".class, this.").append(port.getKey()).append(");\n");
+        }
+        for (Handler handler : handlers) {
+            out.append("        container.withUseCase(").append(KEYS_CLASS).append('.')
+                .append(constantName(handler.name())).append(", this.")
+                .append(handler.name()).append(");\n");
+        }
+        out.append("        return container.freeze();\n    }\n}\n");
+        return out.toString();
+    }
+
+    private static StringBuilder header(String pkg) {
+        StringBuilder out = new StringBuilder();
+        if (!pkg.isEmpty()) {
+            out.append("package ").append(pkg).append(";\n\n");
+        }
+        return out;
+    }
+
+    private void write(String pkg, String simpleName, String source, List<Handler> handlers) {
+        String name = pkg.isEmpty() ? simpleName : pkg + "." + simpleName;
+        Element[] origins = handlers.stream().map(Handler::type).toArray(Element[]::new);
+        try (Writer writer = processingEnv.getFiler().createSourceFile(name, origins).openWriter()) {
+            writer.write(source);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(
+                Diagnostic.Kind.ERROR,
+                "Could not write " + name + ": " + e.getMessage()
+            );
+        }
+    }
+
+    // ===== Helpers =====
+
+    static String constantName(String name) {
+        StringBuilder out = new StringBuilder();
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isUpperCase(c) && i > 0
+                && !Character.isUpperCase(name.charAt(i - 1))) {
+                out.append('_');
+            }
+            out.append(Character.toUpperCase(c));
+        }
+        return out.toString();
+    }
+
+    private static String decapitalize(String name) {
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private Types types() {
+        return processingEnv.getTypeUtils();
+    }
+
+    private Handler error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+        return null;
+    }
+
+    private record Handler(
+        TypeElement type,
+        String pkg,
+        String name,
+        TypeMirror input,
+        TypeMirror output,
+        List<TypeMirror> ports
+    ) {}
+}
@@ -0,0 +1,518 @@
+package com.guinetik.hexafun.processor;
+
+import com.guinetik.hexafun.HexaApp;
+import com.guinetik.hexafun.fun.Result;
+import com.guinetik.hexafun.hexa.UseCaseKey;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.reflect.Constructor;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Processor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@code @HexaUseCase} annotation processor.
+ */
+@DisplayName("HexaProcessor")
+public class HexaProcessorTest {
+
+    private static final String STORE = """
+        package demo;
+
+        import com.guinetik.hexafun.annotation.HexaPort;
+
+        @HexaPort
+        public interface Store {
+            String load(String id);
+            void save(String id, String value);
+        }
+        """;
+
+    private static final String AUDIT = """
+        package demo;
+
+        import com.guinetik.hexafun.annotation.HexaPort;
+
+        @HexaPort
+        public interface Audit {
+            void record(String event);
+        }
+        """;
+
+    private static final String SAVE = """
+        package demo;
+
+        import com.guinetik.hexafun.annotation.HexaUseCase;
+        import com.guinetik.hexafun.fun.Result;
+        import com.guinetik.hexafun.hexa.UseCase;
+
+        @HexaUseCase("saveItem")
+        public class SaveItem implements UseCase<String, Result<String>> {
+            private final Store store;
+            private final Audit audit;
+
+            public SaveItem(Store store, Audit audit) {
+                this.store = store;
+                this.audit = audit;
+            }
+
+            @Override
+            public Result<String> apply(String input) {
+                if (input.isBlank()) {
+                    return Result.fail("blank");
+                }
+                store.save(input, input.toUpperCase());
+                audit.record("saved " + input);
+                return Result.ok(input);
+            }
+        }
+        """;
+
+    private static final String LOAD = """
+        package demo;
+
+        import com.guinetik.hexafun.annotation.HexaUseCase;
+        import com.guinetik.hexafun.hexa.UseCase;
+
+        public final class Queries {
+            private Queries() {}
+
+            @HexaUseCase("loadItem")
+            public static class LoadItem implements UseCase<String, String> {
+                private final Store store;
+
+                LoadItem(Store store) {
+                    this.store = store;
+                }
+
+                @Override
+                public String apply(String id) {
+                    return store.load(id);
+                }
+            }
+        }
+        """;
+
+    private static final String MAIN = """
+        package demo;
+
+        import java.util.ArrayList;
+        import java.util.HashMap;
+        import java.util.List;
+        import java.util.Map;
+
+        public final class Main {
+            public static final List<String> EVENTS = new ArrayList<>();
+
+            public static HexaDispatch dispatch() {
+                Map<String, String> data = new HashMap<>();
+                Store store = new Store() {
+                    public String load(String id) { return data.get(id); }
+                    public void save(String id, String value) { data.put(id, value); }
+                };
+                return new HexaDispatch(store, EVENTS::add);
+            }
+        }
+        """;
+
+    record Compilation(boolean success, List<String> errors, ClassLoader loader, Path generated) {}
+
+    /** Generates one more handler in the first round, as another processor might. */
+    @SupportedAnnotationTypes("*")
+    static final class LateHandlerProcessor extends AbstractProcessor {
+        private final String pkg;
+        private boolean done;
+
+        LateHandlerProcessor(String pkg) {
+            this.pkg = pkg;
+        }
+
+        @Override
+        public SourceVersion getSupportedSourceVersion() {
+            return SourceVersion.latestSupported();
+        }
+
+        @Override
+        public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+            if (!done) {
+                done = true;
+                try (Writer writer = processingEnv.getFiler()
+                    .createSourceFile(pkg + ".LateItem").openWriter()) {
+                    writer.write("""
+                        package %s;
+
+                        import com.guinetik.hexafun.annotation.HexaUseCase;
+                        import com.guinetik.hexafun.hexa.UseCase;
+
+                        @HexaUseCase("lateItem")
+                        public class LateItem implements UseCase<String, String> {
+                            public String apply(String input) { return input + "!"; }
+                        }
+                        """.formatted(pkg));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            return false;
+        }
+    }
+
+    private static Compilation compile(Path dir, String... sources) throws IOException {
+        return compile(dir, List.of(), sources);
+    }
+
+    private static Compilation compile(
+        Path dir,
+        List<Processor> extra,
+        String... sources
+    ) throws IOException {
+        Path src = Files.createDirectories(dir.resolve("src/demo"));
+        Path out = Files.createDirectories(dir.resolve("out"));
+        Path generated = Files.createDirectories(dir.resolve("generated"));
+        List<Path> files = new ArrayList<>();
+        for (String source : sources) {
+            String name = source.lines()
+                .filter(line -> line.contains("class ") || line.contains("interface "))
+                .findFirst()
+                .map(line -> line.replaceAll(".*(class|interface) (\\w+).*", "$2"))
+                .orElseThrow();
+            Path file = src.resolve(name + ".java");
+            Files.writeString(file, source);
+            files.add(file);
+        }
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager =
+                 compiler.getStandardFileManager(diagnostics, null, null)) {
+            JavaCompiler.CompilationTask task = compiler.getTask(
+                null,
+                fileManager,
+                diagnostics,
+                List.of(
+                    "-classpath", System.getProperty("java.class.path"),
+                    "-d", out.toString(),
+                    "-s", generated.toString()
+                ),
+                null,
+                fileManager.getJavaFileObjectsFromPaths(files)
+            );
+            List<Processor> processors = new ArrayList<>(extra);
+            processors.add(new HexaProcessor());
+            task.setProcessors(processors);
+            boolean success = task.call();
+            List<String> errors = diagnostics.getDiagnostics().stream()
+                .filter(d -> d.getKind() == Diagnostic.Kind.ERROR)
+                .map(d -> d.getMessage(null))
+                .collect(Collectors.toList());
+            ClassLoader loader = new URLClassLoader(
+                new URL[] { out.toUri().toURL() },
+                HexaProcessorTest.class.getClassLoader()
+            );
+            return new Compilation(success, errors, loader, generated.resolve("demo"));
+        }
+    }
+
+    @Nested
+    @DisplayName("generation")
+    class GenerationTests {
+
+        @Test
+        @DisplayName("should generate typed keys for every handler")
+        void shouldGenerateKeys(@TempDir Path dir) throws Exception {
+            Compilation result = compile(dir, STORE, AUDIT, SAVE, LOAD, MAIN);
+            assertTrue(result.success(), () -> String.join("\n", result.errors()));
+
+            Class<?> keys = result.loader().loadClass("demo.HexaKeys");
+            UseCaseKey<?, ?> save = (UseCaseKey<?, ?>) keys.getField("SAVE_ITEM").get(null);
+            UseCaseKey<?, ?> load = (UseCaseKey<?, ?>) keys.getField("LOAD_ITEM").get(null);
+            assertEquals("saveItem", save.name());
+            assertEquals("loadItem", load.name());
+
+            String source = Files.readString(result.generated().resolve("HexaKeys.java"));
+            assertTrue(source.contains(
+                "UseCaseKey<java.lang.String, com.guinetik.hexafun.fun.Result<java.lang.String>> SAVE_ITEM"
+            ));
+        }
+
+        @Test
+        @DisplayName("should dispatch directly to handlers built from shared ports")
+        void shouldDispatchDirectly(@TempDir Path dir) throws Exception {
+            Compilation result = compile(dir, STORE, AUDIT, SAVE, LOAD, MAIN);
+            assertTrue(result.success(), () -> String.join("\n", result.errors()));
+
+            Class<?> main = result.loader().loadClass("demo.Main");
+            Object dispatch = main.getMethod("dispatch").invoke(null);
+            Class<?> type = dispatch.getClass();
+
+            Result<?> saved = (Result<?>) type.getMethod("saveItem", String.class)
+                .invoke(dispatch, "a");
+            assertTrue(saved.isSuccess());
+            assertEquals("A", type.getMethod("loadItem", String.class).invoke(dispatch, "a"));
+
+            Result<?> blank = (Result<?>) type.getMethod("saveItem", String.class)
+                .invoke(dispatch, " ");
+            assertTrue(blank.isFailure());
+
+            @SuppressWarnings("unchecked")
+            List<String> events = (List<String>) main.getField("EVENTS").get(null);
+            assertEquals(List.of("saved a"), events);
+
+            // Ports are constructor parameters, each handler's in first-seen order
+            Constructor<?>[] constructors = type.getConstructors();
+            assertEquals(1, constructors.length);
+            assertEquals(2, constructors[0].getParameterCount());
+        }
+
+        @Test
+        @DisplayName("should publish the wiring graph")
+        void shouldPublishWiring(@TempDir Path dir) throws Exception {
+            Compilation result = compile(dir, STORE, AUDIT, SAVE, LOAD, MAIN);
+            assertTrue(result.success(), () -> String.join("\n", result.errors()));
+
+            Class<?> type = result.loader().loadClass("demo.HexaDispatch");
+            Class<?> store = result.loader().loadClass("demo.Store");
+            Class<?> audit = result.loader().loadClass("demo.Audit");
+            Map<?, ?> wiring = (Map<?, ?>) type.getField("WIRING").get(null);
+
+            assertEquals(List.of(store, audit), wiring.get("saveItem"));
+            assertEquals(List.of(store), wiring.get("loadItem"));
+        }
+
+        @Test
+        @DisplayName("should bridge to a frozen HexaApp with the same handlers")
+        void shouldBridgeToApp(@TempDir Path dir) throws Exception {
+            Compilation result = compile(dir, STORE, AUDIT, SAVE, LOAD, MAIN);
+            assertTrue(result.success(), () -> String.join("\n", result.errors()));
+
+            Object dispatch = result.loader().loadClass("demo.Main")
+                .getMethod("dispatch").invoke(null);
+            HexaApp app = (HexaApp) dispatch.getClass().getMethod("toApp").invoke(dispatch);
+            assertTrue(app.isFrozen());
+
+            Class<?> keys = result.loader().loadClass("demo.HexaKeys");
+            @SuppressWarnings("unchecked")
+            UseCaseKey<String, Result<String>> save =
+                (UseCaseKey<String, Result<String>>) keys.getField("SAVE_ITEM").get(null);
+            @SuppressWarnings("unchecked")
+            UseCaseKey<String, String> load =
+                (UseCaseKey<String, String>) keys.getField("LOAD_ITEM").get(null);
+
+            assertTrue(app.invoke(save, "b").isSuccess());
+            assertEquals("B", app.invoke(load, "b"));
+            assertTrue(app.hasPort(result.loader().loadClass("demo.Store")));
+        }
+    }
+
+    @Nested
+    @DisplayName("rounds")
+    class RoundTests {
+
+        @Test
+        @DisplayName("should generate packages that first appear in later rounds")
+        void shouldGenerateLatePackages(@TempDir Path dir) throws Exception {
+            Compilation result = compile(
+                dir,
+                List.of(new LateHandlerProcessor("late")),
+                STORE, AUDIT, SAVE, LOAD, MAIN
+            );
+            assertTrue(result.success(), () -> String.join("\n", result.errors()));
+
+            Class<?> keys = result.loader().loadClass("late.HexaKeys");
+            assertEquals("lateItem", ((UseCaseKey<?, ?>) keys.getField("LATE_ITEM").get(null)).name());
+            assertNotNull(result.loader().loadClass("demo.HexaKeys").getField("SAVE_ITEM"));
+        }
+
+        @Test
+        @DisplayName("should report late handlers in an already generated package")
+        void shouldReportLateHandlers(@TempDir Path dir) throws Exception {
+            Compilation result = compile(
+                dir,
+                List.of(new LateHandlerProcessor("demo")),
+                STORE, AUDIT, SAVE, LOAD, MAIN
+            );
+            assertFalse(result.success());
+            assertEquals(
+                List.of("@HexaUseCase handler appeared in a later processing round than the "
+                    + "rest of its package, whose HexaKeys is already generated: demo.LateItem"),
+                result.errors()
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("naming")
+    class NamingTests {
+
+        @Test
+        @DisplayName("should rename ports that share a use case's name")
+        void shouldRenameCollidingPorts(@TempDir Path dir) throws Exception {
+            String handler = """
+                package demo;
+
+                import com.guinetik.hexafun.annotation.HexaUseCase;
+                import com.guinetik.hexafun.hexa.UseCase;
+
+                @HexaUseCase("store")
+                public class StoreItem implements UseCase<String, String> {
+                    private final Store store;
+
+                    public StoreItem(Store store) {
+                        this.store = store;
+                    }
+
+                    public String apply(String input) {
+                        store.save(input, input);
+                        return store.load(input);
+                    }
+                }
+                """;
+            String main = """
+                package demo;
+
+                import java.util.HashMap;
+                import java.util.Map;
+
+                public final class Main {
+                    public static HexaDispatch dispatch() {
+                        Map<String, String> data = new HashMap<>();
+                        return new HexaDispatch(new Store() {
+                            public String load(String id) { return data.get(id); }
+                            public void save(String id, String value) { data.put(id, value); }
+                        });
+                    }
+                }
+                """;
+            Compilation result = compile(dir, STORE, handler, main);
+            assertTrue(result.success(), () -> String.join("\n", result.errors()));
+
+            Object dispatch = result.loader().loadClass("demo.Main")
+                .getMethod("dispatch").invoke(null);
+            assertEquals("k", dispatch.getClass().getMethod("store", String.class)
+                .invoke(dispatch, "k"));
+            HexaApp app = (HexaApp) dispatch.getClass().getMethod("toApp").invoke(dispatch);
+            assertTrue(app.hasPort(result.loader().loadClass("demo.Store")));
+        }
+
+        @Test
+        @DisplayName("should reject names of generated members")
+        void shouldRejectReservedNames(@TempDir Path dir) throws Exception {
+            for (String name : List.of("toApp", "WIRING", "hashCode")) {
+                String handler = """
+                    package demo;
+
+                    import com.guinetik.hexafun.annotation.HexaUseCase;
+                    import com.guinetik.hexafun.hexa.UseCase;
+
+                    @HexaUseCase("%s")
+                    public class Echo implements UseCase<String, String> {
+                        public String apply(String input) { return input; }
+                    }
+                    """.formatted(name);
+                Compilation result = compile(dir.resolve(name), handler);
+                assertFalse(result.success());
+                assertEquals(
+                    List.of("Use case name collides with a generated member: " + name),
+                    result.errors()
+                );
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("validation")
+    class ValidationTests {
+
+        @Test
+        @DisplayName("should reject dependencies that are not ports")
+        void shouldRejectNonPortDependencies(@TempDir Path dir) throws Exception {
+            String handler = """
+                package demo;
+
+                import com.guinetik.hexafun.annotation.HexaUseCase;
+                import com.guinetik.hexafun.hexa.UseCase;
+
+                @HexaUseCase("echo")
+                public class Echo implements UseCase<String, String> {
+                    public Echo(StringBuilder buffer) {}
+
+                    public String apply(String input) { return input; }
+                }
+                """;
+            Compilation result = compile(dir, handler);
+            assertFalse(result.success());
+            assertTrue(result.errors().get(0).startsWith("Handler dependency is not a @HexaPort"));
+        }
+
+        @Test
+        @DisplayName("should reject classes that do not implement UseCase")
+        void shouldRejectNonUseCases(@TempDir Path dir) throws Exception {
+            String handler = """
+                package demo;
+
+                import com.guinetik.hexafun.annotation.HexaUseCase;
+
+                @HexaUseCase("echo")
+                public class Echo {}
+                """;
+            Compilation result = compile(dir, handler);
+            assertFalse(result.success());
+            assertEquals(List.of("@HexaUseCase class must implement UseCase<I, O>"), result.errors());
+        }
+
+        @Test
+        @DisplayName("should reject names that are not identifiers")
+        void shouldRejectInvalidNames(@TempDir Path dir) throws Exception {
+            String handler = """
+                package demo;
+
+                import com.guinetik.hexafun.annotation.HexaUseCase;
+                import com.guinetik.hexafun.hexa.UseCase;
+
+                @HexaUseCase("create-task")
+                public class Echo implements UseCase<String, String> {
+                    public String apply(String input) { return input; }
+                }
+                """;
+            Compilation result = compile(dir, handler);
+            assertFalse(result.success());
+            assertEquals(
+                List.of("Use case name is not a valid Java identifier: create-task"),
+                result.errors()
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("should turn camel case names into constant names")
+    void shouldConvertConstantNames() {
+        assertEquals("CREATE_TASK", HexaProcessor.constantName("createTask"));
+        assertEquals("GET_ALL", HexaProcessor.constantName("getAll"));
+        assertEquals("FIND", HexaProcessor.constantName("find"));
+    }
+}